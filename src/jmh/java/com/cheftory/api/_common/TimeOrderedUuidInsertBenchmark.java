@@ -0,0 +1,111 @@
+package com.cheftory.api._common;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 기본 키 생성 방식별 INSERT 처리량 벤치마크.
+ *
+ * <p>`BINARY(16)` 기본 키 테이블에 `rows`개를 미리 채운 뒤, 같은 방식으로 만든 ID로 배치 INSERT 처리량을 측정합니다.
+ * `random`은 기존 `UUID.randomUUID()`, `v7`은 {@link TimeOrderedUuid}입니다. 기본값은 인메모리 H2(MySQL 모드)이며,
+ * 실제 InnoDB 수치는 `jdbcUrl`에 MySQL 주소를 넘겨 측정합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=TimeOrderedUuidInsertBenchmark
+ * java -jar build/libs/*-jmh.jar TimeOrderedUuidInsertBenchmark -p jdbcUrl='jdbc:mysql://...' -p rows=5000000</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TimeOrderedUuidInsertBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param({"random", "v7"})
+    public String idType;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"jdbc:h2:mem:uuid_insert;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = idType.equals("v7") ? TimeOrderedUuid::generate : UUID::randomUUID;
+        connection = DriverManager.getConnection(jdbcUrl);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_insert_bench");
+            statement.execute("CREATE TABLE uuid_insert_bench ("
+                    + "id BINARY(16) NOT NULL PRIMARY KEY, "
+                    + "user_id BINARY(16) NOT NULL, "
+                    + "position BIGINT NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+        for (int i = 0; i < rows; i += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE uuid_insert_bench");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int insert() throws SQLException {
+        return insertBatch();
+    }
+
+    private int insertBatch() throws SQLException {
+        UUID userId = UUID.randomUUID();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO uuid_insert_bench (id, user_id, position, created_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < BATCH; i++) {
+                statement.setBytes(1, bytes(ids.get()));
+                statement.setBytes(2, bytes(userId));
+                statement.setLong(3, i);
+                statement.setTimestamp(4, now);
+                statement.addBatch();
+            }
+            int inserted = statement.executeBatch().length;
+            connection.commit();
+            return inserted;
+        }
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,84 @@
+package com.cheftory.api._common.security;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api.auth.entity.AuthTokenType;
+import com.cheftory.api.auth.jwt.TokenProvider;
+import com.cheftory.api.auth.jwt.property.JwtProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JWT 인증 필터 처리량 벤치마크.
+ *
+ * <p>`tokens`개의 액세스 토큰을 번갈아 필터에 통과시킵니다. `cold`는 검증 캐시를 끄고 매 요청 서명 검증과 클레임 파싱을
+ * 수행하며, `warm`은 같은 앱 세션의 반복 요청처럼 검증 캐시에서 사용자 ID를 꺼냅니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    @Param({"64"})
+    public int tokens;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest[] requests;
+    private MockHttpServletResponse response;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-that-is-at-least-256-bits-long-for-hs256");
+        properties.setAccessTokenExpiration(3600);
+        properties.setRefreshTokenExpiration(604800);
+        properties.setAccessTokenType("access");
+        properties.setRefreshTokenType("refresh");
+        properties.setVerifiedTokenCacheSize(cache.equals("warm") ? 10_000 : 0);
+
+        TokenProvider tokenProvider = new TokenProvider(properties, new Clock());
+        filter = new JwtAuthenticationFilter(tokenProvider);
+        response = new MockHttpServletResponse();
+
+        requests = new MockHttpServletRequest[tokens];
+        for (int i = 0; i < tokens; i++) {
+            String token = tokenProvider.createToken(UUID.randomUUID(), AuthTokenType.ACCESS);
+            requests[i] = new MockHttpServletRequest();
+            requests[i].addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            tokenProvider.getUserId(token, AuthTokenType.ACCESS);
+        }
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        MockHttpServletRequest request = requests[next];
+        next = (next + 1) % tokens;
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,196 @@
+package com.cheftory.api.recipe;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.bookmark.entity.RecipeBookmark;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
+import com.cheftory.api.recipe.content.detailMeta.RecipeDetailMetaService;
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.info.RecipeInfoService;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.cheftory.api.recipe.content.info.entity.RecipeStatus;
+import com.cheftory.api.recipe.content.tag.RecipeTagService;
+import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
+import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import com.cheftory.api.recipe.dto.RecipeOverview;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * 레시피 개요 조립 벤치마크.
+ *
+ * <p>{@link RecipeOverviewHydrator#hydrate}의 입력 ID 수별 조립 시간을 측정합니다. 각 IN 쿼리는 고정 지연에 ID당 지연을
+ * 더해 흉내 내며, 콘텐츠 캐시는 항상 미스로 둡니다. 하이드레이터 도입 전 경로는 코드가 남아 있지 않아 비교하지 않으므로,
+ * 결과는 쿼리 지연 파라미터 대비 절대값으로 해석합니다(순차 실행이면 IN 쿼리 5개의 지연 합, 동시 실행이면 가장 느린 쿼리의 지연에 가깝습니다).</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=RecipeOverviewHydratorBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecipeOverviewHydratorBenchmark {
+
+    private static final MarketContext.Info KOREA = new MarketContext.Info(Market.KOREA, "KR");
+
+    @Param({"10", "50", "200"})
+    public int ids;
+
+    @Param({"1000"})
+    public long queryLatencyMicros;
+
+    @Param({"5"})
+    public long perIdLatencyMicros;
+
+    private RecipeInfoService recipeInfoService;
+    private RecipeBookmarkService recipeBookmarkService;
+    private RecipeYoutubeMetaService recipeYoutubeMetaService;
+    private RecipeDetailMetaService recipeDetailMetaService;
+    private RecipeTagService recipeTagService;
+    private ExecutorService executorService;
+    private RecipeOverviewHydrator hydrator;
+
+    private List<UUID> rankedIds;
+    private UUID userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rankedIds = new ArrayList<>();
+        for (int i = 0; i < ids; i++) {
+            rankedIds.add(UUID.randomUUID());
+        }
+        userId = UUID.randomUUID();
+
+        Map<UUID, RecipeInfo> recipes = new HashMap<>();
+        Map<UUID, RecipeYoutubeMeta> youtubeMetas = new HashMap<>();
+        Map<UUID, RecipeDetailMeta> detailMetas = new HashMap<>();
+        Map<UUID, RecipeTag> tags = new HashMap<>();
+        for (UUID id : rankedIds) {
+            recipes.put(id, recipe(id));
+            youtubeMetas.put(id, youtubeMeta(id));
+            detailMetas.put(id, detailMeta(id));
+            tags.put(id, tag(id));
+        }
+
+        recipeInfoService = mock(RecipeInfoService.class);
+        recipeBookmarkService = mock(RecipeBookmarkService.class);
+        recipeYoutubeMetaService = mock(RecipeYoutubeMetaService.class);
+        recipeDetailMetaService = mock(RecipeDetailMetaService.class);
+        recipeTagService = mock(RecipeTagService.class);
+
+        doAnswer(inv -> query(inv.<List<UUID>>getArgument(0), recipes))
+                .when(recipeInfoService)
+                .gets(anyList());
+        doAnswer(inv -> query(inv.<List<UUID>>getArgument(0), Map.<UUID, RecipeBookmark>of()))
+                .when(recipeBookmarkService)
+                .gets(anyList(), any());
+        doAnswer(inv -> query(inv.<List<UUID>>getArgument(0), youtubeMetas))
+                .when(recipeYoutubeMetaService)
+                .gets(anyList());
+        doAnswer(inv -> query(inv.<List<UUID>>getArgument(0), detailMetas))
+                .when(recipeDetailMetaService)
+                .getIn(anyList());
+        doAnswer(inv -> query(inv.<List<UUID>>getArgument(0), tags))
+                .when(recipeTagService)
+                .gets(anyList());
+
+        RecipeContentCache recipeContentCache = mock(RecipeContentCache.class);
+        doAnswer(inv -> inv.<RecipeContentCache.BatchLoader<?>>getArgument(1).load(inv.getArgument(0)))
+                .when(recipeContentCache)
+                .getCardsByIds(anyList(), any(), any());
+
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+        hydrator = new RecipeOverviewHydrator(
+                recipeInfoService,
+                recipeBookmarkService,
+                recipeYoutubeMetaService,
+                recipeDetailMetaService,
+                recipeTagService,
+                recipeContentCache,
+                new TaskExecutorAdapter(task -> executorService.execute(MarketContext.wrap(task))),
+                new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.close();
+    }
+
+    @Benchmark
+    public List<RecipeOverview> hydrate() {
+        try (var ignored = MarketContext.with(KOREA)) {
+            return hydrator.hydrate(rankedIds, userId);
+        }
+    }
+
+    private <T> List<T> query(List<UUID> recipeIds, Map<UUID, T> rows) {
+        long latencyMicros = queryLatencyMicros + perIdLatencyMicros * recipeIds.size();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+        List<T> result = new ArrayList<>(recipeIds.size());
+        for (UUID recipeId : recipeIds) {
+            T row = rows.get(recipeId);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        Collections.shuffle(result);
+        return result;
+    }
+
+    private static RecipeInfo recipe(UUID recipeId) {
+        RecipeInfo recipe = mock(RecipeInfo.class);
+        doAnswer(inv -> recipeId).when(recipe).getId();
+        doAnswer(inv -> RecipeStatus.SUCCESS).when(recipe).getRecipeStatus();
+        doAnswer(inv -> true).when(recipe).isSuccess();
+        doAnswer(inv -> LocalDateTime.now()).when(recipe).getCreatedAt();
+        doAnswer(inv -> LocalDateTime.now()).when(recipe).getUpdatedAt();
+        return recipe;
+    }
+
+    private static RecipeYoutubeMeta youtubeMeta(UUID recipeId) {
+        RecipeYoutubeMeta meta = mock(RecipeYoutubeMeta.class);
+        doAnswer(inv -> recipeId).when(meta).getRecipeId();
+        doAnswer(inv -> "title").when(meta).getTitle();
+        return meta;
+    }
+
+    private static RecipeDetailMeta detailMeta(UUID recipeId) {
+        RecipeDetailMeta meta = mock(RecipeDetailMeta.class);
+        doAnswer(inv -> recipeId).when(meta).getRecipeId();
+        return meta;
+    }
+
+    private static RecipeTag tag(UUID recipeId) {
+        RecipeTag tag = mock(RecipeTag.class);
+        doAnswer(inv -> recipeId).when(tag).getRecipeId();
+        doAnswer(inv -> "한식").when(tag).getTag();
+        return tag;
+    }
+}
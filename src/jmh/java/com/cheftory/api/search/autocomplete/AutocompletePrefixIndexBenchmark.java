@@ -0,0 +1,136 @@
+package com.cheftory.api.search.autocomplete;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.search.exception.SearchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.HitsMetadata;
+
+/**
+ * 자동완성 접두사 인덱스 벤치마크.
+ *
+ * <p>{@link AutocompletePrefixIndex} 조회 비용을 `terms`개 용어를 실제로 적재한 상태에서 측정합니다.
+ * 짧은 접두사("김")는 구간이 넓어 첫 조회 후 재사용 목록을 타고, 긴 접두사는 구간 안에서 상위 N개를 고릅니다.</p>
+ *
+ * <p>`openSearch`는 실제 OpenSearch를 호출하지 않습니다. 요청 객체를 만든 뒤 `searchLatencyMicros`만큼 고정으로 잠들고
+ * 미리 만든 응답을 돌려주므로, 그 결과는 설정한 지연값에 요청 조립 비용을 더한 값일 뿐입니다. fuzzy 질의의 실제 비용이나
+ * 부하에 따른 지연 변화는 반영하지 않으므로 두 결과를 실측 개선 폭으로 읽지 말고, 접두사 인덱스의 절대 조회 시간과
+ * 운영에서 측정한 자동완성 지연을 비교해 판단합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=AutocompletePrefixIndexBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutocompletePrefixIndexBenchmark {
+
+    private static final MarketContext.Info KOREA = new MarketContext.Info(Market.KOREA, "KR");
+    private static final int LIMIT = 10;
+    private static final String[] SYLLABLES = {
+        "김", "치", "찌", "개", "된", "장", "볶", "음", "밥", "전", "국", "수", "제", "비", "파", "스", "타", "닭", "갈", "떡"
+    };
+
+    @Param({"10000", "100000"})
+    public int terms;
+
+    @Param({"김", "김치", "김치찌"})
+    public String keyword;
+
+    @Param({"3000"})
+    public long searchLatencyMicros;
+
+    private AutocompleteService openSearchPath;
+    private AutocompleteService prefixIndexPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        List<AutocompletePrefixEntry> entries = new ArrayList<>(terms);
+        for (int i = 0; i < terms; i++) {
+            entries.add(new AutocompletePrefixEntry(
+                    String.valueOf(i), "korea", "recipe", randomText(random), random.nextInt(10_000)));
+        }
+        List<Autocomplete> response =
+                entries.stream().limit(LIMIT).map(AutocompletePrefixEntry::toAutocomplete).toList();
+
+        OpenSearchClient openSearchClient = mock(OpenSearchClient.class);
+        doAnswer(inv -> {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(searchLatencyMicros));
+                    return searchResponse(response);
+                })
+                .when(openSearchClient)
+                .search(any(SearchRequest.class), eq(Autocomplete.class));
+        AutocompleteRepository repository = new AutocompleteRepository(openSearchClient);
+
+        AutocompletePrefixIndex unloaded = mock(AutocompletePrefixIndex.class);
+        doReturn(Optional.empty()).when(unloaded).find(any(), any(), anyInt());
+        openSearchPath = new AutocompleteService(repository, unloaded);
+
+        AutocompleteRepository scanRepository = mock(AutocompleteRepository.class);
+        doReturn(entries).when(scanRepository).scanAll(anyInt());
+        AutocompletePrefixIndex prefixIndex =
+                new AutocompletePrefixIndex(scanRepository, new SimpleMeterRegistry(), true, 5000);
+        prefixIndex.refresh();
+        prefixIndexPath = new AutocompleteService(repository, prefixIndex);
+    }
+
+    @Benchmark
+    public List<Autocomplete> openSearch() throws SearchException {
+        try (var ignored = MarketContext.with(KOREA)) {
+            return openSearchPath.autocomplete(AutocompleteScope.RECIPE, keyword);
+        }
+    }
+
+    @Benchmark
+    public List<Autocomplete> prefixIndex() throws SearchException {
+        try (var ignored = MarketContext.with(KOREA)) {
+            return prefixIndexPath.autocomplete(AutocompleteScope.RECIPE, keyword);
+        }
+    }
+
+    private static String randomText(Random random) {
+        int length = 2 + random.nextInt(5);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(SYLLABLES[random.nextInt(i == 0 ? 4 : SYLLABLES.length)]);
+        }
+        return text.toString();
+    }
+
+    private static SearchResponse<Autocomplete> searchResponse(List<Autocomplete> autocompletes) {
+        List<Hit<Autocomplete>> hits = autocompletes.stream()
+                .map(autocomplete -> Hit.<Autocomplete>of(
+                        h -> h.source(autocomplete).index("autocomplete").id(autocomplete.getId())))
+                .toList();
+        return SearchResponse.searchResponseOf(r -> r.hits(HitsMetadata.of(h -> h.hits(hits)))
+                .took(1L)
+                .timedOut(false)
+                .shards(s -> s.total(1).successful(1).failed(0)));
+    }
+}
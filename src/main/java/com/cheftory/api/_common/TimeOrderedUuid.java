@@ -0,0 +1,62 @@
+package com.cheftory.api._common;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 UUID(UUIDv7) 생성기.
+ *
+ * <p>상위 48비트에 에포크 밀리초, 이어지는 12비트에 같은 밀리초 안의 순번을 두어 생성 순서대로 정렬되는 ID를 만듭니다.
+ * 무작위 UUID와 달리 새 행이 클러스터드 인덱스의 끝에 붙으므로, 쓰기가 많은 테이블에서 페이지 분할과 버퍼 풀 교체가 줄어듭니다.</p>
+ *
+ * <p>(밀리초, 순번)은 프로세스 전체에서 하나의 {@link AtomicLong}으로 관리되어 동시 호출에도 단조 증가합니다.
+ * 한 밀리초에 순번 4096개를 넘기거나 시계가 뒤로 가면 직전 값에서 이어서 증가하므로 순서가 역전되지 않습니다.
+ * 나머지 62비트는 무작위 값이라 여러 인스턴스가 같은 밀리초에 만든 ID도 충돌하지 않습니다.</p>
+ */
+public final class TimeOrderedUuid {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final TimeOrderedUuid INSTANCE = new TimeOrderedUuid(System::currentTimeMillis);
+
+    private final LongSupplier millis;
+    private final AtomicLong last = new AtomicLong();
+
+    TimeOrderedUuid(LongSupplier millis) {
+        this.millis = millis;
+    }
+
+    /**
+     * 새 시간 순서 UUID를 생성합니다.
+     *
+     * @return UUIDv7
+     */
+    public static UUID generate() {
+        return INSTANCE.next();
+    }
+
+    /**
+     * UUIDv7에 담긴 생성 시각을 반환합니다.
+     *
+     * @param uuid UUIDv7
+     * @return 에포크 밀리초
+     */
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    UUID next() {
+        long floor = millis.getAsLong() << SEQUENCE_BITS;
+        long state = last.updateAndGet(prev -> Math.max(floor, prev + 1));
+
+        long msb = ((state >>> SEQUENCE_BITS) << 16) | VERSION | (state & SEQUENCE_MASK);
+        long lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(msb, lsb);
+    }
+}
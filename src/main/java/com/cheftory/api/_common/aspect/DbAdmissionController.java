@@ -0,0 +1,312 @@
+package com.cheftory.api._common.aspect;
+
+import com.cheftory.api._common.concurrency.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 커넥션 풀 상태를 보고 `@DbThrottled` 메서드의 동시 실행 수를 조절하는 진입 제어기.
+ *
+ * <p>`db.admission.adjust-interval-ms`마다 풀을 살펴, 커넥션을 기다리는 스레드가 있거나 최근 커넥션 획득 시간이
+ * `target-acquire-ms`를 넘으면 허용 수를 3/4로 줄이고, 여유가 있는데 허용 수를 다 쓰고 있으면 1씩 늘립니다.
+ * 허용 수는 `[min-permits, 풀 최대 크기]` 안에 머뭅니다. 풀 대기는 요청 경로의 조회에서도 생기므로, 사용자 요청이
+ * 몰리면 백그라운드 쓰기가 먼저 물러납니다.</p>
+ *
+ * <p>자리가 나면 {@link DbPriority#REQUEST} 대기자를 먼저 들이고, {@link DbPriority#BACKGROUND}는 허용 수에서
+ * `request-reserve`를 뺀 만큼만 동시에 실행합니다. 우선순위별 대기 시간(`request-timeout-ms`,
+ * `background-timeout-ms`) 안에 자리를 얻지 못하거나 대기열이 `max-queue`만큼 찼으면
+ * {@link ConcurrencyLimitExceededException}을 던집니다.</p>
+ *
+ * <p>허용 수는 `db.admission.limit`, 우선순위별 실행 중·대기 수는 `db.admission.in_flight`, `db.admission.queued`
+ * 게이지로, 대기 시간과 거절은 `db.admission.wait` 타이머와 `db.admission.rejected` 카운터로 `priority` 태그와 함께
+ * 기록됩니다.</p>
+ */
+public class DbAdmissionController {
+
+    static final String LIMIT_METRIC = "db.admission.limit";
+    static final String IN_FLIGHT_METRIC = "db.admission.in_flight";
+    static final String QUEUED_METRIC = "db.admission.queued";
+    static final String WAIT_METRIC = "db.admission.wait";
+    static final String REJECTED_METRIC = "db.admission.rejected";
+
+    /**
+     * 진입 제어 설정.
+     *
+     * @param initialPermits 풀 상태를 보기 전 허용 수
+     * @param minPermits 최소 허용 수
+     * @param maxPermits 최대 허용 수, 풀 최대 크기를 넘지 않습니다
+     * @param requestReserve 요청 경로 몫으로 남겨 둘 자리 수
+     * @param targetAcquireTime 이보다 커넥션 획득이 오래 걸리면 허용 수를 줄입니다
+     * @param requestTimeout 요청 경로 대기 시간
+     * @param backgroundTimeout 백그라운드 대기 시간
+     * @param maxQueue 우선순위별 최대 대기 수
+     */
+    public record Settings(
+            int initialPermits,
+            int minPermits,
+            int maxPermits,
+            int requestReserve,
+            Duration targetAcquireTime,
+            Duration requestTimeout,
+            Duration backgroundTimeout,
+            int maxQueue) {}
+
+    /**
+     * 커넥션 풀 상태.
+     *
+     * @param active 사용 중인 커넥션 수
+     * @param pending 커넥션을 기다리는 스레드 수
+     * @param maxPoolSize 풀 최대 크기
+     * @param acquireTime 직전 관측 이후 평균 커넥션 획득 시간
+     */
+    public record PoolSnapshot(int active, int pending, int maxPoolSize, Duration acquireTime) {}
+
+    /**
+     * 커넥션 풀 상태를 읽는 통로.
+     */
+    @FunctionalInterface
+    public interface PoolProbe {
+        /**
+         * 현재 풀 상태를 읽습니다.
+         *
+         * @return 풀 상태, 읽을 수 없으면 빈 값
+         */
+        Optional<PoolSnapshot> sample();
+    }
+
+    private final Settings settings;
+    private final PoolProbe poolProbe;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<DbPriority, ArrayDeque<Waiter>> waiters = new EnumMap<>(DbPriority.class);
+    private final Map<DbPriority, Integer> inFlight = new EnumMap<>(DbPriority.class);
+    private final Map<DbPriority, Timer> waitTimers = new EnumMap<>(DbPriority.class);
+    private final Map<DbPriority, Counter> rejected = new EnumMap<>(DbPriority.class);
+
+    private int limit;
+
+    public DbAdmissionController(Settings settings, PoolProbe poolProbe, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.poolProbe = poolProbe;
+        this.limit = Math.clamp(settings.initialPermits(), settings.minPermits(), settings.maxPermits());
+        Gauge.builder(LIMIT_METRIC, this, DbAdmissionController::limit).register(meterRegistry);
+        for (DbPriority priority : DbPriority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            waiters.put(priority, new ArrayDeque<>());
+            inFlight.put(priority, 0);
+            waitTimers.put(priority, Timer.builder(WAIT_METRIC).tag("priority", tag).register(meterRegistry));
+            rejected.put(priority, Counter.builder(REJECTED_METRIC).tag("priority", tag).register(meterRegistry));
+            Gauge.builder(IN_FLIGHT_METRIC, this, c -> c.inFlight(priority))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder(QUEUED_METRIC, this, c -> c.queued(priority))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 실행 자리 하나를 얻습니다. 자리가 없으면 우선순위별 대기열에서 기다립니다.
+     *
+     * @param priority 진입 우선순위
+     * @return 실행이 끝나면 닫을 자리
+     * @throws ConcurrencyLimitExceededException 대기열이 가득 찼거나 기다리다 시간이 다 된 경우
+     */
+    public Permit acquire(DbPriority priority) {
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            if (waitingAhead(priority) == 0 && admissible(priority)) {
+                admit(priority);
+                return new Permit(priority);
+            }
+            ArrayDeque<Waiter> queue = waiters.get(priority);
+            if (queue.size() >= settings.maxQueue()) {
+                throw reject(priority, "queue full");
+            }
+
+            Waiter waiter = new Waiter(lock.newCondition());
+            queue.addLast(waiter);
+            long remaining = timeout(priority).toNanos();
+            try {
+                while (!waiter.granted && remaining > 0) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            waitTimers.get(priority).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (waiter.granted) {
+                return new Permit(priority);
+            }
+            queue.remove(waiter);
+            throw reject(priority, "queue timeout");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 커넥션 풀 상태를 읽어 허용 수를 조절합니다. 풀이 바쁠 때도 밀리지 않도록 배치 잡과 분리된 제어용 스케줄러에서
+     * 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${db.admission.adjust-interval-ms:1000}", scheduler = "controlTaskScheduler")
+    public void adjust() {
+        poolProbe.sample().ifPresent(this::adjust);
+    }
+
+    void adjust(PoolSnapshot pool) {
+        lock.lock();
+        try {
+            int ceiling = Math.max(settings.minPermits(), Math.min(settings.maxPermits(), pool.maxPoolSize()));
+            boolean congested = pool.pending() > 0 || pool.acquireTime().compareTo(settings.targetAcquireTime()) > 0;
+            if (congested) {
+                limit = limit * 3 / 4;
+            } else if (totalQueued() > 0 || totalInFlight() >= limit) {
+                limit++;
+            }
+            limit = Math.clamp(limit, settings.minPermits(), ceiling);
+            grant();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 허용 수.
+     *
+     * @return 동시에 실행할 수 있는 `@DbThrottled` 호출 수
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight(DbPriority priority) {
+        lock.lock();
+        try {
+            return inFlight.get(priority);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued(DbPriority priority) {
+        lock.lock();
+        try {
+            return waiters.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(DbPriority priority) {
+        lock.lock();
+        try {
+            inFlight.merge(priority, -1, Integer::sum);
+            grant();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빈 자리를 우선순위 순서로 나눠 줍니다.
+     */
+    private void grant() {
+        for (DbPriority priority : DbPriority.values()) {
+            ArrayDeque<Waiter> queue = waiters.get(priority);
+            while (!queue.isEmpty() && admissible(priority)) {
+                Waiter waiter = queue.pollFirst();
+                admit(priority);
+                waiter.granted = true;
+                waiter.condition.signal();
+            }
+        }
+    }
+
+    private boolean admissible(DbPriority priority) {
+        if (totalInFlight() >= limit) {
+            return false;
+        }
+        return priority == DbPriority.REQUEST
+                || inFlight.get(DbPriority.BACKGROUND) < Math.max(1, limit - settings.requestReserve());
+    }
+
+    private void admit(DbPriority priority) {
+        inFlight.merge(priority, 1, Integer::sum);
+    }
+
+    private int waitingAhead(DbPriority priority) {
+        int waiting = 0;
+        for (DbPriority ahead : DbPriority.values()) {
+            waiting += waiters.get(ahead).size();
+            if (ahead == priority) {
+                break;
+            }
+        }
+        return waiting;
+    }
+
+    private int totalInFlight() {
+        return inFlight.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private int totalQueued() {
+        return waiters.values().stream().mapToInt(ArrayDeque::size).sum();
+    }
+
+    private Duration timeout(DbPriority priority) {
+        return priority == DbPriority.REQUEST ? settings.requestTimeout() : settings.backgroundTimeout();
+    }
+
+    private ConcurrencyLimitExceededException reject(DbPriority priority, String reason) {
+        rejected.get(priority).increment();
+        return new ConcurrencyLimitExceededException("db." + priority.name().toLowerCase(Locale.ROOT), reason);
+    }
+
+    private static final class Waiter {
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+
+    /**
+     * 얻은 실행 자리. 여러 번 닫아도 한 번만 반납합니다.
+     */
+    public final class Permit implements AutoCloseable {
+        private final DbPriority priority;
+        private boolean released;
+
+        private Permit(DbPriority priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(priority);
+        }
+    }
+}
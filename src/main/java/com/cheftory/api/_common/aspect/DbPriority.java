@@ -0,0 +1,13 @@
+package com.cheftory.api._common.aspect;
+
+/**
+ * DB 진입 우선순위.
+ *
+ * <p>자리가 나면 {@link #REQUEST}를 먼저 들이고, {@link #BACKGROUND}는 요청용 여유분을 남긴 만큼만 동시에 실행합니다.</p>
+ */
+public enum DbPriority {
+    /** 사용자 요청 경로의 조회. 짧게 기다리고 빨리 실패합니다. */
+    REQUEST,
+    /** 진행 상태 기록, 배치 INSERT 등 백그라운드 쓰기. */
+    BACKGROUND
+}
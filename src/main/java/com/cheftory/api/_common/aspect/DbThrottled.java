@@ -11,4 +11,12 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface DbThrottled {}
+public @interface DbThrottled {
+
+    /**
+     * 진입 우선순위.
+     *
+     * @return 우선순위, 기본값은 백그라운드
+     */
+    DbPriority value() default DbPriority.BACKGROUND;
+}
@@ -1,39 +1,39 @@
 package com.cheftory.api._common.aspect;
 
-import java.util.concurrent.Semaphore;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 /**
  * 데이터베이스 쓰로틀링 AOP 애스팩트.
  *
- * <p>세마포어를 사용하여 동시 DB 연결 수를 제한합니다.</p>
+ * <p>{@link DbAdmissionController}에서 우선순위별 자리를 얻은 뒤 실행합니다. 트랜잭션이 커넥션을 잡기 전에 기다리도록
+ * 트랜잭션 어드바이스보다 바깥에서 동작합니다.</p>
  */
 @Aspect
 @Component
-@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class DbThrottlingAspect {
 
-    /** 최대 동시 DB 연결 수 */
-    private final Semaphore semaphore = new Semaphore(20);
+    private final DbAdmissionController admissionController;
 
     /**
      * DB 쓰로틀링을 적용합니다.
      *
      * @param joinPoint 조인 포인트
+     * @param dbThrottled 쓰로틀링 설정
      * @return 메서드 실행 결과
      * @throws Throwable 실행 중 예외 발생 시
      */
-    @Around("@annotation(com.cheftory.api._common.aspect.DbThrottled)")
-    public Object throttle(ProceedingJoinPoint joinPoint) throws Throwable {
-        semaphore.acquire();
-        try {
+    @Around("@annotation(dbThrottled)")
+    public Object throttle(ProceedingJoinPoint joinPoint, DbThrottled dbThrottled) throws Throwable {
+        try (DbAdmissionController.Permit ignored = admissionController.acquire(dbThrottled.value())) {
             return joinPoint.proceed();
-        } finally {
-            semaphore.release();
         }
     }
 }
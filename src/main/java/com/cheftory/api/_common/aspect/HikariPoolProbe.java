@@ -0,0 +1,83 @@
+package com.cheftory.api._common.aspect;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HikariCP 풀 상태를 읽는 {@link DbAdmissionController.PoolProbe}.
+ *
+ * <p>사용 중·대기 커넥션 수는 풀 MXBean에서, 커넥션 획득 시간은 Hikari가 등록한 `hikaricp.connections.acquire`
+ * 타이머의 직전 관측 이후 증가분으로 계산합니다.</p>
+ */
+@Slf4j
+public final class HikariPoolProbe implements DbAdmissionController.PoolProbe {
+
+    static final String ACQUIRE_METRIC = "hikaricp.connections.acquire";
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    private long lastCount;
+    private double lastTotalNanos;
+
+    private HikariPoolProbe(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 데이터 소스가 HikariCP면 풀 상태를 읽는 통로를 만듭니다.
+     *
+     * @param dataSource 데이터 소스
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 풀 상태 통로, HikariCP가 아니면 항상 빈 값을 돌려주는 통로
+     */
+    public static DbAdmissionController.PoolProbe of(DataSource dataSource, MeterRegistry meterRegistry) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return new HikariPoolProbe(dataSource.unwrap(HikariDataSource.class), meterRegistry);
+            }
+        } catch (SQLException e) {
+            log.warn("HikariCP 데이터 소스 확인 실패, 고정 허용 수로 동작", e);
+        }
+        return Optional::empty;
+    }
+
+    @Override
+    public synchronized Optional<DbAdmissionController.PoolSnapshot> sample() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new DbAdmissionController.PoolSnapshot(
+                pool.getActiveConnections(),
+                pool.getThreadsAwaitingConnection(),
+                dataSource.getMaximumPoolSize(),
+                recentAcquireTime()));
+    }
+
+    private Duration recentAcquireTime() {
+        Timer timer = meterRegistry
+                .find(ACQUIRE_METRIC)
+                .tag("pool", dataSource.getPoolName())
+                .timer();
+        if (timer == null) {
+            return Duration.ZERO;
+        }
+        long count = timer.count();
+        double totalNanos = timer.totalTime(TimeUnit.NANOSECONDS);
+        long acquired = count - lastCount;
+        double waited = totalNanos - lastTotalNanos;
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+        return acquired <= 0 ? Duration.ZERO : Duration.ofNanos((long) (waited / acquired));
+    }
+}
@@ -0,0 +1,219 @@
+package com.cheftory.api._common.buffer;
+
+import com.cheftory.api._common.region.MarketContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 배치 쓰기 버퍼.
+ *
+ * <p>요청 스레드는 항목을 고정 크기 링 버퍼({@link ArrayBlockingQueue})에 넣고 바로 반환하며,
+ * 전용 가상 스레드가 버퍼를 비워 배치 단위로 {@link Flusher}에 넘깁니다. 배치는 `batchSize`가 차거나
+ * 첫 항목을 꺼낸 뒤 `flushInterval`이 지나면 반영됩니다.</p>
+ *
+ * <p>버퍼가 가득 차면 `offerTimeout`까지 기다린 뒤(backpressure) 남은 항목을 버리고 `async.batch.dropped`에 기록합니다.
+ * 항목은 넣을 때의 마켓 컨텍스트와 함께 보관되며, 반영 시 마켓별로 나눠 해당 컨텍스트 안에서 실행합니다.
+ * {@link #close()}는 새 항목을 거부하고 남은 항목을 모두 반영한 뒤 종료합니다.</p>
+ *
+ * @param <T> 항목 타입
+ */
+@Slf4j
+public class AsyncBatchWriter<T> implements AutoCloseable {
+
+    static final String DROPPED_METRIC = "async.batch.dropped";
+    static final String FAILED_METRIC = "async.batch.failed";
+    static final String FLUSH_METRIC = "async.batch.flush";
+    static final String QUEUE_METRIC = "async.batch.queue";
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * 배치 반영 함수.
+     *
+     * @param <T> 항목 타입
+     */
+    @FunctionalInterface
+    public interface Flusher<T> {
+        void flush(List<T> items);
+    }
+
+    /**
+     * 버퍼 설정.
+     *
+     * @param capacity 링 버퍼 크기
+     * @param batchSize 최대 배치 크기
+     * @param flushInterval 배치를 모으는 최대 시간
+     * @param offerTimeout 버퍼가 가득 찼을 때 요청 스레드가 기다리는 최대 시간
+     */
+    public record Settings(int capacity, int batchSize, Duration flushInterval, Duration offerTimeout) {}
+
+    private record Entry<T>(MarketContext.Info market, T item) {}
+
+    private final String name;
+    private final Settings settings;
+    private final Flusher<T> flusher;
+    private final BlockingQueue<Entry<T>> queue;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTimer;
+    private final Thread drainer;
+
+    private volatile boolean running = true;
+
+    private AsyncBatchWriter(String name, Settings settings, Flusher<T> flusher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.flusher = flusher;
+        this.queue = new ArrayBlockingQueue<>(settings.capacity());
+        this.dropped = Counter.builder(DROPPED_METRIC).tag("writer", name).register(meterRegistry);
+        this.failed = Counter.builder(FAILED_METRIC).tag("writer", name).register(meterRegistry);
+        this.flushTimer = Timer.builder(FLUSH_METRIC).tag("writer", name).register(meterRegistry);
+        Gauge.builder(QUEUE_METRIC, queue, BlockingQueue::size).tag("writer", name).register(meterRegistry);
+        this.drainer = Thread.ofVirtual().name("async-batch-" + name).unstarted(this::drainLoop);
+    }
+
+    /**
+     * 버퍼를 만들고 반영 스레드를 시작합니다.
+     *
+     * @param name 버퍼 이름 (메트릭 `writer` 태그, 스레드 이름)
+     * @param settings 버퍼 설정
+     * @param flusher 배치 반영 함수
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 시작된 버퍼
+     * @param <T> 항목 타입
+     */
+    public static <T> AsyncBatchWriter<T> start(
+            String name, Settings settings, Flusher<T> flusher, MeterRegistry meterRegistry) {
+        AsyncBatchWriter<T> writer = new AsyncBatchWriter<>(name, settings, flusher, meterRegistry);
+        writer.drainer.start();
+        return writer;
+    }
+
+    /**
+     * 항목들을 현재 마켓 컨텍스트와 함께 버퍼에 넣습니다.
+     *
+     * <p>버퍼가 가득 차 `offerTimeout` 안에 넣지 못한 항목과 종료 이후 들어온 항목은 버립니다.</p>
+     *
+     * @param items 항목 목록
+     * @return 버퍼에 넣은 항목 수
+     */
+    public int offer(List<T> items) {
+        if (items.isEmpty()) return 0;
+        if (!running) {
+            drop(items.size());
+            return 0;
+        }
+
+        MarketContext.Info market = MarketContext.required();
+        long deadline = System.nanoTime() + settings.offerTimeout().toNanos();
+        for (int i = 0; i < items.size(); i++) {
+            Entry<T> entry = new Entry<>(market, items.get(i));
+            try {
+                if (!queue.offer(entry) && !queue.offer(entry, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    drop(items.size() - i);
+                    return i;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drop(items.size() - i);
+                return i;
+            }
+        }
+        return items.size();
+    }
+
+    /**
+     * 새 항목을 거부하고 남은 항목을 모두 반영한 뒤 반영 스레드를 종료합니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            if (!drainer.join(CLOSE_TIMEOUT)) {
+                log.warn("비동기 배치 버퍼 종료 대기 시간 초과: writer={}, remaining={}", name, queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        try {
+            while (running) {
+                List<Entry<T>> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            drainRemaining();
+        }
+    }
+
+    private List<Entry<T>> nextBatch() throws InterruptedException {
+        List<Entry<T>> batch = new ArrayList<>(settings.batchSize());
+        Entry<T> first = queue.poll(settings.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + settings.flushInterval().toNanos();
+        while (batch.size() < settings.batchSize()) {
+            queue.drainTo(batch, settings.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= settings.batchSize() || remaining <= 0) {
+                break;
+            }
+            Entry<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void drainRemaining() {
+        List<Entry<T>> batch = new ArrayList<>(settings.batchSize());
+        while (queue.drainTo(batch, settings.batchSize()) > 0) {
+            flush(batch);
+            batch = new ArrayList<>(settings.batchSize());
+        }
+    }
+
+    private void flush(List<Entry<T>> batch) {
+        Map<MarketContext.Info, List<T>> byMarket = new LinkedHashMap<>();
+        for (Entry<T> entry : batch) {
+            byMarket.computeIfAbsent(entry.market(), market -> new ArrayList<>())
+                    .add(entry.item());
+        }
+
+        byMarket.forEach((market, items) -> {
+            try (var ignored = MarketContext.with(market)) {
+                flushTimer.record(() -> flusher.flush(items));
+            } catch (RuntimeException e) {
+                failed.increment(items.size());
+                log.error("비동기 배치 반영 실패: writer={}, market={}, items={}", name, market.market(), items.size(), e);
+            }
+        });
+    }
+
+    private void drop(int count) {
+        dropped.increment(count);
+        log.warn("비동기 배치 버퍼 포화로 항목 폐기: writer={}, dropped={}", name, count);
+    }
+}
@@ -0,0 +1,46 @@
+package com.cheftory.api._common.buffer;
+
+import com.cheftory.api._common.aspect.DbThrottled;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 신규 엔티티 일괄 INSERT 헬퍼.
+ *
+ * <p>ID를 미리 할당한 엔티티를 `saveAll`로 저장하면 엔티티마다 merge(SELECT 후 INSERT)가 일어납니다.
+ * 여기서는 `persist`만 사용하고 `hibernate.jdbc.batch_size` 단위로 flush/clear하여,
+ * JDBC 배치(MySQL `rewriteBatchedStatements`로 multi-row INSERT)로 반영합니다.
+ * 호출 스레드의 마켓 컨텍스트로 테넌트가 결정됩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityBatchInserter {
+
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    /**
+     * 신규 엔티티들을 한 트랜잭션에서 일괄 INSERT합니다.
+     *
+     * @param entities 신규 엔티티 목록
+     */
+    @DbThrottled
+    @Transactional
+    public void insertAll(List<?> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
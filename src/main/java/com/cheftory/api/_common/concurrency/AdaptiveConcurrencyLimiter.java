@@ -0,0 +1,292 @@
+package com.cheftory.api._common.concurrency;
+
+import com.cheftory.api._common.region.MarketContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간과 오류로 동시 실행 한도를 조절하는 리미터.
+ *
+ * <p>한도는 AIMD로 움직입니다. 응답 시간이 지금까지의 기준 지연(EWMA)의 `latencyTolerance`배 안에 들고 한도를 어느 정도
+ * 쓰고 있으면 한 번에 `1/limit`씩(한도만큼 완료되면 1) 늘리고, 기준을 넘기거나 과부하 오류(타임아웃, 429, 5xx 등)가 나면
+ * `backoffRatio`를 곱해 줄입니다. 한도는 `[minLimit, maxLimit]` 안에 머뭅니다.</p>
+ *
+ * <p>한도를 넘는 호출은 마켓별 대기열에 들어가고, 자리가 나면 대기 중인 마켓을 돌아가며 하나씩 깨우므로 한 마켓의 폭주가
+ * 다른 마켓 요청을 굶기지 않습니다. 대기열이 `maxQueue`만큼 찼거나 `queueTimeout` 안에 자리를 얻지 못하면
+ * {@link ConcurrencyLimitExceededException}을 던집니다.</p>
+ *
+ * <p>한도·실행 중·대기 수는 `concurrency.limit`, `concurrency.in_flight`, `concurrency.queued` 게이지로,
+ * 대기 시간과 거절은 `concurrency.wait` 타이머와 `concurrency.rejected` 카운터로 `limiter` 태그와 함께 기록됩니다.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    static final String LIMIT_METRIC = "concurrency.limit";
+    static final String IN_FLIGHT_METRIC = "concurrency.in_flight";
+    static final String QUEUED_METRIC = "concurrency.queued";
+    static final String WAIT_METRIC = "concurrency.wait";
+    static final String REJECTED_METRIC = "concurrency.rejected";
+
+    private static final String NO_MARKET = "none";
+    private static final double BASELINE_WEIGHT = 0.1;
+
+    /**
+     * 리미터 설정.
+     *
+     * @param initialLimit 시작 한도
+     * @param minLimit 최소 한도
+     * @param maxLimit 최대 한도
+     * @param latencyTolerance 기준 지연 대비 허용 배수, 넘기면 한도를 줄입니다
+     * @param backoffRatio 한도를 줄일 때 곱하는 비율 (0~1)
+     * @param maxQueue 최대 대기 수
+     * @param queueTimeout 자리를 기다리는 최대 시간
+     */
+    public record Settings(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double latencyTolerance,
+            double backoffRatio,
+            int maxQueue,
+            Duration queueTimeout) {}
+
+    /**
+     * 호출 결과.
+     */
+    public enum Outcome {
+        /** 정상 응답. 지연 시간으로 한도를 조절합니다. */
+        SUCCESS,
+        /** 과부하로 보이는 실패. 한도를 줄입니다. */
+        OVERLOAD,
+        /** 한도와 무관한 실패(잘못된 요청 등). 한도를 그대로 둡니다. */
+        IGNORE
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, ArrayDeque<Waiter>> waiters = new HashMap<>();
+    private final ArrayDeque<String> markets = new ArrayDeque<>();
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    private double limit;
+    private double baselineNanos;
+    private int inFlight;
+    private int queued;
+
+    public AdaptiveConcurrencyLimiter(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.limit = Math.clamp(settings.initialLimit(), settings.minLimit(), settings.maxLimit());
+        this.waitTimer = Timer.builder(WAIT_METRIC).tag("limiter", name).register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC).tag("limiter", name).register(meterRegistry);
+        Gauge.builder(LIMIT_METRIC, this, AdaptiveConcurrencyLimiter::limit)
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, this, AdaptiveConcurrencyLimiter::inFlight)
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder(QUEUED_METRIC, this, AdaptiveConcurrencyLimiter::queued)
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실행 자리 하나를 얻습니다. 자리가 없으면 현재 마켓의 대기열에서 기다립니다.
+     *
+     * @return 호출이 끝나면 결과와 함께 반납할 자리
+     * @throws ConcurrencyLimitExceededException 대기열이 가득 찼거나 기다리다 시간이 다 된 경우
+     */
+    public Permit acquire() {
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            if (queued == 0 && inFlight < currentLimit()) {
+                inFlight++;
+                return new Permit(System.nanoTime());
+            }
+            if (queued >= settings.maxQueue()) {
+                rejected.increment();
+                throw new ConcurrencyLimitExceededException(name, "queue full");
+            }
+
+            Waiter waiter = enqueue(currentMarket());
+            long remaining = settings.queueTimeout().toNanos();
+            try {
+                while (!waiter.granted && remaining > 0) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (waiter.granted) {
+                return new Permit(System.nanoTime());
+            }
+            dequeue(waiter);
+            rejected.increment();
+            throw new ConcurrencyLimitExceededException(name, "queue timeout");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 한도.
+     *
+     * @return 동시에 실행할 수 있는 호출 수
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Outcome outcome, long latencyNanos) {
+        lock.lock();
+        try {
+            switch (outcome) {
+                case SUCCESS -> adjust(latencyNanos);
+                case OVERLOAD -> backoff();
+                case IGNORE -> {}
+            }
+            inFlight--;
+            grant();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(long latencyNanos) {
+        if (baselineNanos == 0) {
+            baselineNanos = latencyNanos;
+        } else if (latencyNanos > baselineNanos * settings.latencyTolerance()) {
+            backoff();
+        } else if (queued > 0 || inFlight * 2 >= currentLimit()) {
+            limit = Math.min(settings.maxLimit(), limit + 1.0 / limit);
+        }
+        baselineNanos += (latencyNanos - baselineNanos) * BASELINE_WEIGHT;
+    }
+
+    private void backoff() {
+        limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+    }
+
+    /**
+     * 빈 자리를 대기 중인 마켓에 돌아가며 나눠 줍니다.
+     */
+    private void grant() {
+        while (queued > 0 && inFlight < currentLimit()) {
+            String market = markets.pollFirst();
+            ArrayDeque<Waiter> lane = waiters.get(market);
+            Waiter waiter = lane.pollFirst();
+            if (lane.isEmpty()) {
+                waiters.remove(market);
+            } else {
+                markets.addLast(market);
+            }
+            queued--;
+            inFlight++;
+            waiter.granted = true;
+            waiter.condition.signal();
+        }
+    }
+
+    private Waiter enqueue(String market) {
+        Waiter waiter = new Waiter(market, lock.newCondition());
+        waiters.computeIfAbsent(market, key -> {
+                    markets.addLast(key);
+                    return new ArrayDeque<>();
+                })
+                .addLast(waiter);
+        queued++;
+        return waiter;
+    }
+
+    private void dequeue(Waiter waiter) {
+        ArrayDeque<Waiter> lane = waiters.get(waiter.market);
+        if (lane != null && lane.remove(waiter)) {
+            queued--;
+            if (lane.isEmpty()) {
+                waiters.remove(waiter.market);
+                markets.remove(waiter.market);
+            }
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private static String currentMarket() {
+        MarketContext.Info info = MarketContext.currentOrNull();
+        return info == null ? NO_MARKET : info.market().name().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Waiter {
+        private final String market;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(String market, Condition condition) {
+            this.market = market;
+            this.condition = condition;
+        }
+    }
+
+    /**
+     * 얻은 실행 자리. 호출이 끝나면 한 번만 반납해야 합니다.
+     */
+    public final class Permit {
+        private final long startedAt;
+        private boolean released;
+
+        private Permit(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 호출 결과와 함께 자리를 반납합니다. 두 번째 호출부터는 무시합니다.
+         *
+         * @param outcome 호출 결과
+         */
+        public void release(Outcome outcome) {
+            if (released) {
+                return;
+            }
+            released = true;
+            AdaptiveConcurrencyLimiter.this.release(outcome, System.nanoTime() - startedAt);
+        }
+    }
+}
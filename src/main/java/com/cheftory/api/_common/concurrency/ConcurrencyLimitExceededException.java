@@ -0,0 +1,14 @@
+package com.cheftory.api._common.concurrency;
+
+/**
+ * {@link AdaptiveConcurrencyLimiter}나 DB 진입 제어가 호출을 받아들이지 못했을 때 던지는 예외.
+ *
+ * <p>HTTP 인터페이스 프록시와 AOP 애스팩트에서 던지므로 검사 예외가 아니며, 호출하는 외부 클라이언트가 다른 호출
+ * 실패와 같이 도메인 예외로 바꿉니다.</p>
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String limiter, String reason) {
+        super("concurrency limit exceeded: limiter=" + limiter + ", reason=" + reason);
+    }
+}
@@ -0,0 +1,71 @@
+package com.cheftory.api._common.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 인터페이스 구현체의 메서드 호출마다 {@link AdaptiveConcurrencyLimiter}를 거치게 하는 프록시.
+ *
+ * <p>메서드(엔드포인트)마다 리미터를 따로 두며 이름은 `{인터페이스}.{메서드}`입니다. 호출이 예외로 끝나면
+ * `overload`로 과부하 여부를 판단해 한도를 줄이고, 그 밖의 예외는 한도에 반영하지 않습니다.
+ * 블로킹 호출을 전제로 하므로 가상 스레드에서 호출하는 HTTP 인터페이스 클라이언트에 씁니다.</p>
+ */
+public final class ConcurrencyLimitedProxy {
+
+    private ConcurrencyLimitedProxy() {}
+
+    /**
+     * 동시 실행 한도가 걸린 프록시를 만듭니다.
+     *
+     * @param type 인터페이스 타입
+     * @param target 실제 구현체
+     * @param settings 리미터 설정
+     * @param overload 과부하로 볼 예외
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 프록시
+     * @param <T> 인터페이스 타입
+     */
+    public static <T> T wrap(
+            Class<T> type,
+            T target,
+            AdaptiveConcurrencyLimiter.Settings settings,
+            Predicate<Throwable> overload,
+            MeterRegistry meterRegistry) {
+        Map<Method, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(method, target, args);
+            }
+            AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(
+                    method,
+                    m -> new AdaptiveConcurrencyLimiter(
+                            type.getSimpleName() + "." + m.getName(), settings, meterRegistry));
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
+            try {
+                Object result = invoke(method, target, args);
+                permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+                return result;
+            } catch (Throwable t) {
+                permit.release(
+                        overload.test(t)
+                                ? AdaptiveConcurrencyLimiter.Outcome.OVERLOAD
+                                : AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+                throw t;
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
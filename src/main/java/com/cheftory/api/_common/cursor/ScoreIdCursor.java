@@ -1,3 +1,21 @@
 package com.cheftory.api._common.cursor;
 
-public record ScoreIdCursor(double score, String id, String anchorNowIso, String pitId) {}
+/**
+ * 점수-ID 커서.
+ *
+ * @param score 마지막 항목 점수
+ * @param id 마지막 항목 ID
+ * @param anchorNowIso 첫 페이지 기준 시각 (ISO 형식)
+ * @param pitId PIT ID, PIT 없이 라이브 인덱스를 이어 읽는 커서면 null
+ */
+public record ScoreIdCursor(double score, String id, String anchorNowIso, String pitId) {
+
+    /**
+     * PIT에 고정된 커서인지 반환합니다.
+     *
+     * @return PIT ID가 있으면 true
+     */
+    public boolean hasPit() {
+        return pitId != null;
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ScoreIdCursorCodec extends AbstractCursorCodecSupport implements CursorCodec<ScoreIdCursor> {
     private static final String SEP = "|";
+
+    /** PIT 없는 커서의 pitId 자리 표시. PIT ID는 base64이므로 겹치지 않습니다. */
+    private static final String NO_PIT = "-";
     private final Clock clock;
 
     @Override
@@ -26,6 +29,9 @@ public class ScoreIdCursorCodec extends AbstractCursorCodecSupport implements Cu
             String id = cursor.substring(firstSeparator + 1, secondSeparator);
             String anchorNowIso = cursor.substring(secondSeparator + 1, lastSeparator);
             String pitId = cursor.substring(lastSeparator + 1);
+            if (NO_PIT.equals(pitId)) {
+                pitId = null;
+            }
 
             return new ScoreIdCursor(score, id, anchorNowIso, pitId);
         } catch (Exception exception) {
@@ -35,7 +41,8 @@ public class ScoreIdCursorCodec extends AbstractCursorCodecSupport implements Cu
 
     @Override
     public String encode(ScoreIdCursor value) {
-        return value.score() + SEP + value.id() + SEP + value.anchorNowIso() + SEP + value.pitId();
+        String pitId = value.hasPit() ? value.pitId() : NO_PIT;
+        return value.score() + SEP + value.id() + SEP + value.anchorNowIso() + SEP + pitId;
     }
 
     public String newAnchorNow() {
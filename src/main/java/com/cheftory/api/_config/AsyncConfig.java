@@ -50,6 +50,41 @@ public class AsyncConfig {
     @Bean("recipeCreateExecutor")
     public AsyncTaskExecutor recipeCreateExecutor(
             ExecutorService asyncVirtualThreadExecutorService, TaskDecorator marketContextTaskDecorator) {
+        return marketContextExecutor(asyncVirtualThreadExecutorService, marketContextTaskDecorator);
+    }
+
+    /**
+     * 레시피 조회 fan-out을 위한 비동기 Task Executor 빈을 생성합니다.
+     *
+     * <p>요청 스레드의 마켓 컨텍스트를 각 분기로 전파하여 멀티테넌트 조회가 올바른 마켓으로 해석되도록 합니다.</p>
+     *
+     * @param asyncVirtualThreadExecutorService 가상 스레드 Executor Service
+     * @param marketContextTaskDecorator 마켓 컨텍스트 Task Decorator
+     * @return AsyncTaskExecutor 인스턴스
+     */
+    @Bean("recipeReadExecutor")
+    public AsyncTaskExecutor recipeReadExecutor(
+            ExecutorService asyncVirtualThreadExecutorService, TaskDecorator marketContextTaskDecorator) {
+        return marketContextExecutor(asyncVirtualThreadExecutorService, marketContextTaskDecorator);
+    }
+
+    /**
+     * 랭킹 개인화 프로필 갱신을 위한 비동기 Task Executor 빈을 생성합니다.
+     *
+     * <p>조회(VIEW) 이벤트 기록 요청이 시드 문서 조회를 기다리지 않도록 갱신을 요청 스레드 밖에서 실행합니다.</p>
+     *
+     * @param asyncVirtualThreadExecutorService 가상 스레드 Executor Service
+     * @param marketContextTaskDecorator 마켓 컨텍스트 Task Decorator
+     * @return AsyncTaskExecutor 인스턴스
+     */
+    @Bean("rankingRefreshExecutor")
+    public AsyncTaskExecutor rankingRefreshExecutor(
+            ExecutorService asyncVirtualThreadExecutorService, TaskDecorator marketContextTaskDecorator) {
+        return marketContextExecutor(asyncVirtualThreadExecutorService, marketContextTaskDecorator);
+    }
+
+    private AsyncTaskExecutor marketContextExecutor(
+            ExecutorService asyncVirtualThreadExecutorService, TaskDecorator marketContextTaskDecorator) {
         return new AsyncTaskExecutor() {
             @Override
             public void execute(Runnable task) {
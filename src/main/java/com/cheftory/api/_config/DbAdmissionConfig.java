@@ -0,0 +1,59 @@
+package com.cheftory.api._config;
+
+import com.cheftory.api._common.aspect.DbAdmissionController;
+import com.cheftory.api._common.aspect.HikariPoolProbe;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DB 진입 제어 설정 클래스.
+ *
+ * <p>`@DbThrottled` 메서드가 HikariCP 풀 상태에 맞춰 우선순위별로 커넥션 몫을 나눠 쓰도록
+ * {@link DbAdmissionController}를 등록합니다.</p>
+ */
+@Configuration
+public class DbAdmissionConfig {
+
+    /**
+     * DB 진입 제어기 빈을 생성합니다.
+     *
+     * @param dataSource 데이터 소스
+     * @param meterRegistry 메트릭 레지스트리
+     * @param initialPermits 풀 상태를 보기 전 허용 수
+     * @param minPermits 최소 허용 수
+     * @param maxPermits 최대 허용 수
+     * @param requestReserve 요청 경로 몫으로 남겨 둘 자리 수
+     * @param targetAcquireMs 목표 커넥션 획득 시간(ms)
+     * @param requestTimeoutMs 요청 경로 대기 시간(ms)
+     * @param backgroundTimeoutMs 백그라운드 대기 시간(ms)
+     * @param maxQueue 우선순위별 최대 대기 수
+     * @return DB 진입 제어기
+     */
+    @Bean
+    public DbAdmissionController dbAdmissionController(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${db.admission.initial-permits:20}") int initialPermits,
+            @Value("${db.admission.min-permits:4}") int minPermits,
+            @Value("${db.admission.max-permits:30}") int maxPermits,
+            @Value("${db.admission.request-reserve:5}") int requestReserve,
+            @Value("${db.admission.target-acquire-ms:20}") long targetAcquireMs,
+            @Value("${db.admission.request-timeout-ms:500}") long requestTimeoutMs,
+            @Value("${db.admission.background-timeout-ms:30000}") long backgroundTimeoutMs,
+            @Value("${db.admission.max-queue:10000}") int maxQueue) {
+        DbAdmissionController.Settings settings = new DbAdmissionController.Settings(
+                initialPermits,
+                minPermits,
+                maxPermits,
+                requestReserve,
+                Duration.ofMillis(targetAcquireMs),
+                Duration.ofMillis(requestTimeoutMs),
+                Duration.ofMillis(backgroundTimeoutMs),
+                maxQueue);
+        return new DbAdmissionController(settings, HikariPoolProbe.of(dataSource, meterRegistry), meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.cheftory.api._config;
+
+import com.cheftory.api._common.buffer.AsyncBatchWriter;
+import com.cheftory.api._common.buffer.EntityBatchInserter;
+import com.cheftory.api.ranking.interaction.RankingImpression;
+import com.cheftory.api.tracking.entity.RecipeImpression;
+import com.cheftory.api.tracking.repository.RecipeImpressionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노출 로그 비동기 배치 저장 설정 클래스.
+ *
+ * <p>랭킹 노출과 클라이언트 보고 노출을 요청 경로에서 떼어내 {@link AsyncBatchWriter}로 모아 일괄 INSERT합니다.
+ * 종료 시에는 남은 노출을 모두 반영합니다.</p>
+ */
+@Configuration
+public class ImpressionSinkConfig {
+
+    /**
+     * 노출 버퍼 설정 빈을 생성합니다.
+     *
+     * @param capacity 링 버퍼 크기
+     * @param batchSize 최대 배치 크기
+     * @param flushIntervalMs 배치를 모으는 최대 시간(ms)
+     * @param offerTimeoutMs 버퍼 포화 시 대기 시간(ms)
+     * @return 버퍼 설정
+     */
+    @Bean
+    public AsyncBatchWriter.Settings impressionSinkSettings(
+            @Value("${impression-sink.capacity:20000}") int capacity,
+            @Value("${impression-sink.batch-size:500}") int batchSize,
+            @Value("${impression-sink.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${impression-sink.offer-timeout-ms:5}") long offerTimeoutMs) {
+        return new AsyncBatchWriter.Settings(
+                capacity, batchSize, Duration.ofMillis(flushIntervalMs), Duration.ofMillis(offerTimeoutMs));
+    }
+
+    /**
+     * 랭킹 노출 비동기 배치 버퍼 빈을 생성합니다.
+     *
+     * @param impressionSinkSettings 버퍼 설정
+     * @param entityBatchInserter 일괄 INSERT 헬퍼
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 랭킹 노출 버퍼
+     */
+    @Bean(destroyMethod = "close")
+    public AsyncBatchWriter<RankingImpression> rankingImpressionWriter(
+            AsyncBatchWriter.Settings impressionSinkSettings,
+            EntityBatchInserter entityBatchInserter,
+            MeterRegistry meterRegistry) {
+        return AsyncBatchWriter.start(
+                "ranking_impression", impressionSinkSettings, entityBatchInserter::insertAll, meterRegistry);
+    }
+
+    /**
+     * 레시피 노출 비동기 배치 버퍼 빈을 생성합니다.
+     *
+     * @param impressionSinkSettings 버퍼 설정
+     * @param recipeImpressionRepository 레시피 노출 리포지토리
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 레시피 노출 버퍼
+     */
+    @Bean(destroyMethod = "close")
+    public AsyncBatchWriter<RecipeImpression> recipeImpressionWriter(
+            AsyncBatchWriter.Settings impressionSinkSettings,
+            RecipeImpressionRepository recipeImpressionRepository,
+            MeterRegistry meterRegistry) {
+        return AsyncBatchWriter.start(
+                "recipe_impression", impressionSinkSettings, recipeImpressionRepository::saveAll, meterRegistry);
+    }
+}
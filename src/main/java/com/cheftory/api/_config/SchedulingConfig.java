@@ -1,8 +1,48 @@
 package com.cheftory.api._config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 스케줄링 설정 클래스.
+ *
+ * <p>`@Scheduled` 작업은 기본 스케줄러(`taskScheduler`)에서 돌고, 배치 잡처럼 오래 걸리는 작업이 함께 실행됩니다.
+ * 늦어지면 안 되는 제어 작업(작업 임대 연장, DB 진입 허용 수 조절)은 `@Scheduled(scheduler = "controlTaskScheduler")`로
+ * 별도 스케줄러에서 실행합니다.</p>
+ */
 @Configuration
 @EnableScheduling
-class SchedulingConfig {}
+class SchedulingConfig {
+
+    /**
+     * 기본 스케줄러 빈을 생성합니다.
+     *
+     * @param poolSize 스레드 수
+     * @return 기본 스케줄러
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    /**
+     * 제어 작업 전용 스케줄러 빈을 생성합니다.
+     *
+     * @param poolSize 스레드 수
+     * @return 제어 작업 스케줄러
+     */
+    @Bean(name = "controlTaskScheduler")
+    public ThreadPoolTaskScheduler controlTaskScheduler(@Value("${scheduling.control-pool-size:2}") int poolSize) {
+        return scheduler("scheduling-control-", poolSize);
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        return scheduler;
+    }
+}
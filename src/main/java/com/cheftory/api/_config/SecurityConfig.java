@@ -3,11 +3,16 @@ package com.cheftory.api._config;
 import com.cheftory.api._common.security.JwtAuthenticationEntryPoint;
 import com.cheftory.api._common.security.JwtAuthenticationFilter;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,6 +29,36 @@ public class SecurityConfig {
         this.filter = filter;
     }
 
+    /**
+     * 검색 인덱스 재구축 같은 쓰기 관리 엔드포인트 보안 설정.
+     *
+     * <p>관리 포트는 Prometheus 수집용으로 열려 있으므로, `/actuator/searchindexing/**`만 따로 떼어
+     * `management.search-indexing.username/password` Basic 인증을 요구합니다. 비밀번호가 비어 있으면 모두 거부합니다.</p>
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain searchIndexingEndpointSecurityFilterChain(
+            HttpSecurity http,
+            @Value("${management.search-indexing.username:search-indexing}") String username,
+            @Value("${management.search-indexing.password:}") String password)
+            throws Exception {
+        http.securityMatcher("/actuator/searchindexing/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults());
+
+        if (password.isBlank()) {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+        } else {
+            http.userDetailsService(new InMemoryUserDetailsManager(User.withUsername(username)
+                            .password("{noop}" + password)
+                            .roles("SEARCH_INDEXING")
+                            .build()))
+                    .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("SEARCH_INDEXING"));
+        }
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -1,9 +1,12 @@
 package com.cheftory.api._config;
 
+import com.cheftory.api._common.concurrency.AdaptiveConcurrencyLimiter;
+import com.cheftory.api._common.concurrency.ConcurrencyLimitedProxy;
 import com.cheftory.api._common.region.MarketContext;
 import com.cheftory.api._common.region.MarketHeaders;
 import com.cheftory.api.affiliate.coupang.CoupangHttpApi;
 import com.cheftory.api.auth.verifier.client.AppleTokenHttpApi;
+import com.cheftory.api.auth.verifier.client.GoogleJwksHttpApi;
 import com.cheftory.api.auth.verifier.client.GoogleTokenHttpApi;
 import com.cheftory.api.notification.client.ExpoNotificationHttpApi;
 import com.cheftory.api.notification.client.ExpoNotificationProperties;
@@ -13,9 +16,11 @@ import com.cheftory.api.recipe.content.scene.client.RecipeSceneHttpApi;
 import com.cheftory.api.recipe.content.step.client.RecipeStepHttpApi;
 import com.cheftory.api.recipe.content.verify.client.RecipeVerifyHttpApi;
 import com.cheftory.api.recipe.content.youtubemeta.client.YoutubeMetaHttpApi;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +29,8 @@ import org.springframework.http.client.reactive.JdkClientHttpConnector;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 import org.springframework.web.util.DefaultUriBuilderFactory;
@@ -72,39 +79,110 @@ public class WebclientConfig {
                 .build();
     }
 
+    /**
+     * AI 레시피 서버 엔드포인트별 동시 실행 리미터 설정 빈을 생성합니다.
+     *
+     * <p>레시피 생성이 몰려도 AI 서버가 감당할 만큼만 보내도록, 엔드포인트마다 지연 시간과 과부하 오류로 한도를 조절하고
+     * 넘치는 호출은 마켓별로 공정하게 기다리게 합니다.</p>
+     *
+     * @param initialLimit 시작 한도
+     * @param minLimit 최소 한도
+     * @param maxLimit 최대 한도
+     * @param latencyTolerance 기준 지연 대비 허용 배수
+     * @param backoffRatio 한도를 줄일 때 곱하는 비율
+     * @param maxQueue 엔드포인트별 최대 대기 수
+     * @param queueTimeoutMs 자리를 기다리는 최대 시간(ms)
+     * @return 리미터 설정
+     */
     @Bean
-    public RecipeStepHttpApi recipeStepHttpApi(@Qualifier("recipeCreateClient") WebClient recipeCreateClient) {
-        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(recipeCreateClient))
-                .build()
-                .createClient(RecipeStepHttpApi.class);
+    public AdaptiveConcurrencyLimiter.Settings recipeServerConcurrencySettings(
+            @Value("${ai-recipe-summary.concurrency.initial-limit:8}") int initialLimit,
+            @Value("${ai-recipe-summary.concurrency.min-limit:1}") int minLimit,
+            @Value("${ai-recipe-summary.concurrency.max-limit:64}") int maxLimit,
+            @Value("${ai-recipe-summary.concurrency.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${ai-recipe-summary.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${ai-recipe-summary.concurrency.max-queue:500}") int maxQueue,
+            @Value("${ai-recipe-summary.concurrency.queue-timeout-ms:600000}") long queueTimeoutMs) {
+        return new AdaptiveConcurrencyLimiter.Settings(
+                initialLimit,
+                minLimit,
+                maxLimit,
+                latencyTolerance,
+                backoffRatio,
+                maxQueue,
+                Duration.ofMillis(queueTimeoutMs));
     }
 
     @Bean
-    public RecipeSceneHttpApi recipeSceneHttpApi(@Qualifier("recipeCreateClient") WebClient recipeCreateClient) {
-        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(recipeCreateClient))
-                .build()
-                .createClient(RecipeSceneHttpApi.class);
+    public RecipeStepHttpApi recipeStepHttpApi(
+            @Qualifier("recipeCreateClient") WebClient recipeCreateClient,
+            AdaptiveConcurrencyLimiter.Settings recipeServerConcurrencySettings,
+            MeterRegistry meterRegistry) {
+        return recipeServerClient(
+                RecipeStepHttpApi.class, recipeCreateClient, recipeServerConcurrencySettings, meterRegistry);
     }
 
     @Bean
-    public RecipeVerifyHttpApi recipeVerifyHttpApi(@Qualifier("recipeCreateClient") WebClient recipeCreateClient) {
-        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(recipeCreateClient))
-                .build()
-                .createClient(RecipeVerifyHttpApi.class);
+    public RecipeSceneHttpApi recipeSceneHttpApi(
+            @Qualifier("recipeCreateClient") WebClient recipeCreateClient,
+            AdaptiveConcurrencyLimiter.Settings recipeServerConcurrencySettings,
+            MeterRegistry meterRegistry) {
+        return recipeServerClient(
+                RecipeSceneHttpApi.class, recipeCreateClient, recipeServerConcurrencySettings, meterRegistry);
     }
 
     @Bean
-    public RecipeDetailHttpApi recipeDetailHttpApi(@Qualifier("recipeCreateClient") WebClient recipeCreateClient) {
-        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(recipeCreateClient))
-                .build()
-                .createClient(RecipeDetailHttpApi.class);
+    public RecipeVerifyHttpApi recipeVerifyHttpApi(
+            @Qualifier("recipeCreateClient") WebClient recipeCreateClient,
+            AdaptiveConcurrencyLimiter.Settings recipeServerConcurrencySettings,
+            MeterRegistry meterRegistry) {
+        return recipeServerClient(
+                RecipeVerifyHttpApi.class, recipeCreateClient, recipeServerConcurrencySettings, meterRegistry);
+    }
+
+    @Bean
+    public RecipeDetailHttpApi recipeDetailHttpApi(
+            @Qualifier("recipeCreateClient") WebClient recipeCreateClient,
+            AdaptiveConcurrencyLimiter.Settings recipeServerConcurrencySettings,
+            MeterRegistry meterRegistry) {
+        return recipeServerClient(
+                RecipeDetailHttpApi.class, recipeCreateClient, recipeServerConcurrencySettings, meterRegistry);
     }
 
     @Bean
-    public BriefingHttpApi briefingHttpApi(@Qualifier("recipeCreateClient") WebClient recipeCreateClient) {
-        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(recipeCreateClient))
+    public BriefingHttpApi briefingHttpApi(
+            @Qualifier("recipeCreateClient") WebClient recipeCreateClient,
+            AdaptiveConcurrencyLimiter.Settings recipeServerConcurrencySettings,
+            MeterRegistry meterRegistry) {
+        return recipeServerClient(
+                BriefingHttpApi.class, recipeCreateClient, recipeServerConcurrencySettings, meterRegistry);
+    }
+
+    private static <T> T recipeServerClient(
+            Class<T> type,
+            WebClient recipeCreateClient,
+            AdaptiveConcurrencyLimiter.Settings settings,
+            MeterRegistry meterRegistry) {
+        T client = HttpServiceProxyFactory.builderFor(WebClientAdapter.create(recipeCreateClient))
                 .build()
-                .createClient(BriefingHttpApi.class);
+                .createClient(type);
+        return ConcurrencyLimitedProxy.wrap(
+                type, client, settings, WebclientConfig::isRecipeServerOverloaded, meterRegistry);
+    }
+
+    /**
+     * AI 서버가 버거워서 난 실패인지 판단합니다. 타임아웃, 연결 실패, 429, 5xx를 과부하로 봅니다.
+     */
+    static boolean isRecipeServerOverloaded(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException e) {
+                return e.getStatusCode().value() == 429 || e.getStatusCode().is5xxServerError();
+            }
+            if (cause instanceof WebClientRequestException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Bean
@@ -181,6 +259,23 @@ public class WebclientConfig {
                 .createClient(GoogleTokenHttpApi.class);
     }
 
+    @Bean
+    public GoogleJwksHttpApi googleJwksHttpApi() {
+        HttpClient jdkClient =
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        WebClient client = WebClient.builder()
+                .baseUrl("https://www.googleapis.com")
+                .clientConnector(new JdkClientHttpConnector(jdkClient))
+                .observationRegistry(observationRegistry)
+                .filter((req, next) -> next.exchange(req).timeout(Duration.ofSeconds(10)))
+                .build();
+
+        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(client))
+                .build()
+                .createClient(GoogleJwksHttpApi.class);
+    }
+
     @Bean
     public ExpoNotificationHttpApi expoPushHttpApi(ExpoNotificationProperties expoNotificationProperties) {
         HttpClient jdkClient =
@@ -5,27 +5,57 @@ import com.cheftory.api.auth.entity.AuthTokenType;
 import com.cheftory.api.auth.exception.AuthErrorCode;
 import com.cheftory.api.auth.exception.AuthException;
 import com.cheftory.api.auth.jwt.property.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 프로바이더
+ *
+ * <p>서명 키와 파서는 생성 시 한 번만 만듭니다. 검증에 성공한 액세스 토큰은 만료 시각까지만 유지되는
+ * 크기 제한 로컬 캐시에 사용자 ID와 함께 보관해, 같은 앱 세션의 반복 요청은 서명 검증과 클레임 파싱을 건너뜁니다.
+ * 캐시 키는 토큰의 SHA-256 다이제스트이며 토큰 원문은 힙에 남기지 않습니다.</p>
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TokenProvider {
 
     private final JwtProperties jwtProperties;
     private final Clock clock;
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedAccessTokens;
+
+    public TokenProvider(JwtProperties jwtProperties, Clock clock) {
+        this.jwtProperties = jwtProperties;
+        this.clock = clock;
+        this.secretKey = jwtProperties.getSecretKey();
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .setClock(() -> new Date(clock.nowMillis()))
+                .build();
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((ByteBuffer digest, VerifiedToken verified) ->
+                        Duration.ofMillis(Math.max(verified.expiresAtMillis() - clock.nowMillis(), 0))))
+                .build();
+    }
 
     /**
      * JWT 토큰 생성
@@ -49,7 +79,7 @@ public class TokenProvider {
                 .claim("type", typeString)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(jwtProperties.getSecretKey())
+                .signWith(secretKey)
                 .compact();
     }
 
@@ -64,6 +94,14 @@ public class TokenProvider {
      * @throws AuthException 토큰이 유효하지 않을 때 INVALID_TOKEN
      */
     public UUID getUserId(String token, AuthTokenType expectedType) throws AuthException {
+        ByteBuffer digest = expectedType == AuthTokenType.ACCESS ? digest(token) : null;
+        if (digest != null) {
+            VerifiedToken verified = verifiedAccessTokens.getIfPresent(digest);
+            if (verified != null && verified.expiresAtMillis() > clock.nowMillis()) {
+                return verified.userId();
+            }
+        }
+
         Claims claims = parseTokenClaims(token);
 
         String expected = expectedType == AuthTokenType.ACCESS
@@ -77,7 +115,21 @@ public class TokenProvider {
                             : AuthErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        return UUID.fromString(claims.getSubject());
+        UUID userId = UUID.fromString(claims.getSubject());
+        Date expiration = claims.getExpiration();
+        if (digest != null && expiration != null) {
+            verifiedAccessTokens.put(digest, new VerifiedToken(userId, expiration.getTime()));
+        }
+        return userId;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
@@ -104,15 +156,19 @@ public class TokenProvider {
      */
     private Claims parseTokenClaims(String token) throws AuthException {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(jwtProperties.getSecretKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new AuthException(AuthErrorCode.EXPIRED_TOKEN, e);
         } catch (Exception e) {
             throw new AuthException(AuthErrorCode.INVALID_TOKEN, e);
         }
     }
+
+    /**
+     * 검증된 액세스 토큰 캐시 항목
+     *
+     * @param userId 유저 ID
+     * @param expiresAtMillis 토큰 만료 시각 (에포크 밀리초)
+     */
+    private record VerifiedToken(UUID userId, long expiresAtMillis) {}
 }
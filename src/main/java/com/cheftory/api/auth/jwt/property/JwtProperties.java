@@ -37,6 +37,10 @@ public class JwtProperties {
      * 리프레시 토큰 타입 식별자
      */
     private String refreshTokenType;
+    /**
+     * 검증된 액세스 토큰 로컬 캐시 최대 항목 수 (0이면 캐시하지 않음)
+     */
+    private long verifiedTokenCacheSize = 10_000;
 
     /**
      * Secret 키를 SecretKey로 변환
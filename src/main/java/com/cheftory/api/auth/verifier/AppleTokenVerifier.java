@@ -5,11 +5,7 @@ import com.cheftory.api.auth.verifier.exception.VerificationErrorCode;
 import com.cheftory.api.auth.verifier.exception.VerificationException;
 import com.cheftory.api.auth.verifier.property.AppleProperties;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import java.text.ParseException;
@@ -18,7 +14,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -28,16 +23,22 @@ import org.springframework.stereotype.Component;
  * <p>Apple Sign In을 통해 발급받은 ID 토큰을 검증하고 유저 식별자(sub)를 추출합니다.
  * Apple의 공개키를 사용하여 RS256 알고리즘으로 서명을 검증하며,
  * 만료 시간, 발급자(iss), 대상(aud) 등을 검증합니다.
+ * 공개키는 {@link CachedJwks}에 파싱된 상태로 보관하고, 모르는 kid가 들어오면 다시 조회합니다.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AppleTokenVerifier {
 
     private static final String APPLE_ISSUER = "https://appleid.apple.com";
 
-    private final AppleTokenClient appleTokenClient;
     private final AppleProperties appleProperties;
+    private final CachedJwks jwks;
+
+    public AppleTokenVerifier(AppleTokenClient appleTokenClient, AppleProperties appleProperties) {
+        this.appleProperties = appleProperties;
+        this.jwks = new CachedJwks(
+                "apple", appleTokenClient::fetchJwks, VerificationErrorCode.APPLE_PUBLIC_KEY_NOT_FOUND);
+    }
 
     /**
      * Apple ID 토큰에서 sub 클레임 추출
@@ -56,16 +57,13 @@ public class AppleTokenVerifier {
                 throw new VerificationException(VerificationErrorCode.APPLE_INVALID_ALGORITHM);
             }
 
-            JWKSet jwkSet = JWKSet.parse(appleTokenClient.fetchJwks());
-            JWK jwk = jwkSet.getKeyByKeyId(header.getKeyID());
-
-            if (!(jwk instanceof RSAKey rsaKey)) {
+            RSASSAVerifier verifier = jwks.verifier(header.getKeyID());
+            if (verifier == null) {
                 log.error(
-                        "[AppleTokenVerifier] 공개키 타입 오류 - kid: {}, alg: {}", header.getKeyID(), header.getAlgorithm());
+                        "[AppleTokenVerifier] 공개키 없음 - kid: {}, alg: {}", header.getKeyID(), header.getAlgorithm());
                 throw new VerificationException(VerificationErrorCode.APPLE_PUBLIC_KEY_NOT_FOUND);
             }
 
-            JWSVerifier verifier = new RSASSAVerifier(rsaKey);
             if (!jwt.verify(verifier)) {
                 log.error("[AppleTokenVerifier] 서명 검증 실패");
                 throw new VerificationException(VerificationErrorCode.APPLE_SIGNATURE_VERIFICATION_FAILED);
@@ -0,0 +1,128 @@
+package com.cheftory.api.auth.verifier;
+
+import com.cheftory.api.auth.verifier.exception.VerificationErrorCode;
+import com.cheftory.api.auth.verifier.exception.VerificationException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import jakarta.annotation.Nullable;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파싱된 JWKS 로컬 캐시
+ *
+ * <p>JWKS를 매 검증마다 조회·파싱하지 않고, `kid`별 {@link RSASSAVerifier}를 만들어 보관합니다.
+ * 보관 기간이 지나거나 모르는 `kid`가 들어오면 다시 조회합니다. 조회 시도는 최소 간격으로 제한해
+ * 임의의 `kid`를 가진 토큰이나 JWKS 장애가 외부 조회를 반복시키지 못하게 하며, 재조회에 실패하면 기존 키를 계속 사용합니다.</p>
+ */
+@Slf4j
+final class CachedJwks {
+
+    private static final long REFRESH_AFTER_MILLIS = Duration.ofHours(6).toMillis();
+    private static final long MIN_ATTEMPT_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final String name;
+    private final JwksSource source;
+    private final VerificationErrorCode unavailableError;
+    private final LongSupplier clock;
+    private volatile Map<String, RSASSAVerifier> verifiers;
+    private volatile long fetchedAt;
+    private volatile long attemptedAt;
+
+    CachedJwks(String name, JwksSource source, VerificationErrorCode unavailableError) {
+        this(name, source, unavailableError, System::currentTimeMillis);
+    }
+
+    CachedJwks(String name, JwksSource source, VerificationErrorCode unavailableError, LongSupplier clock) {
+        this.name = name;
+        this.source = source;
+        this.unavailableError = unavailableError;
+        this.clock = clock;
+        this.attemptedAt = clock.getAsLong() - MIN_ATTEMPT_INTERVAL_MILLIS;
+    }
+
+    /**
+     * `kid`에 해당하는 서명 검증기를 반환합니다.
+     *
+     * @param keyId 토큰 헤더의 `kid`
+     * @return 서명 검증기, 재조회 후에도 없는 `kid`면 null
+     * @throws VerificationException 보관된 키 없이 JWKS 조회에 실패한 경우
+     */
+    @Nullable
+    RSASSAVerifier verifier(String keyId) throws VerificationException {
+        long now = clock.getAsLong();
+        if (verifiers == null || now - fetchedAt >= REFRESH_AFTER_MILLIS) {
+            refresh(now);
+        }
+
+        RSASSAVerifier verifier = verifiers.get(keyId);
+        if (verifier == null && refresh(now)) {
+            verifier = verifiers.get(keyId);
+        }
+        return verifier;
+    }
+
+    /**
+     * 최소 간격이 지났으면 JWKS를 다시 조회합니다.
+     *
+     * @return 새 키로 교체했으면 true
+     * @throws VerificationException 보관된 키가 없고 조회할 수 없는 경우
+     */
+    private synchronized boolean refresh(long now) throws VerificationException {
+        if (now - attemptedAt < MIN_ATTEMPT_INTERVAL_MILLIS) {
+            if (verifiers == null) {
+                throw new VerificationException(unavailableError);
+            }
+            return false;
+        }
+        attemptedAt = now;
+        try {
+            verifiers = parse(source.fetch());
+            fetchedAt = now;
+            return true;
+        } catch (VerificationException e) {
+            if (verifiers == null) {
+                throw e;
+            }
+            log.warn("[CachedJwks] {} JWKS 재조회 실패, 기존 키 사용", name, e);
+            return false;
+        }
+    }
+
+    private Map<String, RSASSAVerifier> parse(String json) throws VerificationException {
+        try {
+            Map<String, RSASSAVerifier> parsed = new HashMap<>();
+            for (JWK jwk : JWKSet.parse(json).getKeys()) {
+                if (jwk instanceof RSAKey rsaKey && rsaKey.getKeyID() != null) {
+                    parsed.put(rsaKey.getKeyID(), new RSASSAVerifier(rsaKey));
+                }
+            }
+            return Map.copyOf(parsed);
+        } catch (ParseException | JOSEException e) {
+            log.error("[CachedJwks] {} JWKS 파싱 실패", name, e);
+            throw new VerificationException(unavailableError, e);
+        }
+    }
+
+    /**
+     * JWKS 조회 원본
+     */
+    @FunctionalInterface
+    interface JwksSource {
+
+        /**
+         * JWKS JSON을 조회합니다.
+         *
+         * @return JWKS JSON 문자열
+         * @throws VerificationException 조회 실패 시
+         */
+        String fetch() throws VerificationException;
+    }
+}
@@ -1,22 +1,53 @@
 package com.cheftory.api.auth.verifier;
 
+import com.cheftory.api._common.Clock;
 import com.cheftory.api.auth.verifier.client.GoogleTokenClient;
 import com.cheftory.api.auth.verifier.exception.VerificationErrorCode;
 import com.cheftory.api.auth.verifier.exception.VerificationException;
-import lombok.RequiredArgsConstructor;
+import com.cheftory.api.auth.verifier.property.GoogleProperties;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.JsonNode;
 
 /**
  * Google OAuth 토큰 검증기
+ *
+ * <p>Google ID 토큰을 Google의 공개키(JWKS)로 로컬에서 검증하고 유저 식별자(sub)를 추출합니다.
+ * RS256 서명과 만료 시간, 발급자(iss), 대상(aud)을 검증하며, 공개키는 {@link CachedJwks}에 파싱된 상태로 보관합니다.
+ * JWKS를 조회할 수 없거나 허용할 클라이언트 ID가 설정되지 않은 경우에는 Google Token Info API로 검증합니다.
+ * `google.require-client-ids`가 켜져 있으면 클라이언트 ID가 없을 때 시작 시점에 실패합니다.</p>
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class GoogleTokenVerifier {
 
+    private static final Set<String> GOOGLE_ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+
     private final GoogleTokenClient googleTokenClient;
+    private final GoogleProperties googleProperties;
+    private final Clock clock;
+    private final CachedJwks jwks;
+
+    public GoogleTokenVerifier(GoogleTokenClient googleTokenClient, GoogleProperties googleProperties, Clock clock) {
+        if (googleProperties.isRequireClientIds()
+                && (googleProperties.getClientIds() == null
+                        || googleProperties.getClientIds().isEmpty())) {
+            throw new IllegalStateException("google.client-ids must be configured");
+        }
+        this.googleTokenClient = googleTokenClient;
+        this.googleProperties = googleProperties;
+        this.clock = clock;
+        this.jwks = new CachedJwks(
+                "google", googleTokenClient::fetchJwks, VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE);
+    }
 
     /**
      * Google ID 토큰에서 sub 클레임 추출
@@ -26,6 +57,79 @@ public class GoogleTokenVerifier {
      * @throws VerificationException 토큰 검증 실패 시
      */
     public String getSubFromToken(String idToken) throws VerificationException {
+        List<String> validAudiences = googleProperties.getClientIds();
+        if (validAudiences == null || validAudiences.isEmpty()) {
+            return getSubFromTokenInfo(idToken);
+        }
+
+        try {
+            return verifyLocally(idToken, validAudiences);
+        } catch (VerificationException e) {
+            if (e.getError() != VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE) {
+                throw e;
+            }
+            log.warn("[GoogleTokenVerifier] JWKS를 조회할 수 없어 Token Info API로 검증합니다");
+            return getSubFromTokenInfo(idToken);
+        }
+    }
+
+    private String verifyLocally(String idToken, List<String> validAudiences) throws VerificationException {
+        try {
+            SignedJWT jwt = SignedJWT.parse(idToken);
+            JWSHeader header = jwt.getHeader();
+
+            if (!"RS256".equals(header.getAlgorithm().getName())) {
+                log.error("[GoogleTokenVerifier] 잘못된 알고리즘: {}", header.getAlgorithm());
+                throw new VerificationException(VerificationErrorCode.GOOGLE_INVALID_ALGORITHM);
+            }
+
+            RSASSAVerifier verifier = jwks.verifier(header.getKeyID());
+            if (verifier == null) {
+                log.error("[GoogleTokenVerifier] 공개키 없음 - kid: {}", header.getKeyID());
+                throw new VerificationException(VerificationErrorCode.GOOGLE_PUBLIC_KEY_NOT_FOUND);
+            }
+
+            if (!jwt.verify(verifier)) {
+                log.error("[GoogleTokenVerifier] 서명 검증 실패");
+                throw new VerificationException(VerificationErrorCode.GOOGLE_SIGNATURE_VERIFICATION_FAILED);
+            }
+
+            JWTClaimsSet claims = jwt.getJWTClaimsSet();
+
+            if (claims.getExpirationTime() == null
+                    || clock.nowMillis() > claims.getExpirationTime().getTime()) {
+                log.error("[GoogleTokenVerifier] 토큰 만료됨 - exp: {}", claims.getExpirationTime());
+                throw new VerificationException(VerificationErrorCode.GOOGLE_TOKEN_EXPIRED);
+            }
+
+            if (!GOOGLE_ISSUERS.contains(claims.getIssuer())) {
+                log.error("[GoogleTokenVerifier] 잘못된 iss: {}", claims.getIssuer());
+                throw new VerificationException(VerificationErrorCode.GOOGLE_INVALID_ISSUER);
+            }
+
+            if (Collections.disjoint(claims.getAudience(), validAudiences)) {
+                log.error("[GoogleTokenVerifier] 잘못된 aud: {}, 허용된 aud: {}", claims.getAudience(), validAudiences);
+                throw new VerificationException(VerificationErrorCode.GOOGLE_INVALID_AUDIENCE);
+            }
+
+            if (claims.getSubject() == null) {
+                throw new VerificationException(VerificationErrorCode.GOOGLE_MISSING_SUB);
+            }
+
+            return claims.getSubject();
+
+        } catch (ParseException e) {
+            log.error("[GoogleTokenVerifier] 토큰 파싱 실패", e);
+            throw new VerificationException(VerificationErrorCode.GOOGLE_INVALID_FORMAT, e);
+        } catch (VerificationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[GoogleTokenVerifier] 알 수 없는 예외 발생", e);
+            throw new VerificationException(VerificationErrorCode.UNKNOWN_ERROR, e);
+        }
+    }
+
+    private String getSubFromTokenInfo(String idToken) throws VerificationException {
         JsonNode payload = googleTokenClient.fetchTokenInfo(idToken);
         JsonNode subNode = payload.get("sub");
 
@@ -4,7 +4,6 @@ import com.cheftory.api.auth.verifier.exception.VerificationErrorCode;
 import com.cheftory.api.auth.verifier.exception.VerificationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClientException;
 
@@ -19,7 +18,6 @@ public class AppleTokenExternalClient implements AppleTokenClient {
     private final AppleTokenHttpApi appleTokenHttpApi;
 
     @Override
-    @Cacheable("apple-jwks")
     public String fetchJwks() throws VerificationException {
         try {
             String response = appleTokenHttpApi.fetchJwks();
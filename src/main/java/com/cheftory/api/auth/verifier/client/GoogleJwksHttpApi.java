@@ -0,0 +1,11 @@
+package com.cheftory.api.auth.verifier.client;
+
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+
+@HttpExchange
+public interface GoogleJwksHttpApi {
+
+    @GetExchange("/oauth2/v3/certs")
+    String fetchJwks();
+}
@@ -4,7 +4,7 @@ import com.cheftory.api.auth.verifier.exception.VerificationException;
 import tools.jackson.databind.JsonNode;
 
 /**
- * Google Token Info 조회용 클라이언트
+ * Google Token Info 및 JWKS 조회용 클라이언트
  */
 public interface GoogleTokenClient {
 
@@ -16,4 +16,12 @@ public interface GoogleTokenClient {
      * @throws VerificationException 조회 실패 시
      */
     JsonNode fetchTokenInfo(String idToken) throws VerificationException;
+
+    /**
+     * Google의 공개키 목록(JWKS)을 조회합니다.
+     *
+     * @return JWKS JSON 문자열
+     * @throws VerificationException 조회 실패 시 GOOGLE_JWKS_UNAVAILABLE
+     */
+    String fetchJwks() throws VerificationException;
 }
@@ -10,7 +10,7 @@ import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
 /**
- * Google Token Info 외부 클라이언트 구현체
+ * Google Token Info 및 JWKS 외부 클라이언트 구현체
  */
 @Component
 @RequiredArgsConstructor
@@ -19,6 +19,8 @@ public class GoogleTokenExternalClient implements GoogleTokenClient {
 
     private final GoogleTokenHttpApi googleTokenHttpApi;
 
+    private final GoogleJwksHttpApi googleJwksHttpApi;
+
     private final ObjectMapper mapper;
 
     @Override
@@ -41,4 +43,27 @@ public class GoogleTokenExternalClient implements GoogleTokenClient {
             throw new VerificationException(VerificationErrorCode.GOOGLE_RESPONSE_NOT_OK, e);
         }
     }
+
+    @Override
+    public String fetchJwks() throws VerificationException {
+        try {
+            String response = googleJwksHttpApi.fetchJwks();
+
+            if (response == null || response.isBlank()) {
+                log.error("[GoogleTokenExternalClient] JWKS 응답이 비어있습니다");
+                throw new VerificationException(VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE);
+            }
+
+            return response;
+
+        } catch (VerificationException e) {
+            throw e;
+        } catch (WebClientException e) {
+            log.error("[GoogleTokenExternalClient] JWKS 조회 중 WebClient 오류 발생", e);
+            throw new VerificationException(VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE, e);
+        } catch (Exception e) {
+            log.error("[GoogleTokenExternalClient] JWKS 조회 중 알 수 없는 오류 발생", e);
+            throw new VerificationException(VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE, e);
+        }
+    }
 }
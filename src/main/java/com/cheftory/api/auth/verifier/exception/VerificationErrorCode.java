@@ -53,6 +53,38 @@ public enum VerificationErrorCode implements Error {
      * Google 토큰에 SUB 정보가 없음
      */
     GOOGLE_MISSING_SUB("GOOGLE_003", "Google 토큰에 SUB 정보가 없습니다.", ErrorType.VALIDATION),
+    /**
+     * Google 토큰 형식이 유효하지 않음
+     */
+    GOOGLE_INVALID_FORMAT("GOOGLE_004", "Google 토큰 형식이 유효하지 않습니다.", ErrorType.VALIDATION),
+    /**
+     * Google 토큰의 서명 알고리즘이 올바르지 않음
+     */
+    GOOGLE_INVALID_ALGORITHM("GOOGLE_005", "Google 토큰의 서명 알고리즘이 올바르지 않습니다.", ErrorType.VALIDATION),
+    /**
+     * Google 공개키를 찾을 수 없음
+     */
+    GOOGLE_PUBLIC_KEY_NOT_FOUND("GOOGLE_006", "Google 공개키를 찾을 수 없습니다.", ErrorType.NOT_FOUND),
+    /**
+     * Google 토큰의 서명 검증 실패
+     */
+    GOOGLE_SIGNATURE_VERIFICATION_FAILED("GOOGLE_007", "Google 토큰의 서명 검증에 실패했습니다.", ErrorType.VALIDATION),
+    /**
+     * Google 토큰 발급자가 유효하지 않음
+     */
+    GOOGLE_INVALID_ISSUER("GOOGLE_008", "Google 토큰 발급자가 유효하지 않습니다.", ErrorType.VALIDATION),
+    /**
+     * Google 토큰 대상 클라이언트 정보가 유효하지 않음
+     */
+    GOOGLE_INVALID_AUDIENCE("GOOGLE_009", "Google 토큰 대상 클라이언트 정보가 유효하지 않습니다.", ErrorType.VALIDATION),
+    /**
+     * Google 토큰이 만료됨
+     */
+    GOOGLE_TOKEN_EXPIRED("GOOGLE_010", "Google 토큰이 만료되었습니다.", ErrorType.VALIDATION),
+    /**
+     * Google 공개키 목록을 조회할 수 없음
+     */
+    GOOGLE_JWKS_UNAVAILABLE("GOOGLE_011", "Google 공개키 목록을 조회할 수 없습니다.", ErrorType.INTERNAL),
 
     // 공통 오류 코드
     /**
@@ -0,0 +1,30 @@
+package com.cheftory.api.auth.verifier.property;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google OAuth 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "google")
+public class GoogleProperties {
+    /**
+     * ID 토큰의 aud로 허용할 OAuth 클라이언트 ID 목록 (iOS/Android/Web)
+     *
+     * <p>비어 있으면 로컬 검증 대신 Google Token Info API로 검증합니다.</p>
+     */
+    private List<String> clientIds = List.of();
+
+    /**
+     * 클라이언트 ID 목록을 필수로 요구할지 여부
+     *
+     * <p>켜져 있으면 목록이 비어 있을 때 Token Info API로 대체하지 않고 애플리케이션 시작을 실패시킵니다.</p>
+     */
+    private boolean requireClientIds;
+}
@@ -1,6 +1,7 @@
 package com.cheftory.api.credit.entity;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.TimeOrderedUuid;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -53,7 +54,7 @@ public class CreditTransaction {
      */
     public static CreditTransaction grant(Credit credit, Clock clock) {
         return new CreditTransaction(
-                UUID.randomUUID(),
+                TimeOrderedUuid.generate(),
                 credit.userId(),
                 CreditTransactionType.GRANT,
                 credit.reason(),
@@ -71,7 +72,7 @@ public class CreditTransaction {
      */
     public static CreditTransaction spend(Credit credit, Clock clock) {
         return new CreditTransaction(
-                UUID.randomUUID(),
+                TimeOrderedUuid.generate(),
                 credit.userId(),
                 CreditTransactionType.SPEND,
                 credit.reason(),
@@ -9,6 +9,7 @@ import com.cheftory.api.ranking.candidate.RankingCandidateService;
 import com.cheftory.api.ranking.interaction.RankingInteractionService;
 import com.cheftory.api.ranking.personalization.PersonalizationProfile;
 import com.cheftory.api.ranking.personalization.RankingPersonalizationService;
+import com.cheftory.api.ranking.snapshot.RankingSession;
 import com.cheftory.api.ranking.snapshot.RankingSnapshotService;
 import java.util.List;
 import java.util.UUID;
@@ -19,7 +20,11 @@ import org.springframework.stereotype.Service;
 /**
  * 랭킹 서비스.
  *
- * <p>개인화된 랭킹 추천 및 이벤트 추적 기능을 제공합니다.</p>
+ * <p>개인화된 랭킹 추천 및 이벤트 추적 기능을 제공합니다.
+ * 추천 한 페이지의 Redis 세션 관리는 검색 전 조회 1회, 검색 후 반영 1회의 왕복으로 처리합니다.
+ * 개인화 프로필은 첫 페이지에서 계산해 요청 세션에 고정하므로, 다음 페이지는 시드 조회와 프로필 계산 없이
+ * 같은 프로필로 이어서 점수를 매깁니다.
+ * 첫 페이지에서 대여한 PIT는 마지막 페이지에서 반납하며, 페이지 처리 중 예외가 나면 세션이 이어지지 않으므로 즉시 반납합니다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -61,68 +66,110 @@ public class RankingService {
             searchAfter = decoded.searchAfter();
         }
 
-        String pitId = rankingSnapshotService.getPit(requestId, surfaceType, itemType);
-
-        if (pitId == null || pitId.isBlank()) {
-            pitId = rankingCandidateService.openPit();
-            rankingSnapshotService.savePit(requestId, surfaceType, itemType, pitId);
-        }
-
-        log.info(
-                "[REC] userId={} surface={} itemType={} first={} requestId={} pitId={} searchAfter={}",
-                userId,
+        RankingSession session = rankingSnapshotService.loadSession(
+                requestId,
                 surfaceType,
                 itemType,
                 first,
-                requestId,
-                pitId,
-                searchAfter);
+                rankingInteractionService.recentViewsKey(userId, itemType),
+                RankingPersonalizationService.SEED_LIMIT);
 
-        List<UUID> seeds = rankingInteractionService.getRecentSeeds(userId, itemType, 10);
+        String pitId = session.pitId();
+        String openedPitId = null;
 
-        log.info("[REC] seeds(size={}): {}", seeds.size(), seeds);
-
-        PersonalizationProfile profile = rankingPersonalizationService.aggregateProfile(seeds);
-
-        log.info(
-                "[REC] profile keywordsTop(size={}): {}",
-                profile.keywordsTop() != null ? profile.keywordsTop().size() : -1,
-                profile.keywordsTop());
-        log.info(
-                "[REC] profile channelsTop(size={}): {}",
-                profile.channelsTop() != null ? profile.channelsTop().size() : -1,
-                profile.channelsTop());
-
-        RankingCandidatePage page =
-                rankingCandidateService.searchWithPit(surfaceType, itemType, pageSize, profile, pitId, searchAfter);
+        if (pitId == null || pitId.isBlank()) {
+            pitId = rankingCandidateService.openPit();
+            openedPitId = pitId;
+        }
 
-        log.info(
-                "[REC] page items(size={}) nextCursorBlank?={}",
-                page.items().size(),
-                (page.nextCursor() == null || page.nextCursor().isBlank()));
-        log.info("[REC] top5 ids: {}", page.items().stream().limit(5).toList());
+        try {
+            log.info(
+                    "[REC] userId={} surface={} itemType={} first={} requestId={} pitId={} searchAfter={}",
+                    userId,
+                    surfaceType,
+                    itemType,
+                    first,
+                    requestId,
+                    pitId,
+                    searchAfter);
+
+            PersonalizationProfile pinned = session.profile();
+            PersonalizationProfile profile =
+                    pinned != null ? pinned : computeProfile(userId, itemType, first, session);
+
+            log.info(
+                    "[REC] profile keywordsTop(size={}): {}",
+                    profile.keywordsTop() != null ? profile.keywordsTop().size() : -1,
+                    profile.keywordsTop());
+            log.info(
+                    "[REC] profile channelsTop(size={}): {}",
+                    profile.channelsTop() != null ? profile.channelsTop().size() : -1,
+                    profile.channelsTop());
+
+            RankingCandidatePage page =
+                    rankingCandidateService.searchWithPit(surfaceType, itemType, pageSize, profile, pitId, searchAfter);
+
+            log.info(
+                    "[REC] page items(size={}) nextCursorBlank?={}",
+                    page.items().size(),
+                    (page.nextCursor() == null || page.nextCursor().isBlank()));
+            log.info("[REC] top5 ids: {}", page.items().stream().limit(5).toList());
+
+            boolean hasNext = page.nextCursor() != null && !page.nextCursor().isBlank();
+
+            long positionStart = rankingSnapshotService.commitSession(
+                    requestId,
+                    surfaceType,
+                    itemType,
+                    openedPitId,
+                    pinned == null ? profile : null,
+                    page.items().size(),
+                    hasNext);
+
+            rankingInteractionService.logImpressions(
+                    userId, surfaceType, itemType, page.items(), requestId, positionStart);
+
+            if (!hasNext) {
+                closePitQuietly(pitId);
+            }
 
-        long positionStart = rankingSnapshotService.allocateImpressionPositions(
-                requestId, page.items().size());
+            return CursorPage.of(
+                    page.items(),
+                    hasNext ? rankingCursorCodec.encode(new RankingCursor(requestId, page.nextCursor())) : null);
+        } catch (CheftoryException | RuntimeException e) {
+            if (openedPitId != null) {
+                closePitQuietly(openedPitId);
+            }
+            throw e;
+        }
+    }
 
-        rankingInteractionService.logImpressions(userId, surfaceType, itemType, page.items(), requestId, positionStart);
+    /**
+     * PIT를 반납합니다. 반납 실패는 추천 응답에 영향을 주지 않도록 무시합니다.
+     *
+     * @param pitId PIT ID
+     */
+    private void closePitQuietly(String pitId) {
+        try {
+            rankingCandidateService.closePit(pitId);
+        } catch (Exception ignored) {
+        }
+    }
 
-        boolean hasNext = page.nextCursor() != null && !page.nextCursor().isBlank();
+    /**
+     * 세션에 고정된 프로필이 없을 때 개인화 프로필을 계산합니다.
+     *
+     * <p>첫 페이지는 세션 조회에서 함께 읽은 시드를 사용하고, 고정 프로필이 만료된 다음 페이지는 시드를 다시 조회합니다.</p>
+     */
+    private PersonalizationProfile computeProfile(
+            UUID userId, RankingItemType itemType, boolean first, RankingSession session) throws CheftoryException {
+        List<UUID> seeds = first
+                ? session.seeds()
+                : rankingInteractionService.getRecentSeeds(userId, itemType, RankingPersonalizationService.SEED_LIMIT);
 
-        if (!hasNext) {
-            try {
-                rankingCandidateService.closePit(pitId);
-            } catch (Exception ignored) {
-            }
-            rankingSnapshotService.deletePit(requestId, surfaceType, itemType);
-            rankingSnapshotService.clearImpressionPositions(requestId);
-        } else {
-            rankingSnapshotService.refreshPit(requestId, surfaceType, itemType);
-        }
+        log.info("[REC] seeds(size={}): {}", seeds.size(), seeds);
 
-        return CursorPage.of(
-                page.items(),
-                hasNext ? rankingCursorCodec.encode(new RankingCursor(requestId, page.nextCursor())) : null);
+        return rankingPersonalizationService.profile(userId, itemType, seeds);
     }
 
     /**
@@ -18,7 +18,7 @@ public class RankingCandidateService {
     private final RankingCandidateSearchPort candidateSearchPort;
 
     /**
-     * Point In Time (PIT)을 생성합니다.
+     * 요청 세션에 사용할 Point In Time (PIT)을 엽니다. PIT는 여러 세션이 공유할 수 있습니다.
      *
      * @return PIT ID
      * @throws RankingCandidateException 처리 예외
@@ -52,7 +52,7 @@ public class RankingCandidateService {
     }
 
     /**
-     * PIT를 닫습니다.
+     * 요청 세션이 끝난 PIT를 닫습니다. 공유 중인 PIT는 마지막 세션이 끝난 뒤 닫힙니다.
      *
      * @param pitId PIT ID
      */
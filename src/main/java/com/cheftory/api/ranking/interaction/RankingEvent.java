@@ -1,6 +1,7 @@
 package com.cheftory.api.ranking.interaction;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.TimeOrderedUuid;
 import com.cheftory.api._common.region.MarketScope;
 import com.cheftory.api.ranking.RankingEventType;
 import com.cheftory.api.ranking.RankingItemType;
@@ -77,6 +78,7 @@ public class RankingEvent extends MarketScope {
             RankingEventType eventType,
             UUID requestId,
             Clock clock) {
-        return new RankingEvent(UUID.randomUUID(), userId, itemType, itemId, eventType, requestId, clock.now());
+        return new RankingEvent(
+                TimeOrderedUuid.generate(), userId, itemType, itemId, eventType, requestId, clock.now());
     }
 }
@@ -1,6 +1,7 @@
 package com.cheftory.api.ranking.interaction;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.TimeOrderedUuid;
 import com.cheftory.api._common.region.MarketScope;
 import com.cheftory.api.ranking.RankingItemType;
 import com.cheftory.api.ranking.RankingSurfaceType;
@@ -85,6 +86,6 @@ public class RankingImpression extends MarketScope {
             Clock clock) {
 
         return new RankingImpression(
-                UUID.randomUUID(), requestId, userId, itemType, itemId, surfaceType, position, clock.now());
+                TimeOrderedUuid.generate(), requestId, userId, itemType, itemId, surfaceType, position, clock.now());
     }
 }
@@ -1,23 +1,27 @@
 package com.cheftory.api.ranking.interaction;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.buffer.AsyncBatchWriter;
 import com.cheftory.api.exception.CheftoryException;
 import com.cheftory.api.ranking.RankingEventType;
 import com.cheftory.api.ranking.RankingItemType;
 import com.cheftory.api.ranking.RankingSurfaceType;
+import com.cheftory.api.ranking.personalization.RankingPersonalizationException;
+import com.cheftory.api.ranking.personalization.RankingPersonalizationService;
 import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 랭킹 상호작용 서비스.
  *
- * <p>사용자의 랭킹 노출 및 이벤트(클릭, 조회 등)를 추적하고 관리합니다.</p>
+ * <p>사용자의 랭킹 노출 및 이벤트(클릭, 조회 등)를 추적하고 관리합니다.
+ * 조회(VIEW) 이벤트는 최근 조회 시드를 갱신한 뒤 개인화 프로필 캐시 증분 갱신을 비동기로 넘깁니다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -28,14 +32,18 @@ public class RankingInteractionService {
     private static final Duration RECENT_VIEWS_TTL = Duration.ofDays(60);
 
     private final RankingEventRepository rankingEventRepository;
-    private final RankingImpressionRepository rankingImpressionRepository;
+    private final AsyncBatchWriter<RankingImpression> rankingImpressionWriter;
     private final RankingInteractionKeyGenerator rankingInteractionKeyGenerator;
     private final RankingInteractionRepository rankingInteractionRepository;
+    private final RankingPersonalizationService rankingPersonalizationService;
+    private final AsyncTaskExecutor rankingRefreshExecutor;
     private final Clock clock;
 
     /**
      * 랭킹 노출을 기록합니다.
      *
+     * <p>노출은 비동기 배치 버퍼에 넣고 바로 반환하므로 추천 응답 경로에서 INSERT 비용이 빠집니다.</p>
+     *
      * @param userId 사용자 ID
      * @param surfaceType 노출 서피스 타입
      * @param itemType 아이템 타입
@@ -43,7 +51,6 @@ public class RankingInteractionService {
      * @param requestId 요청 ID
      * @param positionStart 시작 위치
      */
-    @Transactional
     public void logImpressions(
             UUID userId,
             RankingSurfaceType surfaceType,
@@ -57,7 +64,7 @@ public class RankingInteractionService {
                         requestId, userId, itemType, itemIds.get(i), surfaceType, positionStart + i, clock))
                 .toList();
 
-        rankingImpressionRepository.saveAll(impressions);
+        rankingImpressionWriter.offer(impressions);
     }
 
     /**
@@ -84,9 +91,39 @@ public class RankingInteractionService {
             rankingInteractionRepository.pruneBefore(recentKey, cutoff);
 
             rankingInteractionRepository.expire(recentKey, RECENT_VIEWS_TTL);
+
+            rankingRefreshExecutor.execute(() -> refreshProfile(userId, itemType, recentKey));
+        }
+    }
+
+    /**
+     * 최근 조회 시드가 바뀐 뒤 개인화 프로필 캐시를 증분 갱신합니다.
+     *
+     * <p>시드 문서 조회(OpenSearch mget)가 요청 스레드를 막지 않도록 {@code rankingRefreshExecutor}에서 실행됩니다.
+     * 갱신이 실패하거나 늦게 끝나도 이벤트 기록은 유지하며, 다음 추천 요청에서 시드 집합 불일치로 다시 계산됩니다.</p>
+     */
+    private void refreshProfile(UUID userId, RankingItemType itemType, String recentKey) {
+        try {
+            List<UUID> seeds =
+                    rankingInteractionRepository.getLatest(recentKey, RankingPersonalizationService.SEED_LIMIT);
+            rankingPersonalizationService.refresh(userId, itemType, seeds);
+        } catch (RankingPersonalizationException | RuntimeException e) {
+            log.warn("개인화 프로필 갱신 실패: userId={}, itemType={}", userId, itemType, e);
         }
     }
 
+    /**
+     * 최근 조회 키를 반환합니다. 랭킹 세션 조회에서 PIT와 함께 파이프라인으로 읽을 때 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param itemType 아이템 타입
+     * @return 최근 조회 키
+     * @throws CheftoryException 마켓 컨텍스트를 찾을 수 없는 경우
+     */
+    public String recentViewsKey(UUID userId, RankingItemType itemType) throws CheftoryException {
+        return rankingInteractionKeyGenerator.recentViewsKey(userId, itemType);
+    }
+
     /**
      * 최근 조회 시드 아이템을 조회합니다.
      *
@@ -0,0 +1,54 @@
+package com.cheftory.api.ranking.personalization;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시된 개인화 프로필.
+ *
+ * <p>프로필을 계산한 시드 ID 목록과 시드 문서, 미리 계산한 상위 키워드/채널을 함께 보관합니다.
+ * 시드 목록이 바뀌면 보관한 시드 문서를 재사용해 새로 추가된 시드만 조회하고 상위 목록을 다시 계산합니다.</p>
+ *
+ * @param seedIds 프로필을 계산한 시드 ID 목록
+ * @param seeds 조회된 시드 문서 목록 (검색 문서가 없는 시드는 빠짐)
+ * @param keywordsTop 상위 키워드 목록
+ * @param channelsTop 상위 채널 목록
+ */
+public record CachedPersonalizationProfile(
+        List<String> seedIds,
+        List<RankingPersonalizationSeed> seeds,
+        List<String> keywordsTop,
+        List<String> channelsTop) {
+
+    /**
+     * 주어진 시드 목록으로 계산한 프로필인지 확인합니다. 순서는 상위 목록에 영향을 주지 않으므로 비교하지 않습니다.
+     *
+     * @param seedIds 시드 ID 목록
+     * @return 같은 시드 집합이면 true
+     */
+    public boolean covers(List<String> seedIds) {
+        return new HashSet<>(this.seedIds).equals(new HashSet<>(seedIds));
+    }
+
+    /**
+     * 시드 ID별 시드 문서를 반환합니다.
+     *
+     * @return 시드 ID → 시드 문서
+     */
+    public Map<String, RankingPersonalizationSeed> seedsById() {
+        return seeds.stream()
+                .collect(Collectors.toMap(RankingPersonalizationSeed::id, Function.identity(), (a, b) -> a));
+    }
+
+    /**
+     * 랭킹 검색에 사용할 프로필을 반환합니다.
+     *
+     * @return 개인화 프로필
+     */
+    public PersonalizationProfile profile() {
+        return new PersonalizationProfile(keywordsTop, channelsTop);
+    }
+}
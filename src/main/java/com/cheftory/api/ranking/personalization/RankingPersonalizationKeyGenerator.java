@@ -0,0 +1,41 @@
+package com.cheftory.api.ranking.personalization;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.ranking.RankingItemType;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 개인화 키 생성기.
+ *
+ * <p>개인화 프로필 캐시 키를 최근 조회 키와 같은 사용자 네임스페이스에 생성합니다.</p>
+ */
+@Component
+public class RankingPersonalizationKeyGenerator {
+
+    /** 키 구분자 */
+    private static final String DELIMITER = ":";
+
+    /**
+     * 개인화 프로필 키를 생성합니다.
+     *
+     * @param userId 사용자 ID
+     * @param itemType 아이템 타입
+     * @return 개인화 프로필 키
+     */
+    public String profileKey(UUID userId, RankingItemType itemType) {
+        return buildKey("ranking", itemType.name(), "user", userId.toString(), "profile");
+    }
+
+    /**
+     * 키를 빌드합니다.
+     *
+     * @param parts 키 구성 요소들
+     * @return 빌드된 키
+     */
+    private String buildKey(String... parts) {
+        Market market = MarketContext.required().market();
+        return market.name().toLowerCase() + DELIMITER + String.join(DELIMITER, parts);
+    }
+}
@@ -0,0 +1,55 @@
+package com.cheftory.api.ranking.personalization;
+
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 랭킹 개인화 Redis 리포지토리.
+ *
+ * <p>사용자별 개인화 프로필 캐시를 JSON 문자열로 저장합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RankingPersonalizationRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시된 프로필을 조회합니다. 값이 없거나 해석할 수 없으면 null을 반환합니다.
+     *
+     * @param key 프로필 키
+     * @return 캐시된 프로필
+     */
+    @Nullable
+    public CachedPersonalizationProfile find(String key) {
+        String json = redisTemplate.opsForValue().get(key);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CachedPersonalizationProfile.class);
+        } catch (JacksonException e) {
+            log.warn("개인화 프로필 캐시 해석 실패, 다시 계산합니다: key={}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 프로필을 저장합니다.
+     *
+     * @param key 프로필 키
+     * @param profile 캐시할 프로필
+     * @param ttl TTL
+     */
+    public void save(String key, CachedPersonalizationProfile profile, Duration ttl) {
+        redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(profile), ttl);
+    }
+}
@@ -5,7 +5,8 @@ import java.util.List;
 /**
  * 개인화 집계용 시드 문서.
  *
+ * @param id 문서 ID
  * @param keywords 키워드 목록
  * @param channelTitle 채널명
  */
-public record RankingPersonalizationSeed(List<String> keywords, String channelTitle) {}
+public record RankingPersonalizationSeed(String id, List<String> keywords, String channelTitle) {}
@@ -2,67 +2,146 @@ package com.cheftory.api.ranking.personalization;
 
 import static java.util.Objects.requireNonNull;
 
+import com.cheftory.api.ranking.RankingItemType;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /**
  * 랭킹 개인화 서비스.
  *
- * <p>사용자의 시드 아이템을 기반으로 개인화 프로필을 생성합니다.</p>
+ * <p>사용자의 시드 아이템을 기반으로 개인화 프로필을 생성합니다.
+ * 프로필은 최근 조회 키 옆에 사용자별로 캐시되며, 조회(VIEW) 이벤트마다 새 시드만 조회해 증분 갱신합니다.
+ * 추천 요청은 캐시된 시드 집합이 현재 시드와 같으면 미리 계산된 상위 목록을 그대로 사용하고,
+ * 다르면 빠진 시드 문서만 조회해 다시 계산합니다. 결과는 `ranking.personalization.profile` 카운터에 기록됩니다.</p>
  */
 @Service
 @RequiredArgsConstructor
 public class RankingPersonalizationService {
 
+    /** 프로필 계산에 사용하는 최근 조회 시드 개수 */
+    public static final int SEED_LIMIT = 10;
+
+    static final String METRIC_NAME = "ranking.personalization.profile";
+
     private static final int KEYWORDS_TOP_N = 20;
     private static final int CHANNELS_TOP_N = 10;
+    private static final Duration PROFILE_TTL = Duration.ofDays(60);
 
     private final RankingPersonalizationSearchPort rankingPersonalizationSearchPort;
+    private final RankingPersonalizationKeyGenerator rankingPersonalizationKeyGenerator;
+    private final RankingPersonalizationRepository rankingPersonalizationRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 시드 아이템들을 기반으로 개인화 프로필을 집계합니다.
+     * 캐시된 개인화 프로필을 반환합니다. 캐시가 현재 시드 집합으로 계산된 것이 아니면 다시 계산해 저장합니다.
      *
-     * @param seedIds 시드 아이템 ID 목록
+     * @param userId 사용자 ID
+     * @param itemType 아이템 타입
+     * @param seedIds 현재 시드 아이템 ID 목록
      * @return 개인화 프로필
      * @throws RankingPersonalizationException 처리 예외
      */
-    public PersonalizationProfile aggregateProfile(List<UUID> seedIds) throws RankingPersonalizationException {
-        List<String> ids = seedIds.stream().map(UUID::toString).toList();
-        List<RankingPersonalizationSeed> seedDocs = rankingPersonalizationSearchPort.mgetSeeds(ids);
+    public PersonalizationProfile profile(UUID userId, RankingItemType itemType, List<UUID> seedIds)
+            throws RankingPersonalizationException {
+        String key = rankingPersonalizationKeyGenerator.profileKey(userId, itemType);
+        List<String> ids = toIds(seedIds);
+
+        CachedPersonalizationProfile cached = rankingPersonalizationRepository.find(key);
+        if (cached != null && cached.covers(ids)) {
+            meterRegistry.counter(METRIC_NAME, "result", "hit").increment();
+            return cached.profile();
+        }
+        meterRegistry.counter(METRIC_NAME, "result", "rebuild").increment();
+        return rebuild(key, ids, cached).profile();
+    }
+
+    /**
+     * 시드 목록이 바뀐 뒤 캐시된 프로필을 증분 갱신합니다.
+     *
+     * <p>새로 추가된 시드 문서만 조회하고, 시드 목록에서 빠진(만료된) 시드는 버린 뒤 상위 목록을 다시 계산합니다.</p>
+     *
+     * @param userId 사용자 ID
+     * @param itemType 아이템 타입
+     * @param seedIds 갱신 후 시드 아이템 ID 목록
+     * @throws RankingPersonalizationException 처리 예외
+     */
+    public void refresh(UUID userId, RankingItemType itemType, List<UUID> seedIds)
+            throws RankingPersonalizationException {
+        String key = rankingPersonalizationKeyGenerator.profileKey(userId, itemType);
+        rebuild(key, toIds(seedIds), rankingPersonalizationRepository.find(key));
+        meterRegistry.counter(METRIC_NAME, "result", "refresh").increment();
+    }
 
-        Function<String, Integer> one = v -> 1;
+    private CachedPersonalizationProfile rebuild(
+            String key, List<String> ids, @Nullable CachedPersonalizationProfile cached)
+            throws RankingPersonalizationException {
+        Map<String, RankingPersonalizationSeed> known = cached == null ? new HashMap<>() : cached.seedsById();
 
-        Map<String, Integer> keywordCounts = seedDocs.stream()
-                .flatMap(seedDoc -> requireNonNull(seedDoc.keywords(), "seedDoc.keywords is null").stream())
-                .collect(Collectors.toMap(Function.identity(), one, Integer::sum));
+        List<String> missing = ids.stream().filter(id -> !known.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            for (RankingPersonalizationSeed seed : rankingPersonalizationSearchPort.mgetSeeds(missing)) {
+                known.put(seed.id(), seed);
+            }
+        }
 
-        Map<String, Integer> channelCounts = seedDocs.stream()
-                .map(seedDoc -> requireNonNull(seedDoc.channelTitle(), "seedDoc.channelTitle is null"))
-                .collect(Collectors.toMap(Function.identity(), one, Integer::sum));
+        List<RankingPersonalizationSeed> seeds =
+                ids.stream().map(known::get).filter(Objects::nonNull).toList();
+        CachedPersonalizationProfile rebuilt = aggregate(ids, seeds);
+        rankingPersonalizationRepository.save(key, rebuilt, PROFILE_TTL);
+        return rebuilt;
+    }
 
-        return new PersonalizationProfile(topK(keywordCounts, KEYWORDS_TOP_N), topK(channelCounts, CHANNELS_TOP_N));
+    private static CachedPersonalizationProfile aggregate(List<String> ids, List<RankingPersonalizationSeed> seeds) {
+        Map<String, int[]> keywordCounts = new HashMap<>();
+        Map<String, int[]> channelCounts = new HashMap<>();
+        for (RankingPersonalizationSeed seed : seeds) {
+            for (String keyword : requireNonNull(seed.keywords(), "seedDoc.keywords is null")) {
+                keywordCounts.computeIfAbsent(keyword, k -> new int[1])[0]++;
+            }
+            String channel = requireNonNull(seed.channelTitle(), "seedDoc.channelTitle is null");
+            channelCounts.computeIfAbsent(channel, k -> new int[1])[0]++;
+        }
+        return new CachedPersonalizationProfile(
+                ids, seeds, topK(keywordCounts, KEYWORDS_TOP_N), topK(channelCounts, CHANNELS_TOP_N));
     }
 
     /**
-     * 상위 K개 항목을 추출합니다.
+     * 상위 K개 항목을 추출합니다. 크기 K의 힙으로 선택하므로 전체 정렬을 하지 않습니다.
      *
      * @param counts 항목별 카운트 맵
      * @param k 추출할 개수
-     * @return 상위 K개 항목
+     * @return 카운트 내림차순, 같으면 이름 오름차순의 상위 K개 항목
      */
-    private static List<String> topK(Map<String, Integer> counts, int k) {
-        return counts.entrySet().stream()
-                .sorted((a, b) -> {
-                    int byCount = Integer.compare(b.getValue(), a.getValue());
-                    return byCount != 0 ? byCount : a.getKey().compareTo(b.getKey());
-                })
-                .limit(k)
-                .map(Map.Entry::getKey)
-                .toList();
+    private static List<String> topK(Map<String, int[]> counts, int k) {
+        Comparator<Map.Entry<String, int[]>> order = Comparator.<Map.Entry<String, int[]>>comparingInt(
+                        entry -> -entry.getValue()[0])
+                .thenComparing(Map.Entry::getKey);
+
+        PriorityQueue<Map.Entry<String, int[]>> heap = new PriorityQueue<>(k + 1, order.reversed());
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<String, int[]>> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private static List<String> toIds(List<UUID> seedIds) {
+        return seedIds.stream().map(UUID::toString).toList();
     }
 }
@@ -0,0 +1,15 @@
+package com.cheftory.api.ranking.snapshot;
+
+import com.cheftory.api.ranking.personalization.PersonalizationProfile;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 랭킹 요청 세션 상태.
+ *
+ * @param pitId 저장된 PIT ID (첫 페이지이거나 만료되었으면 null)
+ * @param seeds 최근 조회 시드 아이템 ID 목록 (최신순, 다음 페이지에서는 조회하지 않아 빈 목록)
+ * @param profile 요청 세션에 고정된 개인화 프로필 (첫 페이지이거나 만료되었으면 null)
+ */
+public record RankingSession(@Nullable String pitId, List<UUID> seeds, @Nullable PersonalizationProfile profile) {}
@@ -30,6 +30,18 @@ public class RankingSnapshotKeyGenerator {
         return buildKey("ranking", "request", requestId.toString(), surfaceType.name(), itemType.name(), "pit");
     }
 
+    /**
+     * 요청 세션에 고정한 개인화 프로필 키를 생성합니다.
+     *
+     * @param requestId 요청 ID
+     * @param surfaceType 서피스 타입
+     * @param itemType 아이템 타입
+     * @return 고정 프로필 키
+     */
+    public String profileKey(UUID requestId, RankingSurfaceType surfaceType, RankingItemType itemType) {
+        return buildKey("ranking", "request", requestId.toString(), surfaceType.name(), itemType.name(), "profile");
+    }
+
     /**
      * 노출 위치 키를 생성합니다.
      *
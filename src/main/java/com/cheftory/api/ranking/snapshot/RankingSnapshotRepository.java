@@ -1,20 +1,154 @@
 package com.cheftory.api.ranking.snapshot;
 
+import com.cheftory.api.ranking.personalization.PersonalizationProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * 랭킹 스냅샷 Redis 리포지토리.
  *
- * <p>Redis를 사용하여 랭킹 스냅샷을 캐싱합니다.</p>
+ * <p>Redis를 사용하여 랭킹 스냅샷을 캐싱합니다.
+ * 추천 한 페이지의 세션 관리는 조회(파이프라인)와 반영(Lua 스크립트) 두 번의 왕복으로 처리하며,
+ * 요청 세션 동안 개인화 프로필을 PIT와 같은 TTL로 고정해 둡니다.
+ * 단계별 소요 시간은 `ranking.session.step` 타이머에 `step` 태그로 기록됩니다.</p>
  */
 @Repository
 @RequiredArgsConstructor
+@Slf4j
 public class RankingSnapshotRepository {
 
+    static final String METRIC_NAME = "ranking.session.step";
+
+    /**
+     * 노출 위치를 할당하고 세션 키를 갱신하거나 정리합니다.
+     *
+     * <p>KEYS[1]=PIT 키, KEYS[2]=노출 위치 키, KEYS[3]=고정 프로필 키, ARGV[1]=할당 개수, ARGV[2]=다음 페이지 여부(1/0),
+     * ARGV[3]=새 PIT ID(없으면 빈 문자열), ARGV[4]=PIT TTL(ms), ARGV[5]=노출 위치 TTL(ms),
+     * ARGV[6]=새로 고정할 프로필 JSON(없으면 빈 문자열). 할당 후 끝 위치를 반환합니다.</p>
+     */
+    private static final RedisScript<Long> COMMIT_SESSION_SCRIPT = new DefaultRedisScript<>(
+            """
+            local last = redis.call('INCRBY', KEYS[2], ARGV[1])
+            if ARGV[2] == '1' then
+              if ARGV[3] ~= '' then
+                redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4])
+              else
+                redis.call('PEXPIRE', KEYS[1], ARGV[4])
+              end
+              if ARGV[6] ~= '' then
+                redis.call('SET', KEYS[3], ARGV[6], 'PX', ARGV[4])
+              else
+                redis.call('PEXPIRE', KEYS[3], ARGV[4])
+              end
+              redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            else
+              redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            end
+            return last
+            """,
+            Long.class);
+
+    /**
+     * 한 요청 세션의 Redis 키 묶음.
+     *
+     * @param pitKey PIT 키
+     * @param posKey 노출 위치 키
+     * @param profileKey 고정 프로필 키
+     */
+    public record SessionKeys(String pitKey, String posKey, String profileKey) {}
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * PIT, 고정 프로필, 최근 조회 시드 중 필요한 것만 한 번의 파이프라인으로 조회합니다.
+     *
+     * @param pitKey PIT 키 (null이면 PIT를 조회하지 않음)
+     * @param profileKey 고정 프로필 키 (null이면 프로필을 조회하지 않음)
+     * @param recentViewsKey 최근 조회 키 (null이면 시드를 조회하지 않음)
+     * @param seedLimit 최대 시드 개수
+     * @return 세션 상태
+     */
+    public RankingSession loadSession(
+            @Nullable String pitKey, @Nullable String profileKey, @Nullable String recentViewsKey, long seedLimit) {
+        return record("load", () -> {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    if (pitKey != null) {
+                        ops.opsForValue().get(pitKey);
+                    }
+                    if (profileKey != null) {
+                        ops.opsForValue().get(profileKey);
+                    }
+                    if (recentViewsKey != null) {
+                        ops.opsForZSet().reverseRange(recentViewsKey, 0, seedLimit - 1);
+                    }
+                    return null;
+                }
+            });
+
+            int index = 0;
+            String pitId = pitKey != null ? (String) results.get(index++) : null;
+            PersonalizationProfile profile = profileKey != null ? readProfile((String) results.get(index++)) : null;
+            List<UUID> seeds = recentViewsKey != null ? toIds(results.get(index)) : List.of();
+            return new RankingSession(pitId, seeds, profile);
+        });
+    }
+
+    /**
+     * 노출 위치 할당과 세션 키 갱신/정리를 하나의 스크립트로 반영합니다.
+     *
+     * <p>다음 페이지가 있으면 PIT와 고정 프로필(새로 만든 경우 저장)의 TTL을 PIT TTL로, 노출 위치의 TTL을 갱신하고,
+     * 없으면 세 키를 모두 삭제합니다.</p>
+     *
+     * @param keys 세션 키
+     * @param count 할당할 개수
+     * @param hasNext 다음 페이지 여부
+     * @param openedPitId 이번 요청에서 새로 연 PIT ID (없으면 null)
+     * @param pinnedProfile 이번 요청에서 새로 고정할 프로필 (없으면 null)
+     * @param pitTtl PIT TTL
+     * @param posTtl 노출 위치 TTL
+     * @return 할당 후 끝 위치
+     */
+    public long commitSession(
+            SessionKeys keys,
+            int count,
+            boolean hasNext,
+            @Nullable String openedPitId,
+            @Nullable PersonalizationProfile pinnedProfile,
+            Duration pitTtl,
+            Duration posTtl) {
+        String profileJson = pinnedProfile != null ? objectMapper.writeValueAsString(pinnedProfile) : "";
+        return record("commit", () -> redisTemplate.execute(
+                COMMIT_SESSION_SCRIPT,
+                List.of(keys.pitKey(), keys.posKey(), keys.profileKey()),
+                String.valueOf(count),
+                hasNext ? "1" : "0",
+                openedPitId != null ? openedPitId : "",
+                String.valueOf(pitTtl.toMillis()),
+                String.valueOf(posTtl.toMillis()),
+                profileJson));
+    }
 
     /**
      * 문자열 값을 저장합니다.
@@ -67,4 +201,24 @@ public class RankingSnapshotRepository {
     public Long incrementLong(String key, long delta) {
         return redisTemplate.opsForValue().increment(key, delta);
     }
+
+    private <T> T record(String step, Supplier<T> operation) {
+        return Timer.builder(METRIC_NAME).tag("step", step).register(meterRegistry).record(operation);
+    }
+
+    @Nullable
+    private PersonalizationProfile readProfile(@Nullable String json) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, PersonalizationProfile.class);
+        } catch (JacksonException e) {
+            log.warn("고정 프로필 해석 실패, 다시 계산합니다", e);
+            return null;
+        }
+    }
+
+    private static List<UUID> toIds(Object members) {
+        if (!(members instanceof Collection<?> values) || values.isEmpty()) return List.of();
+        return values.stream().map(value -> UUID.fromString(value.toString())).toList();
+    }
 }
@@ -1,8 +1,9 @@
 package com.cheftory.api.ranking.snapshot;
 
-import com.cheftory.api.exception.CheftoryException;
 import com.cheftory.api.ranking.RankingItemType;
 import com.cheftory.api.ranking.RankingSurfaceType;
+import com.cheftory.api.ranking.personalization.PersonalizationProfile;
+import jakarta.annotation.Nullable;
 import java.time.Duration;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -33,77 +34,74 @@ public class RankingSnapshotService {
     }
 
     /**
-     * PIT를 저장합니다.
+     * 추천 페이지 처리 전 세션 상태를 한 번의 왕복으로 조회합니다.
      *
-     * @param requestId 요청 ID
-     * @param surfaceType 서피스 타입
-     * @param itemType 아이템 타입
-     * @param pitId PIT ID
-     */
-    public void savePit(UUID requestId, RankingSurfaceType surfaceType, RankingItemType itemType, String pitId) {
-        String cacheKey = keyGenerator.pitKey(requestId, surfaceType, itemType);
-        snapshotRepository.saveString(cacheKey, pitId, PIT_TTL);
-    }
-
-    /**
-     * PIT를 조회합니다.
+     * <p>첫 페이지는 요청 ID를 막 발급했으므로 최근 조회 시드만 조회합니다.
+     * 다음 페이지는 PIT와 세션에 고정된 개인화 프로필만 조회하고 시드는 읽지 않습니다.</p>
      *
      * @param requestId 요청 ID
      * @param surfaceType 서피스 타입
      * @param itemType 아이템 타입
-     * @return PIT ID
+     * @param first 첫 페이지 여부
+     * @param recentViewsKey 최근 조회 키
+     * @param seedLimit 최대 시드 개수
+     * @return 세션 상태
      */
-    public String getPit(UUID requestId, RankingSurfaceType surfaceType, RankingItemType itemType) {
-        String cacheKey = keyGenerator.pitKey(requestId, surfaceType, itemType);
-        return snapshotRepository.getString(cacheKey);
+    public RankingSession loadSession(
+            UUID requestId,
+            RankingSurfaceType surfaceType,
+            RankingItemType itemType,
+            boolean first,
+            String recentViewsKey,
+            int seedLimit) {
+        if (first) {
+            return snapshotRepository.loadSession(null, null, recentViewsKey, seedLimit);
+        }
+        return snapshotRepository.loadSession(
+                keyGenerator.pitKey(requestId, surfaceType, itemType),
+                keyGenerator.profileKey(requestId, surfaceType, itemType),
+                null,
+                seedLimit);
     }
 
     /**
-     * PIT와 노출 위치의 만료 시간을 갱신합니다.
+     * 추천 페이지 처리 후 노출 위치 할당과 세션 키(PIT, 고정 프로필, 노출 위치) 갱신 또는 정리를 한 번의 왕복으로 반영합니다.
      *
      * @param requestId 요청 ID
      * @param surfaceType 서피스 타입
      * @param itemType 아이템 타입
+     * @param openedPitId 이번 요청에서 새로 연 PIT ID (없으면 null)
+     * @param pinnedProfile 이번 요청에서 새로 계산해 세션에 고정할 프로필 (이미 고정되어 있으면 null)
+     * @param count 할당할 노출 개수
+     * @param hasNext 다음 페이지 여부 (false면 세션 키 삭제)
+     * @return 노출 시작 위치
      */
-    public void refreshPit(UUID requestId, RankingSurfaceType surfaceType, RankingItemType itemType) {
-        snapshotRepository.expire(keyGenerator.pitKey(requestId, surfaceType, itemType), PIT_TTL);
-        snapshotRepository.expire(keyGenerator.impressionPosKey(requestId), POS_TTL);
+    public long commitSession(
+            UUID requestId,
+            RankingSurfaceType surfaceType,
+            RankingItemType itemType,
+            @Nullable String openedPitId,
+            @Nullable PersonalizationProfile pinnedProfile,
+            int count,
+            boolean hasNext) {
+        RankingSnapshotRepository.SessionKeys keys = new RankingSnapshotRepository.SessionKeys(
+                keyGenerator.pitKey(requestId, surfaceType, itemType),
+                keyGenerator.impressionPosKey(requestId),
+                keyGenerator.profileKey(requestId, surfaceType, itemType));
+        long end = snapshotRepository.commitSession(keys, count, hasNext, openedPitId, pinnedProfile, PIT_TTL, POS_TTL);
+        return end - count;
     }
 
     /**
-     * PIT를 삭제합니다.
+     * PIT를 조회합니다.
      *
      * @param requestId 요청 ID
      * @param surfaceType 서피스 타입
      * @param itemType 아이템 타입
+     * @return PIT ID
      */
-    public void deletePit(UUID requestId, RankingSurfaceType surfaceType, RankingItemType itemType) {
+    public String getPit(UUID requestId, RankingSurfaceType surfaceType, RankingItemType itemType) {
         String cacheKey = keyGenerator.pitKey(requestId, surfaceType, itemType);
-        snapshotRepository.delete(cacheKey);
-    }
-
-    /**
-     * 노출 위치를 할당합니다.
-     *
-     * @param requestId 요청 ID
-     * @param count 할당할 개수
-     * @return 시작 위치
-     * @throws CheftoryException Cheftory 예외
-     */
-    public long allocateImpressionPositions(UUID requestId, int count) throws CheftoryException {
-        String key = keyGenerator.impressionPosKey(requestId);
-        Long end = snapshotRepository.incrementLong(key, count);
-        snapshotRepository.expire(key, POS_TTL);
-        return end - count;
-    }
-
-    /**
-     * 노출 위치를 초기화합니다.
-     *
-     * @param requestId 요청 ID
-     * @throws CheftoryException Cheftory 예외
-     */
-    public void clearImpressionPositions(UUID requestId) throws CheftoryException {
-        snapshotRepository.delete(keyGenerator.impressionPosKey(requestId));
+        return snapshotRepository.getString(cacheKey);
     }
 }
@@ -0,0 +1,180 @@
+package com.cheftory.api.recipe;
+
+import com.cheftory.api.exception.CheftoryException;
+import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.bookmark.entity.RecipeBookmark;
+import com.cheftory.api.recipe.content.briefing.RecipeBriefingService;
+import com.cheftory.api.recipe.content.briefing.entity.RecipeBriefing;
+import com.cheftory.api.recipe.content.cache.RecipeContent;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
+import com.cheftory.api.recipe.content.detailMeta.RecipeDetailMetaService;
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.cheftory.api.recipe.content.ingredient.RecipeIngredientService;
+import com.cheftory.api.recipe.content.ingredient.entity.RecipeIngredient;
+import com.cheftory.api.recipe.content.step.RecipeStepService;
+import com.cheftory.api.recipe.content.step.entity.RecipeStep;
+import com.cheftory.api.recipe.content.tag.RecipeTagService;
+import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
+import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import com.cheftory.api.recipe.creation.progress.RecipeProgressService;
+import com.cheftory.api.recipe.creation.progress.entity.RecipeProgress;
+import com.cheftory.api.recipe.dto.FullRecipe;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 상세 로더.
+ *
+ * <p>레시피 상세 화면을 구성하는 콘텐츠(스텝, 재료, 상세 메타, 진행 상태, 태그, 브리핑, YouTube 메타, 북마크)는
+ * 서로 독립적이므로 `recipeReadExecutor`에서 동시에 조회합니다. 각 분기는 요청 스레드의 마켓 컨텍스트를 전파받고,
+ * 분기별 소요 시간은 `recipe.full.load` 타이머에 `branch` 태그로 기록됩니다.</p>
+ *
+ * <p>생성 이후 바뀌지 않는 콘텐츠는 {@link RecipeContentCache}를 거쳐 조회하고, 캐시 미스일 때만 테이블별로 동시 조회합니다.
+ * 사용자별로 달라지는 진행 상태와 북마크는 캐시와 무관하게 매번 조회합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class FullRecipeLoader {
+
+    static final String METRIC_NAME = "recipe.full.load";
+
+    private final RecipeStepService recipeStepService;
+    private final RecipeIngredientService recipeIngredientService;
+    private final RecipeDetailMetaService recipeDetailMetaService;
+    private final RecipeProgressService recipeProgressService;
+    private final RecipeTagService recipeTagService;
+    private final RecipeBriefingService recipeBriefingService;
+    private final RecipeYoutubeMetaService recipeYoutubeMetaService;
+    private final RecipeBookmarkService recipeBookmarkService;
+    private final RecipeContentCache recipeContentCache;
+    private final AsyncTaskExecutor recipeReadExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @FunctionalInterface
+    interface Branch<T> {
+        T load() throws CheftoryException;
+    }
+
+    /**
+     * 레시피 상세 정보를 동시 조회하여 조립합니다.
+     *
+     * <p>북마크는 존재 확인과 조회를 한 번의 조회로 처리합니다. 분기 중 하나라도 실패하면 해당 분기의 예외를 그대로 던집니다.</p>
+     *
+     * @param recipe 조회 대상 레시피 (성공 상태로 검증된 레시피)
+     * @param userId 사용자 ID
+     * @return 레시피 전체 정보
+     * @throws CheftoryException 분기 조회 중 도메인 예외 발생 시
+     */
+    public FullRecipe load(RecipeInfo recipe, UUID userId) throws CheftoryException {
+        UUID recipeId = recipe.getId();
+
+        CompletableFuture<List<RecipeProgress>> progresses =
+                fork("progress", () -> recipeProgressService.gets(recipeId, recipe.getCurrentJobId()));
+        CompletableFuture<Optional<RecipeBookmark>> bookmark =
+                fork("bookmark", () -> recipeBookmarkService.find(userId, recipeId));
+
+        RecipeContent content = loadContent(recipe);
+        join(CompletableFuture.allOf(progresses, bookmark));
+
+        Optional<RecipeBookmark> owned = bookmark.join();
+        if (owned.isPresent()) {
+            return FullRecipe.owned(
+                    content.steps(),
+                    content.ingredients(),
+                    content.detailMeta(),
+                    progresses.join(),
+                    content.tags(),
+                    content.youtubeMeta(),
+                    owned.get(),
+                    recipe,
+                    content.briefings());
+        }
+        return FullRecipe.notOwned(
+                content.steps(),
+                content.ingredients(),
+                content.detailMeta(),
+                progresses.join(),
+                content.tags(),
+                content.youtubeMeta(),
+                recipe,
+                content.briefings());
+    }
+
+    /**
+     * 레시피 상세 콘텐츠를 캐시에서 조회하고, 미스이면 테이블별로 동시 조회해 채웁니다.
+     *
+     * @param recipe 조회 대상 레시피
+     * @return 레시피 상세 콘텐츠
+     * @throws CheftoryException 분기 조회 중 도메인 예외 발생 시
+     */
+    public RecipeContent loadContent(RecipeInfo recipe) throws CheftoryException {
+        return recipeContentCache.getContent(recipe, () -> fetchContent(recipe.getId()));
+    }
+
+    private RecipeContent fetchContent(UUID recipeId) throws CheftoryException {
+        CompletableFuture<List<RecipeStep>> steps = fork("steps", () -> recipeStepService.gets(recipeId));
+        CompletableFuture<List<RecipeIngredient>> ingredients =
+                fork("ingredients", () -> recipeIngredientService.gets(recipeId));
+        CompletableFuture<RecipeDetailMeta> detailMeta =
+                fork("detail_meta", () -> recipeDetailMetaService.get(recipeId));
+        CompletableFuture<List<RecipeTag>> tags = fork("tags", () -> recipeTagService.gets(recipeId));
+        CompletableFuture<List<RecipeBriefing>> briefings =
+                fork("briefings", () -> recipeBriefingService.gets(recipeId));
+        CompletableFuture<RecipeYoutubeMeta> youtubeMeta =
+                fork("youtube_meta", () -> recipeYoutubeMetaService.get(recipeId));
+
+        join(CompletableFuture.allOf(steps, ingredients, detailMeta, tags, briefings, youtubeMeta));
+
+        return new RecipeContent(
+                steps.join(),
+                ingredients.join(),
+                detailMeta.join(),
+                tags.join(),
+                briefings.join(),
+                youtubeMeta.join());
+    }
+
+    private <T> CompletableFuture<T> fork(String branch, Branch<T> task) {
+        Timer timer = Timer.builder(METRIC_NAME)
+                .tag("branch", branch)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    try {
+                        return task.load();
+                    } catch (CheftoryException e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        sample.stop(timer);
+                    }
+                },
+                recipeReadExecutor);
+    }
+
+    private void join(CompletableFuture<Void> all) throws CheftoryException {
+        try {
+            all.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CheftoryException ce) {
+                throw ce;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+}
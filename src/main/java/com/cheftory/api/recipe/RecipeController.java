@@ -11,9 +11,7 @@ import com.cheftory.api.recipe.bookmark.exception.RecipeBookmarkException;
 import com.cheftory.api.recipe.category.exception.RecipeCategoryException;
 import com.cheftory.api.recipe.challenge.RecipeCompleteChallenge;
 import com.cheftory.api.recipe.challenge.exception.RecipeChallengeException;
-import com.cheftory.api.recipe.content.detailMeta.exception.RecipeDetailMetaException;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
-import com.cheftory.api.recipe.content.youtubemeta.exception.YoutubeMetaException;
 import com.cheftory.api.recipe.creation.RecipeCreationFacade;
 import com.cheftory.api.recipe.dto.CategorizedRecipesResponse;
 import com.cheftory.api.recipe.dto.ChallengeRecipesResponse;
@@ -100,13 +98,11 @@ public class RecipeController {
      * @param recipeId 레시피 ID
      * @param userId 사용자 ID
      * @return 레시피 개요 응답
-     * @throws RecipeInfoException 레시피 정보 조회 실패 시
-     * @throws RecipeDetailMetaException 상세 메타 조회 실패 시
-     * @throws YoutubeMetaException YouTube 메타 조회 실패 시
+     * @throws CheftoryException 레시피 정보, 상세 메타, YouTube 메타 조회 실패 시
      */
     @GetMapping("/api/v1/recipes/overview/{recipeId}")
     public RecipeOverviewResponse getOverviewRecipe(@PathVariable("recipeId") UUID recipeId, @UserPrincipal UUID userId)
-            throws RecipeInfoException, RecipeDetailMetaException, YoutubeMetaException {
+            throws CheftoryException {
         RecipeOverview overview = recipeFacade.getRecipeOverview(recipeId, userId);
         return RecipeOverviewResponse.of(overview);
     }
@@ -15,25 +15,14 @@ import com.cheftory.api.recipe.category.exception.RecipeCategoryException;
 import com.cheftory.api.recipe.challenge.RecipeChallengeService;
 import com.cheftory.api.recipe.challenge.RecipeCompleteChallenge;
 import com.cheftory.api.recipe.challenge.exception.RecipeChallengeException;
-import com.cheftory.api.recipe.content.briefing.RecipeBriefingService;
-import com.cheftory.api.recipe.content.briefing.entity.RecipeBriefing;
-import com.cheftory.api.recipe.content.detailMeta.RecipeDetailMetaService;
-import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.cache.RecipeCard;
+import com.cheftory.api.recipe.content.cache.RecipeContent;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
 import com.cheftory.api.recipe.content.detailMeta.exception.RecipeDetailMetaErrorCode;
-import com.cheftory.api.recipe.content.detailMeta.exception.RecipeDetailMetaException;
 import com.cheftory.api.recipe.content.info.RecipeInfoService;
 import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoErrorCode;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
-import com.cheftory.api.recipe.content.ingredient.RecipeIngredientService;
-import com.cheftory.api.recipe.content.ingredient.entity.RecipeIngredient;
-import com.cheftory.api.recipe.content.step.RecipeStepService;
-import com.cheftory.api.recipe.content.step.entity.RecipeStep;
-import com.cheftory.api.recipe.content.tag.RecipeTagService;
-import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
-import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
-import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
-import com.cheftory.api.recipe.content.youtubemeta.exception.YoutubeMetaException;
 import com.cheftory.api.recipe.creation.progress.RecipeProgressService;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgress;
 import com.cheftory.api.recipe.dto.FullRecipe;
@@ -55,11 +44,8 @@ import com.cheftory.api.recipe.rank.RankingType;
 import com.cheftory.api.recipe.rank.RecipeRankService;
 import com.cheftory.api.recipe.rank.port.RecipeRankEventType;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -72,27 +58,23 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class RecipeFacade {
 
-    private final RecipeStepService recipeStepService;
     private final RecipeBookmarkService recipeBookmarkService;
     private final RecipeCategoryService recipeCategoryService;
-    private final RecipeYoutubeMetaService recipeYoutubeMetaService;
-    private final RecipeIngredientService recipeIngredientService;
-    private final RecipeDetailMetaService recipeDetailMetaService;
     private final RecipeProgressService recipeProgressService;
-    private final RecipeTagService recipeTagService;
-    private final RecipeBriefingService recipeBriefingService;
     private final RecipeInfoService recipeInfoService;
     private final RecipeRankService recipeRankService;
     private final RecipeChallengeService recipeChallengeService;
+    private final FullRecipeLoader fullRecipeLoader;
+    private final RecipeOverviewHydrator recipeOverviewHydrator;
+    private final RecipeContentCache recipeContentCache;
 
     /**
      * 레시피 전체 상세 정보를 조회합니다.
      *
      * <p>레시피가 존재하지 않거나 실패 상태이면 예외를 던집니다.
-     * 레시피가 성공 상태이면 조회수를 증가시키고 조회 이벤트를 로깅합니다.</p>
+     * 레시피가 성공 상태이면 조회수를 증가시키고, 콘텐츠는 {@link FullRecipeLoader}로 동시 조회한 뒤 조회 이벤트를 로깅합니다.</p>
      *
      * @param recipeId 레시피 ID
      * @param userId 사용자 ID
@@ -103,21 +85,9 @@ public class RecipeFacade {
         try {
             RecipeInfo recipe = recipeInfoService.getSuccess(recipeId);
             recipeInfoService.increaseCount(recipeId);
-            List<RecipeStep> steps = recipeStepService.gets(recipeId);
-            List<RecipeIngredient> ingredients = recipeIngredientService.gets(recipeId);
-            RecipeDetailMeta detailMeta = recipeDetailMetaService.get(recipeId);
-            List<RecipeProgress> progresses = recipeProgressService.gets(recipeId, recipe.getCurrentJobId());
-            List<RecipeTag> tags = recipeTagService.gets(recipeId);
-            List<RecipeBriefing> briefings = recipeBriefingService.gets(recipeId);
-            RecipeYoutubeMeta youtubeMeta = recipeYoutubeMetaService.get(recipeId);
+            FullRecipe fullRecipe = fullRecipeLoader.load(recipe, userId);
             recipeRankService.logEvent(userId, recipeId, RecipeRankEventType.VIEW);
-            if (recipeBookmarkService.exist(userId, recipeId)) {
-                RecipeBookmark bookmark = recipeBookmarkService.get(userId, recipeId);
-                return FullRecipe.owned(
-                        steps, ingredients, detailMeta, progresses, tags, youtubeMeta, bookmark, recipe, briefings);
-            }
-            return FullRecipe.notOwned(
-                    steps, ingredients, detailMeta, progresses, tags, youtubeMeta, recipe, briefings);
+            return fullRecipe;
 
         } catch (CheftoryException e) {
             if (e.getError() == RecipeInfoErrorCode.RECIPE_INFO_NOT_FOUND
@@ -135,25 +105,20 @@ public class RecipeFacade {
      * 레시피 개요 정보를 조회합니다.
      *
      * <p>레시피 기본 정보, YouTube 메타데이터, 상세 메타데이터, 태그를 포함합니다.
-     * 조회 시 조회수를 증가시킵니다.</p>
+     * 조회 시 조회수를 증가시킵니다. 카드 콘텐츠는 {@link RecipeOverviewHydrator}로 캐시를 거쳐 조회합니다.</p>
      *
      * @param recipeId 레시피 ID
      * @param userId 사용자 ID
      * @return 레시피 개요 정보
-     * @throws RecipeInfoException 레시피 정보 조회 실패 시
-     * @throws YoutubeMetaException YouTube 메타데이터 조회 실패 시
-     * @throws RecipeDetailMetaException 상세 메타데이터 조회 실패 시
+     * @throws CheftoryException 레시피 정보, YouTube 메타데이터, 상세 메타데이터 조회 실패 시
      */
-    public RecipeOverview getRecipeOverview(UUID recipeId, UUID userId)
-            throws RecipeInfoException, YoutubeMetaException, RecipeDetailMetaException {
+    public RecipeOverview getRecipeOverview(UUID recipeId, UUID userId) throws CheftoryException {
         RecipeInfo recipe = recipeInfoService.getSuccess(recipeId);
         recipeInfoService.increaseCount(recipeId);
-        RecipeYoutubeMeta youtubeMeta = recipeYoutubeMetaService.get(recipeId);
-        RecipeDetailMeta detailMeta = recipeDetailMetaService.get(recipeId);
-        List<RecipeTag> tags = recipeTagService.gets(recipeId);
+        RecipeCard card = recipeOverviewHydrator.card(recipe);
         boolean isViewed = recipeBookmarkService.exist(userId, recipeId);
 
-        return RecipeOverview.of(recipe, youtubeMeta, detailMeta, tags, isViewed);
+        return RecipeOverview.of(recipe, card.youtubeMeta(), card.detailMeta(), card.tags(), isViewed);
     }
 
     /**
@@ -169,7 +134,7 @@ public class RecipeFacade {
             throws CursorException {
         CursorPage<RecipeBookmark> bookmarks = recipeBookmarkService.getCategorized(userId, recipeCategoryId, cursor);
 
-        List<RecipeBookmarkOverview> items = makeBookmarkOverviews(bookmarks.items());
+        List<RecipeBookmarkOverview> items = recipeOverviewHydrator.hydrateBookmarks(bookmarks.items());
         return CursorPage.of(items, bookmarks.nextCursor());
     }
 
@@ -184,102 +149,10 @@ public class RecipeFacade {
     public CursorPage<RecipeBookmarkOverview> getRecents(UUID userId, String cursor) throws CursorException {
         CursorPage<RecipeBookmark> bookmarks = recipeBookmarkService.getRecents(userId, cursor);
 
-        List<RecipeBookmarkOverview> items = makeBookmarkOverviews(bookmarks.items());
+        List<RecipeBookmarkOverview> items = recipeOverviewHydrator.hydrateBookmarks(bookmarks.items());
         return CursorPage.of(items, bookmarks.nextCursor());
     }
 
-    /**
-     * 북마크 목록을 만듭니다. 1) viewStatus에서 recipeId 수집 2) recipeId로 실패하지 않은 Recipe 불러오기 (in_progress,
-     * success) 3) recipeId로 RecipeYoutube 불러오기 (metaId 수집) 3-2) metaId 목록 수집 4) metaId로
-     * RecipeYoutubeMeta 불러오기 5) 매핑: 누락은 스킵하며 로그
-     *
-     * @param bookmarks 북마크 페이지
-     * @return 리코드 페이지
-     */
-    private List<RecipeBookmarkOverview> makeBookmarkOverviews(List<RecipeBookmark> bookmarks) {
-        List<UUID> recipeIds =
-                bookmarks.stream().map(RecipeBookmark::getRecipeId).toList();
-
-        Map<UUID, RecipeInfo> recipeMap = Stream.concat(
-                        recipeInfoService.gets(recipeIds).stream(), recipeInfoService.getProgresses(recipeIds).stream())
-                .collect(Collectors.toMap(RecipeInfo::getId, Function.identity()));
-
-        Map<UUID, RecipeYoutubeMeta> youtubeMetaMap = recipeYoutubeMetaService.gets(recipeIds).stream()
-                .collect(Collectors.toMap(RecipeYoutubeMeta::getRecipeId, Function.identity(), (a, b) -> a));
-
-        Map<UUID, RecipeDetailMeta> detailMetaMap = recipeDetailMetaService.getIn(recipeIds).stream()
-                .collect(Collectors.toMap(RecipeDetailMeta::getRecipeId, Function.identity()));
-
-        Map<UUID, List<RecipeTag>> tagsMap =
-                recipeTagService.gets(recipeIds).stream().collect(Collectors.groupingBy(RecipeTag::getRecipeId));
-
-        return bookmarks.stream()
-                .map(bookmark -> {
-                    UUID recipeId = bookmark.getRecipeId();
-
-                    RecipeInfo recipe = recipeMap.get(recipeId);
-                    if (recipe == null) {
-                        log.warn("북마크: 존재하지 않는 레시피 recipeId={}, userId={}", recipeId, bookmark.getUserId());
-                        return null;
-                    }
-
-                    RecipeYoutubeMeta youtubeMeta = youtubeMetaMap.get(recipeId);
-                    if (youtubeMeta == null) {
-                        log.warn("북마크: 유튜브 메타 엔티티 누락 recipeId={}", recipeId);
-                    }
-
-                    RecipeDetailMeta detailMeta = detailMetaMap.get(recipeId);
-                    List<RecipeTag> tags = tagsMap.getOrDefault(recipeId, Collections.emptyList());
-
-                    return RecipeBookmarkOverview.of(recipe, bookmark, youtubeMeta, detailMeta, tags);
-                })
-                .filter(Objects::nonNull)
-                .toList();
-    }
-
-    private List<RecipeOverview> makeOverviews(List<RecipeInfo> recipes, UUID userId) {
-        List<UUID> recipeIds = recipes.stream().map(RecipeInfo::getId).toList();
-
-        Map<UUID, RecipeYoutubeMeta> youtubeMetaMap = recipeYoutubeMetaService.gets(recipeIds).stream()
-                .collect(Collectors.toMap(RecipeYoutubeMeta::getRecipeId, Function.identity()));
-
-        Map<UUID, RecipeDetailMeta> detailMetaMap = recipeDetailMetaService.getIn(recipeIds).stream()
-                .collect(Collectors.toMap(RecipeDetailMeta::getRecipeId, Function.identity()));
-
-        Map<UUID, List<RecipeTag>> tagsMap =
-                recipeTagService.gets(recipeIds).stream().collect(Collectors.groupingBy(RecipeTag::getRecipeId));
-
-        Map<UUID, RecipeBookmark> recipeViewStatusMap = recipeBookmarkService.gets(recipeIds, userId).stream()
-                .collect(Collectors.toMap(RecipeBookmark::getRecipeId, Function.identity()));
-
-        return recipes.stream()
-                .map(recipe -> {
-                    UUID recipeId = recipe.getId();
-                    RecipeYoutubeMeta youtubeMeta = youtubeMetaMap.get(recipeId);
-                    if (youtubeMeta == null) {
-                        log.error("완료된 레시피의 유튜브 메타데이터 누락: recipeId={}", recipeId);
-                        return null;
-                    }
-
-                    RecipeDetailMeta detailMeta = detailMetaMap.get(recipeId);
-                    if (detailMeta == null) {
-                        log.warn("레시피 상세 메타데이터 누락: recipeId={}", recipeId);
-                    }
-
-                    List<RecipeTag> tags = tagsMap.getOrDefault(recipeId, Collections.emptyList());
-                    if (tags.isEmpty()) {
-                        log.error("레시피의 태그 누락: recipeId={}", recipeId);
-                    }
-
-                    RecipeBookmark bookmark = recipeViewStatusMap.get(recipeId);
-                    Boolean isViewed = bookmark != null;
-
-                    return RecipeOverview.of(recipe, youtubeMeta, detailMeta, tags, isViewed);
-                })
-                .filter(Objects::nonNull)
-                .toList();
-    }
-
     /**
      * 사용자의 카테고리별 북마크 수를 조회합니다.
      *
@@ -335,7 +208,7 @@ public class RecipeFacade {
     /**
      * 레시피를 차단합니다.
      *
-     * <p>YouTube 메타데이터, 레시피 정보, 북마크를 차단 상태로 변경합니다.</p>
+     * <p>YouTube 메타데이터, 레시피 정보, 북마크를 차단 상태로 변경하고 콘텐츠 캐시를 비웁니다.</p>
      *
      * @param recipeId 차단할 레시피 ID
      * @throws RecipeException 레시피 차단 실패 시
@@ -344,6 +217,7 @@ public class RecipeFacade {
     public void blockRecipe(UUID recipeId) throws RecipeException {
         recipeInfoService.block(recipeId);
         recipeBookmarkService.block(recipeId);
+        recipeContentCache.evict(recipeId);
     }
 
     /**
@@ -358,16 +232,15 @@ public class RecipeFacade {
     public CursorPage<RecipeOverview> getCuisineRecipes(RecipeCuisineType type, UUID userId, String cursor)
             throws CheftoryException {
         CursorPage<UUID> recipeIds = recipeRankService.getCuisineRecipes(userId, type, cursor);
-        List<RecipeInfo> recipes = recipeInfoService.gets(recipeIds.items());
 
-        List<RecipeOverview> items = makeOverviews(recipes, userId);
+        List<RecipeOverview> items = recipeOverviewHydrator.hydrate(recipeIds.items(), userId);
         return CursorPage.of(items, recipeIds.nextCursor());
     }
 
     /**
      * 추천 타입별 레시피 목록을 조회합니다.
      *
-     * <p>인기, 셰프 추천, 트렌딩 중 하나의 타입으로 레시피를 추천합니다.</p>
+     * <p>인기, 셰프 추천, 트렌딩 중 하나의 타입으로 레시피를 추천합니다. 랭킹 타입은 랭킹 ID 순서를 그대로 유지합니다.</p>
      *
      * @param type 추천 타입 (POPULAR, CHEF, TRENDING)
      * @param userId 사용자 ID
@@ -379,15 +252,15 @@ public class RecipeFacade {
     public CursorPage<RecipeOverview> getRecommendRecipes(
             RecipeInfoRecommendType type, UUID userId, String cursor, RecipeInfoVideoQuery query)
             throws CheftoryException {
-        CursorPage<RecipeInfo> recipesPage =
-                switch (type) {
-                    case POPULAR -> recipeInfoService.getPopulars(cursor, query);
-                    case CHEF -> getRankingRecipes(RankingType.CHEF, cursor);
-                    case TRENDING -> getRankingRecipes(RankingType.TRENDING, cursor);
-                };
-
-        List<RecipeOverview> items = makeOverviews(recipesPage.items(), userId);
-        return CursorPage.of(items, recipesPage.nextCursor());
+        return switch (type) {
+            case POPULAR -> {
+                CursorPage<RecipeInfo> recipesPage = recipeInfoService.getPopulars(cursor, query);
+                List<RecipeOverview> items = recipeOverviewHydrator.hydrateRecipes(recipesPage.items(), userId);
+                yield CursorPage.of(items, recipesPage.nextCursor());
+            }
+            case CHEF -> getRankingRecipes(RankingType.CHEF, userId, cursor);
+            case TRENDING -> getRankingRecipes(RankingType.TRENDING, userId, cursor);
+        };
     }
 
     /**
@@ -411,30 +284,17 @@ public class RecipeFacade {
                 .map(RecipeCompleteChallenge::getRecipeId)
                 .toList();
 
-        List<RecipeOverview> fetched = makeOverviews(recipeInfoService.gets(recipeIds), userId);
-
-        Map<UUID, RecipeOverview> map =
-                fetched.stream().collect(Collectors.toMap(RecipeOverview::getRecipeId, Function.identity()));
-
-        List<RecipeOverview> ordered =
-                recipeIds.stream().map(map::get).filter(Objects::nonNull).toList();
+        List<RecipeOverview> items = recipeOverviewHydrator.hydrate(recipeIds, userId);
 
-        return Pair.of(challengeOverviews, CursorPage.of(ordered, overviews.nextCursor()));
+        return Pair.of(challengeOverviews, CursorPage.of(items, overviews.nextCursor()));
     }
 
-    private CursorPage<RecipeInfo> getRankingRecipes(RankingType rankingType, String cursor) throws CheftoryException {
-        CursorPage<UUID> rankedIdsPage = recipeRankService.getRecipeIds(rankingType, cursor);
-
-        List<UUID> rankedIds = rankedIdsPage.items();
-
-        List<RecipeInfo> fetched = recipeInfoService.gets(rankedIds);
-
-        Map<UUID, RecipeInfo> map = fetched.stream().collect(Collectors.toMap(RecipeInfo::getId, Function.identity()));
-
-        List<RecipeInfo> ordered =
-                rankedIds.stream().map(map::get).filter(Objects::nonNull).toList();
+    private CursorPage<RecipeOverview> getRankingRecipes(RankingType rankingType, UUID userId, String cursor)
+            throws CheftoryException {
+        CursorPage<UUID> rankedIds = recipeRankService.getRecipeIds(rankingType, cursor);
 
-        return CursorPage.of(ordered, rankedIdsPage.nextCursor());
+        List<RecipeOverview> items = recipeOverviewHydrator.hydrate(rankedIds.items(), userId);
+        return CursorPage.of(items, rankedIds.nextCursor());
     }
 
     // ── 공개 레시피 API용 ──
@@ -456,7 +316,7 @@ public class RecipeFacade {
             page = recipeInfoService.getPublicRecipes(cursor);
         }
 
-        List<PublicRecipeOverview> overviews = makePublicOverviews(page.items());
+        List<PublicRecipeOverview> overviews = recipeOverviewHydrator.hydratePublic(page.items());
         return CursorPage.of(overviews, page.nextCursor());
     }
 
@@ -472,14 +332,16 @@ public class RecipeFacade {
                 .getByIdPublic(recipeId)
                 .orElseThrow(() -> new RecipeException(RecipeErrorCode.RECIPE_NOT_FOUND));
 
-        RecipeDetailMeta detailMeta = recipeDetailMetaService.get(recipeId);
-        RecipeYoutubeMeta youtubeMeta = recipeYoutubeMetaService.get(recipeId);
-        List<RecipeIngredient> ingredients = recipeIngredientService.gets(recipeId);
-        List<RecipeStep> steps = recipeStepService.gets(recipeId);
-        List<RecipeTag> tags = recipeTagService.gets(recipeId);
-        List<RecipeBriefing> briefings = recipeBriefingService.gets(recipeId);
+        RecipeContent content = fullRecipeLoader.loadContent(recipe);
 
-        return PublicRecipeDetail.of(recipe, detailMeta, youtubeMeta, ingredients, steps, tags, briefings);
+        return PublicRecipeDetail.of(
+                recipe,
+                content.detailMeta(),
+                content.youtubeMeta(),
+                content.ingredients(),
+                content.steps(),
+                content.tags(),
+                content.briefings());
     }
 
     /**
@@ -496,35 +358,4 @@ public class RecipeFacade {
         long total = recipeInfoService.countPublicRecipes();
         return new PublicRecipeSitemapResponse(entries, total);
     }
-
-    /**
-     * 공개 레시피 목록용 배치 조회 헬퍼 (N+1 방지)
-     */
-    private List<PublicRecipeOverview> makePublicOverviews(List<RecipeInfo> recipes) {
-        List<UUID> recipeIds = recipes.stream().map(RecipeInfo::getId).toList();
-
-        Map<UUID, RecipeYoutubeMeta> youtubeMetaMap = recipeYoutubeMetaService.gets(recipeIds).stream()
-                .collect(Collectors.toMap(RecipeYoutubeMeta::getRecipeId, Function.identity(), (a, b) -> a));
-
-        Map<UUID, RecipeDetailMeta> detailMetaMap = recipeDetailMetaService.getIn(recipeIds).stream()
-                .collect(Collectors.toMap(RecipeDetailMeta::getRecipeId, Function.identity()));
-
-        Map<UUID, List<RecipeTag>> tagsMap =
-                recipeTagService.gets(recipeIds).stream().collect(Collectors.groupingBy(RecipeTag::getRecipeId));
-
-        return recipes.stream()
-                .map(recipe -> {
-                    UUID recipeId = recipe.getId();
-                    RecipeYoutubeMeta youtubeMeta = youtubeMetaMap.get(recipeId);
-                    if (youtubeMeta == null) {
-                        log.warn("공개 레시피 유튜브 메타 누락: recipeId={}", recipeId);
-                        return null;
-                    }
-                    RecipeDetailMeta detailMeta = detailMetaMap.get(recipeId);
-                    List<RecipeTag> tags = tagsMap.getOrDefault(recipeId, Collections.emptyList());
-                    return PublicRecipeOverview.of(recipe, youtubeMeta, detailMeta, tags);
-                })
-                .filter(Objects::nonNull)
-                .toList();
-    }
 }
@@ -0,0 +1,343 @@
+package com.cheftory.api.recipe;
+
+import com.cheftory.api.exception.CheftoryException;
+import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.bookmark.entity.RecipeBookmark;
+import com.cheftory.api.recipe.content.cache.RecipeCard;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
+import com.cheftory.api.recipe.content.detailMeta.RecipeDetailMetaService;
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.info.RecipeInfoService;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.cheftory.api.recipe.content.tag.RecipeTagService;
+import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
+import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import com.cheftory.api.recipe.dto.PublicRecipeOverview;
+import com.cheftory.api.recipe.dto.RecipeBookmarkOverview;
+import com.cheftory.api.recipe.dto.RecipeOverview;
+import com.cheftory.api.recipe.search.RecipeSearchCard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 개요 하이드레이터.
+ *
+ * <p>추천/랭킹/검색/챌린지/북마크/공개 목록이 공통으로 사용하는 개요 조립기입니다. 입력 ID 목록 하나로
+ * 레시피 정보, 북마크, 카드 콘텐츠(YouTube 메타, 상세 메타, 태그) IN 쿼리를 `recipeReadExecutor`에서 동시에 실행하고,
+ * 결과는 입력 순서(랭킹/검색 순서) 그대로 조립합니다. 카드 콘텐츠도 레시피 정보를 기다리지 않고 입력 ID로 바로 조회합니다. 공개 목록처럼 북마크가 필요 없는 화면은 북마크를 조회하지 않습니다.</p>
+ *
+ * <p>카드 콘텐츠는 {@link RecipeContentCache}를 거치므로 캐시 미스분만 IN 쿼리로 조회됩니다.
+ * 화면별 소요 시간은 `recipe.overview.hydrate` 타이머에 `view` 태그로 기록됩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeOverviewHydrator {
+
+    static final String METRIC_NAME = "recipe.overview.hydrate";
+
+    private final RecipeInfoService recipeInfoService;
+    private final RecipeBookmarkService recipeBookmarkService;
+    private final RecipeYoutubeMetaService recipeYoutubeMetaService;
+    private final RecipeDetailMetaService recipeDetailMetaService;
+    private final RecipeTagService recipeTagService;
+    private final RecipeContentCache recipeContentCache;
+    private final AsyncTaskExecutor recipeReadExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 단일 레시피의 카드 콘텐츠를 조회합니다.
+     *
+     * @param recipe 레시피 정보
+     * @return 레시피 카드 콘텐츠
+     * @throws CheftoryException YouTube 메타 또는 상세 메타가 없을 때
+     */
+    public RecipeCard card(RecipeInfo recipe) throws CheftoryException {
+        UUID recipeId = recipe.getId();
+        return recipeContentCache.getCard(
+                recipe,
+                () -> new RecipeCard(
+                        recipeYoutubeMetaService.get(recipeId),
+                        recipeDetailMetaService.get(recipeId),
+                        recipeTagService.gets(recipeId)));
+    }
+
+    /**
+     * 레시피 ID 목록으로 사용자 개요 목록을 만듭니다.
+     *
+     * <p>레시피 정보, 북마크, 카드 콘텐츠를 동시에 조회하고, 결과는 입력 ID 순서를 유지합니다.
+     * 조회되지 않은 레시피와 YouTube 메타가 없는 레시피는 제외됩니다.</p>
+     *
+     * @param recipeIds 레시피 ID 목록 (랭킹/검색 순서)
+     * @param userId 사용자 ID
+     * @return 레시피 개요 목록
+     */
+    public List<RecipeOverview> hydrate(List<UUID> recipeIds, UUID userId) {
+        if (recipeIds.isEmpty()) {
+            return List.of();
+        }
+        return timer("overview").record(() -> {
+            CompletableFuture<List<RecipeInfo>> recipes = fork(() -> recipeInfoService.gets(recipeIds));
+            CompletableFuture<Map<UUID, RecipeBookmark>> bookmarks = fork(() -> bookmarks(recipeIds, userId));
+            CompletableFuture<Map<UUID, RecipeCard>> cards = fork(() -> cards(recipeIds, recipes));
+
+            return assemble(recipeIds, byId(join(recipes)), join(cards), join(bookmarks));
+        });
+    }
+
+    /**
+     * 검색 결과 카드로 사용자 개요 목록을 만듭니다.
+     *
+     * <p>모든 카드가 개요 값을 갖추고 있으면 카드 값을 그대로 쓰고, 북마크와 현재 조회수만 IN 쿼리로 동시에 조회합니다.
+     * 조회수 증가는 문서를 다시 색인하지 않으므로 카드의 조회수는 현재 값으로 바꿉니다.
+     * 조회수는 성공한 레시피만 조회하므로, 색인 이후 삭제되었거나 상태가 바뀐 레시피는 아웃박스가 문서를 지우기 전이라도 제외합니다.
+     * 카드 필드가 추가되기 전에 색인된 문서가 하나라도 섞여 있으면 {@link #hydrate(List, UUID)}로 전체를 조립합니다.</p>
+     *
+     * @param cards 검색 결과 카드 목록 (검색 순서)
+     * @param userId 사용자 ID
+     * @return 레시피 개요 목록
+     */
+    public List<RecipeOverview> hydrateSearchCards(List<RecipeSearchCard> cards, UUID userId) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> recipeIds = cards.stream().map(RecipeSearchCard::recipeId).toList();
+        if (!cards.stream().allMatch(RecipeSearchCard::hasOverview)) {
+            return hydrate(recipeIds, userId);
+        }
+        return timer("search").record(() -> {
+            CompletableFuture<Map<UUID, RecipeBookmark>> bookmarks = fork(() -> bookmarks(recipeIds, userId));
+            CompletableFuture<Map<UUID, Integer>> viewCounts = fork(() -> recipeInfoService.getViewCounts(recipeIds));
+
+            Map<UUID, RecipeBookmark> bookmarkMap = join(bookmarks);
+            Map<UUID, Integer> viewCountMap = join(viewCounts);
+            List<RecipeOverview> overviews = new ArrayList<>(cards.size());
+            for (RecipeSearchCard card : cards) {
+                Integer viewCount = viewCountMap.get(card.recipeId());
+                if (viewCount == null) {
+                    continue;
+                }
+                overviews.add(RecipeOverview.of(
+                        card.withViewCount(viewCount), bookmarkMap.containsKey(card.recipeId())));
+            }
+            return overviews;
+        });
+    }
+
+    /**
+     * 이미 조회한 레시피 목록으로 사용자 개요 목록을 만듭니다.
+     *
+     * @param recipes 레시피 정보 목록 (표시 순서)
+     * @param userId 사용자 ID
+     * @return 레시피 개요 목록
+     */
+    public List<RecipeOverview> hydrateRecipes(List<RecipeInfo> recipes, UUID userId) {
+        if (recipes.isEmpty()) {
+            return List.of();
+        }
+        return timer("overview").record(() -> {
+            List<UUID> recipeIds = ids(recipes);
+            CompletableFuture<Map<UUID, RecipeBookmark>> bookmarks = fork(() -> bookmarks(recipeIds, userId));
+
+            Map<UUID, RecipeCard> cards = cards(recipes);
+
+            return assemble(recipeIds, byId(recipes), cards, join(bookmarks));
+        });
+    }
+
+    /**
+     * 공개 개요 목록을 만듭니다. 북마크는 조회하지 않습니다.
+     *
+     * @param recipes 공개 레시피 정보 목록 (표시 순서)
+     * @return 공개 레시피 개요 목록
+     */
+    public List<PublicRecipeOverview> hydratePublic(List<RecipeInfo> recipes) {
+        if (recipes.isEmpty()) {
+            return List.of();
+        }
+        return timer("public").record(() -> {
+            Map<UUID, RecipeCard> cards = cards(recipes);
+
+            List<PublicRecipeOverview> overviews = new ArrayList<>(recipes.size());
+            for (RecipeInfo recipe : recipes) {
+                UUID recipeId = recipe.getId();
+                RecipeCard card = cards.get(recipeId);
+                if (card == null || card.youtubeMeta() == null) {
+                    log.warn("공개 레시피 유튜브 메타 누락: recipeId={}", recipeId);
+                    continue;
+                }
+                overviews.add(PublicRecipeOverview.of(recipe, card.youtubeMeta(), card.detailMeta(), card.tags()));
+            }
+            return overviews;
+        });
+    }
+
+    /**
+     * 북마크 목록으로 북마크 개요 목록을 만듭니다.
+     *
+     * <p>완료된 레시피, 생성 중인 레시피, 카드 콘텐츠를 동시에 조회하며, 결과는 북마크 순서를 유지합니다.</p>
+     *
+     * @param bookmarks 북마크 목록
+     * @return 북마크 개요 목록
+     */
+    public List<RecipeBookmarkOverview> hydrateBookmarks(List<RecipeBookmark> bookmarks) {
+        if (bookmarks.isEmpty()) {
+            return List.of();
+        }
+        return timer("bookmark").record(() -> {
+            List<UUID> recipeIds =
+                    bookmarks.stream().map(RecipeBookmark::getRecipeId).toList();
+            CompletableFuture<List<RecipeInfo>> successes = fork(() -> recipeInfoService.gets(recipeIds));
+            CompletableFuture<List<RecipeInfo>> progresses = fork(() -> recipeInfoService.getProgresses(recipeIds));
+            CompletableFuture<Map<UUID, RecipeCard>> cardsFuture = fork(() -> cards(recipeIds, successes));
+
+            Map<UUID, RecipeInfo> recipeMap = byId(join(successes));
+            recipeMap.putAll(byId(join(progresses)));
+            Map<UUID, RecipeCard> cards = join(cardsFuture);
+
+            List<RecipeBookmarkOverview> overviews = new ArrayList<>(bookmarks.size());
+            for (RecipeBookmark bookmark : bookmarks) {
+                UUID recipeId = bookmark.getRecipeId();
+                RecipeInfo recipe = recipeMap.get(recipeId);
+                if (recipe == null) {
+                    log.warn("북마크: 존재하지 않는 레시피 recipeId={}, userId={}", recipeId, bookmark.getUserId());
+                    continue;
+                }
+
+                RecipeCard card = cards.get(recipeId);
+                RecipeYoutubeMeta youtubeMeta = card != null ? card.youtubeMeta() : null;
+                if (youtubeMeta == null) {
+                    log.warn("북마크: 유튜브 메타 엔티티 누락 recipeId={}", recipeId);
+                }
+                RecipeDetailMeta detailMeta = card != null ? card.detailMeta() : null;
+                List<RecipeTag> tags = card != null ? card.tags() : Collections.emptyList();
+
+                overviews.add(RecipeBookmarkOverview.of(recipe, bookmark, youtubeMeta, detailMeta, tags));
+            }
+            return overviews;
+        });
+    }
+
+    private List<RecipeOverview> assemble(
+            List<UUID> recipeIds,
+            Map<UUID, RecipeInfo> recipeMap,
+            Map<UUID, RecipeCard> cards,
+            Map<UUID, RecipeBookmark> bookmarks) {
+        List<RecipeOverview> overviews = new ArrayList<>(recipeIds.size());
+        for (UUID recipeId : recipeIds) {
+            RecipeInfo recipe = recipeMap.get(recipeId);
+            if (recipe == null) {
+                continue;
+            }
+
+            RecipeCard card = cards.get(recipeId);
+            if (card == null || card.youtubeMeta() == null) {
+                log.error("완료된 레시피의 유튜브 메타데이터 누락: recipeId={}", recipeId);
+                continue;
+            }
+            if (card.detailMeta() == null) {
+                log.warn("레시피 상세 메타데이터 누락: recipeId={}", recipeId);
+            }
+            if (card.tags().isEmpty()) {
+                log.error("레시피의 태그 누락: recipeId={}", recipeId);
+            }
+
+            boolean isViewed = bookmarks.containsKey(recipeId);
+            overviews.add(
+                    RecipeOverview.of(recipe, card.youtubeMeta(), card.detailMeta(), card.tags(), isViewed));
+        }
+        return overviews;
+    }
+
+    private Map<UUID, RecipeCard> cards(List<RecipeInfo> recipes) {
+        return recipeContentCache.getCards(recipes, this::fetchCards);
+    }
+
+    /**
+     * 레시피 정보 조회를 기다리지 않고 ID로 카드 콘텐츠를 조회합니다. 새로 읽은 카드의 캐시 저장 여부는
+     * 레시피 정보 조회 결과의 SUCCESS 여부로 정합니다.
+     */
+    private Map<UUID, RecipeCard> cards(List<UUID> recipeIds, CompletableFuture<List<RecipeInfo>> recipes) {
+        return recipeContentCache.getCardsByIds(recipeIds, this::fetchCards, () -> join(recipes).stream()
+                .filter(RecipeInfo::isSuccess)
+                .map(RecipeInfo::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    private Map<UUID, RecipeCard> fetchCards(List<UUID> recipeIds) {
+        CompletableFuture<List<RecipeYoutubeMeta>> youtubeMetas = fork(() -> recipeYoutubeMetaService.gets(recipeIds));
+        CompletableFuture<List<RecipeDetailMeta>> detailMetas = fork(() -> recipeDetailMetaService.getIn(recipeIds));
+        CompletableFuture<List<RecipeTag>> tags = fork(() -> recipeTagService.gets(recipeIds));
+
+        Map<UUID, RecipeYoutubeMeta> youtubeMetaMap = new HashMap<>();
+        join(youtubeMetas).forEach(meta -> youtubeMetaMap.putIfAbsent(meta.getRecipeId(), meta));
+        Map<UUID, RecipeDetailMeta> detailMetaMap = new HashMap<>();
+        join(detailMetas).forEach(meta -> detailMetaMap.putIfAbsent(meta.getRecipeId(), meta));
+        Map<UUID, List<RecipeTag>> tagsMap = new HashMap<>();
+        join(tags).forEach(tag -> tagsMap.computeIfAbsent(tag.getRecipeId(), id -> new ArrayList<>())
+                .add(tag));
+
+        Map<UUID, RecipeCard> cards = new HashMap<>();
+        for (UUID recipeId : recipeIds) {
+            cards.put(
+                    recipeId,
+                    new RecipeCard(
+                            youtubeMetaMap.get(recipeId),
+                            detailMetaMap.get(recipeId),
+                            tagsMap.getOrDefault(recipeId, Collections.emptyList())));
+        }
+        return cards;
+    }
+
+    private Map<UUID, RecipeBookmark> bookmarks(List<UUID> recipeIds, UUID userId) {
+        Map<UUID, RecipeBookmark> bookmarks = new HashMap<>();
+        recipeBookmarkService
+                .gets(recipeIds, userId)
+                .forEach(bookmark -> bookmarks.putIfAbsent(bookmark.getRecipeId(), bookmark));
+        return bookmarks;
+    }
+
+    private static List<UUID> ids(List<RecipeInfo> recipes) {
+        return recipes.stream().map(RecipeInfo::getId).toList();
+    }
+
+    private static Map<UUID, RecipeInfo> byId(List<RecipeInfo> recipes) {
+        Map<UUID, RecipeInfo> map = new HashMap<>();
+        recipes.forEach(recipe -> map.put(recipe.getId(), recipe));
+        return map;
+    }
+
+    private Timer timer(String view) {
+        return Timer.builder(METRIC_NAME).tag("view", view).register(meterRegistry);
+    }
+
+    private <T> CompletableFuture<T> fork(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, recipeReadExecutor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+}
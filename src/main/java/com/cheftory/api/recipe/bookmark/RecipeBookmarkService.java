@@ -11,6 +11,7 @@ import com.cheftory.api.recipe.bookmark.entity.RecipeBookmarkUnCategorizedCountP
 import com.cheftory.api.recipe.bookmark.exception.RecipeBookmarkException;
 import com.cheftory.api.recipe.bookmark.repository.RecipeBookmarkRepository;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -64,6 +65,19 @@ public class RecipeBookmarkService {
         return repository.find(userId, recipeId);
     }
 
+    /**
+     * 활성 레시피 북마크 조회
+     *
+     * <p>{@link #exist}와 {@link #get}을 연달아 호출하는 대신 한 번의 조회로 존재 여부와 북마크를 함께 확인합니다.</p>
+     *
+     * @param userId 사용자 ID
+     * @param recipeId 레시피 ID
+     * @return 활성 북마크, 없으면 빈 값
+     */
+    public Optional<RecipeBookmark> find(UUID userId, UUID recipeId) {
+        return repository.findIfActive(userId, recipeId);
+    }
+
     /**
      * 레시피 북마크 카테고리 설정
      *
@@ -1,6 +1,7 @@
 package com.cheftory.api.recipe.bookmark.entity;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.TimeOrderedUuid;
 import com.cheftory.api._common.region.MarketScope;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -72,7 +73,7 @@ public class RecipeBookmark extends MarketScope {
      */
     public static RecipeBookmark create(Clock clock, UUID userId, UUID recipeId) {
         return new RecipeBookmark(
-                UUID.randomUUID(),
+                TimeOrderedUuid.generate(),
                 clock.now(),
                 0,
                 clock.now(),
@@ -8,6 +8,7 @@ import com.cheftory.api.recipe.bookmark.entity.RecipeBookmarkCategorizedCountPro
 import com.cheftory.api.recipe.bookmark.entity.RecipeBookmarkUnCategorizedCountProjection;
 import com.cheftory.api.recipe.bookmark.exception.RecipeBookmarkException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -97,6 +98,15 @@ public interface RecipeBookmarkRepository {
      */
     RecipeBookmark find(UUID userId, UUID recipeId) throws RecipeBookmarkException;
 
+    /**
+     * 활성 레시피 북마크 조회 (존재 확인과 조회를 한 번의 쿼리로 처리)
+     *
+     * @param userId 사용자 ID
+     * @param recipeId 레시피 ID
+     * @return 활성 북마크, 없으면 빈 값
+     */
+    Optional<RecipeBookmark> findIfActive(UUID userId, UUID recipeId);
+
     /**
      * 최근 레시피 북마크 목록 조회 (커서 기반 페이징)
      *
@@ -7,6 +7,7 @@ import com.cheftory.api.recipe.bookmark.entity.*;
 import com.cheftory.api.recipe.bookmark.exception.RecipeBookmarkErrorCode;
 import com.cheftory.api.recipe.bookmark.exception.RecipeBookmarkException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -121,6 +122,11 @@ public class RecipeBookmarkRepositoryImpl implements RecipeBookmarkRepository {
                 .orElseThrow(() -> new RecipeBookmarkException(RecipeBookmarkErrorCode.RECIPE_BOOKMARK_NOT_FOUND));
     }
 
+    @Override
+    public Optional<RecipeBookmark> findIfActive(UUID userId, UUID recipeId) {
+        return repository.findByRecipeIdAndUserIdAndStatus(recipeId, userId, RecipeBookmarkStatus.ACTIVE);
+    }
+
     @Override
     public CursorPage<RecipeBookmark> keysetRecents(UUID userId, String cursor) throws CursorException {
         Pageable pageable = CursorPageable.firstPage();
@@ -0,0 +1,33 @@
+package com.cheftory.api.recipe.content.cache;
+
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레시피 카드 콘텐츠 묶음.
+ *
+ * <p>레시피 개요(목록 카드)를 만드는 데 필요한 YouTube 메타, 상세 메타, 태그를 묶은 값 객체입니다.
+ * 조회 결과에 메타데이터가 누락될 수 있으므로 {@code youtubeMeta}, {@code detailMeta}는 null일 수 있습니다.</p>
+ *
+ * @param youtubeMeta YouTube 메타데이터 (누락 시 null)
+ * @param detailMeta 상세 메타데이터 (누락 시 null)
+ * @param tags 태그 목록
+ */
+public record RecipeCard(RecipeYoutubeMeta youtubeMeta, RecipeDetailMeta detailMeta, List<RecipeTag> tags) {
+
+    public RecipeCard {
+        tags = new ArrayList<>(tags);
+    }
+
+    /**
+     * 메타데이터가 모두 존재하는지 확인합니다. 누락된 카드는 캐싱하지 않습니다.
+     *
+     * @return 모든 메타데이터가 존재하면 true
+     */
+    boolean complete() {
+        return youtubeMeta != null && detailMeta != null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.cheftory.api.recipe.content.cache;
+
+import com.cheftory.api.recipe.content.briefing.entity.RecipeBriefing;
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.ingredient.entity.RecipeIngredient;
+import com.cheftory.api.recipe.content.step.entity.RecipeStep;
+import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레시피 상세 콘텐츠 묶음.
+ *
+ * <p>레시피 상세/공개 상세 화면에서 사용하는 콘텐츠를 한 번에 캐싱하기 위한 값 객체입니다.
+ * Redis 직렬화 시 불변 컬렉션 타입이 섞이지 않도록 목록은 {@link ArrayList}로 복사해 보관합니다.</p>
+ *
+ * @param steps 레시피 스텝 목록
+ * @param ingredients 재료 목록
+ * @param detailMeta 상세 메타데이터
+ * @param tags 태그 목록
+ * @param briefings 브리핑 목록
+ * @param youtubeMeta YouTube 메타데이터
+ */
+public record RecipeContent(
+        List<RecipeStep> steps,
+        List<RecipeIngredient> ingredients,
+        RecipeDetailMeta detailMeta,
+        List<RecipeTag> tags,
+        List<RecipeBriefing> briefings,
+        RecipeYoutubeMeta youtubeMeta) {
+
+    public RecipeContent {
+        steps = new ArrayList<>(steps);
+        ingredients = new ArrayList<>(ingredients);
+        tags = new ArrayList<>(tags);
+        briefings = new ArrayList<>(briefings);
+    }
+}
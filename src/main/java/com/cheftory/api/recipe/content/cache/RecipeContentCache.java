@@ -0,0 +1,322 @@
+package com.cheftory.api.recipe.content.cache;
+
+import com.cheftory.api.exception.CheftoryException;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 콘텐츠 2단계 read-through 캐시.
+ *
+ * <p>레시피 콘텐츠는 생성이 완료(SUCCESS)된 뒤에는 거의 바뀌지 않으므로, `(market, recipeId)` 키로
+ * 크기 제한 로컬 캐시(Caffeine) → Redis → 로더(MySQL) 순서로 조회합니다. 상세 화면용 {@link RecipeContent}와
+ * 목록 카드용 {@link RecipeCard}를 따로 보관하며, 목록은 로컬 미스분만 한 번의 MGET으로 가져옵니다.</p>
+ *
+ * <p>SUCCESS가 아닌 레시피는 콘텐츠가 아직 만들어지는 중이거나 정리될 수 있으므로 캐싱하지 않고 로더를 그대로 호출합니다.
+ * 레시피 상태 검증은 항상 `recipe` 테이블 조회로 이뤄지므로, 차단 이후 다른 노드의 로컬 캐시에 잠시 남은 콘텐츠가
+ * 응답에 노출되지는 않습니다. 로컬 캐시는 짧은 TTL로 노드 간 불일치 구간을 제한합니다.
+ * 상태를 알기 전에 ID로 읽는 {@link #getCardsByIds}도 저장은 SUCCESS 레시피만 하고, 상태가 바뀌면 {@link #evict}로
+ * 지워지므로 캐시에서 읽은 카드는 SUCCESS였던 시점의 콘텐츠입니다.</p>
+ *
+ * <p>Redis 장애 시에는 경고 로그만 남기고 로더로 폴백합니다. 계층별 적중 여부는 `recipe.content.cache` 카운터에
+ * `type`(content/card), `result`(local/redis/miss/bypass) 태그로 기록됩니다.</p>
+ */
+@Component
+@Slf4j
+public class RecipeContentCache {
+
+    static final String METRIC_NAME = "recipe.content.cache";
+
+    private final RecipeContentCacheRepository repository;
+    private final RecipeContentCacheKeyGenerator keyGenerator;
+    private final Duration redisTtl;
+    private final Tier<RecipeContent> contents;
+    private final Tier<RecipeCard> cards;
+
+    public RecipeContentCache(
+            RecipeContentCacheRepository repository,
+            RecipeContentCacheKeyGenerator keyGenerator,
+            MeterRegistry meterRegistry,
+            @Value("${recipe.content-cache.local-max-size:5000}") long localMaxSize,
+            @Value("${recipe.content-cache.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${recipe.content-cache.redis-ttl-seconds:21600}") long redisTtlSeconds) {
+        this.repository = repository;
+        this.keyGenerator = keyGenerator;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.contents = new Tier<>(
+                "content", RecipeContent.class, content -> true, meterRegistry, localMaxSize, localTtl);
+        this.cards = new Tier<>("card", RecipeCard.class, RecipeCard::complete, meterRegistry, localMaxSize, localTtl);
+    }
+
+    /**
+     * 단건 로더.
+     *
+     * @param <V> 콘텐츠 타입
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws CheftoryException;
+    }
+
+    /**
+     * 다건 로더. 반환 맵에 없는 레시피는 결과에서 빠집니다.
+     *
+     * @param <V> 콘텐츠 타입
+     */
+    @FunctionalInterface
+    public interface BatchLoader<V> {
+        Map<UUID, V> load(List<UUID> recipeIds);
+    }
+
+    /**
+     * 레시피 상세 콘텐츠를 조회합니다.
+     *
+     * @param recipe 레시피 정보
+     * @param loader 캐시 미스 시 원본 조회 로더
+     * @return 레시피 상세 콘텐츠
+     * @throws CheftoryException 로더에서 도메인 예외 발생 시
+     */
+    public RecipeContent getContent(RecipeInfo recipe, Loader<RecipeContent> loader) throws CheftoryException {
+        return contents.get(recipe, keyGenerator.contentKey(recipe.getId()), loader);
+    }
+
+    /**
+     * 레시피 카드 콘텐츠를 조회합니다.
+     *
+     * @param recipe 레시피 정보
+     * @param loader 캐시 미스 시 원본 조회 로더
+     * @return 레시피 카드 콘텐츠
+     * @throws CheftoryException 로더에서 도메인 예외 발생 시
+     */
+    public RecipeCard getCard(RecipeInfo recipe, Loader<RecipeCard> loader) throws CheftoryException {
+        return cards.get(recipe, keyGenerator.cardKey(recipe.getId()), loader);
+    }
+
+    /**
+     * 여러 레시피의 카드 콘텐츠를 조회합니다.
+     *
+     * <p>로컬 캐시 미스분은 한 번의 MGET으로, Redis 미스분은 한 번의 로더 호출로 채웁니다.</p>
+     *
+     * @param recipes 레시피 정보 목록
+     * @param loader 캐시 미스 시 원본 일괄 조회 로더
+     * @return 레시피 ID별 카드 콘텐츠
+     */
+    public Map<UUID, RecipeCard> getCards(List<RecipeInfo> recipes, BatchLoader<RecipeCard> loader) {
+        return cards.getAll(recipes, keyGenerator::cardKey, loader);
+    }
+
+    /**
+     * 레시피 ID 목록으로 여러 레시피의 카드 콘텐츠를 조회합니다.
+     *
+     * <p>레시피 정보 조회와 동시에 시작할 수 있도록 상태를 모르는 채로 캐시를 읽고, 미스분은 한 번의 로더 호출로 채웁니다.
+     * 로더로 새로 읽은 카드는 저장 직전에 {@code successIds}로 받은 SUCCESS 레시피의 것만 저장합니다.
+     * {@code successIds}는 로더를 호출한 경우에만 호출되며, 레시피 정보 조회가 끝날 때까지 기다릴 수 있습니다.</p>
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @param loader 캐시 미스 시 원본 일괄 조회 로더
+     * @param successIds SUCCESS 레시피 ID 집합 공급자
+     * @return 레시피 ID별 카드 콘텐츠
+     */
+    public Map<UUID, RecipeCard> getCardsByIds(
+            List<UUID> recipeIds, BatchLoader<RecipeCard> loader, Supplier<Set<UUID>> successIds) {
+        return cards.getAll(recipeIds, List.of(), keyGenerator::cardKey, loader, () -> successIds.get()::contains);
+    }
+
+    /**
+     * 레시피의 캐시 항목을 모든 계층에서 제거합니다.
+     *
+     * <p>차단, 밴, 생성 실패, 재시도(새 작업 시작) 시 호출됩니다. 다른 노드의 로컬 캐시는 로컬 TTL이 지나면 정리됩니다.</p>
+     *
+     * @param recipeId 레시피 ID
+     */
+    public void evict(UUID recipeId) {
+        String contentKey = keyGenerator.contentKey(recipeId);
+        String cardKey = keyGenerator.cardKey(recipeId);
+        contents.local.invalidate(contentKey);
+        cards.local.invalidate(cardKey);
+        try {
+            repository.deleteAll(List.of(contentKey, cardKey));
+        } catch (RuntimeException e) {
+            log.warn("레시피 콘텐츠 캐시 삭제 실패: recipeId={}", recipeId, e);
+        }
+    }
+
+    private final class Tier<V> {
+        private final String name;
+        private final Class<V> type;
+        private final Predicate<V> cacheable;
+        private final Cache<String, V> local;
+        private final Counter localHits;
+        private final Counter redisHits;
+        private final Counter misses;
+        private final Counter bypasses;
+
+        private Tier(
+                String name,
+                Class<V> type,
+                Predicate<V> cacheable,
+                MeterRegistry meterRegistry,
+                long maxSize,
+                Duration ttl) {
+            this.name = name;
+            this.type = type;
+            this.cacheable = cacheable;
+            this.local = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .build();
+            this.localHits = counter(meterRegistry, "local");
+            this.redisHits = counter(meterRegistry, "redis");
+            this.misses = counter(meterRegistry, "miss");
+            this.bypasses = counter(meterRegistry, "bypass");
+        }
+
+        private Counter counter(MeterRegistry meterRegistry, String result) {
+            return Counter.builder(METRIC_NAME)
+                    .tag("type", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        private V get(RecipeInfo recipe, String key, Loader<V> loader) throws CheftoryException {
+            if (!recipe.isSuccess()) {
+                bypasses.increment();
+                return loader.load();
+            }
+
+            V cached = local.getIfPresent(key);
+            if (cached != null) {
+                localHits.increment();
+                return cached;
+            }
+
+            V remote = readRemote(List.of(key)).get(key);
+            if (remote != null) {
+                local.put(key, remote);
+                redisHits.increment();
+                return remote;
+            }
+
+            V loaded = loader.load();
+            misses.increment();
+            if (loaded != null) {
+                store(Map.of(key, loaded));
+            }
+            return loaded;
+        }
+
+        private Map<UUID, V> getAll(
+                List<RecipeInfo> recipes, Function<UUID, String> keyFunction, BatchLoader<V> loader) {
+            List<UUID> cached = new ArrayList<>();
+            List<UUID> bypassed = new ArrayList<>();
+            for (RecipeInfo recipe : recipes) {
+                if (recipe.isSuccess()) {
+                    cached.add(recipe.getId());
+                } else {
+                    bypassed.add(recipe.getId());
+                }
+            }
+            return getAll(cached, bypassed, keyFunction, loader, () -> recipeId -> true);
+        }
+
+        private Map<UUID, V> getAll(
+                List<UUID> cached,
+                List<UUID> bypassed,
+                Function<UUID, String> keyFunction,
+                BatchLoader<V> loader,
+                Supplier<Predicate<UUID>> storable) {
+            Map<UUID, V> result = new HashMap<>();
+            Map<String, UUID> pending = new LinkedHashMap<>();
+            cached.forEach(recipeId -> pending.put(keyFunction.apply(recipeId), recipeId));
+
+            if (!pending.isEmpty()) {
+                Map<String, V> hits = local.getAllPresent(pending.keySet());
+                hits.forEach((key, value) -> result.put(pending.remove(key), value));
+                localHits.increment(hits.size());
+            }
+
+            if (!pending.isEmpty()) {
+                Map<String, V> hits = readRemote(new ArrayList<>(pending.keySet()));
+                local.putAll(hits);
+                hits.forEach((key, value) -> result.put(pending.remove(key), value));
+                redisHits.increment(hits.size());
+            }
+
+            List<UUID> missing = new ArrayList<>(pending.values());
+            missing.addAll(bypassed);
+            if (missing.isEmpty()) {
+                return result;
+            }
+
+            Map<UUID, V> loaded = loader.load(missing);
+            result.putAll(loaded);
+            misses.increment(pending.size());
+            bypasses.increment(bypassed.size());
+
+            Predicate<UUID> storableId = storable.get();
+            Map<String, V> fresh = new HashMap<>();
+            pending.forEach((key, recipeId) -> {
+                V value = loaded.get(recipeId);
+                if (value != null && storableId.test(recipeId)) {
+                    fresh.put(key, value);
+                }
+            });
+            store(fresh);
+            return result;
+        }
+
+        private Map<String, V> readRemote(List<String> keys) {
+            Map<String, V> found = new HashMap<>();
+            try {
+                List<Object> values = repository.getAll(keys);
+                if (values == null) {
+                    return found;
+                }
+                for (int i = 0; i < keys.size() && i < values.size(); i++) {
+                    Object value = values.get(i);
+                    if (type.isInstance(value)) {
+                        found.put(keys.get(i), type.cast(value));
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("레시피 콘텐츠 캐시 조회 실패, 원본 조회로 대체: type={}, keys={}", name, keys.size(), e);
+            }
+            return found;
+        }
+
+        private void store(Map<String, V> values) {
+            Map<String, Object> storable = new HashMap<>();
+            values.forEach((key, value) -> {
+                if (cacheable.test(value)) {
+                    storable.put(key, value);
+                    local.put(key, value);
+                }
+            });
+            if (storable.isEmpty()) {
+                return;
+            }
+            try {
+                repository.saveAll(storable, redisTtl);
+            } catch (RuntimeException e) {
+                log.warn("레시피 콘텐츠 캐시 저장 실패: type={}, keys={}", name, storable.size(), e);
+            }
+        }
+    }
+}
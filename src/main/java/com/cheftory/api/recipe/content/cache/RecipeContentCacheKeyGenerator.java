@@ -0,0 +1,43 @@
+package com.cheftory.api.recipe.content.cache;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 콘텐츠 캐시 키 생성기.
+ *
+ * <p>로컬 캐시와 Redis가 같은 키를 사용하며, 키는 현재 마켓과 레시피 ID로 구성됩니다.</p>
+ */
+@Component
+public class RecipeContentCacheKeyGenerator {
+
+    /** 키 구분자 */
+    private static final String DELIMITER = ":";
+
+    /**
+     * 레시피 상세 콘텐츠 키를 생성합니다.
+     *
+     * @param recipeId 레시피 ID
+     * @return 상세 콘텐츠 키
+     */
+    public String contentKey(UUID recipeId) {
+        return buildKey("recipe", "content", recipeId.toString());
+    }
+
+    /**
+     * 레시피 카드 키를 생성합니다.
+     *
+     * @param recipeId 레시피 ID
+     * @return 카드 키
+     */
+    public String cardKey(UUID recipeId) {
+        return buildKey("recipe", "card", recipeId.toString());
+    }
+
+    private String buildKey(String... parts) {
+        Market market = MarketContext.required().market();
+        return market.name().toLowerCase() + DELIMITER + String.join(DELIMITER, parts);
+    }
+}
@@ -0,0 +1,60 @@
+package com.cheftory.api.recipe.content.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 레시피 콘텐츠 캐시 Redis 리포지토리.
+ *
+ * <p>값은 {@code GenericJacksonJsonRedisSerializer}로 직렬화되며, 조회 결과 타입이 기대와 다르면 호출부에서 미스로 처리합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipeContentCacheRepository {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 여러 키를 한 번의 MGET으로 조회합니다.
+     *
+     * @param keys 키 목록
+     * @return 키 순서와 같은 값 목록 (없는 키는 null)
+     */
+    public List<Object> getAll(List<String> keys) {
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
+    /**
+     * 여러 값을 파이프라인으로 한 번에 저장합니다.
+     *
+     * @param values 키-값 맵
+     * @param ttl TTL
+     */
+    public void saveAll(Map<String, Object> values, Duration ttl) {
+        if (values.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) -> ops.opsForValue().set(key, value, ttl));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 키들을 삭제합니다.
+     *
+     * @param keys 키 목록
+     */
+    public void deleteAll(List<String> keys) {
+        redisTemplate.delete(keys);
+    }
+}
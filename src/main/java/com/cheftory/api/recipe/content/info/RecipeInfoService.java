@@ -10,17 +10,23 @@ import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
 import com.cheftory.api.recipe.content.info.repository.RecipeInfoRepository;
 import com.cheftory.api.recipe.dto.RecipeCuisineType;
 import com.cheftory.api.recipe.dto.RecipeInfoVideoQuery;
+import com.cheftory.api.recipe.search.RecipeSearchIndexPort;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 레시피 기본 정보 도메인 서비스.
  *
  * <p>`recipe`의 상태 전이(`IN_PROGRESS/SUCCESS/FAILED/BANNED/BLOCKED`), 소스 식별자(`sourceType/sourceKey`)
  * 기반 조회, retry(조건부 `FAILED -> IN_PROGRESS`)를 담당합니다.</p>
+ *
+ * <p>검색 노출 여부가 바뀌는 상태 전이(`SUCCESS/FAILED/BANNED/BLOCKED`)는 같은 트랜잭션에서
+ * {@link RecipeSearchIndexPort}로 재색인을 요청합니다.</p>
  */
 @Service
 @Slf4j
@@ -29,6 +35,8 @@ public class RecipeInfoService {
     private final RecipeInfoRepository repository;
     private final Clock clock;
     private final I18nTranslator translator;
+    private final RecipeViewCountBuffer viewCountBuffer;
+    private final RecipeSearchIndexPort searchIndexPort;
 
     /**
      * 성공 상태의 레시피 정보 조회
@@ -58,10 +66,12 @@ public class RecipeInfoService {
     /**
      * 레시피 조회수 증가
      *
+     * <p>증가분은 {@link RecipeViewCountBuffer}에 누적되었다가 주기적으로 일괄 반영됩니다.</p>
+     *
      * @param recipeId 레시피 ID
      */
     public void increaseCount(UUID recipeId) {
-        repository.increaseCount(recipeId);
+        viewCountBuffer.increment(recipeId);
     }
 
     public RecipeInfo create(RecipeSourceType sourceType, String sourceKey) throws RecipeInfoException {
@@ -90,6 +100,16 @@ public class RecipeInfoService {
         return repository.gets(recipeIds);
     }
 
+    /**
+     * 성공한 레시피별 현재 조회수 조회
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @return 레시피 ID별 조회수 (없거나 성공 상태가 아닌 레시피는 제외)
+     */
+    public Map<UUID, Integer> getViewCounts(List<UUID> recipeIds) {
+        return repository.getViewCounts(recipeIds);
+    }
+
     /**
      * 인기 레시피 목록 조회 (커서 기반 페이징)
      *
@@ -110,8 +130,11 @@ public class RecipeInfoService {
      * @return 업데이트된 레시피 정보 엔티티
      * @throws RecipeInfoException 레시피를 찾을 수 없을 때
      */
+    @Transactional(rollbackFor = RecipeInfoException.class)
     public RecipeInfo success(UUID recipeId) throws RecipeInfoException {
-        return repository.success(recipeId, clock);
+        RecipeInfo recipeInfo = repository.success(recipeId, clock);
+        searchIndexPort.requestIndexing(recipeId);
+        return recipeInfo;
     }
 
     /**
@@ -121,8 +144,11 @@ public class RecipeInfoService {
      * @return 업데이트된 레시피 정보 엔티티
      * @throws RecipeInfoException 레시피를 찾을 수 없을 때
      */
+    @Transactional(rollbackFor = RecipeInfoException.class)
     public RecipeInfo failed(UUID recipeId) throws RecipeInfoException {
-        return repository.failed(recipeId, clock);
+        RecipeInfo recipeInfo = repository.failed(recipeId, clock);
+        searchIndexPort.requestIndexing(recipeId);
+        return recipeInfo;
     }
 
     /**
@@ -131,12 +157,16 @@ public class RecipeInfoService {
      * @param recipeId 레시피 ID
      * @throws RecipeInfoException 레시피를 찾을 수 없을 때
      */
+    @Transactional(rollbackFor = RecipeInfoException.class)
     public void block(UUID recipeId) throws RecipeInfoException {
         repository.block(recipeId, clock);
+        searchIndexPort.requestIndexing(recipeId);
     }
 
+    @Transactional(rollbackFor = RecipeInfoException.class)
     public void banned(UUID recipeId) throws RecipeInfoException {
         repository.banned(recipeId, clock);
+        searchIndexPort.requestIndexing(recipeId);
     }
 
     /**
@@ -0,0 +1,164 @@
+package com.cheftory.api.recipe.content.info;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.recipe.content.info.repository.RecipeInfoRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 조회수 write-behind 버퍼.
+ *
+ * <p>조회 요청마다 `recipe.view_count`를 즉시 갱신하는 대신 마켓별로 증가분을 메모리에 모아 두고,
+ * `recipe.view-count.flush-interval-ms` 주기로 `UPDATE ... CASE` 한 문장씩 일괄 반영합니다.
+ * 증가분은 레시피별 {@link LongAdder}에 누적되므로 인기 레시피에 조회가 몰려도 단일 행 잠금 경합이 생기지 않습니다.</p>
+ *
+ * <p>유실 구간은 최대 한 flush 주기이며, 종료 시에는 남은 증가분을 모두 반영합니다.
+ * 반영에 실패한 증가분은 버퍼로 되돌려 다음 주기에 다시 시도합니다. 한 주기 동안 조회가 없던 레시피는 버퍼에서 제거하므로
+ * 버퍼 크기는 최근 flush 주기에 조회된 레시피 수로 제한됩니다.</p>
+ */
+@Component
+@Slf4j
+public class RecipeViewCountBuffer {
+
+    private final RecipeInfoRepository repository;
+    private final int flushBatchSize;
+    private final Map<Market, MarketBucket> buckets = new ConcurrentHashMap<>();
+
+    public RecipeViewCountBuffer(
+            RecipeInfoRepository repository,
+            @Value("${recipe.view-count.flush-batch-size:500}") int flushBatchSize) {
+        this.repository = repository;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 현재 마켓의 레시피 조회수 증가분을 1 누적합니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    public void increment(UUID recipeId) {
+        MarketContext.Info info = MarketContext.required();
+        buckets.computeIfAbsent(info.market(), market -> new MarketBucket(info)).add(recipeId, 1);
+    }
+
+    /**
+     * 누적된 증가분을 마켓별로 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${recipe.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        buckets.values().forEach(this::flush);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분을 반영합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void flush(MarketBucket bucket) {
+        Map<UUID, Long> deltas = bucket.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map<UUID, Long>> chunks = partition(deltas);
+        try (var ignored = MarketContext.with(bucket.info)) {
+            for (int i = 0; i < chunks.size(); i++) {
+                try {
+                    repository.increaseCounts(chunks.get(i));
+                } catch (RuntimeException e) {
+                    log.warn(
+                            "조회수 반영 실패, 다음 주기에 재시도: market={}, recipes={}",
+                            bucket.info.market(),
+                            chunks.get(i).size(),
+                            e);
+                    chunks.subList(i, chunks.size()).forEach(bucket::restore);
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<Map<UUID, Long>> partition(Map<UUID, Long> deltas) {
+        List<Map<UUID, Long>> chunks = new ArrayList<>();
+        Map<UUID, Long> current = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() == flushBatchSize) {
+                chunks.add(current);
+                current = new LinkedHashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static final class MarketBucket {
+        private final MarketContext.Info info;
+        private final Map<UUID, LongAdder> counters = new ConcurrentHashMap<>();
+
+        private MarketBucket(MarketContext.Info info) {
+            this.info = info;
+        }
+
+        /**
+         * 레시피의 증가분을 누적합니다.
+         *
+         * <p>더한 뒤에도 {@link LongAdder}가 버퍼에 남아 있으면 {@link #drain()}이 반영합니다. 그 사이 {@link #drain()}이
+         * 제거했다면 제거된 {@link LongAdder}에 남은 값을 {@link LongAdder#sumThenReset()}으로 회수해 새 항목에 다시 더합니다.
+         * {@link LongAdder#sumThenReset()}은 셀 단위로 값을 교체하며 꺼내므로, 제거 후 재확인하는 {@link #drain()}과
+         * 회수하는 스레드가 같은 증가분을 두 번 가져가지 않습니다.</p>
+         */
+        private void add(UUID recipeId, long delta) {
+            long pending = delta;
+            while (pending > 0) {
+                LongAdder adder = counters.computeIfAbsent(recipeId, id -> new LongAdder());
+                adder.add(pending);
+                if (counters.get(recipeId) == adder) {
+                    return;
+                }
+                pending = adder.sumThenReset();
+            }
+        }
+
+        /**
+         * 누적된 증가분을 꺼내고 0으로 초기화합니다.
+         *
+         * <p>{@link LongAdder#sumThenReset()}은 셀 단위로 값을 꺼내므로 동시에 들어온 증가분은 이번 또는 다음 주기에 반영됩니다.
+         * 이번 주기 증가분이 0인 항목은 버퍼에서 제거하고, 제거 직전에 들어온 증가분은 제거 후 다시 꺼내 이번 주기에 함께 반영합니다.
+         * 제거된 {@link LongAdder}에 늦게 더해진 값은 {@link #add(UUID, long)}가 회수합니다.</p>
+         */
+        private Map<UUID, Long> drain() {
+            Map<UUID, Long> deltas = new LinkedHashMap<>();
+            counters.forEach((recipeId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta == 0 && counters.remove(recipeId, adder)) {
+                    delta = adder.sumThenReset();
+                }
+                if (delta > 0) {
+                    deltas.put(recipeId, delta);
+                }
+            });
+            return deltas;
+        }
+
+        private void restore(Map<UUID, Long> deltas) {
+            deltas.forEach(this::add);
+        }
+    }
+}
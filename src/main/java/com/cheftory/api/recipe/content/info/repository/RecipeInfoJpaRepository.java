@@ -46,6 +46,9 @@ public interface RecipeInfoJpaRepository extends JpaRepository<RecipeInfo, UUID>
 
     List<RecipeInfo> findRecipesByIdInAndRecipeStatus(List<UUID> recipeIds, RecipeStatus statuses);
 
+    @Query("select r.id, r.viewCount from RecipeInfo r where r.id in :ids and r.recipeStatus = :status")
+    List<Object[]> findViewCounts(@Param("ids") List<UUID> ids, @Param("status") RecipeStatus status);
+
     Optional<RecipeInfo> findBySourceKeyAndSourceType(String sourceKey, RecipeSourceType sourceType);
 
     Optional<RecipeInfo> findByIdAndCurrentJobId(UUID recipeId, UUID jobId);
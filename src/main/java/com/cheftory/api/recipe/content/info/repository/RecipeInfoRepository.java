@@ -8,6 +8,7 @@ import com.cheftory.api.recipe.content.info.entity.RecipeSourceType;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
 import com.cheftory.api.recipe.dto.RecipeInfoVideoQuery;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,6 +33,21 @@ public interface RecipeInfoRepository {
      */
     void increaseCount(UUID recipeId);
 
+    /**
+     * 레시피별 조회수 증가분을 한 번의 `UPDATE ... CASE` 문으로 반영
+     *
+     * @param deltas 레시피 ID별 조회수 증가분
+     */
+    void increaseCounts(Map<UUID, Long> deltas);
+
+    /**
+     * 성공한 레시피별 현재 조회수 조회
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @return 레시피 ID별 조회수 (없거나 성공 상태가 아닌 레시피는 제외)
+     */
+    Map<UUID, Integer> getViewCounts(List<UUID> recipeIds);
+
     /**
      * 레시피 정보 저장
      *
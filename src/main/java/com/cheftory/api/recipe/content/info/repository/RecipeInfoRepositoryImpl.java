@@ -1,6 +1,7 @@
 package com.cheftory.api.recipe.content.info.repository;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.aspect.DbThrottled;
 import com.cheftory.api._common.cursor.*;
 import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
 import com.cheftory.api.recipe.content.info.entity.RecipeSourceType;
@@ -8,13 +9,18 @@ import com.cheftory.api.recipe.content.info.entity.RecipeStatus;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoErrorCode;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
 import com.cheftory.api.recipe.dto.RecipeInfoVideoQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 레시피 기본 정보 Repository 구현체
@@ -26,6 +32,7 @@ public class RecipeInfoRepositoryImpl implements RecipeInfoRepository {
 
     private final RecipeInfoJpaRepository repository;
     private final CountIdCursorCodec countIdCursorCodec;
+    private final EntityManager entityManager;
 
     /**
      * 레시피 ID로 정보 조회
@@ -59,6 +66,50 @@ public class RecipeInfoRepositoryImpl implements RecipeInfoRepository {
         repository.increaseCount(recipeId);
     }
 
+    /**
+     * 레시피별 조회수 증가분 일괄 반영
+     *
+     * <p>`view_count = view_count + CASE id WHEN ... THEN ... END` 형태의 단일 UPDATE로 반영합니다.</p>
+     *
+     * @param deltas 레시피 ID별 조회수 증가분
+     */
+    @Override
+    @DbThrottled
+    @Transactional
+    public void increaseCounts(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        StringBuilder jpql = new StringBuilder("update RecipeInfo r set r.viewCount = r.viewCount + case r.id");
+        for (int i = 0; i < deltas.size(); i++) {
+            jpql.append(" when :id").append(i).append(" then :delta").append(i);
+        }
+        jpql.append(" else 0 end where r.id in :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        int i = 0;
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            query.setParameter("id" + i, entry.getKey());
+            query.setParameter("delta" + i, Math.toIntExact(entry.getValue()));
+            i++;
+        }
+        query.setParameter("ids", List.copyOf(deltas.keySet()));
+        query.executeUpdate();
+    }
+
+    @Override
+    public Map<UUID, Integer> getViewCounts(List<UUID> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Integer> viewCounts = new HashMap<>();
+        repository
+                .findViewCounts(recipeIds, RecipeStatus.SUCCESS)
+                .forEach(row -> viewCounts.put((UUID) row[0], (Integer) row[1]));
+        return viewCounts;
+    }
+
     /**
      * 레시피 정보 저장
      *
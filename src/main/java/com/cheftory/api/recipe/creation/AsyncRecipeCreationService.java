@@ -3,6 +3,7 @@ package com.cheftory.api.recipe.creation;
 import com.cheftory.api.credit.exception.CreditException;
 import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
 import com.cheftory.api.recipe.bookmark.entity.RecipeBookmark;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
 import com.cheftory.api.recipe.content.info.RecipeInfoService;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
 import com.cheftory.api.recipe.content.verify.exception.RecipeVerifyErrorCode;
@@ -18,14 +19,14 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
  * 비동기 레시피 생성 서비스.
  *
- * <p>레시피 생성 워크플로우를 비동기로 실행하는 오케스트레이터입니다.
- * 파이프라인 실행 실패 시 `recipeStatus` 전이(`FAILED`/`BANNED`)와 환불/북마크 정리를 담당합니다.</p>
+ * <p>레시피 생성 워크플로우를 실행하는 오케스트레이터입니다. 요청 스레드가 아니라
+ * {@link com.cheftory.api.recipe.creation.queue.RecipeCreationJobWorker}가 큐에서 임대한 작업으로 호출합니다.
+ * 파이프라인 실행 실패 시 `recipeStatus` 전이(`FAILED`/`BANNED`)와 환불/북마크/콘텐츠 캐시 정리를 담당합니다.</p>
  */
 @RequiredArgsConstructor
 @Service
@@ -38,11 +39,12 @@ public class AsyncRecipeCreationService {
     private final RecipeCreditPort creditPort;
     private final RecipeCreationPipeline recipeCreationPipeline;
     private final RecipeCreationNotificationService recipeCreationNotificationService;
+    private final RecipeContentCache recipeContentCache;
 
     /**
-     * 비동기로 레시피 생성 파이프라인을 실행합니다.
+     * 레시피 생성 파이프라인을 실행합니다.
      *
-     * <p>외부 API 호출을 포함하는 레시피 생성 작업을 비동기로 수행하며,
+     * <p>외부 API 호출을 포함하는 레시피 생성 작업을 호출 스레드에서 수행하며,
      * 실패 시 크레딧 환불 및 상태 정리를 수행합니다.</p>
      *
      * @param recipeId 레시피 ID
@@ -50,7 +52,6 @@ public class AsyncRecipeCreationService {
      * @param videoId YouTube 비디오 ID
      * @param jobId 이번 비동기 생성 실행을 식별하는 진행 상태 그룹 ID
      */
-    @Async("recipeCreateExecutor")
     public void create(UUID recipeId, long creditCost, String videoId, UUID jobId) {
         try {
             recipeCreationPipeline.run(RecipeCreationExecutionContext.of(recipeId, videoId, jobId));
@@ -72,9 +73,23 @@ public class AsyncRecipeCreationService {
         }
     }
 
+    /**
+     * 파이프라인을 다시 돌리지 않고 레시피 생성을 실패로 마감합니다.
+     *
+     * <p>실행하던 노드가 거듭 사라져 재시도 한도를 넘긴 작업에 사용하며, 실패 시와 같이 환불과 정리를 수행합니다.</p>
+     *
+     * @param recipeId 레시피 ID
+     * @param creditCost 소비된 크레딧 양
+     * @param jobId 마감할 실행의 진행 상태 그룹 ID
+     */
+    public void abandon(UUID recipeId, long creditCost, UUID jobId) {
+        failedRecipe(recipeId, creditCost, jobId);
+    }
+
     private void bannedRecipe(UUID recipeId, long creditCost, UUID jobId) {
         try {
             recipeInfoService.banned(recipeId);
+            recipeCreationPipeline.discard(recipeId);
             cleanup(recipeId, creditCost, jobId);
         } catch (RecipeInfoException e) {
             log.error("banned handling failed. recipeId={}", recipeId, e);
@@ -91,6 +106,7 @@ public class AsyncRecipeCreationService {
     }
 
     private void cleanup(UUID recipeId, long creditCost, UUID jobId) {
+        recipeContentCache.evict(recipeId);
         recipeProgressService.failed(recipeId, RecipeProgressStep.FINISHED, RecipeProgressDetail.FINISHED, jobId);
         List<RecipeBookmark> bookmarks = recipeBookmarkService.gets(recipeId);
         recipeBookmarkService.deletes(
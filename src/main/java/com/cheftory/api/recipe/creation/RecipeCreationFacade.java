@@ -3,12 +3,14 @@ package com.cheftory.api.recipe.creation;
 import com.cheftory.api.credit.exception.CreditErrorCode;
 import com.cheftory.api.credit.exception.CreditException;
 import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
 import com.cheftory.api.recipe.content.info.RecipeInfoService;
 import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
 import com.cheftory.api.recipe.content.info.entity.RecipeSourceType;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoErrorCode;
 import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
 import com.cheftory.api.recipe.creation.credit.RecipeCreditPort;
+import com.cheftory.api.recipe.creation.queue.RecipeCreationJobQueue;
 import com.cheftory.api.recipe.dto.RecipeCreationTarget;
 import com.cheftory.api.recipe.exception.RecipeErrorCode;
 import com.cheftory.api.recipe.exception.RecipeException;
@@ -22,18 +24,19 @@ import org.springframework.stereotype.Service;
  *
  * <p>`recipe(source_key=videoId)`를 기준으로 중복 생성 요청을 합류(join)시키고,
  * 상태(`SUCCESS/IN_PROGRESS/FAILED/BANNED/BLOCKED`)에 따라 신규 생성/재시도/차단을 라우팅합니다.
- * 실제 레시피 생성 작업은 {@link AsyncRecipeCreationService}로 비동기 위임합니다.</p>
+ * 실제 레시피 생성 작업은 {@link RecipeCreationJobQueue}에 넣어 워커가 비동기로 실행합니다.</p>
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RecipeCreationFacade {
 
-    private final AsyncRecipeCreationService asyncRecipeCreationService;
+    private final RecipeCreationJobQueue recipeCreationJobQueue;
     private final RecipeBookmarkService recipeBookmarkService;
     private final RecipeYoutubeMetaService recipeYoutubeMetaService;
     private final RecipeInfoService recipeInfoService;
     private final RecipeCreditPort creditPort;
+    private final RecipeContentCache recipeContentCache;
 
     /**
      * 레시피 생성 대상에 따라 북마크를 생성하거나 새 레시피를 생성합니다.
@@ -114,7 +117,7 @@ public class RecipeCreationFacade {
             RecipeInfo recipeInfo = recipeInfoService.create(RecipeSourceType.YOUTUBE, videoId);
             createBookmark(target, recipeInfo);
             try {
-                asyncRecipeCreationService.create(
+                recipeCreationJobQueue.enqueue(
                         recipeInfo.getId(), recipeInfo.getCreditCost(), videoId, recipeInfo.getCurrentJobId());
             } catch (RuntimeException e) {
                 recipeInfoService.failed(recipeInfo.getId());
@@ -164,16 +167,17 @@ public class RecipeCreationFacade {
      * 실패한 레시피를 같은 recipeId로 재시도합니다.
      *
      * <p>조건부 상태 전이(FAILED -> IN_PROGRESS)에 성공한 요청만 비동기 작업을 재제출합니다.
-     * 이때 `currentJobId`가 새 값으로 갱신되며, 재조회 후 갱신된 `jobId`로 async 작업을 시작합니다.
+     * 이때 `currentJobId`가 새 값으로 갱신되며, 이전 작업의 콘텐츠 캐시를 비운 뒤 갱신된 `jobId`로 async 작업을 시작합니다.
      * 이후 재조회된 상태를 기준으로 최종 join/실패/차단을 결정합니다.</p>
      */
     private UUID retryRecipe(RecipeCreationTarget target, String videoId, RecipeInfo failedRecipe)
             throws RecipeException, CreditException {
         boolean retried = recipeInfoService.retry(failedRecipe.getId());
         if (retried) {
+            recipeContentCache.evict(failedRecipe.getId());
             RecipeInfo recipeInfo = recipeInfoService.getBySource(videoId, RecipeSourceType.YOUTUBE);
             try {
-                asyncRecipeCreationService.create(
+                recipeCreationJobQueue.enqueue(
                         recipeInfo.getId(), failedRecipe.getCreditCost(), videoId, recipeInfo.getCurrentJobId());
             } catch (Exception e) {
                 recipeInfoService.failed(failedRecipe.getId());
@@ -1,10 +1,14 @@
 package com.cheftory.api.recipe.creation.pipeline;
 
+import com.cheftory.api.recipe.creation.pipeline.checkpoint.RecipeCreationCheckpointService;
+import com.cheftory.api.recipe.creation.pipeline.checkpoint.RecipeCreationCheckpointTracker;
+import com.cheftory.api.recipe.creation.pipeline.checkpoint.RecipeCreationStage;
 import com.cheftory.api.recipe.creation.progress.RecipeProgressService;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressDetail;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressStep;
 import com.cheftory.api.recipe.exception.RecipeException;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
@@ -20,32 +24,62 @@ public class RecipeCreationPipeline {
     private final RecipeCreationBriefingStep recipeCreationBriefingStep;
     private final RecipeCreationFinalizeStep recipeCreationFinalizeStep;
     private final RecipeCreationCleanupStep recipeCreationCleanupStep;
+    private final RecipeCreationCheckpointService recipeCreationCheckpointService;
     private final AsyncTaskExecutor recipeCreateExecutor;
 
     /**
      * 레시피 생성 워크플로우를 실행합니다.
      *
      * <p>`READY` progress 기록 후 `LOAD_YOUTUBE_META -> VERIFY -> (DETAIL/INSTRUCTION/BRIEFING 병렬) -> FINALIZE`
-     * 순서로 실행하며, 마지막에는 성공/실패와 무관하게 cleanup step을 호출합니다.</p>
+     * 순서로 실행합니다. 단계가 끝날 때마다 체크포인트를 남기고, 이전 실행(재시도, 임대 만료 후 재실행)에서 끝난 단계는
+     * 진행 상태만 성공으로 남기고 건너뜁니다. 업로드한 영상 파일은 다음 실행이 재사용할 수 있도록 성공했을 때만 정리합니다.
+     * 진행 이력은 단계가 끝날 때마다 모아서 저장합니다.</p>
      */
     public void run(RecipeCreationExecutionContext context) throws RecipeException {
         recipeProgressService.start(
                 context.getRecipeId(), RecipeProgressStep.READY, RecipeProgressDetail.READY, context.getJobId());
 
-        RecipeCreationExecutionContext updated = recipeCreationLoadYoutubeMetaStep.run(context);
-        updated = recipeCreationVerifyStep.run(updated);
-        try {
-            new RecipeCreationParallelSteps(
-                            recipeCreateExecutor,
-                            List.of(
-                                    recipeCreationDetailStep,
-                                    recipeCreationInstructionStep,
-                                    recipeCreationBriefingStep))
-                    .run(updated);
-
-            recipeCreationFinalizeStep.run(updated);
-        } finally {
-            recipeCreationCleanupStep.cleanup(updated);
-        }
+        RecipeCreationCheckpointTracker checkpoint = recipeCreationCheckpointService.open(context);
+        RecipeCreationExecutionContext updated = checkpoint.restore(context);
+
+        updated = checkpointed(checkpoint, RecipeCreationStage.YOUTUBE_META, recipeCreationLoadYoutubeMetaStep)
+                .run(updated);
+        updated = checkpointed(checkpoint, RecipeCreationStage.VERIFY, recipeCreationVerifyStep)
+                .run(updated);
+        new RecipeCreationParallelSteps(
+                        recipeCreateExecutor,
+                        List.of(
+                                checkpointed(checkpoint, RecipeCreationStage.DETAIL, recipeCreationDetailStep),
+                                checkpointed(
+                                        checkpoint, RecipeCreationStage.INSTRUCTION, recipeCreationInstructionStep),
+                                checkpointed(checkpoint, RecipeCreationStage.BRIEFING, recipeCreationBriefingStep)))
+                .run(updated);
+
+        recipeCreationFinalizeStep.run(updated);
+        recipeCreationCleanupStep.cleanup(updated);
+        recipeCreationCheckpointService.finish(context.getRecipeId());
+    }
+
+    /**
+     * 레시피 생성을 다시 이어가지 않을 때(차단 등) 남은 영상 파일과 체크포인트를 정리합니다.
+     */
+    public void discard(UUID recipeId) {
+        recipeCreationCheckpointService.discard(recipeId);
+    }
+
+    private RecipeCreationPipelineStep checkpointed(
+            RecipeCreationCheckpointTracker checkpoint, RecipeCreationStage stage, RecipeCreationPipelineStep step) {
+        return context -> {
+            if (checkpoint.isCompleted(stage)) {
+                recipeProgressService.success(
+                        context.getRecipeId(), stage.getProgressStep(), stage.getProgressDetail(), context.getJobId());
+                recipeProgressService.flush(context.getRecipeId(), context.getJobId());
+                return context;
+            }
+            RecipeCreationExecutionContext result = step.run(context);
+            checkpoint.complete(stage, result);
+            recipeProgressService.flush(context.getRecipeId(), context.getJobId());
+            return result;
+        };
     }
 }
@@ -0,0 +1,192 @@
+package com.cheftory.api.recipe.creation.pipeline.checkpoint;
+
+import com.cheftory.api.recipe.creation.pipeline.RecipeCreationExecutionContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레시피 생성 체크포인트
+ *
+ * <p>레시피마다 마지막 생성 실행이 끝낸 단계와 그때 만든 중간 산출물(제목, 업로드한 영상 `fileUri/mimeType`)을 남깁니다.
+ * 재시도나 임대 만료로 다시 실행할 때 끝난 단계는 건너뛰고, 아직 유효한 영상 파일은 다시 받지 않고 재사용합니다.
+ * 생성이 끝나면(성공 또는 차단) 행을 지우고, 실패한 채 남은 행은 파일 보관 기간이 지나면 정리됩니다.</p>
+ *
+ * <p>{@link RecipeCreationCheckpointRepository}가 JDBC로 읽고 씁니다.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Table(
+        name = "recipe_creation_checkpoint",
+        indexes = {@Index(name = "idx_recipe_creation_checkpoint_updated_at", columnList = "updated_at")})
+public class RecipeCreationCheckpoint {
+
+    @Id
+    private UUID recipeId;
+
+    /**
+     * 마지막으로 체크포인트를 쓴 실행 식별자.
+     */
+    @Column(nullable = false)
+    private UUID jobId;
+
+    @Column(nullable = false, length = 128)
+    private String videoId;
+
+    private String title;
+
+    @Column(length = 512)
+    private String fileUri;
+
+    @Column(length = 64)
+    private String mimeType;
+
+    /**
+     * 영상 파일을 업로드한 시각. 파일 보관 기간을 넘겼는지 판단하는 데 씁니다.
+     */
+    private LocalDateTime fileCreatedAt;
+
+    /**
+     * 끝난 단계 이름을 쉼표로 이은 값.
+     */
+    @Column(nullable = false)
+    private String completedStages;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 아무 단계도 끝나지 않은 체크포인트를 만듭니다.
+     *
+     * @param context 실행 컨텍스트
+     * @param now 현재 시각
+     * @return 빈 체크포인트
+     */
+    public static RecipeCreationCheckpoint empty(RecipeCreationExecutionContext context, LocalDateTime now) {
+        return new RecipeCreationCheckpoint(
+                context.getRecipeId(), context.getJobId(), context.getVideoId(), null, null, null, null, "", now);
+    }
+
+    /**
+     * 단계가 끝났는지 확인합니다.
+     *
+     * @param stage 단계
+     * @return 이전 실행에서 끝난 단계면 true
+     */
+    public boolean isCompleted(RecipeCreationStage stage) {
+        return stages().contains(stage);
+    }
+
+    /**
+     * 단계를 끝난 것으로 표시하고, 그 단계가 채운 산출물을 함께 담은 체크포인트를 반환합니다.
+     *
+     * @param stage 끝난 단계
+     * @param context 단계 실행 후 컨텍스트
+     * @param now 현재 시각
+     * @return 갱신된 체크포인트
+     */
+    public RecipeCreationCheckpoint complete(
+            RecipeCreationStage stage, RecipeCreationExecutionContext context, LocalDateTime now) {
+        Set<RecipeCreationStage> stages = stages();
+        stages.add(stage);
+        return switch (stage) {
+            case YOUTUBE_META ->
+                new RecipeCreationCheckpoint(
+                        recipeId,
+                        context.getJobId(),
+                        context.getVideoId(),
+                        context.getTitle(),
+                        fileUri,
+                        mimeType,
+                        fileCreatedAt,
+                        join(stages),
+                        now);
+            case VERIFY ->
+                new RecipeCreationCheckpoint(
+                        recipeId,
+                        context.getJobId(),
+                        videoId,
+                        title,
+                        context.getFileUri(),
+                        context.getMimeType(),
+                        now,
+                        join(stages),
+                        now);
+            default ->
+                new RecipeCreationCheckpoint(
+                        recipeId,
+                        context.getJobId(),
+                        videoId,
+                        title,
+                        fileUri,
+                        mimeType,
+                        fileCreatedAt,
+                        join(stages),
+                        now);
+        };
+    }
+
+    /**
+     * 영상 파일이 `notBefore` 이전에 올라갔으면 검증 단계를 다시 하도록 파일 정보를 비운 체크포인트를 반환합니다.
+     *
+     * @param notBefore 재사용할 수 있는 가장 오래된 업로드 시각
+     * @return 파일이 유효하면 자신, 아니면 검증 단계가 빠진 체크포인트
+     */
+    public RecipeCreationCheckpoint expireFile(LocalDateTime notBefore) {
+        if (fileUri != null && fileCreatedAt != null && !fileCreatedAt.isBefore(notBefore)) {
+            return this;
+        }
+        Set<RecipeCreationStage> stages = stages();
+        stages.remove(RecipeCreationStage.VERIFY);
+        return new RecipeCreationCheckpoint(
+                recipeId, jobId, videoId, title, null, null, null, join(stages), updatedAt);
+    }
+
+    /**
+     * 끝난 단계의 산출물로 실행 컨텍스트를 채웁니다.
+     *
+     * @param context 이번 실행의 컨텍스트
+     * @return 채울 산출물이 없으면 그대로, 있으면 제목/파일 정보가 반영된 컨텍스트
+     */
+    public RecipeCreationExecutionContext restore(RecipeCreationExecutionContext context) {
+        RecipeCreationExecutionContext restored = context;
+        if (isCompleted(RecipeCreationStage.YOUTUBE_META)) {
+            restored = RecipeCreationExecutionContext.withYoutubeMeta(restored, videoId, title);
+        }
+        if (isCompleted(RecipeCreationStage.VERIFY)) {
+            restored = RecipeCreationExecutionContext.withFileInfo(restored, fileUri, mimeType);
+        }
+        return restored;
+    }
+
+    private Set<RecipeCreationStage> stages() {
+        Set<RecipeCreationStage> stages = EnumSet.noneOf(RecipeCreationStage.class);
+        if (completedStages == null || completedStages.isEmpty()) {
+            return stages;
+        }
+        Arrays.stream(completedStages.split(","))
+                .filter(name -> Arrays.stream(RecipeCreationStage.values())
+                        .anyMatch(stage -> stage.name().equals(name)))
+                .map(RecipeCreationStage::valueOf)
+                .forEach(stages::add);
+        return stages;
+    }
+
+    private static String join(Set<RecipeCreationStage> stages) {
+        return stages.stream().map(RecipeCreationStage::name).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,143 @@
+package com.cheftory.api.recipe.creation.pipeline.checkpoint;
+
+import com.cheftory.api._common.aspect.DbThrottled;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 레시피 생성 체크포인트 저장소.
+ *
+ * <p>레시피 ID가 마켓마다 겹치지 않으므로 테넌트 필터 없이 JDBC로 다루며, 오래된 체크포인트 정리도 마켓 구분 없이 합니다.
+ * 한 레시피의 체크포인트는 그 레시피의 생성 작업을 임대한 워커만 쓰므로 UPDATE 후 없으면 INSERT로 저장합니다.</p>
+ */
+@Repository
+public class RecipeCreationCheckpointRepository {
+
+    private static final String COLUMNS = """
+            BIN_TO_UUID(recipe_id) AS recipe_id,
+            BIN_TO_UUID(job_id) AS job_id,
+            video_id,
+            title,
+            file_uri,
+            mime_type,
+            file_created_at,
+            completed_stages,
+            updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecipeCreationCheckpointRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 레시피의 체크포인트를 조회합니다.
+     *
+     * @param recipeId 레시피 ID
+     * @return 체크포인트, 없으면 빈 값
+     */
+    public Optional<RecipeCreationCheckpoint> find(UUID recipeId) {
+        return jdbcTemplate
+                .query(
+                        "SELECT " + COLUMNS + " FROM recipe_creation_checkpoint WHERE recipe_id = UUID_TO_BIN(?)",
+                        (rs, rowNum) -> toCheckpoint(rs),
+                        recipeId.toString())
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 체크포인트를 저장합니다.
+     *
+     * @param checkpoint 체크포인트
+     */
+    @DbThrottled
+    public void save(RecipeCreationCheckpoint checkpoint) {
+        Object[] values = {
+            checkpoint.getJobId().toString(),
+            checkpoint.getVideoId(),
+            checkpoint.getTitle(),
+            checkpoint.getFileUri(),
+            checkpoint.getMimeType(),
+            timestamp(checkpoint.getFileCreatedAt()),
+            checkpoint.getCompletedStages(),
+            timestamp(checkpoint.getUpdatedAt()),
+            checkpoint.getRecipeId().toString()
+        };
+        int updated = jdbcTemplate.update(
+                """
+                UPDATE recipe_creation_checkpoint
+                SET job_id = UUID_TO_BIN(?), video_id = ?, title = ?, file_uri = ?, mime_type = ?,
+                    file_created_at = ?, completed_stages = ?, updated_at = ?
+                WHERE recipe_id = UUID_TO_BIN(?)
+                """,
+                values);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    """
+                    INSERT INTO recipe_creation_checkpoint (
+                        job_id, video_id, title, file_uri, mime_type, file_created_at, completed_stages, updated_at,
+                        recipe_id
+                    ) VALUES (UUID_TO_BIN(?), ?, ?, ?, ?, ?, ?, ?, UUID_TO_BIN(?))
+                    """,
+                    values);
+        }
+    }
+
+    /**
+     * 체크포인트를 지웁니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    public void delete(UUID recipeId) {
+        jdbcTemplate.update(
+                "DELETE FROM recipe_creation_checkpoint WHERE recipe_id = UUID_TO_BIN(?)", recipeId.toString());
+    }
+
+    /**
+     * `updatedBefore` 이전에 마지막으로 갱신된 체크포인트를 오래된 순서로 조회합니다.
+     *
+     * @param updatedBefore 기준 시각
+     * @param limit 최대 개수
+     * @return 체크포인트 목록
+     */
+    public List<RecipeCreationCheckpoint> findStale(LocalDateTime updatedBefore, int limit) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + """
+                FROM recipe_creation_checkpoint
+                WHERE updated_at < ?
+                ORDER BY updated_at ASC
+                LIMIT ?
+                """,
+                (rs, rowNum) -> toCheckpoint(rs),
+                Timestamp.valueOf(updatedBefore),
+                limit);
+    }
+
+    private static RecipeCreationCheckpoint toCheckpoint(ResultSet rs) throws SQLException {
+        Timestamp fileCreatedAt = rs.getTimestamp("file_created_at");
+        return new RecipeCreationCheckpoint(
+                UUID.fromString(rs.getString("recipe_id")),
+                UUID.fromString(rs.getString("job_id")),
+                rs.getString("video_id"),
+                rs.getString("title"),
+                rs.getString("file_uri"),
+                rs.getString("mime_type"),
+                fileCreatedAt == null ? null : fileCreatedAt.toLocalDateTime(),
+                rs.getString("completed_stages"),
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,116 @@
+package com.cheftory.api.recipe.creation.pipeline.checkpoint;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api.recipe.content.verify.RecipeVerifyService;
+import com.cheftory.api.recipe.creation.pipeline.RecipeCreationExecutionContext;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 레시피 생성 체크포인트 서비스.
+ *
+ * <p>파이프라인 실행을 시작할 때 이전 실행의 체크포인트를 불러오고, 생성이 끝나면 지웁니다.
+ * 업로드한 영상 파일은 `recipe.creation.checkpoint.file-ttl-ms`(AI 서버의 파일 보관 기간보다 짧게) 동안만 재사용하며,
+ * 그보다 오래 갱신되지 않은 체크포인트는 `sweep-interval-ms` 주기로 파일을 정리하고 지웁니다.</p>
+ */
+@Service
+@Slf4j
+public class RecipeCreationCheckpointService {
+
+    private final RecipeCreationCheckpointRepository repository;
+    private final RecipeVerifyService recipeVerifyService;
+    private final Clock clock;
+    private final Duration fileTtl;
+    private final int sweepBatchSize;
+
+    public RecipeCreationCheckpointService(
+            RecipeCreationCheckpointRepository repository,
+            RecipeVerifyService recipeVerifyService,
+            Clock clock,
+            @Value("${recipe.creation.checkpoint.file-ttl-ms:144000000}") long fileTtlMillis,
+            @Value("${recipe.creation.checkpoint.sweep-batch-size:100}") int sweepBatchSize) {
+        this.repository = repository;
+        this.recipeVerifyService = recipeVerifyService;
+        this.clock = clock;
+        this.fileTtl = Duration.ofMillis(fileTtlMillis);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 이전 실행의 체크포인트로 이번 실행의 추적기를 엽니다.
+     *
+     * <p>체크포인트가 없거나 읽지 못하면 처음부터 실행합니다. 보관 기간이 지난 영상 파일은 재사용하지 않습니다.</p>
+     *
+     * @param context 이번 실행의 컨텍스트
+     * @return 체크포인트 추적기
+     */
+    public RecipeCreationCheckpointTracker open(RecipeCreationExecutionContext context) {
+        LocalDateTime now = clock.now();
+        RecipeCreationCheckpoint checkpoint;
+        try {
+            checkpoint = repository
+                    .find(context.getRecipeId())
+                    .map(found -> found.expireFile(now.minus(fileTtl)))
+                    .orElseGet(() -> RecipeCreationCheckpoint.empty(context, now));
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 체크포인트 조회 실패, 처음부터 실행: recipeId={}", context.getRecipeId(), e);
+            checkpoint = RecipeCreationCheckpoint.empty(context, now);
+        }
+        return new RecipeCreationCheckpointTracker(repository, clock, checkpoint);
+    }
+
+    /**
+     * 생성이 성공해 더 이상 이어갈 일이 없는 체크포인트를 지웁니다. 영상 파일 정리는 파이프라인의 정리 단계가 합니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    public void finish(UUID recipeId) {
+        try {
+            repository.delete(recipeId);
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 체크포인트 삭제 실패: recipeId={}", recipeId, e);
+        }
+    }
+
+    /**
+     * 다시 생성하지 않을 레시피(차단 등)의 영상 파일을 정리하고 체크포인트를 지웁니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    public void discard(UUID recipeId) {
+        try {
+            repository.find(recipeId).ifPresent(this::discard);
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 체크포인트 폐기 실패: recipeId={}", recipeId, e);
+        }
+    }
+
+    /**
+     * 파일 보관 기간보다 오래 갱신되지 않은 체크포인트를 정리합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${recipe.creation.checkpoint.sweep-interval-ms:3600000}",
+            fixedDelayString = "${recipe.creation.checkpoint.sweep-interval-ms:3600000}")
+    @SchedulerLock(name = "recipe-creation-checkpoint-sweep", lockAtMostFor = "PT10M", lockAtLeastFor = "PT5S")
+    public void sweep() {
+        List<RecipeCreationCheckpoint> stale = repository.findStale(clock.now().minus(fileTtl), sweepBatchSize);
+        stale.forEach(this::discard);
+        if (!stale.isEmpty()) {
+            log.info("오래된 레시피 생성 체크포인트 정리: count={}", stale.size());
+        }
+    }
+
+    private void discard(RecipeCreationCheckpoint checkpoint) {
+        if (checkpoint.getFileUri() != null) {
+            recipeVerifyService.cleanup(checkpoint.getFileUri());
+        }
+        repository.delete(checkpoint.getRecipeId());
+    }
+}
@@ -0,0 +1,61 @@
+package com.cheftory.api.recipe.creation.pipeline.checkpoint;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api.recipe.creation.pipeline.RecipeCreationExecutionContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 번의 파이프라인 실행 동안 체크포인트를 들고 있다가 단계가 끝날 때마다 저장합니다.
+ *
+ * <p>병렬 단계가 동시에 끝나도 앞선 단계 기록을 덮어쓰지 않도록 갱신과 저장을 한 잠금 안에서 합니다.
+ * 체크포인트는 재시도 비용을 줄이기 위한 것이므로 저장에 실패해도 생성은 계속 진행합니다.</p>
+ */
+@Slf4j
+public class RecipeCreationCheckpointTracker {
+
+    private final RecipeCreationCheckpointRepository repository;
+    private final Clock clock;
+    private RecipeCreationCheckpoint checkpoint;
+
+    RecipeCreationCheckpointTracker(
+            RecipeCreationCheckpointRepository repository, Clock clock, RecipeCreationCheckpoint checkpoint) {
+        this.repository = repository;
+        this.clock = clock;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * 이전 실행에서 끝난 단계의 산출물로 실행 컨텍스트를 채웁니다.
+     *
+     * @param context 이번 실행의 컨텍스트
+     * @return 복원된 컨텍스트
+     */
+    public synchronized RecipeCreationExecutionContext restore(RecipeCreationExecutionContext context) {
+        return checkpoint.restore(context);
+    }
+
+    /**
+     * 단계가 이미 끝났는지 확인합니다.
+     *
+     * @param stage 단계
+     * @return 건너뛸 수 있으면 true
+     */
+    public synchronized boolean isCompleted(RecipeCreationStage stage) {
+        return checkpoint.isCompleted(stage);
+    }
+
+    /**
+     * 단계를 끝난 것으로 기록하고 저장합니다.
+     *
+     * @param stage 끝난 단계
+     * @param context 단계 실행 후 컨텍스트
+     */
+    public synchronized void complete(RecipeCreationStage stage, RecipeCreationExecutionContext context) {
+        checkpoint = checkpoint.complete(stage, context, clock.now());
+        try {
+            repository.save(checkpoint);
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 체크포인트 저장 실패: recipeId={}, stage={}", checkpoint.getRecipeId(), stage, e);
+        }
+    }
+}
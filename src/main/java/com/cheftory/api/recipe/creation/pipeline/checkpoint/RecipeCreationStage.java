@@ -0,0 +1,28 @@
+package com.cheftory.api.recipe.creation.pipeline.checkpoint;
+
+import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressDetail;
+import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressStep;
+import lombok.Getter;
+
+/**
+ * 체크포인트로 건너뛸 수 있는 레시피 생성 단계.
+ *
+ * <p>이전 실행에서 끝난 단계를 건너뛸 때도 이번 실행(`jobId`)의 진행 상태는 남겨야 하므로,
+ * 단계마다 성공으로 기록할 진행 상태를 함께 둡니다.</p>
+ */
+@Getter
+public enum RecipeCreationStage {
+    YOUTUBE_META(RecipeProgressStep.LOAD_YOUTUBE_META, RecipeProgressDetail.LOAD_YOUTUBE_META),
+    VERIFY(RecipeProgressStep.CAPTION, RecipeProgressDetail.CAPTION),
+    DETAIL(RecipeProgressStep.DETAIL, RecipeProgressDetail.DETAIL_META),
+    INSTRUCTION(RecipeProgressStep.STEP, RecipeProgressDetail.STEP),
+    BRIEFING(RecipeProgressStep.BRIEFING, RecipeProgressDetail.BRIEFING);
+
+    private final RecipeProgressStep progressStep;
+    private final RecipeProgressDetail progressDetail;
+
+    RecipeCreationStage(RecipeProgressStep progressStep, RecipeProgressDetail progressDetail) {
+        this.progressStep = progressStep;
+        this.progressDetail = progressDetail;
+    }
+}
@@ -0,0 +1,40 @@
+package com.cheftory.api.recipe.creation.progress;
+
+import com.cheftory.api.recipe.creation.progress.entity.RecipeProgress;
+import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressDetail;
+import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressState;
+import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressStep;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 실행 중 진행 상태의 Redis 해시 값.
+ *
+ * <p>해시 키가 `(recipeId, jobId)`를 담고 있으므로 이벤트마다 달라지는 값만 보관합니다.</p>
+ *
+ * @param id 진행 상태 ID
+ * @param createdAt 생성 일시
+ * @param step 진행 단계
+ * @param detail 상세 단계
+ * @param state 진행 상태
+ */
+public record RecipeProgressEntry(
+        UUID id,
+        LocalDateTime createdAt,
+        RecipeProgressStep step,
+        RecipeProgressDetail detail,
+        RecipeProgressState state) {
+
+    public static RecipeProgressEntry of(RecipeProgress progress) {
+        return new RecipeProgressEntry(
+                progress.getId(),
+                progress.getCreatedAt(),
+                progress.getStep(),
+                progress.getDetail(),
+                progress.getState());
+    }
+
+    public RecipeProgress toProgress(UUID recipeId, UUID jobId) {
+        return RecipeProgress.restore(id, recipeId, jobId, createdAt, step, detail, state);
+    }
+}
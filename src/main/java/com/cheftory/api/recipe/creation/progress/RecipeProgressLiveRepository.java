@@ -0,0 +1,52 @@
+package com.cheftory.api.recipe.creation.progress;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 실행 중 진행 상태 Redis 리포지토리.
+ *
+ * <p>`(recipeId, jobId)`마다 해시 하나를 두고 진행 이벤트를 ID 필드로 쌓습니다. 값은
+ * {@code GenericJacksonJsonRedisSerializer}로 직렬화되며, 타입이 기대와 다르면 호출부에서 건너뜁니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipeProgressLiveRepository {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 진행 이벤트를 해시에 추가하고 TTL을 갱신합니다. 두 명령은 파이프라인으로 한 번에 보냅니다.
+     *
+     * @param key 해시 키
+     * @param entry 진행 이벤트
+     * @param ttl TTL
+     */
+    public void append(String key, RecipeProgressEntry entry, Duration ttl) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForHash().put(key, entry.id().toString(), entry);
+                ops.expire(key, ttl);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 해시에 쌓인 진행 이벤트를 모두 조회합니다.
+     *
+     * @param key 해시 키
+     * @return 진행 이벤트 값 목록 (순서 없음), 해시가 없으면 빈 목록
+     */
+    public List<Object> findAll(String key) {
+        return redisTemplate.opsForHash().values(key);
+    }
+}
@@ -1,5 +1,7 @@
 package com.cheftory.api.recipe.creation.progress;
 
+import com.cheftory.api._common.aspect.DbPriority;
+import com.cheftory.api._common.aspect.DbThrottled;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgress;
 import java.util.List;
 import java.util.UUID;
@@ -22,5 +24,6 @@ public interface RecipeProgressRepository extends JpaRepository<RecipeProgress,
     /**
      * 레시피 ID + 비동기 실행 식별자(jobId)로 진행 상태 이벤트 목록을 조회합니다.
      */
+    @DbThrottled(DbPriority.REQUEST)
     List<RecipeProgress> findAllByRecipeIdAndJobId(UUID recipeId, UUID jobId, Sort sort);
 }
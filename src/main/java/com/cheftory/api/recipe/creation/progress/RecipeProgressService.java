@@ -1,16 +1,28 @@
 package com.cheftory.api.recipe.creation.progress;
 
 import com.cheftory.api._common.Clock;
-import com.cheftory.api._common.aspect.DbThrottled;
+import com.cheftory.api._common.buffer.EntityBatchInserter;
+import com.cheftory.api._common.region.MarketContext;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgress;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressDetail;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressState;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressStep;
 import com.cheftory.api.recipe.creation.progress.utils.RecipeProgressSort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
@@ -18,13 +30,53 @@ import org.springframework.stereotype.Service;
  *
  * <p>진행 상태는 update가 아니라 이벤트(row) append 방식으로 저장되며, 같은 `recipeId`라도
  * 비동기 실행 단위(`jobId`)별로 별도 이력을 남깁니다.</p>
+ *
+ * <p>실행 중인 `(recipeId, jobId)`의 이벤트는 실행 노드 메모리와 Redis 해시에 먼저 쌓고, DB에는 단계가 끝날 때
+ * ({@link #flush(UUID, UUID)})와 실행이 끝날 때(`FINISHED` 또는 실패) 모아서 일괄 INSERT합니다. 조회는 메모리 →
+ * Redis → DB 순으로 찾으므로, 폴링은 실행이 끝나고 `recipe.progress.completed-ttl-ms`가 지날 때까지 DB를 읽지
+ * 않습니다. 실행 노드가 단계 도중 죽으면 그 단계의 이벤트는 Redis TTL 동안만 남습니다.</p>
+ *
+ * <p>메모리의 실행 중 이력은 마지막 기록·조회 후 `live-ttl-ms`, 끝난 이력은 끝난 시점부터 `completed-ttl-ms`가 지나면
+ * 제거합니다. 끝난 실행의 저장에 실패하면 `recipe.progress.retry-interval-ms` 주기로 다시 저장합니다.</p>
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RecipeProgressService {
+
+    private static final String DELIMITER = ":";
+    private static final Comparator<RecipeProgress> CREATED_ORDER =
+            Comparator.comparing(RecipeProgress::getCreatedAt).thenComparing(RecipeProgress::getId);
+
     private final RecipeProgressRepository recipeProgressRepository;
+    private final RecipeProgressLiveRepository recipeProgressLiveRepository;
+    private final EntityBatchInserter entityBatchInserter;
     private final Clock clock;
+    private final Duration liveTtl;
+    private final Duration completedTtl;
+    private final Cache<String, LiveJob> live;
+
+    public RecipeProgressService(
+            RecipeProgressRepository recipeProgressRepository,
+            RecipeProgressLiveRepository recipeProgressLiveRepository,
+            EntityBatchInserter entityBatchInserter,
+            Clock clock,
+            @Value("${recipe.progress.live-ttl-ms:3600000}") long liveTtlMs,
+            @Value("${recipe.progress.completed-ttl-ms:600000}") long completedTtlMs) {
+        this.recipeProgressRepository = recipeProgressRepository;
+        this.recipeProgressLiveRepository = recipeProgressLiveRepository;
+        this.entityBatchInserter = entityBatchInserter;
+        this.clock = clock;
+        this.liveTtl = Duration.ofMillis(liveTtlMs);
+        this.completedTtl = Duration.ofMillis(completedTtlMs);
+        this.live = Caffeine.newBuilder()
+                .expireAfter(new LiveJobExpiry())
+                .removalListener((String key, LiveJob job, RemovalCause cause) -> {
+                    if (job != null && cause.wasEvicted()) {
+                        persist(job);
+                    }
+                })
+                .build();
+    }
 
     /**
      * 레시피 ID로 진행 상태 목록을 조회합니다.
@@ -34,55 +86,212 @@ public class RecipeProgressService {
      * @return 지정된 jobId 실행에 대한 진행 상태 목록 (생성 시각 오름차순)
      */
     public List<RecipeProgress> gets(UUID recipeId, UUID jobId) {
+        String key = key(recipeId, jobId);
+        LiveJob job = live.getIfPresent(key);
+        if (job != null) {
+            return job.snapshot();
+        }
+        List<RecipeProgress> remote = readRemote(key, recipeId, jobId);
+        if (!remote.isEmpty()) {
+            return remote;
+        }
         return recipeProgressRepository.findAllByRecipeIdAndJobId(recipeId, jobId, RecipeProgressSort.CREATE_AT_ASC);
     }
 
     /**
-     * 진행 상태를 시작으로 생성합니다.
+     * 진행 상태를 시작으로 기록합니다.
      *
      * @param recipeId 레시피 ID
      * @param step 진행 단계
      * @param detail 상세 단계
      * @param jobId 비동기 실행 식별자
      */
-    @DbThrottled
     public void start(UUID recipeId, RecipeProgressStep step, RecipeProgressDetail detail, UUID jobId) {
-        create(recipeId, step, detail, RecipeProgressState.RUNNING, jobId);
+        record(recipeId, step, detail, RecipeProgressState.RUNNING, jobId);
     }
 
     /**
-     * 진행 상태를 성공으로 생성합니다.
+     * 진행 상태를 성공으로 기록합니다. `FINISHED` 단계면 쌓인 이력을 저장합니다.
      *
      * @param recipeId 레시피 ID
      * @param step 진행 단계
      * @param detail 상세 단계
      * @param jobId 비동기 실행 식별자
      */
-    @DbThrottled
     public void success(UUID recipeId, RecipeProgressStep step, RecipeProgressDetail detail, UUID jobId) {
-        create(recipeId, step, detail, RecipeProgressState.SUCCESS, jobId);
+        record(recipeId, step, detail, RecipeProgressState.SUCCESS, jobId);
     }
 
     /**
-     * 진행 상태를 실패로 생성합니다.
+     * 진행 상태를 실패로 기록하고 쌓인 이력을 저장합니다.
      *
      * @param recipeId 레시피 ID
      * @param step 진행 단계
      * @param detail 상세 단계
      * @param jobId 비동기 실행 식별자
      */
-    @DbThrottled
     public void failed(UUID recipeId, RecipeProgressStep step, RecipeProgressDetail detail, UUID jobId) {
-        create(recipeId, step, detail, RecipeProgressState.FAILED, jobId);
+        record(recipeId, step, detail, RecipeProgressState.FAILED, jobId);
     }
 
-    private void create(
+    /**
+     * 아직 저장하지 않은 이력을 일괄 INSERT합니다. 파이프라인 단계가 끝날 때 호출합니다.
+     *
+     * @param recipeId 레시피 ID
+     * @param jobId 비동기 실행 식별자
+     */
+    public void flush(UUID recipeId, UUID jobId) {
+        LiveJob job = live.getIfPresent(key(recipeId, jobId));
+        if (job != null) {
+            persist(job);
+        }
+    }
+
+    /**
+     * 저장에 실패한 끝난 실행의 이력을 다시 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${recipe.progress.retry-interval-ms:5000}")
+    public void retryCompleted() {
+        live.asMap().values().stream().filter(LiveJob::isCompleted).forEach(this::persist);
+    }
+
+    /**
+     * 종료 시 아직 저장하지 않은 이력을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        live.asMap().values().forEach(this::persist);
+    }
+
+    private void record(
             UUID recipeId,
             RecipeProgressStep step,
             RecipeProgressDetail detail,
             RecipeProgressState state,
             UUID jobId) {
         RecipeProgress recipeProgress = RecipeProgress.create(recipeId, jobId, clock, step, detail, state);
-        recipeProgressRepository.save(recipeProgress);
+        String key = key(recipeId, jobId);
+        LiveJob job = live.get(key, k -> new LiveJob(MarketContext.required()));
+        job.add(recipeProgress);
+
+        boolean completed = state == RecipeProgressState.FAILED
+                || (step == RecipeProgressStep.FINISHED && state == RecipeProgressState.SUCCESS);
+        publish(key, recipeProgress, completed ? completedTtl : liveTtl);
+        if (completed) {
+            job.completed = true;
+            live.put(key, job);
+            persist(job);
+        }
+    }
+
+    private void publish(String key, RecipeProgress recipeProgress, Duration ttl) {
+        try {
+            recipeProgressLiveRepository.append(key, RecipeProgressEntry.of(recipeProgress), ttl);
+        } catch (RuntimeException e) {
+            log.warn("진행 상태 Redis 기록 실패: key={}", key, e);
+        }
+    }
+
+    private List<RecipeProgress> readRemote(String key, UUID recipeId, UUID jobId) {
+        try {
+            return recipeProgressLiveRepository.findAll(key).stream()
+                    .filter(RecipeProgressEntry.class::isInstance)
+                    .map(RecipeProgressEntry.class::cast)
+                    .map(entry -> entry.toProgress(recipeId, jobId))
+                    .sorted(CREATED_ORDER)
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("진행 상태 Redis 조회 실패, DB 조회로 대체: key={}", key, e);
+            return List.of();
+        }
+    }
+
+    private void persist(LiveJob job) {
+        job.lock.lock();
+        try {
+            List<RecipeProgress> pending = List.copyOf(job.events.subList(job.persisted, job.events.size()));
+            if (pending.isEmpty()) {
+                return;
+            }
+            try (var ignored = MarketContext.with(job.market)) {
+                entityBatchInserter.insertAll(pending);
+                job.persisted += pending.size();
+            } catch (RuntimeException e) {
+                log.warn(
+                        "진행 상태 저장 실패, 재시도 예정: recipeId={}, events={}",
+                        pending.getFirst().getRecipeId(),
+                        pending.size(),
+                        e);
+            }
+        } finally {
+            job.lock.unlock();
+        }
+    }
+
+    private static String key(UUID recipeId, UUID jobId) {
+        String market = MarketContext.required().market().name().toLowerCase(Locale.ROOT);
+        return String.join(DELIMITER, market, "recipe", "progress", String.valueOf(recipeId), String.valueOf(jobId));
+    }
+
+    /**
+     * 실행 중인 이력은 기록·조회할 때마다 `liveTtl`로 연장하고, 끝난 이력은 끝난 시점부터 `completedTtl` 뒤에 만료합니다.
+     */
+    private final class LiveJobExpiry implements Expiry<String, LiveJob> {
+
+        @Override
+        public long expireAfterCreate(String key, LiveJob job, long currentTime) {
+            return ttl(job).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LiveJob job, long currentTime, long currentDuration) {
+            return ttl(job).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, LiveJob job, long currentTime, long currentDuration) {
+            return job.isCompleted() ? currentDuration : liveTtl.toNanos();
+        }
+
+        private Duration ttl(LiveJob job) {
+            return job.isCompleted() ? completedTtl : liveTtl;
+        }
+    }
+
+    /**
+     * 한 실행의 진행 이벤트와 저장 위치. 병렬 단계가 함께 쓰므로 잠금 안에서만 다룹니다.
+     */
+    private static final class LiveJob {
+        private final MarketContext.Info market;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<RecipeProgress> events = new ArrayList<>();
+        private int persisted;
+        private volatile boolean completed;
+
+        private LiveJob(MarketContext.Info market) {
+            this.market = market;
+        }
+
+        private void add(RecipeProgress recipeProgress) {
+            lock.lock();
+            try {
+                events.add(recipeProgress);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isCompleted() {
+            return completed;
+        }
+
+        private List<RecipeProgress> snapshot() {
+            lock.lock();
+            try {
+                return events.stream().sorted(CREATED_ORDER).toList();
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.cheftory.api.recipe.creation.progress.entity;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.TimeOrderedUuid;
 import com.cheftory.api._common.region.MarketScope;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -89,6 +90,29 @@ public class RecipeProgress extends MarketScope {
             RecipeProgressDetail detail,
             RecipeProgressState state) {
 
-        return new RecipeProgress(UUID.randomUUID(), jobId, clock.now(), step, detail, state, recipeId);
+        return new RecipeProgress(TimeOrderedUuid.generate(), jobId, clock.now(), step, detail, state, recipeId);
+    }
+
+    /**
+     * 저장해 둔 진행 이벤트 값으로 엔티티를 다시 만듭니다. 조회 응답용이며 영속화하지 않습니다.
+     *
+     * @param id 진행 상태 ID
+     * @param recipeId 레시피 ID
+     * @param jobId 비동기 실행 식별자
+     * @param createdAt 생성 일시
+     * @param step 진행 단계
+     * @param detail 상세 단계
+     * @param state 진행 상태
+     * @return 레시피 진행 상태 엔티티
+     */
+    public static RecipeProgress restore(
+            UUID id,
+            UUID recipeId,
+            UUID jobId,
+            LocalDateTime createdAt,
+            RecipeProgressStep step,
+            RecipeProgressDetail detail,
+            RecipeProgressState state) {
+        return new RecipeProgress(id, jobId, createdAt, step, detail, state, recipeId);
     }
 }
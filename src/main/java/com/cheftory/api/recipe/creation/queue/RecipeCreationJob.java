@@ -0,0 +1,108 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레시피 생성 작업
+ *
+ * <p>레시피 생성 요청 하나가 큐에 남기는 행입니다. ID는 레시피의 `currentJobId`와 같아 같은 실행이 두 번 쌓이지 않습니다.
+ * 워커가 가져가면 `leaseOwner/leaseUntil`로 임대를 표시하고, 임대가 끝날 때까지 하트비트로 연장합니다.
+ * 실행이 끝나면 행을 지우므로, 임대가 만료된 행은 실행 중이던 노드가 사라졌다는 뜻이고 다른 노드가 다시 가져갑니다.</p>
+ *
+ * <p>여러 마켓의 작업을 한 워커가 처리하므로 테넌트 엔티티가 아니며, 실행할 마켓을 `market/countryCode`에 직접 담습니다.
+ * {@link RecipeCreationJobRepository}가 JDBC로 읽고 씁니다.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Table(
+        name = "recipe_creation_job",
+        indexes = {@Index(name = "idx_recipe_creation_job_lease_until", columnList = "lease_until")})
+public class RecipeCreationJob {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID recipeId;
+
+    @Column(nullable = false, length = 128)
+    private String videoId;
+
+    @Column(nullable = false)
+    private long creditCost;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Market market;
+
+    @Column(nullable = false, length = 2)
+    private String countryCode;
+
+    /**
+     * 임대된 횟수. 실행 도중 노드가 사라질 때마다 1씩 늘어납니다.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 64)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 현재 마켓의 레시피 생성 작업을 만듭니다.
+     *
+     * @param jobId 레시피의 현재 실행 식별자(`currentJobId`)
+     * @param recipeId 레시피 ID
+     * @param videoId YouTube 비디오 ID
+     * @param creditCost 소비된 크레딧 양
+     * @param clock 현재 시간 제공 객체
+     * @return 임대되지 않은 작업
+     */
+    public static RecipeCreationJob create(UUID jobId, UUID recipeId, String videoId, long creditCost, Clock clock) {
+        MarketContext.Info info = MarketContext.required();
+        return new RecipeCreationJob(
+                jobId, recipeId, videoId, creditCost, info.market(), info.countryCode(), 0, null, null, clock.now());
+    }
+
+    /**
+     * 임대에 성공한 뒤의 작업을 반환합니다.
+     *
+     * @param owner 임대한 노드
+     * @param until 임대 만료 시각
+     * @return 임대 횟수와 임대 정보가 반영된 작업
+     */
+    public RecipeCreationJob leased(String owner, LocalDateTime until) {
+        return new RecipeCreationJob(
+                id, recipeId, videoId, creditCost, market, countryCode, attempts + 1, owner, until, createdAt);
+    }
+
+    /**
+     * 작업을 실행할 마켓 컨텍스트를 반환합니다.
+     *
+     * @return 마켓 컨텍스트 정보
+     */
+    public MarketContext.Info marketInfo() {
+        return new MarketContext.Info(market, countryCode);
+    }
+}
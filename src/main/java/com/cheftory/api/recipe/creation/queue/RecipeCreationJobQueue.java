@@ -0,0 +1,32 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import com.cheftory.api._common.Clock;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 레시피 생성 작업 큐.
+ *
+ * <p>생성 요청을 `recipe_creation_job`에 남기고 바로 반환합니다. 실제 실행은 {@link RecipeCreationJobWorker}가
+ * 임대를 걸고 가져가 수행하므로, 요청을 받은 노드가 재시작되어도 작업이 사라지지 않습니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class RecipeCreationJobQueue {
+
+    private final RecipeCreationJobRepository repository;
+    private final Clock clock;
+
+    /**
+     * 현재 마켓의 레시피 생성 작업을 큐에 넣습니다.
+     *
+     * @param recipeId 레시피 ID
+     * @param creditCost 소비된 크레딧 양
+     * @param videoId YouTube 비디오 ID
+     * @param jobId 레시피의 현재 실행 식별자(`currentJobId`)
+     */
+    public void enqueue(UUID recipeId, long creditCost, String videoId, UUID jobId) {
+        repository.insert(RecipeCreationJob.create(jobId, recipeId, videoId, creditCost, clock));
+    }
+}
@@ -0,0 +1,213 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import com.cheftory.api._common.region.Market;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 레시피 생성 작업 저장소.
+ *
+ * <p>`recipe_creation_job`은 모든 마켓의 작업을 한 곳에 두므로 테넌트 필터가 걸리는 JPA 대신 JDBC로 다룹니다.
+ * 임대는 "임대되지 않았거나 만료된 행"에만 걸리는 조건부 UPDATE라, 여러 노드가 같은 행을 골라도 한 노드만 가져갑니다.</p>
+ */
+@Repository
+public class RecipeCreationJobRepository {
+
+    private static final String COLUMNS = """
+            BIN_TO_UUID(j.id) AS id,
+            BIN_TO_UUID(j.recipe_id) AS recipe_id,
+            j.video_id,
+            j.credit_cost,
+            j.market,
+            j.country_code,
+            j.attempts,
+            j.lease_owner,
+            j.lease_until,
+            j.created_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecipeCreationJobRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 작업을 큐에 넣습니다.
+     *
+     * @param job 임대되지 않은 작업
+     * @throws org.springframework.dao.DuplicateKeyException 같은 실행 식별자의 작업이 이미 있을 때
+     */
+    public void insert(RecipeCreationJob job) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO recipe_creation_job (
+                    id, recipe_id, video_id, credit_cost, market, country_code, attempts, created_at
+                ) VALUES (UUID_TO_BIN(?), UUID_TO_BIN(?), ?, ?, ?, ?, 0, ?)
+                """,
+                job.getId().toString(),
+                job.getRecipeId().toString(),
+                job.getVideoId(),
+                job.getCreditCost(),
+                job.getMarket().name(),
+                job.getCountryCode(),
+                Timestamp.valueOf(job.getCreatedAt()));
+    }
+
+    /**
+     * 임대할 수 있는 작업을 오래된 순서로 조회합니다.
+     *
+     * @param now 현재 시각
+     * @param limit 최대 개수
+     * @return 임대되지 않았거나 임대가 만료된 작업
+     */
+    public List<RecipeCreationJob> findClaimable(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + """
+                FROM recipe_creation_job j
+                WHERE j.lease_until IS NULL OR j.lease_until < ?
+                ORDER BY j.created_at ASC
+                LIMIT ?
+                """,
+                (rs, rowNum) -> toJob(rs),
+                Timestamp.valueOf(now),
+                limit);
+    }
+
+    /**
+     * 작업을 임대합니다. 그 사이 다른 노드가 먼저 임대했으면 실패합니다.
+     *
+     * @param jobId 작업 ID
+     * @param owner 임대하는 노드
+     * @param now 현재 시각
+     * @param leaseUntil 임대 만료 시각
+     * @return 임대에 성공하면 true
+     */
+    public boolean claim(UUID jobId, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(
+                        """
+                        UPDATE recipe_creation_job
+                        SET lease_owner = ?, lease_until = ?, attempts = attempts + 1
+                        WHERE id = UUID_TO_BIN(?) AND (lease_until IS NULL OR lease_until < ?)
+                        """,
+                        owner,
+                        Timestamp.valueOf(leaseUntil),
+                        jobId.toString(),
+                        Timestamp.valueOf(now))
+                == 1;
+    }
+
+    /**
+     * 이 노드가 임대 중인 작업의 임대를 연장합니다.
+     *
+     * @param jobIds 작업 ID 목록
+     * @param owner 임대한 노드
+     * @param leaseUntil 새 임대 만료 시각
+     * @return 연장된 작업 수. 임대를 잃은 작업은 세지 않습니다
+     */
+    public int extendLeases(Collection<UUID> jobIds, String owner, LocalDateTime leaseUntil) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        Object[] args = Stream.concat(
+                        Stream.of(Timestamp.valueOf(leaseUntil), owner), jobIds.stream().map(UUID::toString))
+                .toArray();
+        return jdbcTemplate.update(
+                "UPDATE recipe_creation_job SET lease_until = ? WHERE lease_owner = ? AND id IN ("
+                        + uuidPlaceholders(jobIds.size()) + ")",
+                args);
+    }
+
+    /**
+     * 임대를 풀어 다른 노드가 바로 가져갈 수 있게 합니다.
+     *
+     * @param jobId 작업 ID
+     * @param owner 임대한 노드
+     */
+    public void release(UUID jobId, String owner) {
+        jdbcTemplate.update(
+                """
+                UPDATE recipe_creation_job
+                SET lease_owner = NULL, lease_until = NULL
+                WHERE id = UUID_TO_BIN(?) AND lease_owner = ?
+                """,
+                jobId.toString(),
+                owner);
+    }
+
+    /**
+     * 실행이 끝난 작업을 지웁니다. 임대를 잃은 작업은 지우지 않습니다.
+     *
+     * @param jobId 작업 ID
+     * @param owner 임대한 노드
+     */
+    public void delete(UUID jobId, String owner) {
+        jdbcTemplate.update(
+                "DELETE FROM recipe_creation_job WHERE id = UUID_TO_BIN(?) AND lease_owner = ?",
+                jobId.toString(),
+                owner);
+    }
+
+    /**
+     * 작업 행 없이 `IN_PROGRESS`에 머문 레시피를 작업으로 만듭니다.
+     *
+     * <p>큐 도입 전에 실행 중이던 생성이나, 작업 행을 잃은 생성을 찾는 용도입니다. 방금 만들어져 아직 큐에 들어가기 전인
+     * 레시피를 집지 않도록 `updatedBefore` 이전에 갱신된 레시피만 봅니다.</p>
+     *
+     * @param updatedBefore 이 시각 이전에 갱신된 레시피만 조회
+     * @return 임대되지 않은 작업 목록
+     */
+    public List<RecipeCreationJob> findOrphans(LocalDateTime updatedBefore) {
+        return jdbcTemplate.query(
+                """
+                SELECT
+                    BIN_TO_UUID(r.current_job_id) AS id,
+                    BIN_TO_UUID(r.id) AS recipe_id,
+                    r.source_key AS video_id,
+                    r.credit_cost,
+                    r.market,
+                    r.country_code,
+                    0 AS attempts,
+                    NULL AS lease_owner,
+                    NULL AS lease_until,
+                    r.updated_at AS created_at
+                FROM recipe r
+                LEFT JOIN recipe_creation_job j ON j.id = r.current_job_id
+                WHERE r.recipe_status = 'IN_PROGRESS'
+                  AND r.source_type = 'YOUTUBE'
+                  AND r.updated_at < ?
+                  AND j.id IS NULL
+                """,
+                (rs, rowNum) -> toJob(rs),
+                Timestamp.valueOf(updatedBefore));
+    }
+
+    private static RecipeCreationJob toJob(ResultSet rs) throws SQLException {
+        Timestamp leaseUntil = rs.getTimestamp("lease_until");
+        return new RecipeCreationJob(
+                UUID.fromString(rs.getString("id")),
+                UUID.fromString(rs.getString("recipe_id")),
+                rs.getString("video_id"),
+                rs.getLong("credit_cost"),
+                Market.valueOf(rs.getString("market")),
+                rs.getString("country_code"),
+                rs.getInt("attempts"),
+                rs.getString("lease_owner"),
+                leaseUntil == null ? null : leaseUntil.toLocalDateTime(),
+                rs.getTimestamp("created_at").toLocalDateTime());
+    }
+
+    private static String uuidPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "UUID_TO_BIN(?)"));
+    }
+}
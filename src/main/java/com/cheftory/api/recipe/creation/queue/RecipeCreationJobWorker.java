@@ -0,0 +1,206 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.recipe.content.info.RecipeInfoService;
+import com.cheftory.api.recipe.content.info.entity.RecipeStatus;
+import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
+import com.cheftory.api.recipe.creation.AsyncRecipeCreationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 생성 작업 워커.
+ *
+ * <p>`recipe.creation.queue.poll-interval-ms` 주기로 임대할 수 있는 작업을 찾아 노드당 최대
+ * `recipe.creation.queue.concurrency`개까지 임대를 걸고 실행합니다. 실행 중인 작업은
+ * `recipe.creation.queue.heartbeat-interval-ms` 주기로 임대를 연장하므로, 노드가 죽으면 `lease-ms` 뒤에 다른 노드가
+ * 같은 작업을 다시 가져갑니다. 연장은 배치 잡이 도는 기본 스케줄러와 분리된 `controlTaskScheduler`에서 실행하며,
+ * `lease-ms`는 연장 주기보다 충분히 길게 둡니다. 작업은 최소 한 번 실행되며, 같은 작업을 `max-attempts`번 넘게 임대했으면 파이프라인을
+ * 다시 돌리지 않고 실패로 마감합니다.</p>
+ *
+ * <p>실행 직전에 레시피의 `currentJobId`와 상태를 확인해, 재시도로 실행 식별자가 바뀌었거나 이미 끝난 작업은 건너뜁니다.
+ * 실행 중인 작업 수는 `recipe.creation.queue.running` 게이지로 기록됩니다.</p>
+ */
+@Component
+@Slf4j
+public class RecipeCreationJobWorker {
+
+    static final String RUNNING_METRIC = "recipe.creation.queue.running";
+
+    private final RecipeCreationJobRepository repository;
+    private final AsyncRecipeCreationService asyncRecipeCreationService;
+    private final RecipeInfoService recipeInfoService;
+    private final AsyncTaskExecutor recipeCreateExecutor;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int concurrency;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped;
+
+    public RecipeCreationJobWorker(
+            RecipeCreationJobRepository repository,
+            AsyncRecipeCreationService asyncRecipeCreationService,
+            RecipeInfoService recipeInfoService,
+            @Qualifier("recipeCreateExecutor") AsyncTaskExecutor recipeCreateExecutor,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            RecipeCreationQueueProperties properties) {
+        this.repository = repository;
+        this.asyncRecipeCreationService = asyncRecipeCreationService;
+        this.recipeInfoService = recipeInfoService;
+        this.recipeCreateExecutor = recipeCreateExecutor;
+        this.clock = clock;
+        this.enabled = properties.isEnabled();
+        this.concurrency = properties.getConcurrency();
+        this.lease = Duration.ofMillis(properties.getLeaseMs());
+        this.maxAttempts = properties.getMaxAttempts();
+        Gauge.builder(RUNNING_METRIC, running, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * 빈 자리만큼 작업을 임대해 실행합니다. 다른 노드가 먼저 임대한 작업은 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${recipe.creation.queue.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled || stopped) {
+            return;
+        }
+        int free = concurrency - running.size();
+        if (free <= 0) {
+            return;
+        }
+
+        LocalDateTime now = clock.now();
+        List<RecipeCreationJob> candidates;
+        try {
+            candidates = repository.findClaimable(now, free);
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 작업 조회 실패, 다음 주기에 재시도", e);
+            return;
+        }
+
+        LocalDateTime leaseUntil = now.plus(lease);
+        for (RecipeCreationJob candidate : candidates) {
+            if (repository.claim(candidate.getId(), nodeId, now, leaseUntil)) {
+                submit(candidate.leased(nodeId, leaseUntil));
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 임대를 연장합니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${recipe.creation.queue.heartbeat-interval-ms:30000}",
+            scheduler = "controlTaskScheduler")
+    public void heartbeat() {
+        Set<UUID> jobIds = Set.copyOf(running);
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        try {
+            int extended = repository.extendLeases(jobIds, nodeId, clock.now().plus(lease));
+            if (extended < jobIds.size()) {
+                log.warn("레시피 생성 작업 임대 유실: running={}, extended={}", jobIds.size(), extended);
+            }
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 작업 임대 연장 실패: running={}", jobIds.size(), e);
+        }
+    }
+
+    /**
+     * 종료 중에는 새 작업을 임대하지 않고, 실행 중이던 작업의 임대를 풀어 다른 노드가 바로 이어받게 합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        for (UUID jobId : Set.copyOf(running)) {
+            release(jobId);
+        }
+    }
+
+    private void submit(RecipeCreationJob job) {
+        running.add(job.getId());
+        try {
+            recipeCreateExecutor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 작업 제출 실패: jobId={}", job.getId(), e);
+            running.remove(job.getId());
+            release(job.getId());
+        }
+    }
+
+    void run(RecipeCreationJob job) {
+        boolean done = false;
+        try (var ignored = MarketContext.with(job.marketInfo())) {
+            execute(job);
+            done = true;
+        } catch (RuntimeException e) {
+            log.error("레시피 생성 작업 실행 실패, 임대 해제: jobId={}, recipeId={}", job.getId(), job.getRecipeId(), e);
+        } finally {
+            running.remove(job.getId());
+            if (done) {
+                delete(job.getId());
+            } else {
+                release(job.getId());
+            }
+        }
+    }
+
+    private void delete(UUID jobId) {
+        try {
+            repository.delete(jobId, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 작업 삭제 실패, 임대 만료 후 다시 확인: jobId={}", jobId, e);
+        }
+    }
+
+    private void release(UUID jobId) {
+        try {
+            repository.release(jobId, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("레시피 생성 작업 임대 해제 실패, 임대 만료 후 재실행: jobId={}", jobId, e);
+        }
+    }
+
+    private void execute(RecipeCreationJob job) {
+        if (!isCurrent(job)) {
+            log.info("지난 레시피 생성 작업 건너뜀: jobId={}, recipeId={}", job.getId(), job.getRecipeId());
+            return;
+        }
+        if (job.getAttempts() > maxAttempts) {
+            log.error(
+                    "레시피 생성 작업 재시도 한도 초과: jobId={}, recipeId={}, attempts={}",
+                    job.getId(),
+                    job.getRecipeId(),
+                    job.getAttempts());
+            asyncRecipeCreationService.abandon(job.getRecipeId(), job.getCreditCost(), job.getId());
+            return;
+        }
+        asyncRecipeCreationService.create(job.getRecipeId(), job.getCreditCost(), job.getVideoId(), job.getId());
+    }
+
+    private boolean isCurrent(RecipeCreationJob job) {
+        try {
+            return recipeInfoService.get(job.getRecipeId(), job.getId()).getRecipeStatus() == RecipeStatus.IN_PROGRESS;
+        } catch (RecipeInfoException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import com.cheftory.api._common.Clock;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고아 레시피 생성 재투입기.
+ *
+ * <p>기동 시 작업 행 없이 `IN_PROGRESS`에 머문 레시피를 찾아 현재 `currentJobId`로 큐에 다시 넣습니다.
+ * 큐 도입 전 `@Async`로 실행되다 재시작으로 사라진 생성이 대상입니다. 방금 만들어져 아직 큐에 들어가기 전인 레시피를
+ * 건드리지 않도록 임대 시간(`recipe.creation.queue.lease-ms`)보다 오래 갱신되지 않은 레시피만 봅니다.
+ * 여러 노드가 동시에 기동해도 작업 ID가 같아 한 번만 들어갑니다.</p>
+ */
+@Component
+@Slf4j
+public class RecipeCreationOrphanRedriver implements ApplicationRunner {
+
+    private final RecipeCreationJobRepository repository;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration grace;
+
+    public RecipeCreationOrphanRedriver(
+            RecipeCreationJobRepository repository,
+            Clock clock,
+            RecipeCreationQueueProperties properties) {
+        this.repository = repository;
+        this.clock = clock;
+        this.enabled = properties.isEnabled();
+        this.grace = Duration.ofMillis(properties.getLeaseMs());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+
+        List<RecipeCreationJob> orphans = repository.findOrphans(clock.now().minus(grace));
+        int redriven = 0;
+        for (RecipeCreationJob orphan : orphans) {
+            try {
+                repository.insert(orphan);
+                redriven++;
+            } catch (DuplicateKeyException e) {
+                log.debug("이미 재투입된 레시피 생성 작업: jobId={}", orphan.getId());
+            }
+        }
+        if (redriven > 0) {
+            log.info("고아 레시피 생성 작업 재투입: count={}", redriven);
+        }
+    }
+}
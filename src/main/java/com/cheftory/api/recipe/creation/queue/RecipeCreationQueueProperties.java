@@ -0,0 +1,36 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 생성 작업 큐 설정 프로퍼티.
+ *
+ * <p>{@link RecipeCreationJobWorker}와 {@link RecipeCreationOrphanRedriver}가 같은 기본값을 보도록 한곳에 둡니다.
+ * 폴링과 임대 연장 주기는 `@Scheduled`에서 `recipe.creation.queue.poll-interval-ms`,
+ * `recipe.creation.queue.heartbeat-interval-ms`로 직접 읽습니다.</p>
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.creation.queue")
+public class RecipeCreationQueueProperties {
+    /**
+     * 큐 워커와 고아 작업 재투입 활성화 여부.
+     */
+    private boolean enabled = true;
+    /**
+     * 노드당 동시에 실행할 최대 작업 수.
+     */
+    private int concurrency = 4;
+    /**
+     * 작업 임대 시간(ms). 임대 연장 주기보다 충분히 길어야 합니다.
+     */
+    private long leaseMs = 600_000;
+    /**
+     * 같은 작업을 다시 실행할 수 있는 최대 임대 횟수.
+     */
+    private int maxAttempts = 3;
+}
@@ -6,6 +6,7 @@ import com.cheftory.api.recipe.content.info.entity.RecipeStatus;
 import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
 import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
 import com.cheftory.api.recipe.content.youtubemeta.entity.YoutubeMetaType;
+import com.cheftory.api.recipe.search.RecipeSearchCard;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -137,4 +138,35 @@ public class RecipeOverview {
                 isViewed,
                 recipe.getCreditCost());
     }
+
+    /**
+     * 검색 결과 카드로부터 RecipeOverview 생성
+     *
+     * <p>검색 문서에는 `SUCCESS` 레시피만 색인되므로 상태는 `SUCCESS`로 채웁니다.</p>
+     *
+     * @param card 개요 값을 모두 갖춘 검색 결과 카드
+     * @param isViewed 조회 여부
+     * @return 레시피 개요 객체
+     */
+    public static RecipeOverview of(RecipeSearchCard card, Boolean isViewed) {
+        return new RecipeOverview(
+                card.recipeId(),
+                RecipeStatus.SUCCESS,
+                card.viewCount(),
+                card.createdAt(),
+                card.updatedAt(),
+                card.videoTitle(),
+                card.channelTitle(),
+                card.videoId(),
+                URI.create("https://www.youtube.com/watch?v=" + card.videoId()),
+                card.thumbnailUrl(),
+                card.videoSeconds(),
+                card.videoType(),
+                card.description(),
+                card.servings(),
+                card.cookTime(),
+                card.tags(),
+                isViewed,
+                card.creditCost());
+    }
 }
@@ -0,0 +1,100 @@
+package com.cheftory.api.recipe.search;
+
+import com.cheftory.api.recipe.content.youtubemeta.entity.YoutubeMetaType;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 레시피 검색 결과 카드.
+ *
+ * <p>검색 문서의 `_source`에 담긴 개요 값입니다. 카드 필드가 추가되기 전에 색인된 문서는 레시피 ID만 채워지며,
+ * 이 경우 {@link #hasOverview()}가 false입니다.</p>
+ *
+ * @param recipeId 레시피 ID
+ * @param videoTitle 표시 제목
+ * @param channelTitle 채널 제목
+ * @param videoId 유튜브 비디오 ID
+ * @param thumbnailUrl 썸네일 URL
+ * @param videoSeconds 재생 시간 (초)
+ * @param videoType 비디오 타입
+ * @param description 레시피 설명
+ * @param servings 인분
+ * @param cookTime 조리 시간 (분)
+ * @param tags 태그 목록
+ * @param viewCount 조회수 (색인 시점 값, 개요 조립 시 현재 값으로 교체)
+ * @param creditCost 크레딧 비용
+ * @param createdAt 레시피 생성 일시
+ * @param updatedAt 레시피 수정 일시
+ */
+public record RecipeSearchCard(
+        UUID recipeId,
+        String videoTitle,
+        String channelTitle,
+        String videoId,
+        URI thumbnailUrl,
+        Integer videoSeconds,
+        YoutubeMetaType videoType,
+        String description,
+        Integer servings,
+        Integer cookTime,
+        List<String> tags,
+        Integer viewCount,
+        Long creditCost,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * 개요 값 없이 레시피 ID만 담은 카드를 만듭니다.
+     *
+     * @param recipeId 레시피 ID
+     * @return 레시피 ID만 담은 카드
+     */
+    public static RecipeSearchCard idOnly(UUID recipeId) {
+        return new RecipeSearchCard(
+                recipeId, null, null, null, null, null, null, null, null, null, List.of(), null, null, null, null);
+    }
+
+    /**
+     * 조회수만 바꾼 카드를 만듭니다.
+     *
+     * @param viewCount 조회수
+     * @return 조회수를 바꾼 카드
+     */
+    public RecipeSearchCard withViewCount(Integer viewCount) {
+        return new RecipeSearchCard(
+                recipeId,
+                videoTitle,
+                channelTitle,
+                videoId,
+                thumbnailUrl,
+                videoSeconds,
+                videoType,
+                description,
+                servings,
+                cookTime,
+                tags,
+                viewCount,
+                creditCost,
+                createdAt,
+                updatedAt);
+    }
+
+    /**
+     * 카드만으로 개요를 만들 수 있는지 확인합니다. 상세 메타 값(설명, 인분, 조리 시간)은 없어도 됩니다.
+     *
+     * @return 개요를 만들 수 있으면 true
+     */
+    public boolean hasOverview() {
+        return videoTitle != null
+                && videoId != null
+                && thumbnailUrl != null
+                && videoSeconds != null
+                && videoType != null
+                && viewCount != null
+                && creditCost != null
+                && createdAt != null
+                && updatedAt != null;
+    }
+}
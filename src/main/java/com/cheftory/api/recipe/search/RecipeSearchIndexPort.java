@@ -0,0 +1,19 @@
+package com.cheftory.api.recipe.search;
+
+import java.util.UUID;
+
+/**
+ * 레시피 검색 인덱싱 포트.
+ *
+ * <p>레시피의 검색 노출 여부나 문서 내용이 바뀌었음을 검색 인덱싱에 알립니다.</p>
+ */
+public interface RecipeSearchIndexPort {
+    /**
+     * 레시피 재색인을 요청합니다.
+     *
+     * <p>변경과 함께 커밋되도록 레시피 상태를 바꾸는 트랜잭션 안에서 호출해야 합니다.</p>
+     *
+     * @param recipeId 레시피 ID
+     */
+    void requestIndexing(UUID recipeId);
+}
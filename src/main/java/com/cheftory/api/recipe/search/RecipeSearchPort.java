@@ -11,13 +11,14 @@ import java.util.UUID;
  */
 public interface RecipeSearchPort {
     /**
-     * 레시피 ID 목록 검색.
+     * 레시피 검색 결과 카드 목록 검색.
      *
      * @param userId 사용자 ID
      * @param query 검색어
      * @param cursor 페이징 커서
-     * @return 레시피 ID 커서 페이지
+     * @return 검색 결과 카드 커서 페이지 (검색 순서)
      * @throws RecipeSearchException 검색 실패 시
      */
-    CursorPage<UUID> searchRecipeIds(UUID userId, String query, String cursor) throws RecipeSearchException;
+    CursorPage<RecipeSearchCard> searchRecipeCards(UUID userId, String query, String cursor)
+            throws RecipeSearchException;
 }
@@ -25,7 +25,7 @@ public class RankingCandidateSearchAdapter implements RankingCandidateSearchPort
     private final SearchQueryService searchQueryService;
 
     /**
-     * PIT를 엽니다.
+     * 공유 PIT를 대여합니다.
      *
      * @return PIT ID
      * @throws RankingCandidateException 처리 예외
@@ -70,12 +70,12 @@ public class RankingCandidateSearchAdapter implements RankingCandidateSearchPort
     }
 
     /**
-     * PIT를 닫습니다.
+     * 대여한 PIT를 반납합니다.
      *
      * @param pitId PIT ID
      */
     @Override
     public void closePit(String pitId) {
-        searchQueryService.closePit(pitId);
+        searchQueryService.releasePitForCandidates(pitId);
     }
 }
@@ -33,7 +33,8 @@ public class RankingPersonalizationSearchAdapter implements RankingPersonalizati
     public List<RankingPersonalizationSeed> mgetSeeds(List<String> ids) throws RankingPersonalizationException {
         try {
             return searchQueryService.mgetSearchQueries(ids).stream()
-                    .map(doc -> new RankingPersonalizationSeed(doc.getKeywords(), doc.getChannelTitle()))
+                    .map(doc ->
+                            new RankingPersonalizationSeed(doc.getId(), doc.getKeywords(), doc.getChannelTitle()))
                     .toList();
         } catch (SearchException exception) {
             throw new RankingPersonalizationException(
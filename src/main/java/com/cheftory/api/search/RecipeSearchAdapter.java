@@ -1,48 +1,100 @@
 package com.cheftory.api.search;
 
 import com.cheftory.api._common.cursor.CursorPage;
+import com.cheftory.api.recipe.content.youtubemeta.entity.YoutubeMetaType;
+import com.cheftory.api.recipe.search.RecipeSearchCard;
 import com.cheftory.api.recipe.search.RecipeSearchPort;
 import com.cheftory.api.recipe.search.exception.RecipeSearchErrorCode;
 import com.cheftory.api.recipe.search.exception.RecipeSearchException;
 import com.cheftory.api.search.exception.SearchException;
 import com.cheftory.api.search.query.SearchQueryScope;
 import com.cheftory.api.search.query.entity.SearchQuery;
+import com.cheftory.api.search.query.entity.SearchQueryCard;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * 레시피 검색 어댑터.
  *
- * <p>검색 파사드를 사용하여 레시피 검색 포트를 구현합니다.</p>
+ * <p>검색 파사드를 사용하여 레시피 검색 포트를 구현합니다. 검색 문서의 `card` 값을 검색 결과 카드로 옮기며,
+ * 카드가 없거나 읽을 수 없는 문서는 레시피 ID만 담아 돌려줍니다.</p>
  */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class RecipeSearchAdapter implements RecipeSearchPort {
 
     /** 검색 파사드. */
     private final SearchFacade searchFacade;
 
+    /** 문서의 created_at/updated_at을 색인할 때 쓴 시간대 (`search.indexing.timezone`). */
+    private final ZoneId zoneId;
+
+    public RecipeSearchAdapter(
+            SearchFacade searchFacade, @Value("${search.indexing.timezone:Asia/Seoul}") String timezone) {
+        this.searchFacade = searchFacade;
+        this.zoneId = ZoneId.of(timezone);
+    }
+
     /**
-     * 레시피 ID 목록을 검색합니다.
+     * 레시피 검색 결과 카드 목록을 검색합니다.
      *
      * @param userId 사용자 ID
      * @param query 검색어
      * @param cursor 커서
-     * @return 레시피 ID 커서 페이지
+     * @return 검색 결과 카드 커서 페이지
      * @throws RecipeSearchException 처리 예외
      */
     @Override
-    public CursorPage<UUID> searchRecipeIds(UUID userId, String query, String cursor) throws RecipeSearchException {
+    public CursorPage<RecipeSearchCard> searchRecipeCards(UUID userId, String query, String cursor)
+            throws RecipeSearchException {
         try {
             CursorPage<SearchQuery> results = searchFacade.search(SearchQueryScope.RECIPE, userId, query, cursor);
-            List<UUID> items = results.items().stream()
-                    .map(s -> UUID.fromString(s.getId()))
-                    .toList();
+            List<RecipeSearchCard> items =
+                    results.items().stream().map(this::toCard).toList();
             return CursorPage.of(items, results.nextCursor());
         } catch (SearchException exception) {
             throw new RecipeSearchException(RecipeSearchErrorCode.RECIPE_SEARCH_FAILED, exception);
         }
     }
+
+    private RecipeSearchCard toCard(SearchQuery searchQuery) {
+        UUID recipeId = UUID.fromString(searchQuery.getId());
+        SearchQueryCard card = searchQuery.getCard();
+        if (card == null) {
+            return RecipeSearchCard.idOnly(recipeId);
+        }
+
+        try {
+            return new RecipeSearchCard(
+                    recipeId,
+                    card.getVideoTitle(),
+                    searchQuery.getChannelTitle(),
+                    card.getVideoId(),
+                    card.getThumbnailUrl() == null ? null : URI.create(card.getThumbnailUrl()),
+                    card.getVideoSeconds(),
+                    card.getVideoType() == null ? null : YoutubeMetaType.valueOf(card.getVideoType()),
+                    card.getDescription(),
+                    card.getServings(),
+                    card.getCookTime(),
+                    searchQuery.getKeywords() == null ? List.of() : searchQuery.getKeywords(),
+                    card.getViewCount(),
+                    card.getCreditCost(),
+                    toLocalDateTime(searchQuery.getCreatedAt()),
+                    toLocalDateTime(searchQuery.getUpdatedAt()));
+        } catch (IllegalArgumentException e) {
+            log.warn("검색 문서 카드 변환 실패: recipeId={}", recipeId, e);
+            return RecipeSearchCard.idOnly(recipeId);
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Long epochMillis) {
+        return epochMillis == null ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+    }
 }
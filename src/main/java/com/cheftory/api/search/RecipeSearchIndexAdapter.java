@@ -0,0 +1,30 @@
+package com.cheftory.api.search;
+
+import com.cheftory.api.recipe.search.RecipeSearchIndexPort;
+import com.cheftory.api.search.indexing.outbox.SearchIndexingOutboxRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 레시피 검색 인덱싱 어댑터.
+ *
+ * <p>재색인 요청을 검색 인덱싱 아웃박스에 기록합니다. 호출한 트랜잭션에 참여하므로 레시피 변경이 롤백되면 요청도 함께 사라집니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class RecipeSearchIndexAdapter implements RecipeSearchIndexPort {
+
+    /** 검색 인덱싱 아웃박스 저장소. */
+    private final SearchIndexingOutboxRepository outboxRepository;
+
+    /**
+     * 레시피 재색인 요청을 아웃박스에 기록합니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    @Override
+    public void requestIndexing(UUID recipeId) {
+        outboxRepository.append(recipeId);
+    }
+}
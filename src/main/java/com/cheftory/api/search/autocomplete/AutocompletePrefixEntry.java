@@ -0,0 +1,27 @@
+package com.cheftory.api.search.autocomplete;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 접두사 인덱스 적재용 자동완성 문서.
+ *
+ * <p>`autocomplete` 인덱스 전체를 훑을 때 마켓/범위까지 함께 읽기 위한 `_source` 표현입니다.
+ * 문서 ID는 `_source`에 없으므로 조회 후 {@link #withId(String)}로 채웁니다.</p>
+ *
+ * @param id 문서 ID
+ * @param market 마켓 키 (소문자)
+ * @param scope 범위 키 (소문자)
+ * @param text 자동완성 텍스트
+ * @param count 검색 횟수, 없으면 null
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AutocompletePrefixEntry(String id, String market, String scope, String text, Integer count) {
+
+    public AutocompletePrefixEntry withId(String id) {
+        return new AutocompletePrefixEntry(id, market, scope, text, count);
+    }
+
+    public Autocomplete toAutocomplete() {
+        return Autocomplete.builder().id(id).text(text).count(count).build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.cheftory.api.search.autocomplete;
+
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.search.exception.SearchException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 자동완성 접두사 인덱스.
+ *
+ * <p>`autocomplete` 인덱스 전체를 (마켓, 범위)별 {@link AutocompletePrefixTable}로 메모리에 올려, 정확한 접두사
+ * 입력은 OpenSearch를 거치지 않고 바로 응답합니다. 일치하는 접두사가 없거나(오타 등) 아직 적재 전이면
+ * {@link Optional#empty()}를 돌려주고, 호출 측이 기존 fuzzy 검색으로 넘어갑니다.</p>
+ *
+ * <p>각 노드가 `search.autocomplete.prefix-index.refresh-interval-ms` 주기로 다시 적재하고, 자동완성 전체 재구축 잡이
+ * 끝나거나 아웃박스 워커의 증분 반영이 성공한 노드는 바로 다시 적재합니다. 새 테이블을 다 만든 뒤 한 번에
+ * 교체하므로 조회는 잠금 없이 이전 또는 새 테이블 중 하나를 봅니다.</p>
+ */
+@Component
+@Slf4j
+public class AutocompletePrefixIndex {
+
+    static final String LOOKUP_METRIC = "search.autocomplete.prefix.lookup";
+
+    private final AutocompleteRepository autocompleteRepository;
+    private final boolean enabled;
+    private final int pageSize;
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+
+    /** (마켓, 범위) 키별 테이블. 적재 전에는 null. */
+    private volatile Map<String, AutocompletePrefixTable> tables;
+
+    public AutocompletePrefixIndex(
+            AutocompleteRepository autocompleteRepository,
+            MeterRegistry meterRegistry,
+            @Value("${search.autocomplete.prefix-index.enabled:true}") boolean enabled,
+            @Value("${search.autocomplete.prefix-index.page-size:5000}") int pageSize) {
+        this.autocompleteRepository = autocompleteRepository;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.hitCounter = Counter.builder(LOOKUP_METRIC).tag("result", "hit").register(meterRegistry);
+        this.fallbackCounter =
+                Counter.builder(LOOKUP_METRIC).tag("result", "fallback").register(meterRegistry);
+    }
+
+    /**
+     * 현재 마켓에서 접두사로 자동완성을 찾습니다.
+     *
+     * @param scope 검색 범위
+     * @param keyword 검색어, 비어 있으면 count 상위 목록
+     * @param limit 최대 개수
+     * @return 자동완성 목록, OpenSearch로 넘어가야 하면 {@link Optional#empty()}
+     */
+    public Optional<List<Autocomplete>> find(AutocompleteScope scope, String keyword, int limit) {
+        Map<String, AutocompletePrefixTable> snapshot = tables;
+        if (snapshot == null || limit > AutocompletePrefixTable.MAX_LIMIT) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        AutocompletePrefixTable table = snapshot.get(key(currentMarketKey(), scope.name().toLowerCase(Locale.ROOT)));
+        if (keyword == null || keyword.isBlank()) {
+            hitCounter.increment();
+            return Optional.of(table == null ? List.of() : table.top(limit));
+        }
+
+        String prefix = AutocompletePrefixTable.normalize(keyword);
+        List<Autocomplete> found = table == null || prefix.isEmpty() ? List.of() : table.find(prefix, limit);
+        if (found.isEmpty()) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(found);
+    }
+
+    /**
+     * 자동완성 인덱스를 다시 읽어 테이블을 교체합니다. 실패하면 이전 테이블을 그대로 둡니다.
+     */
+    @Scheduled(fixedDelayString = "${search.autocomplete.prefix-index.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            List<AutocompletePrefixEntry> entries = autocompleteRepository.scanAll(pageSize);
+
+            Map<String, List<Autocomplete>> grouped = new HashMap<>();
+            for (AutocompletePrefixEntry entry : entries) {
+                grouped.computeIfAbsent(key(entry.market(), entry.scope()), k -> new ArrayList<>())
+                        .add(entry.toAutocomplete());
+            }
+            Map<String, AutocompletePrefixTable> rebuilt = new HashMap<>();
+            grouped.forEach((key, autocompletes) -> rebuilt.put(key, AutocompletePrefixTable.of(autocompletes)));
+
+            tables = Map.copyOf(rebuilt);
+            log.info(
+                    "자동완성 접두사 인덱스 적재: terms={}, tables={}, tookMs={}",
+                    entries.size(),
+                    rebuilt.size(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (SearchException | RuntimeException e) {
+            log.warn("자동완성 접두사 인덱스 적재 실패, 이전 인덱스 유지", e);
+        }
+    }
+
+    /**
+     * 한 번이라도 적재에 성공했는지 반환합니다.
+     *
+     * @return 적재 여부
+     */
+    public boolean isLoaded() {
+        return tables != null;
+    }
+
+    private static String key(String market, String scope) {
+        return market + ":" + scope;
+    }
+
+    @SneakyThrows
+    private static String currentMarketKey() {
+        return MarketContext.required().market().name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,158 @@
+package com.cheftory.api.search.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 한 (마켓, 범위)의 자동완성 접두사 테이블.
+ *
+ * <p>정규화한 텍스트를 정렬된 배열로 들고 있어, 접두사에 해당하는 구간을 이진 탐색 두 번으로 찾고 그 안에서
+ * count 상위 N개를 고릅니다. 구간이 넓은 짧은 접두사("김" 등)는 처음 조회할 때 상위 {@link #MAX_LIMIT}개를 계산해
+ * 테이블이 교체될 때까지 재사용합니다. 만든 뒤에는 바뀌지 않으므로 여러 스레드가 잠금 없이 읽습니다.</p>
+ *
+ * <p>정규화는 템플릿의 `autocomplete_analyzer`(공백·특수문자 제거 후 소문자)와 같게 맞춰, OpenSearch의
+ * `text.ngram` 필드와 같은 기준으로 접두사를 비교합니다.</p>
+ */
+final class AutocompletePrefixTable {
+
+    /** 한 번에 돌려줄 수 있는 최대 개수. */
+    static final int MAX_LIMIT = 50;
+
+    /** 이보다 넓은 구간은 상위 목록을 계산해 재사용합니다. */
+    private static final int MEMOIZE_RANGE = 256;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern SPECIAL = Pattern.compile("[^a-zA-Z0-9가-힣]");
+
+    /** count 내림차순, 같으면 텍스트 오름차순. */
+    private static final Comparator<Autocomplete> RANKING = Comparator.comparingInt(AutocompletePrefixTable::countOf)
+            .reversed()
+            .thenComparing(Autocomplete::getText);
+
+    private final String[] keys;
+    private final Autocomplete[] autocompletes;
+    private final List<Autocomplete> top;
+    private final Map<String, List<Autocomplete>> wideRanges = new ConcurrentHashMap<>();
+
+    private AutocompletePrefixTable(String[] keys, Autocomplete[] autocompletes) {
+        this.keys = keys;
+        this.autocompletes = autocompletes;
+        this.top = select(0, keys.length, MAX_LIMIT);
+    }
+
+    /**
+     * 자동완성 목록으로 테이블을 만듭니다. 정규화 결과가 빈 텍스트는 접두사로 찾을 수 없으므로 제외합니다.
+     *
+     * @param entries 자동완성 목록
+     * @return 접두사 테이블
+     */
+    static AutocompletePrefixTable of(List<Autocomplete> entries) {
+        List<Keyed> keyed = new ArrayList<>(entries.size());
+        for (Autocomplete autocomplete : entries) {
+            if (autocomplete.getText() == null) {
+                continue;
+            }
+            String key = normalize(autocomplete.getText());
+            if (!key.isEmpty()) {
+                keyed.add(new Keyed(key, autocomplete));
+            }
+        }
+        keyed.sort(Comparator.comparing(Keyed::key));
+
+        String[] keys = new String[keyed.size()];
+        Autocomplete[] autocompletes = new Autocomplete[keyed.size()];
+        for (int i = 0; i < keyed.size(); i++) {
+            keys[i] = keyed.get(i).key();
+            autocompletes[i] = keyed.get(i).autocomplete();
+        }
+        return new AutocompletePrefixTable(keys, autocompletes);
+    }
+
+    /**
+     * `autocomplete_analyzer`와 같은 규칙으로 텍스트를 정규화합니다.
+     *
+     * @param text 원문
+     * @return 공백·특수문자를 제거하고 소문자로 바꾼 텍스트
+     */
+    static String normalize(String text) {
+        String withoutWhitespace = WHITESPACE.matcher(text).replaceAll("");
+        return SPECIAL.matcher(withoutWhitespace).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 테이블에 담긴 용어 수를 반환합니다.
+     *
+     * @return 용어 수
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * count 상위 자동완성을 반환합니다. 빈 검색어 요청에 사용합니다.
+     *
+     * @param limit 최대 개수
+     * @return 자동완성 목록
+     */
+    List<Autocomplete> top(int limit) {
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    /**
+     * 정규화한 접두사로 시작하는 자동완성을 count 순으로 반환합니다.
+     *
+     * @param prefix 정규화한 접두사
+     * @param limit 최대 개수, {@link #MAX_LIMIT}를 넘지 않아야 합니다
+     * @return 자동완성 목록, 일치하는 용어가 없으면 빈 목록
+     */
+    List<Autocomplete> find(String prefix, int limit) {
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        if (from == to) {
+            return List.of();
+        }
+        if (to - from <= MEMOIZE_RANGE) {
+            return select(from, to, limit);
+        }
+        List<Autocomplete> memoized = wideRanges.computeIfAbsent(prefix, p -> select(from, to, MAX_LIMIT));
+        return memoized.subList(0, Math.min(limit, memoized.size()));
+    }
+
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? firstOf(index) : -index - 1;
+    }
+
+    private int firstOf(int index) {
+        while (index > 0 && keys[index - 1].equals(keys[index])) {
+            index--;
+        }
+        return index;
+    }
+
+    private List<Autocomplete> select(int from, int to, int limit) {
+        PriorityQueue<Autocomplete> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (int i = from; i < to; i++) {
+            heap.offer(autocompletes[i]);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Autocomplete> selected = new ArrayList<>(heap);
+        selected.sort(RANKING);
+        return List.copyOf(selected);
+    }
+
+    private static int countOf(Autocomplete autocomplete) {
+        return autocomplete.getCount() == null ? 0 : autocomplete.getCount();
+    }
+
+    private record Keyed(String key, Autocomplete autocomplete) {}
+}
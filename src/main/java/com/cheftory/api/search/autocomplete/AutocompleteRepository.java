@@ -4,6 +4,7 @@ import com.cheftory.api._common.region.Market;
 import com.cheftory.api._common.region.MarketContext;
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -46,6 +47,9 @@ public class AutocompleteRepository {
     /** 필드: 검색 횟수. */
     private static final String FIELD_COUNT = "count";
 
+    /** 필드: 텍스트 원문. */
+    private static final String FIELD_TEXT_KEYWORD = "text.keyword";
+
     /**
      * 자동완성 검색을 수행합니다.
      *
@@ -68,6 +72,58 @@ public class AutocompleteRepository {
         }
     }
 
+    /**
+     * 자동완성 인덱스의 모든 문서를 마켓/범위/텍스트 순으로 읽습니다. 접두사 인덱스 적재에 사용합니다.
+     *
+     * <p>`search_after`로 페이지를 이어 읽으므로 `max_result_window`와 관계없이 전체를 훑을 수 있습니다.</p>
+     *
+     * @param pageSize 요청당 문서 수
+     * @return 전체 자동완성 문서
+     * @throws SearchException 검색 예외
+     */
+    public List<AutocompletePrefixEntry> scanAll(int pageSize) throws SearchException {
+        List<AutocompletePrefixEntry> entries = new ArrayList<>();
+        List<FieldValue> after = null;
+        try {
+            while (true) {
+                List<Hit<AutocompletePrefixEntry>> hits = openSearchClient
+                        .search(buildScanRequest(pageSize, after), AutocompletePrefixEntry.class)
+                        .hits()
+                        .hits();
+                hits.forEach(hit -> entries.add(hit.source().withId(hit.id())));
+                if (hits.size() < pageSize) {
+                    return entries;
+                }
+                after = hits.getLast().sort();
+            }
+        } catch (Exception e) {
+            log.error("자동완성 인덱스 전체 조회 실패: loaded={}", entries.size(), e);
+            throw new SearchException(SearchErrorCode.AUTOCOMPLETE_FAILED, e);
+        }
+    }
+
+    /**
+     * 전체 조회 요청을 빌드합니다.
+     *
+     * @param pageSize 요청당 문서 수
+     * @param after 이전 페이지 마지막 문서의 정렬 값, 첫 페이지면 null
+     * @return 검색 요청
+     */
+    private SearchRequest buildScanRequest(int pageSize, List<FieldValue> after) {
+        SearchRequest.Builder builder = new SearchRequest.Builder()
+                .index(INDEX)
+                .query(q -> q.matchAll(ma -> ma))
+                .sort(sort -> sort.field(f -> f.field(FIELD_MARKET).order(SortOrder.Asc)))
+                .sort(sort -> sort.field(f -> f.field(FIELD_SCOPE).order(SortOrder.Asc)))
+                .sort(sort -> sort.field(f -> f.field(FIELD_TEXT_KEYWORD).order(SortOrder.Asc)))
+                .size(pageSize)
+                .trackTotalHits(t -> t.enabled(false));
+        if (after != null) {
+            builder.searchAfter(after);
+        }
+        return builder.build();
+    }
+
     /**
      * 검색 요청을 빌드합니다.
      *
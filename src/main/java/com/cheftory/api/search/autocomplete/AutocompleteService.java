@@ -2,6 +2,7 @@ package com.cheftory.api.search.autocomplete;
 
 import com.cheftory.api.search.exception.SearchException;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -9,7 +10,8 @@ import org.springframework.stereotype.Service;
 /**
  * 자동완성 서비스.
  *
- * <p>검색어 자동완성 기능을 제공합니다.</p>
+ * <p>검색어 자동완성 기능을 제공합니다. 정확한 접두사 입력은 {@link AutocompletePrefixIndex}에서 바로 응답하고,
+ * 일치하는 접두사가 없을 때(오타 등)만 OpenSearch fuzzy 검색으로 넘어갑니다.</p>
  */
 @Service
 @Slf4j
@@ -22,6 +24,9 @@ public class AutocompleteService {
     /** 자동완성 OpenSearch 리포지토리. */
     private final AutocompleteRepository autocompleteRepository;
 
+    /** 노드 로컬 접두사 인덱스. */
+    private final AutocompletePrefixIndex autocompletePrefixIndex;
+
     /**
      * 자동완성 검색을 수행합니다.
      *
@@ -31,6 +36,10 @@ public class AutocompleteService {
      * @throws SearchException 검색 예외
      */
     public List<Autocomplete> autocomplete(AutocompleteScope scope, String keyword) throws SearchException {
+        Optional<List<Autocomplete>> prefixMatches = autocompletePrefixIndex.find(scope, keyword, DEFAULT_LIMIT);
+        if (prefixMatches.isPresent()) {
+            return prefixMatches.get();
+        }
         return autocompleteRepository.searchAutocomplete(scope, keyword, DEFAULT_LIMIT);
     }
 }
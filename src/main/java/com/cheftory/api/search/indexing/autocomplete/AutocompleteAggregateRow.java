@@ -1,3 +1,28 @@
 package com.cheftory.api.search.indexing.autocomplete;
 
-public record AutocompleteAggregateRow(String market, String text, String scope, int count) {}
+import com.cheftory.api.search.indexing.support.BulkIndexPayload;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public record AutocompleteAggregateRow(String market, String text, String scope, int count) {
+
+    /**
+     * market/scope를 소문자로, text는 앞뒤 공백을 제거해 정규화한 용어 식별자를 반환합니다.
+     */
+    public AutocompleteTerm term() {
+        return new AutocompleteTerm(market.toLowerCase(Locale.ROOT), scope.toLowerCase(Locale.ROOT), text.trim());
+    }
+
+    public BulkIndexPayload toPayload() {
+        AutocompleteTerm term = term();
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("market", term.market());
+        document.put("scope", term.scope());
+        document.put("text", term.text());
+        document.put("count", count);
+
+        return new BulkIndexPayload(term.documentId(), document);
+    }
+}
@@ -0,0 +1,55 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레시피별 자동완성 용어 기여도
+ *
+ * <p>`SUCCESS` 레시피 하나가 자동완성 용어(제목/채널/재료/태그/인분)에 더하는 가중치를 0.1 단위 정수로 보관합니다.
+ * 용어의 자동완성 count는 이 테이블을 용어별로 합산한 값이며, {@link AutocompleteContributionRepository}가 JDBC로 읽고 씁니다.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "autocomplete_contribution",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uq_autocomplete_contribution_recipe_term",
+                    columnNames = {"recipe_id", "market", "scope", "term"})
+        },
+        indexes = {@Index(name = "idx_autocomplete_contribution_term", columnList = "term")})
+public class AutocompleteContribution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID recipeId;
+
+    @Column(nullable = false, length = 20)
+    private String market;
+
+    @Column(nullable = false, length = 20)
+    private String scope;
+
+    @Column(nullable = false)
+    private String term;
+
+    /**
+     * 0.1 단위 가중치 (제목·재료·태그 10, 채널 5, 인분 1)
+     */
+    @Column(nullable = false)
+    private int weight;
+}
@@ -0,0 +1,222 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 자동완성 용어 기여도 저장소.
+ *
+ * <p>`SUCCESS` 레시피의 제목(1.0)/채널(0.5)/재료(1.0)/태그(1.0)/인분(0.1)을 레시피·용어별 가중치로
+ * `autocomplete_contribution`에 펼쳐 둡니다. 레시피 단위로 기여도를 다시 쓰고 바뀐 용어만 합산하면
+ * 전체 카탈로그를 다시 집계하지 않고도 자동완성 count를 유지할 수 있습니다.</p>
+ */
+@Repository
+public class AutocompleteContributionRepository {
+
+    /**
+     * 전체 용어 집계 쿼리. count는 가중치 합을 반올림한 값입니다.
+     */
+    public static final String AGGREGATE_ALL_QUERY = """
+            SELECT
+                c.market,
+                c.term AS text,
+                c.scope,
+                CAST(ROUND(SUM(c.weight) / 10.0) AS UNSIGNED) AS count
+            FROM autocomplete_contribution c
+            GROUP BY c.market, c.scope, c.term
+            ORDER BY c.market ASC, c.term ASC
+            """;
+
+    private static final String SOURCE_QUERY = """
+            SELECT r.id AS recipe_id, LOWER(r.market) AS market, TRIM(yi.title) AS term, 10 AS weight
+            FROM recipe r
+            JOIN recipe_youtube_meta yi ON r.id = yi.recipe_id
+            WHERE r.recipe_status = 'SUCCESS' AND yi.title IS NOT NULL %1$s
+
+            UNION ALL
+
+            SELECT r.id, LOWER(r.market), TRIM(yi.channel_title), 5
+            FROM recipe r
+            JOIN recipe_youtube_meta yi ON r.id = yi.recipe_id
+            WHERE r.recipe_status = 'SUCCESS' AND yi.channel_title IS NOT NULL %1$s
+
+            UNION ALL
+
+            SELECT r.id, LOWER(r.market), TRIM(i.name), 10
+            FROM recipe_ingredient i
+            JOIN recipe r ON i.recipe_id = r.id
+            WHERE r.recipe_status = 'SUCCESS' %1$s
+
+            UNION ALL
+
+            SELECT r.id, LOWER(r.market), TRIM(t.tag), 10
+            FROM recipe_tag t
+            JOIN recipe r ON t.recipe_id = r.id
+            WHERE r.recipe_status = 'SUCCESS' %1$s
+
+            UNION ALL
+
+            SELECT r.id, LOWER(r.market), CONCAT(rdm.servings, '인분'), 1
+            FROM recipe_detail_meta rdm
+            JOIN recipe r ON rdm.recipe_id = r.id
+            WHERE r.recipe_status = 'SUCCESS' AND rdm.servings IS NOT NULL %1$s
+            """;
+
+    private static final int SOURCE_BRANCHES = 5;
+
+    private static final String INSERT_FROM_SOURCE = """
+            INSERT INTO autocomplete_contribution (recipe_id, market, scope, term, weight)
+            SELECT src.recipe_id, src.market, 'recipe', src.term, SUM(src.weight)
+            FROM (%s) src
+            WHERE src.term IS NOT NULL AND src.term <> ''
+            GROUP BY src.recipe_id, src.market, src.term
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AutocompleteContributionRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 모든 기여도를 지우고 현재 `SUCCESS` 레시피로 다시 채웁니다.
+     */
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM autocomplete_contribution");
+        jdbcTemplate.update(INSERT_FROM_SOURCE.formatted(SOURCE_QUERY.formatted("")));
+    }
+
+    /**
+     * 주어진 레시피의 기여도를 현재 상태로 다시 씁니다. `SUCCESS`가 아닌 레시피는 기여도가 사라집니다.
+     *
+     * @param recipeIds 레시피 ID 목록
+     */
+    public void replace(Collection<UUID> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+        Object[] ids = toArgs(recipeIds);
+        jdbcTemplate.update(
+                "DELETE FROM autocomplete_contribution WHERE recipe_id IN (" + uuidPlaceholders(ids.length) + ")",
+                ids);
+
+        String filter = "AND r.id IN (" + uuidPlaceholders(ids.length) + ")";
+        Object[] args = new Object[ids.length * SOURCE_BRANCHES];
+        for (int i = 0; i < SOURCE_BRANCHES; i++) {
+            System.arraycopy(ids, 0, args, i * ids.length, ids.length);
+        }
+        jdbcTemplate.update(INSERT_FROM_SOURCE.formatted(SOURCE_QUERY.formatted(filter)), args);
+    }
+
+    /**
+     * 주어진 레시피의 기여도를 조회합니다.
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @return 레시피·용어별 기여도
+     */
+    public List<AutocompleteContributionRow> findByRecipeIds(Collection<UUID> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return List.of();
+        }
+        Object[] ids = toArgs(recipeIds);
+        return jdbcTemplate.query(
+                """
+                SELECT BIN_TO_UUID(c.recipe_id) AS recipe_id, c.market, c.scope, c.term, c.weight
+                FROM autocomplete_contribution c
+                WHERE c.recipe_id IN (%s)
+                """
+                        .formatted(uuidPlaceholders(ids.length)),
+                (rs, rowNum) -> new AutocompleteContributionRow(
+                        UUID.fromString(rs.getString("recipe_id")),
+                        new AutocompleteTerm(rs.getString("market"), rs.getString("scope"), rs.getString("term")),
+                        rs.getInt("weight")),
+                ids);
+    }
+
+    /**
+     * 주어진 용어와 text가 같은 용어의 가중치 합을 조회합니다. 기여도가 없는 용어는 결과에 포함되지 않습니다.
+     *
+     * @param terms 용어 목록
+     * @return 용어별 집계 행
+     */
+    public List<AutocompleteAggregateRow> aggregate(Collection<AutocompleteTerm> terms) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Object[] texts = terms.stream().map(AutocompleteTerm::text).distinct().toArray();
+        return jdbcTemplate.query(
+                """
+                SELECT
+                    c.market,
+                    c.term AS text,
+                    c.scope,
+                    CAST(ROUND(SUM(c.weight) / 10.0) AS UNSIGNED) AS count
+                FROM autocomplete_contribution c
+                WHERE c.term IN (%s)
+                GROUP BY c.market, c.scope, c.term
+                """
+                        .formatted(String.join(", ", Collections.nCopies(texts.length, "?"))),
+                (rs, rowNum) -> new AutocompleteAggregateRow(
+                        rs.getString("market"), rs.getString("text"), rs.getString("scope"), rs.getInt("count")),
+                texts);
+    }
+
+    /**
+     * 주어진 용어를 `autocomplete` 반영 대기로 기록합니다. 이미 대기 중인 용어는 그대로 둡니다.
+     *
+     * @param terms 용어 목록
+     */
+    public void markPending(Collection<AutocompleteTerm> terms) {
+        if (terms.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO autocomplete_pending_term (market, scope, term) VALUES (?, ?, ?)",
+                terms.stream()
+                        .map(term -> new Object[] {term.market(), term.scope(), term.text()})
+                        .toList());
+    }
+
+    /**
+     * 반영 대기 용어를 기록 순서대로 조회합니다.
+     *
+     * @param limit 최대 개수
+     * @return 반영 대기 용어
+     */
+    public List<AutocompleteTerm> findPending(int limit) {
+        return jdbcTemplate.query(
+                "SELECT p.market, p.scope, p.term FROM autocomplete_pending_term p ORDER BY p.id ASC LIMIT ?",
+                (rs, rowNum) ->
+                        new AutocompleteTerm(rs.getString("market"), rs.getString("scope"), rs.getString("term")),
+                limit);
+    }
+
+    /**
+     * 반영을 마친 용어를 대기 목록에서 지웁니다.
+     *
+     * @param terms 용어 목록
+     */
+    public void deletePending(Collection<AutocompleteTerm> terms) {
+        if (terms.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM autocomplete_pending_term WHERE market = ? AND scope = ? AND term = ?",
+                terms.stream()
+                        .map(term -> new Object[] {term.market(), term.scope(), term.text()})
+                        .toList());
+    }
+
+    private static Object[] toArgs(Collection<UUID> recipeIds) {
+        return recipeIds.stream().map(UUID::toString).toArray();
+    }
+
+    private static String uuidPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "UUID_TO_BIN(?)"));
+    }
+}
@@ -0,0 +1,5 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import java.util.UUID;
+
+public record AutocompleteContributionRow(UUID recipeId, AutocompleteTerm term, int weight) {}
@@ -0,0 +1,64 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 자동완성 기여도 갱신기.
+ *
+ * <p>레시피의 기여도를 현재 상태로 다시 쓰고, 전후 기여도를 비교해 count가 달라진 용어를 같은 트랜잭션에서
+ * `autocomplete_pending_term`에 기록합니다. OpenSearch 반영은 커밋 뒤 {@link AutocompleteIncrementalIndexer}가 맡습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompleteContributionWriter {
+
+    private final AutocompleteContributionRepository contributionRepository;
+
+    /**
+     * 레시피의 기여도를 다시 쓰고 달라진 용어를 반영 대기로 기록합니다.
+     *
+     * @param recipeIds 상태나 내용이 바뀐 레시피 ID 목록
+     * @return 기여도가 달라진 용어
+     */
+    @Transactional
+    public Set<AutocompleteTerm> replace(Collection<UUID> recipeIds) {
+        Map<UUID, Map<AutocompleteTerm, Integer>> before = group(contributionRepository.findByRecipeIds(recipeIds));
+        contributionRepository.replace(recipeIds);
+        Map<UUID, Map<AutocompleteTerm, Integer>> after = group(contributionRepository.findByRecipeIds(recipeIds));
+
+        Set<AutocompleteTerm> changed = new LinkedHashSet<>();
+        for (UUID recipeId : recipeIds) {
+            Map<AutocompleteTerm, Integer> previous = before.getOrDefault(recipeId, Map.of());
+            Map<AutocompleteTerm, Integer> current = after.getOrDefault(recipeId, Map.of());
+            previous.forEach((term, weight) -> {
+                if (!Objects.equals(current.get(term), weight)) {
+                    changed.add(term);
+                }
+            });
+            current.forEach((term, weight) -> {
+                if (!Objects.equals(previous.get(term), weight)) {
+                    changed.add(term);
+                }
+            });
+        }
+        contributionRepository.markPending(changed);
+        return changed;
+    }
+
+    private Map<UUID, Map<AutocompleteTerm, Integer>> group(List<AutocompleteContributionRow> rows) {
+        Map<UUID, Map<AutocompleteTerm, Integer>> grouped = new HashMap<>();
+        rows.forEach(row -> grouped.computeIfAbsent(row.recipeId(), id -> new HashMap<>())
+                .put(row.term(), row.weight()));
+        return grouped;
+    }
+}
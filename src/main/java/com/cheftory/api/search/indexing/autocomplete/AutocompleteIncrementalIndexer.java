@@ -0,0 +1,83 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import com.cheftory.api.search.autocomplete.AutocompletePrefixIndex;
+import com.cheftory.api.search.exception.SearchException;
+import com.cheftory.api.search.indexing.support.SearchIndexingBulkClient;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자동완성 증분 인덱서.
+ *
+ * <p>바뀐 레시피의 용어 기여도만 다시 쓰고, 기여도가 달라진 용어의 count만 다시 합산해 `autocomplete`에 반영합니다.
+ * 기여도가 모두 사라진 용어는 문서를 삭제합니다. 반영 전후 기여도를 비교하므로 같은 레시피를 여러 번 처리해도 결과가 같습니다.</p>
+ *
+ * <p>기여도 변경과 반영 대기 용어 기록은 {@link AutocompleteContributionWriter}가 먼저 커밋하고, bulk 반영은 트랜잭션 밖에서
+ * 합니다. 반영에 실패하면 대기 용어가 남아 있어, 재시도 때 기여도 차이가 없어도 같은 용어를 다시 반영합니다.</p>
+ *
+ * <p>용어를 하나라도 반영했으면 이 노드의 {@link AutocompletePrefixIndex}를 바로 다시 적재합니다.
+ * 다른 노드는 자동완성 재구축 잡 완료 때와 마찬가지로 주기 적재로 따라갑니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIncrementalIndexer {
+
+    private static final String INDEX_AUTOCOMPLETE = "autocomplete";
+    private static final int PENDING_BATCH_SIZE = 1000;
+
+    private final AutocompleteContributionWriter contributionWriter;
+    private final AutocompleteContributionRepository contributionRepository;
+    private final SearchIndexingBulkClient bulkClient;
+    private final AutocompletePrefixIndex autocompletePrefixIndex;
+
+    /**
+     * 레시피의 현재 상태로 자동완성 용어 count를 갱신합니다. 이전 반영에서 남은 대기 용어도 함께 반영하고,
+     * 반영한 용어가 있으면 접두사 인덱스를 다시 적재합니다.
+     *
+     * @param recipeIds 상태나 내용이 바뀐 레시피 ID 목록
+     * @throws SearchException bulk 반영 실패 시
+     */
+    public void apply(Collection<UUID> recipeIds) throws SearchException {
+        if (!recipeIds.isEmpty()) {
+            contributionWriter.replace(recipeIds);
+        }
+
+        List<AutocompleteTerm> pending;
+        boolean pushed = false;
+        do {
+            pending = contributionRepository.findPending(PENDING_BATCH_SIZE);
+            push(pending);
+            pushed |= !pending.isEmpty();
+        } while (pending.size() == PENDING_BATCH_SIZE);
+
+        if (pushed) {
+            autocompletePrefixIndex.refresh();
+        }
+    }
+
+    private void push(List<AutocompleteTerm> terms) throws SearchException {
+        if (terms.isEmpty()) {
+            return;
+        }
+
+        List<AutocompleteAggregateRow> rows = contributionRepository.aggregate(terms);
+        bulkClient.bulkIndex(
+                INDEX_AUTOCOMPLETE,
+                rows.stream().map(AutocompleteAggregateRow::toPayload).toList());
+
+        Set<AutocompleteTerm> remaining = new LinkedHashSet<>();
+        rows.forEach(row -> remaining.add(row.term()));
+        List<String> removed = terms.stream()
+                .filter(term -> !remaining.contains(term))
+                .map(AutocompleteTerm::documentId)
+                .toList();
+        bulkClient.bulkDelete(INDEX_AUTOCOMPLETE, removed);
+
+        contributionRepository.deletePending(terms);
+    }
+}
@@ -0,0 +1,43 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * `autocomplete`에 아직 반영하지 못한 자동완성 용어
+ *
+ * <p>기여도를 다시 쓴 트랜잭션에서 count가 달라진 용어를 함께 기록하고, {@link AutocompleteIncrementalIndexer}가
+ * bulk 반영에 성공한 뒤 지웁니다. 반영에 실패해도 남아 있으므로, 재시도 때 기여도 차이가 없어도 같은 용어를 다시 반영합니다.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "autocomplete_pending_term",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uq_autocomplete_pending_term",
+                    columnNames = {"market", "scope", "term"})
+        })
+public class AutocompletePendingTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String market;
+
+    @Column(nullable = false, length = 20)
+    private String scope;
+
+    @Column(nullable = false)
+    private String term;
+}
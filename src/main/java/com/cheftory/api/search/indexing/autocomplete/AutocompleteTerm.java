@@ -0,0 +1,11 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+/**
+ * 자동완성 용어 식별자. `autocomplete` 문서 ID는 `market:scope:text`입니다.
+ */
+public record AutocompleteTerm(String market, String scope, String text) {
+
+    public String documentId() {
+        return market + ":" + scope + ":" + text;
+    }
+}
@@ -1,29 +1,34 @@
 package com.cheftory.api.search.indexing.config;
 
 import com.cheftory.api._common.cursor.UpdatedAtIdCursor;
+import com.cheftory.api.search.autocomplete.AutocompletePrefixIndex;
 import com.cheftory.api.search.indexing.autocomplete.AutocompleteAggregateRow;
+import com.cheftory.api.search.indexing.autocomplete.AutocompleteContributionRepository;
 import com.cheftory.api.search.indexing.query.SearchQueryDeleteRow;
+import com.cheftory.api.search.indexing.query.SearchQueryDocumentLoader;
 import com.cheftory.api.search.indexing.query.SearchQueryUpsertRow;
 import com.cheftory.api.search.indexing.support.BulkIndexPayload;
 import com.cheftory.api.search.indexing.support.IndexingCursorRepository;
 import com.cheftory.api.search.indexing.support.SearchIndexingBulkClient;
+import com.cheftory.api.search.query.SearchQueryFirstPageCache;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.StreamSupport;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.JobExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
@@ -32,13 +37,11 @@ import org.springframework.batch.infrastructure.item.database.Order;
 import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.batch.infrastructure.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.infrastructure.item.database.support.MySqlPagingQueryProvider;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
-import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.ObjectMapper;
 
 @Configuration
 @RequiredArgsConstructor
@@ -53,32 +56,65 @@ public class SearchIndexingBatchConfig {
     private final DataSource dataSource;
     private final SearchIndexingBulkClient bulkClient;
     private final IndexingCursorRepository cursorRepository;
-    private final ObjectMapper objectMapper;
+    private final SearchQueryDocumentLoader documentLoader;
+    private final AutocompleteContributionRepository contributionRepository;
 
     @Value("${search.indexing.batch-size}")
     private int batchSize;
 
-    @Value("${search.indexing.timezone}")
-    private String timezone;
-
     @Bean
-    public Job autocompleteIndexJob(JobRepository jobRepository, Step autocompleteIndexStep) {
+    public Job autocompleteIndexJob(
+            JobRepository jobRepository,
+            Step autocompleteRebuildStep,
+            Step autocompleteIndexStep,
+            AutocompletePrefixIndex autocompletePrefixIndex) {
         return new JobBuilder("autocompleteIndexJob", jobRepository)
-                .start(autocompleteIndexStep)
+                .start(autocompleteRebuildStep)
+                .next(autocompleteIndexStep)
+                .listener(refreshPrefixIndexAfterJob(autocompletePrefixIndex))
                 .build();
     }
 
+    /**
+     * 자동완성 재구축이 끝난 노드의 접두사 인덱스를 바로 다시 적재합니다. 다른 노드는 주기 적재로 따라갑니다.
+     */
+    static JobExecutionListener refreshPrefixIndexAfterJob(AutocompletePrefixIndex autocompletePrefixIndex) {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                    autocompletePrefixIndex.refresh();
+                }
+            }
+        };
+    }
+
     @Bean
-    public Job searchQueryUpsertIndexJob(JobRepository jobRepository, Step searchQueryUpsertIndexStep) {
+    public Job searchQueryUpsertIndexJob(
+            JobRepository jobRepository,
+            Step searchQueryUpsertIndexStep,
+            SearchQueryFirstPageCache searchQueryFirstPageCache) {
         return new JobBuilder("searchQueryUpsertIndexJob", jobRepository)
                 .start(searchQueryUpsertIndexStep)
+                .listener(new SearchQueryCacheInvalidationListener(searchQueryFirstPageCache))
                 .build();
     }
 
     @Bean
-    public Job searchQueryDeleteIndexJob(JobRepository jobRepository, Step searchQueryDeleteIndexStep) {
+    public Job searchQueryDeleteIndexJob(
+            JobRepository jobRepository,
+            Step searchQueryDeleteIndexStep,
+            SearchQueryFirstPageCache searchQueryFirstPageCache) {
         return new JobBuilder("searchQueryDeleteIndexJob", jobRepository)
                 .start(searchQueryDeleteIndexStep)
+                .listener(new SearchQueryCacheInvalidationListener(searchQueryFirstPageCache))
+                .build();
+    }
+
+    @Bean
+    public Step autocompleteRebuildStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("autocompleteRebuildStep", jobRepository)
+                .tasklet(autocompleteRebuildTasklet(), transactionManager)
                 .build();
     }
 
@@ -141,7 +177,7 @@ public class SearchIndexingBatchConfig {
                 .dataSource(dataSource)
                 .queryProvider(searchQueryUpsertQueryProvider())
                 .parameterValues(parameterValues)
-                .rowMapper(searchQueryUpsertRowMapper())
+                .rowMapper(documentLoader.rowMapper())
                 .pageSize(batchSize)
                 .build();
     }
@@ -175,7 +211,7 @@ public class SearchIndexingBatchConfig {
         return new JdbcCursorItemReaderBuilder<AutocompleteAggregateRow>()
                 .name("autocompleteReader")
                 .dataSource(dataSource)
-                .sql(autocompleteQuery())
+                .sql(AutocompleteContributionRepository.AGGREGATE_ALL_QUERY)
                 .rowMapper((rs, rowNum) -> new AutocompleteAggregateRow(
                         rs.getString("market"), rs.getString("text"), rs.getString("scope"), rs.getInt("count")))
                 .fetchSize(batchSize)
@@ -191,7 +227,7 @@ public class SearchIndexingBatchConfig {
             }
 
             List<BulkIndexPayload> payloads =
-                    rows.stream().map(this::toSearchQueryPayload).toList();
+                    rows.stream().map(documentLoader::toPayload).toList();
             bulkClient.bulkIndex(INDEX_SEARCH_QUERY, payloads);
 
             SearchQueryUpsertRow last = rows.getLast();
@@ -217,6 +253,14 @@ public class SearchIndexingBatchConfig {
         };
     }
 
+    @Bean
+    public Tasklet autocompleteRebuildTasklet() {
+        return (contribution, chunkContext) -> {
+            contributionRepository.rebuild();
+            return RepeatStatus.FINISHED;
+        };
+    }
+
     @Bean
     public ItemWriter<AutocompleteAggregateRow> autocompleteWriter() {
         return chunk -> {
@@ -226,39 +270,15 @@ public class SearchIndexingBatchConfig {
             }
 
             List<BulkIndexPayload> payloads =
-                    rows.stream().map(this::toAutocompletePayload).toList();
+                    rows.stream().map(AutocompleteAggregateRow::toPayload).toList();
             bulkClient.bulkIndex(INDEX_AUTOCOMPLETE, payloads);
         };
     }
 
     private MySqlPagingQueryProvider searchQueryUpsertQueryProvider() {
         MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
-        queryProvider.setSelectClause("""
-                SELECT
-                    BIN_TO_UUID(r.id) AS id,
-                    LOWER(r.market) AS market,
-                    yi.title,
-                    yi.channel_title,
-                    'recipe' AS scope,
-                    CONCAT(rdm.servings, '인분') AS servings_text,
-                    (
-                        SELECT COALESCE(JSON_ARRAYAGG(ri.name), JSON_ARRAY())
-                        FROM recipe_ingredient ri
-                        WHERE ri.recipe_id = r.id
-                    ) AS ingredients_json,
-                    (
-                        SELECT COALESCE(JSON_ARRAYAGG(rt.tag), JSON_ARRAY())
-                        FROM recipe_tag rt
-                        WHERE rt.recipe_id = r.id
-                    ) AS tags_json,
-                    r.created_at,
-                    r.updated_at
-                """);
-        queryProvider.setFromClause("""
-                FROM recipe r
-                LEFT JOIN recipe_youtube_meta yi ON r.id = yi.recipe_id
-                LEFT JOIN recipe_detail_meta rdm ON r.id = rdm.recipe_id
-                """);
+        queryProvider.setSelectClause(SearchQueryDocumentLoader.SELECT_CLAUSE);
+        queryProvider.setFromClause(SearchQueryDocumentLoader.FROM_CLAUSE);
         queryProvider.setWhereClause("""
                 WHERE
                     r.recipe_status = 'SUCCESS'
@@ -306,133 +326,4 @@ public class SearchIndexingBatchConfig {
         queryProvider.setSortKeys(sortKeys);
         return queryProvider;
     }
-
-    private String autocompleteQuery() {
-        return """
-                SELECT
-                    all_text.market,
-                    all_text.text,
-                    'recipe' AS scope,
-                    CAST(ROUND(SUM(all_text.weight)) AS UNSIGNED) AS count
-                FROM (
-                    SELECT
-                        LOWER(r.market) AS market,
-                        yi.title AS text,
-                        1.0 AS weight
-                    FROM recipe r
-                    LEFT JOIN recipe_youtube_meta yi ON r.id = yi.recipe_id
-                    WHERE r.recipe_status = 'SUCCESS' AND yi.title IS NOT NULL
-
-                    UNION ALL
-
-                    SELECT
-                        LOWER(r.market) AS market,
-                        yi.channel_title AS text,
-                        0.5 AS weight
-                    FROM recipe r
-                    LEFT JOIN recipe_youtube_meta yi ON r.id = yi.recipe_id
-                    WHERE r.recipe_status = 'SUCCESS' AND yi.channel_title IS NOT NULL
-
-                    UNION ALL
-
-                    SELECT
-                        LOWER(r.market) AS market,
-                        i.name AS text,
-                        1.0 AS weight
-                    FROM recipe_ingredient i
-                    JOIN recipe r ON i.recipe_id = r.id
-                    WHERE r.recipe_status = 'SUCCESS'
-
-                    UNION ALL
-
-                    SELECT
-                        LOWER(r.market) AS market,
-                        t.tag AS text,
-                        1.0 AS weight
-                    FROM recipe_tag t
-                    JOIN recipe r ON t.recipe_id = r.id
-                    WHERE r.recipe_status = 'SUCCESS'
-
-                    UNION ALL
-
-                    SELECT
-                        LOWER(r.market) AS market,
-                        CONCAT(rdm.servings, '인분') AS text,
-                        0.1 AS weight
-                    FROM recipe_detail_meta rdm
-                    JOIN recipe r ON rdm.recipe_id = r.id
-                    WHERE r.recipe_status = 'SUCCESS'
-                      AND rdm.servings IS NOT NULL
-                ) AS all_text
-                GROUP BY all_text.market, all_text.text
-                ORDER BY all_text.market ASC, all_text.text ASC
-                """;
-    }
-
-    private RowMapper<SearchQueryUpsertRow> searchQueryUpsertRowMapper() {
-        return (rs, rowNum) -> new SearchQueryUpsertRow(
-                rs.getString("id"),
-                rs.getString("market"),
-                rs.getString("title"),
-                rs.getString("channel_title"),
-                rs.getString("scope"),
-                rs.getString("servings_text"),
-                parseJsonArray(rs.getString("ingredients_json")),
-                parseJsonArray(rs.getString("tags_json")),
-                rs.getTimestamp("created_at").toLocalDateTime(),
-                rs.getTimestamp("updated_at").toLocalDateTime());
-    }
-
-    private List<String> parseJsonArray(String jsonArrayString) {
-        if (jsonArrayString == null || jsonArrayString.isBlank()) {
-            return List.of();
-        }
-
-        try {
-            JsonNode node = objectMapper.readTree(jsonArrayString);
-            if (!node.isArray()) {
-                throw new IllegalStateException("Expected JSON array but got: " + jsonArrayString);
-            }
-            return StreamSupport.stream(node.spliterator(), false)
-                    .map(JsonNode::asText)
-                    .toList();
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to parse JSON array: " + jsonArrayString, e);
-        }
-    }
-
-    private BulkIndexPayload toSearchQueryPayload(SearchQueryUpsertRow row) {
-        Map<String, Object> document = new LinkedHashMap<>();
-        document.put("id", row.id());
-        document.put("market", row.market());
-        document.put("scope", row.scope());
-        document.put("title", row.title());
-        document.put("channel_title", row.channelTitle());
-        document.put("servings_text", row.servingsText());
-        document.put("ingredients", row.ingredients());
-        document.put("keywords", row.keywords());
-        document.put("created_at", toEpochMillis(row.createdAt()));
-        document.put("updated_at", toEpochMillis(row.updatedAt()));
-
-        return new BulkIndexPayload(row.id(), document);
-    }
-
-    private BulkIndexPayload toAutocompletePayload(AutocompleteAggregateRow row) {
-        String market = row.market().toLowerCase(Locale.ROOT);
-        String scope = row.scope().toLowerCase(Locale.ROOT);
-        String text = row.text().trim();
-
-        Map<String, Object> document = new LinkedHashMap<>();
-        document.put("market", market);
-        document.put("scope", scope);
-        document.put("text", text);
-        document.put("count", row.count());
-
-        return new BulkIndexPayload(market + ":" + scope + ":" + text, document);
-    }
-
-    private long toEpochMillis(LocalDateTime localDateTime) {
-        ZoneId zoneId = ZoneId.of(timezone);
-        return localDateTime.atZone(zoneId).toInstant().toEpochMilli();
-    }
 }
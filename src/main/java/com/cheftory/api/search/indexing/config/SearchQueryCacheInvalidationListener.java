@@ -0,0 +1,29 @@
+package com.cheftory.api.search.indexing.config;
+
+import com.cheftory.api.search.query.SearchQueryFirstPageCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+
+/**
+ * `search_query`를 쓴 잡이 끝나면 이 노드의 키워드 검색 첫 페이지 캐시를 비웁니다.
+ *
+ * <p>잡이 실패해도 그 전에 반영된 청크가 있을 수 있으므로 상태와 관계없이 쓴 건수만 봅니다.
+ * 아무것도 쓰지 않은 보정 주기에는 캐시를 그대로 둡니다.</p>
+ */
+@RequiredArgsConstructor
+class SearchQueryCacheInvalidationListener implements JobExecutionListener {
+
+    private final SearchQueryFirstPageCache searchQueryFirstPageCache;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        long written = jobExecution.getStepExecutions().stream()
+                .mapToLong(StepExecution::getWriteCount)
+                .sum();
+        if (written > 0) {
+            searchQueryFirstPageCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.cheftory.api.search.indexing.config;
+
+import com.cheftory.api.search.indexing.outbox.SearchIndexingOutboxRepository;
+import com.cheftory.api.search.indexing.query.SearchQueryDocumentLoader;
+import com.cheftory.api.search.indexing.query.SearchQueryReindexPartitioner;
+import com.cheftory.api.search.indexing.query.SearchQueryUpsertRow;
+import com.cheftory.api.search.indexing.support.BulkIndexPayload;
+import com.cheftory.api.search.indexing.support.SearchIndexingBulkClient;
+import com.cheftory.api.search.indexing.support.SearchIndexingTemplateClient;
+import com.cheftory.api.search.indexing.support.VersionedIndexNames;
+import com.cheftory.api.search.query.SearchQueryFirstPageCache;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * `search_query` 전체 재색인 잡 설정.
+ *
+ * <p>잡 파라미터 `targetIndex`로 받은 새 버전 인덱스를 템플릿으로 만들고(refresh 끔), `SUCCESS` 레시피를
+ * market·id 구간으로 나눠 여러 스레드에서 동시에 bulk 색인합니다. 적재가 끝나면 `search_query` alias를 새 인덱스로
+ * 원자적으로 옮기므로 검색은 중단 없이 새 매핑을 보게 됩니다.</p>
+ *
+ * <p>직전 버전 인덱스는 되돌리기와 열려 있는 PIT를 위해 남겨 두고, 그보다 오래된 버전만 삭제합니다.
+ * 적재 중에 바뀐 레시피는 이전 인덱스에 반영되었으므로, 교체 후 잡 시작 시각(`upperBoundUpdatedAt`) 이후 바뀐
+ * 레시피를 아웃박스에 다시 넣어 새 인덱스에 반영합니다.</p>
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class SearchQueryReindexBatchConfig {
+
+    private static final String INDEX_SEARCH_QUERY = "search_query";
+
+    private static final String PARAM_TARGET_INDEX = "targetIndex";
+    private static final String PARAM_UPPER_BOUND_UPDATED_AT = "upperBoundUpdatedAt";
+
+    private static final String CHANGED_SINCE_QUERY = """
+            SELECT BIN_TO_UUID(r.id)
+            FROM recipe r
+            WHERE r.updated_at >= ?
+            """;
+
+    private final DataSource dataSource;
+    private final SearchIndexingBulkClient bulkClient;
+    private final SearchIndexingTemplateClient templateClient;
+    private final SearchQueryDocumentLoader documentLoader;
+    private final SearchIndexingOutboxRepository outboxRepository;
+
+    @Value("${search.indexing.batch-size}")
+    private int batchSize;
+
+    @Value("${search.indexing.reindex.partition-size:5000}")
+    private int partitionSize;
+
+    @Value("${search.indexing.reindex.concurrency:4}")
+    private int concurrency;
+
+    @Bean
+    public Job searchQueryReindexJob(
+            JobRepository jobRepository,
+            Step searchQueryReindexPrepareStep,
+            Step searchQueryReindexStep,
+            Step searchQueryReindexSwapStep,
+            Step searchQueryReindexCatchUpStep,
+            SearchQueryFirstPageCache searchQueryFirstPageCache) {
+        return new JobBuilder("searchQueryReindexJob", jobRepository)
+                .start(searchQueryReindexPrepareStep)
+                .next(searchQueryReindexStep)
+                .next(searchQueryReindexSwapStep)
+                .next(searchQueryReindexCatchUpStep)
+                .listener(new SearchQueryCacheInvalidationListener(searchQueryFirstPageCache))
+                .build();
+    }
+
+    @Bean
+    public Step searchQueryReindexPrepareStep(
+            JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("searchQueryReindexPrepareStep", jobRepository)
+                .tasklet(searchQueryReindexPrepareTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step searchQueryReindexStep(JobRepository jobRepository, Step searchQueryReindexPartitionStep) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("search-query-reindex-");
+        taskExecutor.setConcurrencyLimit(concurrency);
+
+        return new StepBuilder("searchQueryReindexStep", jobRepository)
+                .partitioner("searchQueryReindexPartitionStep", searchQueryReindexPartitioner())
+                .step(searchQueryReindexPartitionStep)
+                .gridSize(concurrency)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step searchQueryReindexPartitionStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            JdbcCursorItemReader<SearchQueryUpsertRow> searchQueryReindexReader,
+            ItemWriter<SearchQueryUpsertRow> searchQueryReindexWriter) {
+        return new StepBuilder("searchQueryReindexPartitionStep", jobRepository)
+                .<SearchQueryUpsertRow, SearchQueryUpsertRow>chunk(batchSize)
+                .transactionManager(transactionManager)
+                .reader(searchQueryReindexReader)
+                .writer(searchQueryReindexWriter)
+                .build();
+    }
+
+    @Bean
+    public Step searchQueryReindexSwapStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("searchQueryReindexSwapStep", jobRepository)
+                .tasklet(searchQueryReindexSwapTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step searchQueryReindexCatchUpStep(
+            JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("searchQueryReindexCatchUpStep", jobRepository)
+                .tasklet(searchQueryReindexCatchUpTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    public SearchQueryReindexPartitioner searchQueryReindexPartitioner() {
+        return new SearchQueryReindexPartitioner(dataSource, partitionSize);
+    }
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<SearchQueryUpsertRow> searchQueryReindexReader(
+            @Value("#{stepExecutionContext['market']}") String market,
+            @Value("#{stepExecutionContext['lowerId']}") String lowerId,
+            @Value("#{stepExecutionContext['upperId']}") String upperId) {
+        return new JdbcCursorItemReaderBuilder<SearchQueryUpsertRow>()
+                .name("searchQueryReindexReader")
+                .dataSource(dataSource)
+                .sql(SearchQueryDocumentLoader.SELECT_CLAUSE
+                        + SearchQueryDocumentLoader.FROM_CLAUSE
+                        + """
+                        WHERE
+                            r.recipe_status = 'SUCCESS'
+                            AND r.market = ?
+                            AND r.id > UUID_TO_BIN(?)
+                            AND r.id <= UUID_TO_BIN(?)
+                        ORDER BY r.id ASC
+                        """)
+                .queryArguments(market, lowerId, upperId)
+                .rowMapper(documentLoader.rowMapper())
+                .fetchSize(batchSize)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<SearchQueryUpsertRow> searchQueryReindexWriter(
+            @Value("#{jobParameters['targetIndex']}") String targetIndex) {
+        return chunk -> {
+            List<? extends SearchQueryUpsertRow> rows = chunk.getItems();
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            List<BulkIndexPayload> payloads =
+                    rows.stream().map(documentLoader::toPayload).toList();
+            bulkClient.bulkIndex(targetIndex, payloads);
+        };
+    }
+
+    @Bean
+    public Tasklet searchQueryReindexPrepareTasklet() {
+        return (contribution, chunkContext) -> {
+            String targetIndex = jobParameter(chunkContext.getStepContext().getJobParameters(), PARAM_TARGET_INDEX);
+            templateClient.createIndexForBulkLoad(targetIndex);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    public Tasklet searchQueryReindexSwapTasklet() {
+        return (contribution, chunkContext) -> {
+            String targetIndex = jobParameter(chunkContext.getStepContext().getJobParameters(), PARAM_TARGET_INDEX);
+            templateClient.finishBulkLoad(targetIndex);
+
+            Set<String> previous = templateClient.resolveIndices(INDEX_SEARCH_QUERY);
+            Set<String> versions = templateClient.resolveIndices(VersionedIndexNames.pattern(INDEX_SEARCH_QUERY));
+            templateClient.swapAlias(INDEX_SEARCH_QUERY, targetIndex);
+
+            for (String index : versions) {
+                if (!index.equals(targetIndex) && !previous.contains(index)) {
+                    templateClient.deleteIndex(index);
+                }
+            }
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    public Tasklet searchQueryReindexCatchUpTasklet() {
+        return (contribution, chunkContext) -> {
+            LocalDateTime since = LocalDateTime.parse(
+                    jobParameter(chunkContext.getStepContext().getJobParameters(), PARAM_UPPER_BOUND_UPDATED_AT));
+
+            List<UUID> changed = new JdbcTemplate(dataSource)
+                    .queryForList(CHANGED_SINCE_QUERY, String.class, Timestamp.valueOf(since))
+                    .stream()
+                    .map(UUID::fromString)
+                    .toList();
+            outboxRepository.appendAll(changed);
+            log.info("searchQueryReindexJob catch-up enqueued. since={}, recipes={}", since, changed.size());
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    private static String jobParameter(Map<String, Object> jobParameters, String name) {
+        Object value = jobParameters.get(name);
+        if (value == null) {
+            throw new IllegalStateException("Missing job parameter: " + name);
+        }
+        return value.toString();
+    }
+}
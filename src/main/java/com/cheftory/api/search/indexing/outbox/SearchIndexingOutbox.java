@@ -0,0 +1,57 @@
+package com.cheftory.api.search.indexing.outbox;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 인덱싱 아웃박스 이벤트
+ *
+ * <p>레시피 상태가 바뀐 트랜잭션 안에서 함께 기록되며, {@link SearchIndexingOutboxWorker}가 읽어
+ * `search_query` 문서를 갱신한 뒤 삭제합니다. ID는 시간 순서 UUID라 기록 순서대로 꺼낼 수 있습니다.</p>
+ */
+@Entity
+@Table(name = "search_indexing_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchIndexingOutbox {
+
+    /**
+     * 이벤트 고유 ID (시간 순서 UUID)
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * 상태가 바뀐 레시피 ID
+     */
+    @Column(nullable = false)
+    private UUID recipeId;
+
+    /**
+     * 생성일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 신규 아웃박스 이벤트 생성
+     *
+     * @param recipeId 상태가 바뀐 레시피 ID
+     * @param clock 현재 시간 제공 객체
+     * @return 생성된 아웃박스 이벤트
+     */
+    public static SearchIndexingOutbox create(UUID recipeId, Clock clock) {
+        return new SearchIndexingOutbox(TimeOrderedUuid.generate(), recipeId, clock.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.cheftory.api.search.indexing.outbox;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 검색 인덱싱 아웃박스 JPA Repository
+ */
+public interface SearchIndexingOutboxJpaRepository extends JpaRepository<SearchIndexingOutbox, UUID> {
+
+    /**
+     * 아웃박스 이벤트를 ID 오름차순으로 조회합니다. ID가 시간 순서 UUID라 기록 순서와 같습니다.
+     *
+     * @param pageable 조회 개수를 담은 페이지 정보
+     * @return 기록 순서대로 정렬된 이벤트 목록
+     */
+    List<SearchIndexingOutbox> findAllByOrderByIdAsc(Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package com.cheftory.api.search.indexing.outbox;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 검색 인덱싱 아웃박스 Repository
+ *
+ * <p>레시피 상태 변경과 같은 트랜잭션에서 이벤트를 기록하고, {@link SearchIndexingOutboxWorker}가 기록 순서대로 꺼내
+ * 반영한 뒤 삭제합니다.</p>
+ */
+public interface SearchIndexingOutboxRepository {
+
+    /**
+     * 레시피 하나의 아웃박스 이벤트를 기록합니다.
+     *
+     * @param recipeId 상태가 바뀐 레시피 ID
+     */
+    void append(UUID recipeId);
+
+    /**
+     * 여러 레시피의 아웃박스 이벤트를 한 번에 기록합니다. 비어 있으면 아무것도 하지 않습니다.
+     *
+     * @param recipeIds 상태가 바뀐 레시피 ID 목록
+     */
+    void appendAll(Collection<UUID> recipeIds);
+
+    /**
+     * 가장 오래된 아웃박스 이벤트부터 조회합니다.
+     *
+     * @param limit 최대 조회 개수
+     * @return 기록 순서대로 정렬된 이벤트 목록
+     */
+    List<SearchIndexingOutbox> findOldest(int limit);
+
+    /**
+     * 반영을 마친 아웃박스 이벤트를 삭제합니다. 비어 있으면 아무것도 하지 않습니다.
+     *
+     * @param events 삭제할 이벤트 목록
+     */
+    void delete(List<SearchIndexingOutbox> events);
+}
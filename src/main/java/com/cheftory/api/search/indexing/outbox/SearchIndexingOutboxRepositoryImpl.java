@@ -0,0 +1,70 @@
+package com.cheftory.api.search.indexing.outbox;
+
+import com.cheftory.api._common.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 인덱싱 아웃박스 Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexingOutboxRepositoryImpl implements SearchIndexingOutboxRepository {
+
+    private final Clock clock;
+    private final SearchIndexingOutboxJpaRepository jpaRepository;
+
+    /**
+     * 레시피 하나의 아웃박스 이벤트를 기록합니다.
+     *
+     * @param recipeId 상태가 바뀐 레시피 ID
+     */
+    @Override
+    public void append(UUID recipeId) {
+        jpaRepository.save(SearchIndexingOutbox.create(recipeId, clock));
+    }
+
+    /**
+     * 여러 레시피의 아웃박스 이벤트를 한 번에 기록합니다. 비어 있으면 아무것도 하지 않습니다.
+     *
+     * @param recipeIds 상태가 바뀐 레시피 ID 목록
+     */
+    @Override
+    public void appendAll(Collection<UUID> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.saveAll(recipeIds.stream()
+                .map(recipeId -> SearchIndexingOutbox.create(recipeId, clock))
+                .toList());
+    }
+
+    /**
+     * 가장 오래된 아웃박스 이벤트부터 조회합니다.
+     *
+     * @param limit 최대 조회 개수
+     * @return 기록 순서대로 정렬된 이벤트 목록
+     */
+    @Override
+    public List<SearchIndexingOutbox> findOldest(int limit) {
+        return jpaRepository.findAllByOrderByIdAsc(PageRequest.of(0, limit));
+    }
+
+    /**
+     * 반영을 마친 아웃박스 이벤트를 ID 목록으로 한 번에 삭제합니다. 비어 있으면 아무것도 하지 않습니다.
+     *
+     * @param events 삭제할 이벤트 목록
+     */
+    @Override
+    public void delete(List<SearchIndexingOutbox> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteAllByIdInBatch(
+                events.stream().map(SearchIndexingOutbox::getId).toList());
+    }
+}
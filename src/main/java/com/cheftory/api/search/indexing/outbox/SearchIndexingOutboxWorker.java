@@ -0,0 +1,113 @@
+package com.cheftory.api.search.indexing.outbox;
+
+import com.cheftory.api.search.exception.SearchException;
+import com.cheftory.api.search.indexing.autocomplete.AutocompleteIncrementalIndexer;
+import com.cheftory.api.search.indexing.query.SearchQueryDocumentLoader;
+import com.cheftory.api.search.indexing.query.SearchQueryUpsertRow;
+import com.cheftory.api.search.indexing.support.SearchIndexingBulkClient;
+import com.cheftory.api.search.query.SearchQueryFirstPageCache;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 인덱싱 아웃박스 워커.
+ *
+ * <p>`search.indexing.outbox.poll-interval-ms` 주기로 아웃박스 이벤트를 오래된 순서대로 읽어, 바뀐 레시피만
+ * `search_query`에 반영합니다. 이벤트에는 레시피 ID만 있으므로 반영 시점의 상태를 다시 읽어 `SUCCESS`면 문서를
+ * 색인하고, 그 외 상태(차단/실패/밴)나 사라진 레시피는 문서를 삭제합니다. 같은 레시피의 이벤트가 여러 개 쌓여도
+ * 한 번만 처리됩니다. 같은 레시피 목록으로 {@link AutocompleteIncrementalIndexer}를 호출해
+ * 자동완성 count도 함께 갱신합니다. 반영한 뒤에는 이 노드의 {@link SearchQueryFirstPageCache}를 비웁니다.</p>
+ *
+ * <p>bulk 반영에 성공한 이벤트만 삭제하므로 실패한 이벤트는 다음 주기에 다시 처리됩니다.
+ * 상태를 읽고 반영하는 사이에 순서가 뒤바뀌지 않도록 ShedLock으로 한 노드만 실행합니다.</p>
+ */
+@Component
+@Slf4j
+public class SearchIndexingOutboxWorker {
+
+    private static final String INDEX_SEARCH_QUERY = "search_query";
+
+    private final SearchIndexingOutboxRepository outboxRepository;
+    private final SearchQueryDocumentLoader documentLoader;
+    private final SearchIndexingBulkClient bulkClient;
+    private final AutocompleteIncrementalIndexer autocompleteIndexer;
+    private final SearchQueryFirstPageCache searchQueryFirstPageCache;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public SearchIndexingOutboxWorker(
+            SearchIndexingOutboxRepository outboxRepository,
+            SearchQueryDocumentLoader documentLoader,
+            SearchIndexingBulkClient bulkClient,
+            AutocompleteIncrementalIndexer autocompleteIndexer,
+            SearchQueryFirstPageCache searchQueryFirstPageCache,
+            @Value("${search.indexing.outbox.batch-size:500}") int batchSize,
+            @Value("${search.indexing.outbox.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.outboxRepository = outboxRepository;
+        this.documentLoader = documentLoader;
+        this.bulkClient = bulkClient;
+        this.autocompleteIndexer = autocompleteIndexer;
+        this.searchQueryFirstPageCache = searchQueryFirstPageCache;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * 쌓인 아웃박스 이벤트를 배치 단위로 반영합니다. 한 번 실행에 최대 `max-batches-per-run`개 배치를 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.indexing.outbox.poll-interval-ms:1000}")
+    @SchedulerLock(name = "search-indexing-outbox", lockAtMostFor = "PT1M")
+    public void drain() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (drainBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 아웃박스 이벤트 한 배치를 반영합니다.
+     *
+     * @return 반영 후 삭제한 이벤트 수, 반영에 실패하면 0
+     */
+    int drainBatch() {
+        List<SearchIndexingOutbox> events = outboxRepository.findOldest(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> recipeIds = new LinkedHashSet<>();
+        events.forEach(event -> recipeIds.add(event.getRecipeId()));
+
+        try {
+            List<SearchQueryUpsertRow> rows = documentLoader.loadSuccessRows(recipeIds);
+            bulkClient.bulkIndex(
+                    INDEX_SEARCH_QUERY,
+                    rows.stream().map(documentLoader::toPayload).toList());
+
+            Set<String> indexed = new LinkedHashSet<>();
+            rows.forEach(row -> indexed.add(row.id()));
+            List<String> removed = recipeIds.stream()
+                    .map(UUID::toString)
+                    .filter(id -> !indexed.contains(id))
+                    .toList();
+            bulkClient.bulkDelete(INDEX_SEARCH_QUERY, removed);
+
+            autocompleteIndexer.apply(recipeIds);
+        } catch (SearchException | RuntimeException e) {
+            log.warn("검색 인덱싱 아웃박스 반영 실패, 다음 주기에 재시도: events={}", events.size(), e);
+            return 0;
+        }
+
+        searchQueryFirstPageCache.invalidateAll();
+        outboxRepository.delete(events);
+        return events.size();
+    }
+}
@@ -0,0 +1,195 @@
+package com.cheftory.api.search.indexing.query;
+
+import com.cheftory.api.search.indexing.support.BulkIndexPayload;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * `search_query` 문서 로더.
+ *
+ * <p>레시피·유튜브 메타·상세 메타·재료·태그를 모아 `search_query` 문서 행을 만들고 bulk payload로 변환합니다.
+ * 배치 upsert 잡과 아웃박스 워커가 같은 SELECT와 문서 형식을 쓰도록 한 곳에 둡니다.</p>
+ *
+ * <p>검색 결과 카드에 필요한 값은 `card` 필드에 담아, 검색 화면이 MySQL을 다시 조회하지 않고 `_source`만으로
+ * 개요를 만들 수 있게 합니다. 조회수는 문서를 다시 쓸 때만 갱신되므로 카드의 조회수는 색인 시점 값이며,
+ * 개요를 조립할 때 현재 값으로 바꿉니다.</p>
+ */
+@Component
+public class SearchQueryDocumentLoader {
+
+    public static final String SELECT_CLAUSE = """
+            SELECT
+                BIN_TO_UUID(r.id) AS id,
+                LOWER(r.market) AS market,
+                yi.title,
+                yi.channel_title,
+                'recipe' AS scope,
+                CONCAT(rdm.servings, '인분') AS servings_text,
+                (
+                    SELECT COALESCE(JSON_ARRAYAGG(ri.name), JSON_ARRAY())
+                    FROM recipe_ingredient ri
+                    WHERE ri.recipe_id = r.id
+                ) AS ingredients_json,
+                (
+                    SELECT COALESCE(JSON_ARRAYAGG(rt.tag), JSON_ARRAY())
+                    FROM recipe_tag rt
+                    WHERE rt.recipe_id = r.id
+                ) AS tags_json,
+                r.created_at,
+                r.updated_at,
+                r.view_count,
+                r.credit_cost,
+                yi.video_id,
+                yi.thumbnail_url,
+                yi.video_seconds,
+                yi.type AS video_type,
+                rdm.title AS detail_title,
+                rdm.description,
+                rdm.servings,
+                rdm.cook_time
+            """;
+
+    public static final String FROM_CLAUSE = """
+            FROM recipe r
+            LEFT JOIN recipe_youtube_meta yi ON r.id = yi.recipe_id
+            LEFT JOIN recipe_detail_meta rdm ON r.id = rdm.recipe_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ZoneId zoneId;
+
+    public SearchQueryDocumentLoader(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${search.indexing.timezone:Asia/Seoul}") String timezone) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.zoneId = ZoneId.of(timezone);
+    }
+
+    /**
+     * 주어진 레시피 중 `SUCCESS` 상태인 레시피의 문서 행을 조회합니다.
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @return 검색에 노출할 레시피의 문서 행
+     */
+    public List<SearchQueryUpsertRow> loadSuccessRows(Collection<UUID> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(recipeIds.size(), "UUID_TO_BIN(?)"));
+        String sql = SELECT_CLAUSE + FROM_CLAUSE
+                + "WHERE r.recipe_status = 'SUCCESS' AND r.id IN (" + placeholders + ")";
+        Object[] args = recipeIds.stream().map(UUID::toString).toArray();
+        return jdbcTemplate.query(sql, rowMapper(), args);
+    }
+
+    public RowMapper<SearchQueryUpsertRow> rowMapper() {
+        return (rs, rowNum) -> new SearchQueryUpsertRow(
+                rs.getString("id"),
+                rs.getString("market"),
+                rs.getString("title"),
+                rs.getString("channel_title"),
+                rs.getString("scope"),
+                rs.getString("servings_text"),
+                parseJsonArray(rs.getString("ingredients_json")),
+                parseJsonArray(rs.getString("tags_json")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime(),
+                card(rs));
+    }
+
+    public BulkIndexPayload toPayload(SearchQueryUpsertRow row) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("id", row.id());
+        document.put("market", row.market());
+        document.put("scope", row.scope());
+        document.put("title", row.title());
+        document.put("channel_title", row.channelTitle());
+        document.put("servings_text", row.servingsText());
+        document.put("ingredients", row.ingredients());
+        document.put("keywords", row.keywords());
+        document.put("created_at", toEpochMillis(row.createdAt()));
+        document.put("updated_at", toEpochMillis(row.updatedAt()));
+        if (row.card() != null) {
+            document.put("card", toCardDocument(row.card()));
+        }
+
+        return new BulkIndexPayload(row.id(), document);
+    }
+
+    private static SearchQueryUpsertRow.Card card(ResultSet rs) throws SQLException {
+        String videoId = rs.getString("video_id");
+        if (videoId == null) {
+            return null;
+        }
+
+        String detailTitle = rs.getString("detail_title");
+        return new SearchQueryUpsertRow.Card(
+                detailTitle != null && !detailTitle.isBlank() ? detailTitle : rs.getString("title"),
+                videoId,
+                rs.getString("thumbnail_url"),
+                rs.getObject("video_seconds", Integer.class),
+                rs.getString("video_type"),
+                rs.getString("description"),
+                rs.getObject("servings", Integer.class),
+                rs.getObject("cook_time", Integer.class),
+                rs.getObject("view_count", Integer.class),
+                rs.getObject("credit_cost", Long.class));
+    }
+
+    private static Map<String, Object> toCardDocument(SearchQueryUpsertRow.Card card) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("video_title", card.videoTitle());
+        document.put("video_id", card.videoId());
+        document.put("thumbnail_url", card.thumbnailUrl());
+        document.put("video_seconds", card.videoSeconds());
+        document.put("video_type", card.videoType());
+        document.put("description", card.description());
+        document.put("servings", card.servings());
+        document.put("cook_time", card.cookTime());
+        document.put("view_count", card.viewCount());
+        document.put("credit_cost", card.creditCost());
+        return document;
+    }
+
+    private List<String> parseJsonArray(String jsonArrayString) {
+        if (jsonArrayString == null || jsonArrayString.isBlank()) {
+            return List.of();
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(jsonArrayString);
+            if (!node.isArray()) {
+                throw new IllegalStateException("Expected JSON array but got: " + jsonArrayString);
+            }
+            return StreamSupport.stream(node.spliterator(), false)
+                    .map(JsonNode::asText)
+                    .toList();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse JSON array: " + jsonArrayString, e);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime localDateTime) {
+        return localDateTime.atZone(zoneId).toInstant().toEpochMilli();
+    }
+}
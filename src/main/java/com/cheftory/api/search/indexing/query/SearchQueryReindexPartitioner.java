@@ -0,0 +1,77 @@
+package com.cheftory.api.search.indexing.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * `search_query` 전체 재색인 파티셔너.
+ *
+ * <p>`SUCCESS` 레시피를 market별로 나누고, 각 market 안에서 id 순으로 `partitionSize`개마다 경계를 잡아
+ * `(lowerId, upperId]` 구간으로 자릅니다. id가 UUIDv7이라 구간이 생성 시각 순으로 고르게 나뉩니다.
+ * 파티션 수는 데이터 양에 따라 정해지고, 동시에 실행할 파티션 수는 스텝의 task executor가 제한합니다.</p>
+ */
+public class SearchQueryReindexPartitioner implements Partitioner {
+
+    public static final String KEY_MARKET = "market";
+    public static final String KEY_LOWER_ID = "lowerId";
+    public static final String KEY_UPPER_ID = "upperId";
+
+    /** 첫 구간의 하한(미포함). */
+    static final String MIN_ID = "00000000-0000-0000-0000-000000000000";
+
+    /** 마지막 구간의 상한(포함). */
+    static final String MAX_ID = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+
+    private static final String MARKET_QUERY = """
+            SELECT DISTINCT r.market
+            FROM recipe r
+            WHERE r.recipe_status = 'SUCCESS'
+            ORDER BY r.market
+            """;
+
+    private static final String BOUNDARY_QUERY = """
+            SELECT BIN_TO_UUID(b.id) AS boundary_id
+            FROM (
+                SELECT r.id, ROW_NUMBER() OVER (ORDER BY r.id) AS rn
+                FROM recipe r
+                WHERE r.recipe_status = 'SUCCESS' AND r.market = ?
+            ) b
+            WHERE MOD(b.rn, ?) = 0
+            ORDER BY b.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int partitionSize;
+
+    public SearchQueryReindexPartitioner(DataSource dataSource, int partitionSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.partitionSize = partitionSize;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (String market : jdbcTemplate.queryForList(MARKET_QUERY, String.class)) {
+            List<String> bounds = new ArrayList<>();
+            bounds.add(MIN_ID);
+            bounds.addAll(jdbcTemplate.queryForList(BOUNDARY_QUERY, String.class, market, partitionSize));
+            bounds.add(MAX_ID);
+
+            for (int i = 0; i < bounds.size() - 1; i++) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString(KEY_MARKET, market);
+                context.putString(KEY_LOWER_ID, bounds.get(i));
+                context.putString(KEY_UPPER_ID, bounds.get(i + 1));
+                partitions.put(market.toLowerCase(Locale.ROOT) + "-" + i, context);
+            }
+        }
+        return partitions;
+    }
+}
@@ -13,4 +13,33 @@ public record SearchQueryUpsertRow(
         List<String> ingredients,
         List<String> keywords,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt) {}
+        LocalDateTime updatedAt,
+        Card card) {
+
+    /**
+     * 검색 결과 카드를 그리는 데 필요한 값. 문서의 `card` 필드(색인하지 않고 `_source`에만 저장)로 들어갑니다.
+     * 유튜브 메타가 없는 레시피는 null입니다.
+     *
+     * @param videoTitle 표시 제목 (상세 메타 제목, 없으면 유튜브 제목)
+     * @param videoId 유튜브 비디오 ID
+     * @param thumbnailUrl 썸네일 URL
+     * @param videoSeconds 재생 시간 (초)
+     * @param videoType 비디오 타입
+     * @param description 레시피 설명, 상세 메타가 없으면 null
+     * @param servings 인분, 상세 메타가 없으면 null
+     * @param cookTime 조리 시간 (분), 상세 메타가 없으면 null
+     * @param viewCount 색인 시점의 조회수
+     * @param creditCost 크레딧 비용
+     */
+    public record Card(
+            String videoTitle,
+            String videoId,
+            String thumbnailUrl,
+            Integer videoSeconds,
+            String videoType,
+            String description,
+            Integer servings,
+            Integer cookTime,
+            Integer viewCount,
+            Long creditCost) {}
+}
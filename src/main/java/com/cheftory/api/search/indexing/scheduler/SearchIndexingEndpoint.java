@@ -0,0 +1,58 @@
+package com.cheftory.api.search.indexing.scheduler;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 인덱싱 관리 엔드포인트.
+ *
+ * <p>관리 포트의 `POST /actuator/searchindexing/{target}`으로 전체 재구축 잡을 실행합니다.</p>
+ * <ul>
+ *   <li>`autocomplete`: 자동완성 기여도를 전체 레시피로 다시 만들고 모든 용어를 재색인</li>
+ *   <li>`search-query`: 새 버전 인덱스에 `search_query`를 전체 재색인하고 alias 교체</li>
+ * </ul>
+ * <p>잡은 가상 스레드에서 실행하고 요청은 바로 돌려줍니다. 스케줄 실행과 같은 ShedLock을 사용하므로 이미 실행 중이면
+ * 건너뜁니다. 호출하려면 `SEARCH_INDEXING` 권한의 Basic 인증이 필요합니다 ({@code SecurityConfig}).</p>
+ */
+@Slf4j
+@Component
+@Endpoint(id = "searchindexing")
+@RequiredArgsConstructor
+public class SearchIndexingEndpoint {
+
+    private static final String TARGET_AUTOCOMPLETE = "autocomplete";
+    private static final String TARGET_SEARCH_QUERY = "search-query";
+
+    private final SearchIndexingScheduler searchIndexingScheduler;
+    private final ExecutorService asyncVirtualThreadExecutorService;
+
+    /**
+     * 대상 인덱스의 전체 재구축 잡을 시작합니다.
+     *
+     * @param target `autocomplete` 또는 `search-query`
+     * @return 시작한 대상
+     */
+    @WriteOperation
+    public Map<String, String> rebuild(@Selector String target) {
+        Runnable job =
+                switch (target) {
+                    case TARGET_AUTOCOMPLETE -> searchIndexingScheduler::runAutocompleteIndexJob;
+                    case TARGET_SEARCH_QUERY -> searchIndexingScheduler::runSearchQueryReindexJob;
+                    default -> throw new IllegalArgumentException("Unknown rebuild target: " + target);
+                };
+        asyncVirtualThreadExecutorService.execute(() -> {
+            try {
+                job.run();
+            } catch (RuntimeException e) {
+                log.error("search indexing rebuild failed. target={}", target, e);
+            }
+        });
+        return Map.of("target", target, "status", "started");
+    }
+}
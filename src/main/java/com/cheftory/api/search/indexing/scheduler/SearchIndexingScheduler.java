@@ -1,6 +1,8 @@
 package com.cheftory.api.search.indexing.scheduler;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api.search.indexing.support.VersionedIndexNames;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.batch.core.job.Job;
@@ -12,6 +14,13 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 검색 인덱싱 배치 잡 스케줄러.
+ *
+ * <p>변경분은 아웃박스 워커가 바로 반영하므로, 여기서 실행하는 잡은 누락분을 메우는 주기적 보정 작업입니다.
+ * 자동완성 전체 재구축은 {@link SearchIndexingEndpoint}로 필요할 때 실행할 수도 있고, `search_query` 전체 재색인은
+ * 스케줄 없이 엔드포인트로만 실행합니다.</p>
+ */
 @Component
 @Slf4j
 public class SearchIndexingScheduler {
@@ -21,22 +30,25 @@ public class SearchIndexingScheduler {
     private final Job autocompleteIndexJob;
     private final Job searchQueryUpsertIndexJob;
     private final Job searchQueryDeleteIndexJob;
+    private final Job searchQueryReindexJob;
 
     public SearchIndexingScheduler(
             JobOperator jobOperator,
             Clock clock,
             @Qualifier("autocompleteIndexJob") Job autocompleteIndexJob,
             @Qualifier("searchQueryUpsertIndexJob") Job searchQueryUpsertIndexJob,
-            @Qualifier("searchQueryDeleteIndexJob") Job searchQueryDeleteIndexJob) {
+            @Qualifier("searchQueryDeleteIndexJob") Job searchQueryDeleteIndexJob,
+            @Qualifier("searchQueryReindexJob") Job searchQueryReindexJob) {
         this.jobOperator = jobOperator;
         this.clock = clock;
         this.autocompleteIndexJob = autocompleteIndexJob;
         this.searchQueryUpsertIndexJob = searchQueryUpsertIndexJob;
         this.searchQueryDeleteIndexJob = searchQueryDeleteIndexJob;
+        this.searchQueryReindexJob = searchQueryReindexJob;
     }
 
     @Scheduled(cron = "${search.indexing.cron.autocomplete}", zone = "${search.indexing.timezone:Asia/Seoul}")
-    @SchedulerLock(name = "search-indexing-autocomplete", lockAtMostFor = "PT2M", lockAtLeastFor = "PT5S")
+    @SchedulerLock(name = "search-indexing-autocomplete", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5S")
     public void runAutocompleteIndexJob() {
         start("autocompleteIndexJob", autocompleteIndexJob);
     }
@@ -53,7 +65,20 @@ public class SearchIndexingScheduler {
         start("searchQueryDeleteIndexJob", searchQueryDeleteIndexJob);
     }
 
+    /**
+     * 새 버전 인덱스에 `search_query`를 전체 재색인하고 alias를 교체합니다. 잡이 끝날 때까지 락을 잡고 있습니다.
+     */
+    @SchedulerLock(name = "search-indexing-query-reindex", lockAtMostFor = "PT3H", lockAtLeastFor = "PT5S")
+    public void runSearchQueryReindexJob() {
+        String targetIndex = VersionedIndexNames.of("search_query", clock.now());
+        start("searchQueryReindexJob", searchQueryReindexJob, Map.of("targetIndex", targetIndex));
+    }
+
     private void start(String jobName, Job job) {
+        start(jobName, job, Map.of());
+    }
+
+    private void start(String jobName, Job job, Map<String, String> extraParameters) {
         try {
             long nowMillis = clock.nowMillis();
             String upperBoundUpdatedAt = clock.now().toString();
@@ -61,6 +86,7 @@ public class SearchIndexingScheduler {
                     .addLong("timestamp", nowMillis)
                     .addString("runId", jobName + "-" + nowMillis)
                     .addString("upperBoundUpdatedAt", upperBoundUpdatedAt);
+            extraParameters.forEach(builder::addString);
 
             JobParameters jobParameters = builder.toJobParameters();
 
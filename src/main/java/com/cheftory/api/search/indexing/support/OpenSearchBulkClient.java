@@ -2,20 +2,113 @@ package com.cheftory.api.search.indexing.support;
 
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
 
+/**
+ * OpenSearch `_bulk` 클라이언트.
+ *
+ * <p>요청 항목을 인덱스별 적응형 건수와 `search.indexing.bulk.max-bytes` 바이트 상한으로 나눠 여러 `_bulk` 요청으로
+ * 보냅니다. 노드 전체에서 동시에 진행하는 `_bulk` 요청은 `search.indexing.bulk.concurrency`개로 제한되므로 배치 잡과
+ * 아웃박스 워커가 같은 클라이언트를 공유해도 클러스터에 몰리지 않습니다.</p>
+ *
+ * <p>응답에서 429/503으로 거절된 항목만 지수 백오프 후 다시 보내고, 그 밖의 항목 오류는 재시도하지 않습니다.
+ * 인덱스별 요청 건수는 응답의 `took`이 `target-took-ms`를 넘으면 절반으로 줄이고, 절반보다 빠르면 25%씩 늘립니다.
+ * 거절이 나오면 바로 절반으로 줄입니다. 모든 요청이 끝난 뒤 실패한 항목이 남아 있으면 {@link SearchException}을
+ * 던지지만, 성공한 항목은 이미 반영된 상태입니다. 색인/삭제는 id 기준이라 호출자가 전체를 다시 보내도 안전합니다.</p>
+ *
+ * <p>인덱스별로 `search.bulk.docs`(result 태그), `search.bulk.rejected`, `search.bulk.took`,
+ * `search.bulk.batch.size`를 기록합니다.</p>
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OpenSearchBulkClient implements SearchIndexingBulkClient {
 
+    static final String DOCS_METRIC = "search.bulk.docs";
+    static final String REJECTED_METRIC = "search.bulk.rejected";
+    static final String TOOK_METRIC = "search.bulk.took";
+    static final String BATCH_SIZE_METRIC = "search.bulk.batch.size";
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 503);
+
+    /** 문서 외에 액션 메타데이터 줄이 차지하는 대략적인 바이트 수. */
+    private static final int ACTION_OVERHEAD_BYTES = 64;
+
+    private static final int MAX_FAILURE_SAMPLES = 5;
+
+    private enum Operation {
+        INDEX,
+        DELETE
+    }
+
+    private record Item(String id, Object document, long bytes) {}
+
     private final OpenSearchClient openSearchClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+    private final long maxBytes;
+    private final int initialActions;
+    private final int minActions;
+    private final int maxActions;
+    private final long targetTookMillis;
+    private final int maxRetries;
+    private final long backoffInitialMillis;
+    private final long backoffMaxMillis;
+    private final Map<String, AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
+
+    public OpenSearchBulkClient(
+            OpenSearchClient openSearchClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${search.indexing.bulk.concurrency:2}") int concurrency,
+            @Value("${search.indexing.bulk.max-bytes:5242880}") long maxBytes,
+            @Value("${search.indexing.bulk.initial-actions:500}") int initialActions,
+            @Value("${search.indexing.bulk.min-actions:50}") int minActions,
+            @Value("${search.indexing.bulk.max-actions:2000}") int maxActions,
+            @Value("${search.indexing.bulk.target-took-ms:1000}") long targetTookMillis,
+            @Value("${search.indexing.bulk.max-retries:5}") int maxRetries,
+            @Value("${search.indexing.bulk.backoff-initial-ms:200}") long backoffInitialMillis,
+            @Value("${search.indexing.bulk.backoff-max-ms:5000}") long backoffMaxMillis) {
+        this.openSearchClient = openSearchClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(concurrency);
+        this.maxBytes = maxBytes;
+        this.initialActions = initialActions;
+        this.minActions = minActions;
+        this.maxActions = maxActions;
+        this.targetTookMillis = targetTookMillis;
+        this.maxRetries = maxRetries;
+        this.backoffInitialMillis = backoffInitialMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+    }
 
     @Override
     public void bulkIndex(String indexName, List<BulkIndexPayload> payloads) throws SearchException {
@@ -23,21 +116,11 @@ public class OpenSearchBulkClient implements SearchIndexingBulkClient {
             return;
         }
 
-        try {
-            BulkResponse response = openSearchClient.bulk(builder -> {
-                builder.index(indexName);
-                payloads.forEach(payload -> builder.operations(
-                        op -> op.index(idx -> idx.id(payload.id()).document(payload.document()))));
-                return builder;
-            });
-
-            validateBulkResponse("index", indexName, response);
-        } catch (SearchException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Bulk index failed. index={}", indexName, e);
-            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        List<Item> items = new ArrayList<>(payloads.size());
+        for (BulkIndexPayload payload : payloads) {
+            items.add(new Item(payload.id(), payload.document(), estimateBytes(payload)));
         }
+        execute(Operation.INDEX, indexName, items);
     }
 
     @Override
@@ -46,42 +129,245 @@ public class OpenSearchBulkClient implements SearchIndexingBulkClient {
             return;
         }
 
+        List<Item> items = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            items.add(new Item(id, null, ACTION_OVERHEAD_BYTES + id.length()));
+        }
+        execute(Operation.DELETE, indexName, items);
+    }
+
+    private void execute(Operation operation, String indexName, List<Item> items) throws SearchException {
+        List<List<Item>> batches = split(items, batchSize(indexName).current());
+
+        List<String> failures = new ArrayList<>();
+        if (batches.size() == 1) {
+            failures.addAll(send(operation, indexName, batches.getFirst()));
+        } else {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<List<String>>> futures = new ArrayList<>(batches.size());
+                for (List<Item> batch : batches) {
+                    futures.add(executor.submit(() -> send(operation, indexName, batch)));
+                }
+                for (Future<List<String>> future : futures) {
+                    failures.addAll(await(future));
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            log.error(
+                    "Bulk {} has failures. index={}, failed={}, samples={}",
+                    operation.name().toLowerCase(Locale.ROOT),
+                    indexName,
+                    failures.size(),
+                    String.join("; ", failures.subList(0, Math.min(MAX_FAILURE_SAMPLES, failures.size()))));
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED);
+        }
+    }
+
+    /**
+     * 배치 하나를 보내고, 거절된 항목만 백오프 후 다시 보냅니다.
+     *
+     * @return 재시도하지 않거나 재시도 횟수를 넘긴 항목의 실패 설명
+     */
+    private List<String> send(Operation operation, String indexName, List<Item> batch) throws SearchException {
+        AdaptiveBatchSize batchSize = batchSize(indexName);
+        List<Item> pending = batch;
+        for (int attempt = 0; ; attempt++) {
+            BulkResponse response;
+            try {
+                response = request(operation, indexName, pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+            } catch (Exception e) {
+                if (attempt < maxRetries && isRetryable(e)) {
+                    counter(REJECTED_METRIC, indexName).increment(pending.size());
+                    batchSize.onRejected();
+                    backoff(attempt);
+                    continue;
+                }
+                counter(DOCS_METRIC, indexName, "failed").increment(pending.size());
+                log.error("Bulk {} failed. index={}", operation.name().toLowerCase(Locale.ROOT), indexName, e);
+                throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+            }
+
+            Timer.builder(TOOK_METRIC)
+                    .tag("index", indexName)
+                    .register(meterRegistry)
+                    .record(response.took(), TimeUnit.MILLISECONDS);
+            batchSize.observe(response.took());
+
+            List<Item> rejected = new ArrayList<>();
+            List<String> failures = new ArrayList<>();
+            List<BulkResponseItem> results = response.items();
+            for (int i = 0; i < results.size(); i++) {
+                BulkResponseItem result = results.get(i);
+                if (result.error() == null) {
+                    continue;
+                }
+                if (RETRYABLE_STATUSES.contains(result.status())) {
+                    rejected.add(pending.get(i));
+                } else {
+                    failures.add(String.format(
+                            "id=%s,status=%d,error=%s",
+                            result.id(), result.status(), result.error().reason()));
+                }
+            }
+
+            int succeeded = pending.size() - rejected.size() - failures.size();
+            counter(DOCS_METRIC, indexName, "success").increment(succeeded);
+            counter(DOCS_METRIC, indexName, "failed").increment(failures.size());
+            if (rejected.isEmpty()) {
+                return failures;
+            }
+
+            counter(REJECTED_METRIC, indexName).increment(rejected.size());
+            batchSize.onRejected();
+            if (attempt >= maxRetries || !failures.isEmpty()) {
+                // 재시도 횟수를 넘겼거나 재시도할 수 없는 실패가 이미 있으면 호출 전체가 실패하므로 더 보내지 않는다.
+                counter(DOCS_METRIC, indexName, "failed").increment(rejected.size());
+                rejected.forEach(item -> failures.add("id=" + item.id() + ",status=rejected"));
+                return failures;
+            }
+            backoff(attempt);
+            pending = rejected;
+        }
+    }
+
+    private BulkResponse request(Operation operation, String indexName, List<Item> items) throws Exception {
+        inFlight.acquire();
         try {
-            BulkResponse response = openSearchClient.bulk(builder -> {
+            return openSearchClient.bulk(builder -> {
                 builder.index(indexName);
-                ids.forEach(id -> builder.operations(op -> op.delete(del -> del.id(id))));
+                for (Item item : items) {
+                    if (operation == Operation.INDEX) {
+                        builder.operations(op -> op.index(idx -> idx.id(item.id()).document(item.document())));
+                    } else {
+                        builder.operations(op -> op.delete(del -> del.id(item.id())));
+                    }
+                }
                 return builder;
             });
+        } finally {
+            inFlight.release();
+        }
+    }
 
-            validateBulkResponse("delete", indexName, response);
-        } catch (SearchException e) {
-            throw e;
+    private List<List<Item>> split(List<Item> items, int maxActionsPerRequest) {
+        List<List<Item>> batches = new ArrayList<>();
+        List<Item> current = new ArrayList<>();
+        long currentBytes = 0;
+        for (Item item : items) {
+            boolean full = current.size() >= maxActionsPerRequest || currentBytes + item.bytes() > maxBytes;
+            if (!current.isEmpty() && full) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(item);
+            currentBytes += item.bytes();
+        }
+        batches.add(current);
+        return batches;
+    }
+
+    private long estimateBytes(BulkIndexPayload payload) {
+        try {
+            return ACTION_OVERHEAD_BYTES
+                    + payload.id().getBytes(StandardCharsets.UTF_8).length
+                    + objectMapper.writeValueAsBytes(payload.document()).length;
         } catch (Exception e) {
-            log.error("Bulk delete failed. index={}", indexName, e);
-            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+            throw new IllegalStateException("Failed to serialize bulk document: id=" + payload.id(), e);
+        }
+    }
+
+    private boolean isRetryable(Exception e) {
+        if (e instanceof OpenSearchException openSearchException) {
+            return RETRYABLE_STATUSES.contains(openSearchException.status());
         }
+        return e instanceof IOException;
     }
 
-    private void validateBulkResponse(String operation, String indexName, BulkResponse response)
-            throws SearchException {
-        if (!response.errors()) {
+    private void backoff(int attempt) throws SearchException {
+        long ceiling = Math.min(backoffMaxMillis, backoffInitialMillis << Math.min(attempt, 20));
+        if (ceiling <= 0) {
             return;
         }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
 
-        String failures = response.items().stream()
-                .filter(item -> item.error() != null)
-                .limit(5)
-                .map(item -> String.format(
-                        "id=%s,status=%d,error=%s",
-                        item.id(), item.status(), item.error().reason()))
-                .collect(Collectors.joining("; "));
-
-        log.error(
-                "Bulk {} has failures. index={}, took={}, failures={}",
-                operation,
-                indexName,
-                response.took(),
-                failures);
-        throw new SearchException(SearchErrorCode.SEARCH_FAILED);
+    private List<String> await(Future<List<String>> future) throws SearchException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SearchException searchException) {
+                throw searchException;
+            }
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e.getCause());
+        }
+    }
+
+    private AdaptiveBatchSize batchSize(String indexName) {
+        return batchSizes.computeIfAbsent(indexName, name -> {
+            AdaptiveBatchSize size = new AdaptiveBatchSize(initialActions, minActions, maxActions, targetTookMillis);
+            Gauge.builder(BATCH_SIZE_METRIC, size, AdaptiveBatchSize::current)
+                    .tag("index", name)
+                    .register(meterRegistry);
+            return size;
+        });
+    }
+
+    private Counter counter(String name, String indexName) {
+        return Counter.builder(name).tag("index", indexName).register(meterRegistry);
+    }
+
+    private Counter counter(String name, String indexName, String result) {
+        return Counter.builder(name)
+                .tag("index", indexName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인덱스별 `_bulk` 요청 건수. `took`과 거절 여부로 AIMD 방식으로 조정합니다.
+     */
+    static final class AdaptiveBatchSize {
+
+        private final AtomicInteger current;
+        private final int min;
+        private final int max;
+        private final long targetTookMillis;
+
+        AdaptiveBatchSize(int initial, int min, int max, long targetTookMillis) {
+            this.current = new AtomicInteger(Math.clamp(initial, min, max));
+            this.min = min;
+            this.max = max;
+            this.targetTookMillis = targetTookMillis;
+        }
+
+        int current() {
+            return current.get();
+        }
+
+        void observe(long tookMillis) {
+            if (tookMillis > targetTookMillis) {
+                current.updateAndGet(size -> Math.max(min, size / 2));
+            } else if (tookMillis < targetTookMillis / 2) {
+                current.updateAndGet(size -> Math.min(max, size + Math.max(1, size / 4)));
+            }
+        }
+
+        void onRejected() {
+            current.updateAndGet(size -> Math.max(min, size / 2));
+        }
     }
 }
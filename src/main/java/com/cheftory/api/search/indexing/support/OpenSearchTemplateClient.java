@@ -3,11 +3,16 @@ package com.cheftory.api.search.indexing.support;
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.generic.Request;
 import org.opensearch.client.opensearch.generic.Requests;
+import org.opensearch.client.opensearch.indices.update_aliases.Action;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,6 +20,12 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class OpenSearchTemplateClient implements SearchIndexingTemplateClient {
 
+    /** 템플릿의 refresh 주기. 대량 적재 후 이 값으로 되돌립니다. */
+    private static final String REFRESH_INTERVAL = "1s";
+
+    /** 대량 적재 중 refresh 주기. */
+    private static final String BULK_LOAD_REFRESH_INTERVAL = "-1";
+
     private final OpenSearchClient openSearchClient;
 
     @Override
@@ -54,6 +65,32 @@ public class OpenSearchTemplateClient implements SearchIndexingTemplateClient {
         }
     }
 
+    @Override
+    public void putMapping(String indexName, String mappingJson) throws SearchException {
+        Request request = Requests.builder()
+                .method("PUT")
+                .endpoint("/" + indexName + "/_mapping")
+                .json(mappingJson)
+                .build();
+
+        try (var response = openSearchClient.generic().execute(request)) {
+            if (response.getStatus() >= 300) {
+                log.error(
+                        "Failed to put mapping. index={}, status={}, reason={}",
+                        indexName,
+                        response.getStatus(),
+                        response.getReason());
+                throw new SearchException(SearchErrorCode.SEARCH_FAILED);
+            }
+
+            log.info("Mapping applied. index={}", indexName);
+        } catch (SearchException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
+
     @Override
     public void ensureIndexExists(String indexName) throws SearchException {
         try {
@@ -69,4 +106,97 @@ public class OpenSearchTemplateClient implements SearchIndexingTemplateClient {
             throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
         }
     }
+
+    @Override
+    public void ensureAliasExists(String alias, String initialIndex) throws SearchException {
+        try {
+            if (openSearchClient.indices().exists(e -> e.index(alias)).value()) {
+                return;
+            }
+
+            openSearchClient.indices().create(c -> c.index(initialIndex).aliases(alias, a -> a));
+            log.info("Index created with alias. index={}, alias={}", initialIndex, alias);
+        } catch (Exception e) {
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
+
+    @Override
+    public void createIndexForBulkLoad(String indexName) throws SearchException {
+        try {
+            openSearchClient
+                    .indices()
+                    .create(c -> c.index(indexName)
+                            .settings(s -> s.refreshInterval(t -> t.time(BULK_LOAD_REFRESH_INTERVAL))));
+            log.info("Index created for bulk load. index={}", indexName);
+        } catch (Exception e) {
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
+
+    @Override
+    public void finishBulkLoad(String indexName) throws SearchException {
+        try {
+            openSearchClient
+                    .indices()
+                    .putSettings(p -> p.index(indexName)
+                            .settings(s -> s.refreshInterval(t -> t.time(REFRESH_INTERVAL))));
+            openSearchClient.indices().refresh(r -> r.index(indexName));
+        } catch (Exception e) {
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
+
+    @Override
+    public Set<String> resolveIndices(String expression) throws SearchException {
+        try {
+            if (!expression.contains("*")
+                    && !openSearchClient.indices().exists(e -> e.index(expression)).value()) {
+                return Set.of();
+            }
+
+            return new LinkedHashSet<>(openSearchClient
+                    .indices()
+                    .get(g -> g.index(expression))
+                    .result()
+                    .keySet());
+        } catch (Exception e) {
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
+
+    @Override
+    public void swapAlias(String alias, String newIndex) throws SearchException {
+        Set<String> current = resolveIndices(alias);
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(newIndex).alias(alias))));
+        for (String index : current) {
+            if (index.equals(newIndex)) {
+                continue;
+            }
+            if (index.equals(alias)) {
+                actions.add(Action.of(a -> a.removeIndex(remove -> remove.index(index))));
+            } else {
+                actions.add(Action.of(a -> a.remove(remove -> remove.index(index).alias(alias))));
+            }
+        }
+
+        try {
+            openSearchClient.indices().updateAliases(u -> u.actions(actions));
+            log.info("Alias swapped. alias={}, from={}, to={}", alias, current, newIndex);
+        } catch (Exception e) {
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
+
+    @Override
+    public void deleteIndex(String indexName) throws SearchException {
+        try {
+            openSearchClient.indices().delete(d -> d.index(indexName));
+            log.info("Index deleted. index={}", indexName);
+        } catch (Exception e) {
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        }
+    }
 }
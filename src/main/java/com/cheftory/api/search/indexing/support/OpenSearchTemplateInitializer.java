@@ -1,5 +1,6 @@
 package com.cheftory.api.search.indexing.support;
 
+import com.cheftory.api._common.Clock;
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
 import java.io.IOException;
@@ -19,6 +20,7 @@ public class OpenSearchTemplateInitializer implements ApplicationRunner {
 
     private final SearchIndexingTemplateClient templateClient;
     private final ResourceLoader resourceLoader;
+    private final Clock clock;
 
     @Value("${search.indexing.enabled}")
     boolean enabled;
@@ -32,7 +34,8 @@ public class OpenSearchTemplateInitializer implements ApplicationRunner {
         putIndexTemplate("search_query", "classpath:opensearch/templates/search-query-template.json");
 
         templateClient.ensureIndexExists("autocomplete");
-        templateClient.ensureIndexExists("search_query");
+        templateClient.ensureAliasExists("search_query", VersionedIndexNames.of("search_query", clock.now()));
+        putMapping("search_query", "classpath:opensearch/mappings/search-query-mapping.json");
     }
 
     private void putIndexTemplate(String templateName, String resourceLocation) throws SearchException {
@@ -40,6 +43,15 @@ public class OpenSearchTemplateInitializer implements ApplicationRunner {
         templateClient.putIndexTemplate(templateName, templateJson);
     }
 
+    /**
+     * 템플릿은 새로 만드는 인덱스에만 적용되므로, 템플릿에 추가한 필드를 지금 alias가 가리키는 인덱스에도 넣습니다.
+     * 매핑이 `strict`라 재색인 전에 새 필드가 담긴 문서를 쓰면 거절되기 때문입니다.
+     */
+    private void putMapping(String indexName, String resourceLocation) throws SearchException {
+        String mappingJson = readResource(resourceLocation);
+        templateClient.putMapping(indexName, mappingJson);
+    }
+
     private String readResource(String resourceLocation) throws SearchException {
         Resource resource = resourceLoader.getResource(resourceLocation);
         try (var inputStream = resource.getInputStream()) {
@@ -1,10 +1,43 @@
 package com.cheftory.api.search.indexing.support;
 
 import com.cheftory.api.search.exception.SearchException;
+import java.util.Set;
 
 public interface SearchIndexingTemplateClient {
 
     void putIndexTemplate(String templateName, String templateJson) throws SearchException;
 
     void ensureIndexExists(String indexName) throws SearchException;
+
+    /**
+     * 이미 만들어진 인덱스(alias면 연결된 인덱스 전체)에 필드 매핑을 추가합니다. 기존 필드와 같은 정의는 그대로 통과합니다.
+     */
+    void putMapping(String indexName, String mappingJson) throws SearchException;
+
+    /**
+     * alias도 인덱스도 없으면 초기 인덱스를 만들고 alias를 연결합니다. 같은 이름의 인덱스가 이미 있으면 그대로 둡니다.
+     */
+    void ensureAliasExists(String alias, String initialIndex) throws SearchException;
+
+    /**
+     * 템플릿으로 인덱스를 만들되, 대량 적재 동안 refresh를 끕니다.
+     */
+    void createIndexForBulkLoad(String indexName) throws SearchException;
+
+    /**
+     * 대량 적재가 끝난 인덱스의 refresh 주기를 되돌리고 즉시 refresh합니다.
+     */
+    void finishBulkLoad(String indexName) throws SearchException;
+
+    /**
+     * 이름·alias·와일드카드 패턴이 가리키는 실제 인덱스 이름을 반환합니다. 없으면 빈 집합입니다.
+     */
+    Set<String> resolveIndices(String expression) throws SearchException;
+
+    /**
+     * alias를 새 인덱스로 원자적으로 옮깁니다. alias와 같은 이름의 실제 인덱스가 있으면 같은 요청에서 삭제합니다.
+     */
+    void swapAlias(String alias, String newIndex) throws SearchException;
+
+    void deleteIndex(String indexName) throws SearchException;
 }
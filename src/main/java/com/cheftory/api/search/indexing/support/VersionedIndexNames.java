@@ -0,0 +1,36 @@
+package com.cheftory.api.search.indexing.support;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * alias 뒤에 두는 버전 인덱스 이름 규칙.
+ *
+ * <p>`{alias}_{yyyyMMddHHmmss}` 형식이며, 인덱스 템플릿의 `index_patterns`(`{alias}*`)에 걸리도록 alias를 접두사로 씁니다.</p>
+ */
+public final class VersionedIndexNames {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private VersionedIndexNames() {
+        // 인스턴스 생성 방지
+    }
+
+    /**
+     * 주어진 시각의 버전 인덱스 이름을 만듭니다.
+     *
+     * @param alias 검색에서 사용하는 alias 이름
+     * @param at 버전 시각
+     * @return 버전 인덱스 이름
+     */
+    public static String of(String alias, LocalDateTime at) {
+        return alias + "_" + at.format(VERSION_FORMAT);
+    }
+
+    /**
+     * alias의 모든 버전 인덱스에 걸리는 와일드카드 패턴을 반환합니다.
+     */
+    public static String pattern(String alias) {
+        return alias + "_*";
+    }
+}
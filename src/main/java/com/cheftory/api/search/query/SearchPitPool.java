@@ -0,0 +1,225 @@
+package com.cheftory.api.search.query;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api.search.exception.SearchException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 후보 검색용 `search_query` PIT 풀.
+ *
+ * <p>추천 첫 페이지마다 PIT를 새로 여는 대신, 현재 PIT 하나를 여러 요청 세션이 공유합니다.
+ * 현재 PIT가 `search.pit.rotate-after-ms`보다 오래되면 다음 대여 시 새 PIT로 교체하고, 이전 PIT는 퇴역시켜
+ * 이미 그 PIT로 페이지를 넘기던 세션이 끝날 때까지 유지합니다. 따라서 살아 있는 PIT는 현재 PIT와 퇴역 중인
+ * 몇 개로 제한됩니다. 교체 주기는 PIT keep-alive(2m)보다 짧아야 현재 PIT가 서버에서 만료되지 않습니다.</p>
+ *
+ * <p>세션 수는 PIT별 참조 카운트로 관리합니다. 퇴역한 PIT는 참조가 0이 되고 `search.pit.close-grace-ms`가 지나면 닫습니다.
+ * 중간에 떠난 세션이나 다른 노드에서 끝난 세션처럼 반납되지 않은 참조가 남아도, 이 노드에서 마지막으로 대여·검색한 뒤
+ * `search.pit.drain-timeout-ms`(기본값은 PIT keep-alive와 같은 2분)가 지나면 서버에서도 만료된 PIT로 보고 닫습니다.
+ * 다른 노드가 연 PIT는 이 풀이 알지 못하므로 반납해도 닫지 않고 keep-alive 만료에 맡깁니다.
+ * 종료 시에도 다른 노드의 세션이 이어 쓰고 있을 수 있으므로 PIT를 닫지 않고 참조만 버립니다.
+ * 살아 있는 PIT 수와 대여 중인 세션 수는 `search.pit.live`, `search.pit.sessions` 게이지로 기록됩니다.</p>
+ */
+@Component
+@Slf4j
+public class SearchPitPool {
+
+    static final String LIVE_METRIC_NAME = "search.pit.live";
+    static final String SESSIONS_METRIC_NAME = "search.pit.sessions";
+
+    private final SearchQueryRepository searchQueryRepository;
+    private final Clock clock;
+    private final long rotateAfterMillis;
+    private final long closeGraceMillis;
+    private final long drainTimeoutMillis;
+    private final Map<String, PooledPit> pits = new ConcurrentHashMap<>();
+    private final Object openLock = new Object();
+    private volatile PooledPit current;
+
+    public SearchPitPool(
+            SearchQueryRepository searchQueryRepository,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${search.pit.rotate-after-ms:60000}") long rotateAfterMillis,
+            @Value("${search.pit.close-grace-ms:180000}") long closeGraceMillis,
+            @Value("${search.pit.drain-timeout-ms:120000}") long drainTimeoutMillis) {
+        this.searchQueryRepository = searchQueryRepository;
+        this.clock = clock;
+        this.rotateAfterMillis = rotateAfterMillis;
+        this.closeGraceMillis = closeGraceMillis;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+        Gauge.builder(LIVE_METRIC_NAME, pits, Map::size).register(meterRegistry);
+        Gauge.builder(SESSIONS_METRIC_NAME, this, SearchPitPool::sessions).register(meterRegistry);
+    }
+
+    /**
+     * 현재 PIT를 대여합니다. 현재 PIT가 없거나 교체 주기가 지났으면 새 PIT를 엽니다.
+     *
+     * @return PIT ID
+     * @throws SearchException 검색 예외
+     */
+    public String acquire() throws SearchException {
+        while (true) {
+            PooledPit pit = currentOrOpen();
+            if (pit.retain()) {
+                pit.lastUsedAt = clock.nowMillis();
+                return pit.id;
+            }
+        }
+    }
+
+    /**
+     * 대여한 PIT를 반납합니다. 이 풀이 열지 않은 PIT는 무시합니다.
+     *
+     * @param pitId PIT ID
+     */
+    public void release(String pitId) {
+        PooledPit pit = pits.get(pitId);
+        if (pit == null) {
+            return;
+        }
+        pit.release();
+        if (pit.retiredAt > 0) {
+            closeIfDrained(pit, clock.nowMillis());
+        }
+    }
+
+    /**
+     * PIT 사용 시각을 갱신합니다. 퇴역한 PIT는 마지막 사용 후 drain timeout이 지나야 강제로 닫힙니다.
+     * 이 풀이 열지 않은 PIT는 무시합니다.
+     *
+     * @param pitId PIT ID
+     */
+    public void touch(String pitId) {
+        PooledPit pit = pits.get(pitId);
+        if (pit != null) {
+            pit.lastUsedAt = clock.nowMillis();
+        }
+    }
+
+    /**
+     * 교체 주기가 지난 현재 PIT를 퇴역시키고, 다 쓴 퇴역 PIT를 닫습니다.
+     */
+    @Scheduled(fixedDelayString = "${search.pit.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = clock.nowMillis();
+        PooledPit pit = current;
+        if (pit != null && now - pit.openedAt >= rotateAfterMillis) {
+            retire(pit, now);
+        }
+        for (PooledPit candidate : pits.values()) {
+            if (candidate.retiredAt > 0) {
+                closeIfDrained(candidate, now);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 풀의 PIT 참조를 버립니다. PIT는 keep-alive가 지나면 서버에서 만료됩니다.
+     */
+    @PreDestroy
+    public void clear() {
+        current = null;
+        pits.values().forEach(pit -> pit.refs.set(PooledPit.CLOSED));
+        pits.clear();
+    }
+
+    private PooledPit currentOrOpen() throws SearchException {
+        PooledPit pit = current;
+        if (pit != null && clock.nowMillis() - pit.openedAt < rotateAfterMillis) {
+            return pit;
+        }
+        synchronized (openLock) {
+            pit = current;
+            long now = clock.nowMillis();
+            if (pit != null && now - pit.openedAt < rotateAfterMillis) {
+                return pit;
+            }
+            PooledPit opened = new PooledPit(searchQueryRepository.createPitId(), now);
+            pits.put(opened.id, opened);
+            current = opened;
+            if (pit != null) {
+                retire(pit, now);
+            }
+            return opened;
+        }
+    }
+
+    private void retire(PooledPit pit, long now) {
+        synchronized (openLock) {
+            if (current == pit) {
+                current = null;
+            }
+        }
+        if (pit.retiredAt == 0) {
+            pit.retiredAt = now;
+        }
+    }
+
+    private void closeIfDrained(PooledPit pit, long now) {
+        if (now - pit.lastUsedAt >= drainTimeoutMillis) {
+            int leaked = pit.refs.getAndSet(PooledPit.CLOSED);
+            if (leaked != PooledPit.CLOSED) {
+                log.debug("PIT idle past drain timeout, closing with {} unreleased sessions: pitId={}", leaked, pit.id);
+                close(pit);
+            }
+            return;
+        }
+        if (now - pit.retiredAt >= closeGraceMillis && pit.refs.compareAndSet(0, PooledPit.CLOSED)) {
+            close(pit);
+        }
+    }
+
+    private void close(PooledPit pit) {
+        pits.remove(pit.id, pit);
+        searchQueryRepository.closePit(pit.id);
+    }
+
+    private int sessions() {
+        return pits.values().stream().mapToInt(pit -> Math.max(pit.refs.get(), 0)).sum();
+    }
+
+    /**
+     * 풀에서 관리하는 PIT와 참조 카운트. 참조 카운트가 {@link #CLOSED}이면 닫힌 PIT로 더 이상 대여하지 않습니다.
+     */
+    private static final class PooledPit {
+        private static final int CLOSED = -1;
+
+        private final String id;
+        private final long openedAt;
+        private final AtomicInteger refs = new AtomicInteger();
+        private volatile long retiredAt;
+        private volatile long lastUsedAt;
+
+        private PooledPit(String id, long openedAt) {
+            this.id = id;
+            this.openedAt = openedAt;
+            this.lastUsedAt = openedAt;
+        }
+
+        private boolean retain() {
+            while (true) {
+                int count = refs.get();
+                if (count == CLOSED) {
+                    return false;
+                }
+                if (refs.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            refs.updateAndGet(count -> count > 0 ? count - 1 : count);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.cheftory.api.search.query;
+
+import com.cheftory.api._common.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 검색 커서의 PIT 사용 정책.
+ *
+ * <p>`search.query.cursor.lazy-pit`이 켜져 있으면 첫 페이지는 PIT 없이 라이브 인덱스를 조회합니다. 대부분의 사용자는
+ * 다음 페이지를 보지 않으므로 검색마다 PIT를 열어 2분간 붙잡아 둘 필요가 없습니다. PIT 없는 커서로 다음 페이지를 요청하면
+ * 첫 페이지 기준 시각으로부터 `search.query.cursor.consistency-tolerance-ms` 안에서는 `(score, _id)` search_after로
+ * 라이브 인덱스를 그대로 이어 읽고, 그보다 오래된 커서는 그때 PIT를 열어 이후 페이지를 고정합니다.</p>
+ *
+ * <p>허용 구간 안에서 색인이 바뀌면 페이지 경계에서 문서가 빠지거나 겹칠 수 있습니다. 0으로 두면 두 번째 페이지부터
+ * 항상 PIT를 사용합니다.</p>
+ */
+@Component
+public class SearchQueryCursorPolicy {
+
+    private final Clock clock;
+    private final boolean lazyPit;
+    private final Duration consistencyTolerance;
+
+    public SearchQueryCursorPolicy(
+            Clock clock,
+            @Value("${search.query.cursor.lazy-pit:true}") boolean lazyPit,
+            @Value("${search.query.cursor.consistency-tolerance-ms:60000}") long consistencyToleranceMillis) {
+        this.clock = clock;
+        this.lazyPit = lazyPit;
+        this.consistencyTolerance = Duration.ofMillis(consistencyToleranceMillis);
+    }
+
+    /**
+     * 첫 페이지를 PIT 없이 조회할지 반환합니다.
+     *
+     * @return PIT를 미뤄서 열면 true
+     */
+    public boolean lazyPit() {
+        return lazyPit;
+    }
+
+    /**
+     * PIT 없는 커서가 아직 라이브 인덱스로 이어 읽어도 되는지 반환합니다.
+     *
+     * @param anchorNowIso 커서의 첫 페이지 기준 시각
+     * @return 허용 구간 안이면 true, 기준 시각을 읽을 수 없으면 false
+     */
+    public boolean withinTolerance(String anchorNowIso) {
+        try {
+            LocalDateTime anchorNow = LocalDateTime.parse(anchorNowIso);
+            return Duration.between(anchorNow, clock.now()).compareTo(consistencyTolerance) <= 0;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
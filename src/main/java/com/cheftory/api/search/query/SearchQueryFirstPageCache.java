@@ -0,0 +1,149 @@
+package com.cheftory.api.search.query;
+
+import com.cheftory.api._common.cursor.CursorPage;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.search.exception.SearchErrorCode;
+import com.cheftory.api.search.exception.SearchException;
+import com.cheftory.api.search.query.entity.SearchQuery;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 검색 첫 페이지 캐시.
+ *
+ * <p>검색 트래픽은 소수의 인기 검색어("김치찌개", "계란" 등)에 몰리므로, 첫 페이지 결과를 정규화한
+ * `(market, scope, keyword)` 키로 `search.query.first-page-cache.ttl-ms` 동안 노드 로컬에 보관합니다.
+ * 같은 키의 요청이 동시에 들어오면 먼저 온 요청 하나만 OpenSearch를 호출하고 나머지는 그 결과를 기다립니다.
+ * 조회는 호출 스레드에서 실행하므로 {@link MarketContext}가 그대로 유지되고, 실패한 조회는 캐시에 남지 않습니다.</p>
+ *
+ * <p>캐시된 페이지의 다음 커서는 첫 조회 때 연 PIT(PIT를 미루는 정책이면 PIT 없이 기준 시각만)를 담고 있어, 같은
+ * 검색어의 사용자들이 같은 커서로 이어 읽습니다. TTL은 PIT keep-alive(2m)보다 충분히 짧아야 합니다. `search_query` 반영(색인 잡 완료, 아웃박스 반영, 재색인 alias 교체)
+ * 시 {@link #invalidateAll()}로 비우며, 다른 노드는 TTL로 따라갑니다. 적중 여부는 `search.query.first-page.cache`
+ * 카운터에 `result`(hit/coalesced/miss) 태그로 기록됩니다.</p>
+ */
+@Component
+public class SearchQueryFirstPageCache {
+
+    static final String METRIC_NAME = "search.query.first-page.cache";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final AsyncCache<Key, CursorPage<SearchQuery>> pages;
+    private final Counter hitCounter;
+    private final Counter coalescedCounter;
+    private final Counter missCounter;
+
+    public SearchQueryFirstPageCache(
+            MeterRegistry meterRegistry,
+            @Value("${search.query.first-page-cache.enabled:true}") boolean enabled,
+            @Value("${search.query.first-page-cache.max-size:1000}") long maxSize,
+            @Value("${search.query.first-page-cache.ttl-ms:10000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .buildAsync();
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * 첫 페이지 로더.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        CursorPage<SearchQuery> load() throws SearchException;
+    }
+
+    /**
+     * 현재 마켓의 첫 페이지를 캐시에서 찾고, 없으면 로더로 조회해 보관합니다.
+     *
+     * @param scope 검색 범위
+     * @param keyword 검색어
+     * @param loader 첫 페이지 로더
+     * @return 첫 페이지
+     * @throws SearchException 로더가 실패한 경우
+     */
+    public CursorPage<SearchQuery> get(SearchQueryScope scope, String keyword, Loader loader) throws SearchException {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        Key key = new Key(currentMarketKey(), scope, normalize(keyword));
+        CompletableFuture<CursorPage<SearchQuery>> created = new CompletableFuture<>();
+        CompletableFuture<CursorPage<SearchQuery>> future = pages.get(key, (k, executor) -> created);
+
+        if (future != created) {
+            (future.isDone() ? hitCounter : coalescedCounter).increment();
+            return await(future);
+        }
+
+        missCounter.increment();
+        try {
+            CursorPage<SearchQuery> page = loader.load();
+            created.complete(page);
+            return page;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    /**
+     * 캐시된 첫 페이지를 모두 비웁니다. 진행 중인 조회 결과도 보관되지 않습니다.
+     */
+    public void invalidateAll() {
+        pages.synchronous().invalidateAll();
+    }
+
+    /**
+     * 캐시 키에 쓰는 검색어 정규화. 분석기가 대소문자와 연속 공백을 구분하지 않으므로 같은 키로 묶습니다.
+     *
+     * @param keyword 검색어
+     * @return 앞뒤 공백을 지우고 연속 공백을 하나로 줄인 소문자 검색어
+     */
+    static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(keyword.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static CursorPage<SearchQuery> await(CompletableFuture<CursorPage<SearchQuery>> future)
+            throws SearchException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SearchException searchException) {
+                throw searchException;
+            }
+            throw new SearchException(SearchErrorCode.SEARCH_FAILED, e.getCause());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME).tag("result", result).register(meterRegistry);
+    }
+
+    @SneakyThrows
+    private static String currentMarketKey() {
+        return MarketContext.required().market().name().toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String market, SearchQueryScope scope, String keyword) {}
+}
@@ -37,7 +37,7 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class SearchQueryRepository {
 
-    /** 인덱스 이름. */
+    /** 인덱스 alias 이름. 전체 재색인 시 새 버전 인덱스로 교체됩니다. */
     private static final String INDEX = "search_query";
 
     /** PIT 유지 시간. */
@@ -97,7 +97,7 @@ public class SearchQueryRepository {
      * @param scope 검색 범위
      * @param keyword 검색어
      * @param anchorNowIso 앵커 시간 (ISO 형식)
-     * @param pitId PIT ID
+     * @param pitId PIT ID, null이면 PIT 없이 라이브 인덱스를 조회
      * @param pageable 페이지 정보
      * @return 검색 결과 히트 목록
      * @throws SearchException 검색 예외
@@ -157,7 +157,7 @@ public class SearchQueryRepository {
      * @param scope 검색 범위
      * @param keyword 검색어
      * @param anchorNowIso 앵커 시간 (ISO 형식)
-     * @param pitId PIT ID
+     * @param pitId PIT ID, null이면 PIT 없이 라이브 인덱스를 조회
      * @param lastScore 마지막 점수
      * @param lastId 마지막 ID
      * @param pageable 페이지 정보
@@ -230,9 +230,9 @@ public class SearchQueryRepository {
     }
 
     /**
-     * 커서 템플릿 검색 요청을 생성합니다.
+     * 커서 템플릿 검색 요청을 생성합니다. PIT가 없으면 같은 정렬로 라이브 인덱스(alias)를 조회합니다.
      *
-     * @param pitId PIT ID
+     * @param pitId PIT ID, null이면 라이브 인덱스
      * @param pageable 페이지 정보
      * @param query 쿼리
      * @param afterScore 이후 점수
@@ -242,7 +242,11 @@ public class SearchQueryRepository {
     private SearchRequest cursorTemplateRequest(
             String pitId, Pageable pageable, Query query, Double afterScore, String afterId) {
         return SearchRequest.of(s -> {
-            s.pit(Pit.of(p -> p.id(pitId).keepAlive(PIT_KEEP_ALIVE.time())));
+            if (pitId != null) {
+                s.pit(Pit.of(p -> p.id(pitId).keepAlive(PIT_KEEP_ALIVE.time())));
+            } else {
+                s.index(INDEX);
+            }
             s.size(pageable.getPageSize());
             s.trackScores(true);
             s.query(query);
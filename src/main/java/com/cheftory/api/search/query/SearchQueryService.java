@@ -41,11 +41,21 @@ public class SearchQueryService {
     /** i18n 번역기. */
     private final I18nTranslator i18nTranslator;
 
+    /** 랭킹 후보 검색용 PIT 풀. */
+    private final SearchPitPool searchPitPool;
+
+    /** 키워드 검색 첫 페이지 캐시. */
+    private final SearchQueryFirstPageCache searchQueryFirstPageCache;
+
+    /** 키워드 검색 커서 PIT 정책. */
+    private final SearchQueryCursorPolicy searchQueryCursorPolicy;
+
     /** 커서 페이지 크기. */
     private static final int CURSOR_PAGE_SIZE = 20;
 
     /**
-     * 키워드로 검색합니다.
+     * 키워드로 검색합니다. 첫 페이지는 {@link SearchQueryFirstPageCache}를 거치고, 이후 페이지는 커서의 PIT로 조회합니다.
+     * PIT 없는 커서는 {@link SearchQueryCursorPolicy}에 따라 라이브 인덱스를 이어 읽거나 이때 PIT를 엽니다.
      *
      * @param scope 검색 범위
      * @param text 검색어
@@ -55,24 +65,60 @@ public class SearchQueryService {
      */
     public CursorPage<SearchQuery> searchByKeyword(SearchQueryScope scope, String text, String cursor)
             throws SearchException {
-        boolean first = (cursor == null || cursor.isBlank());
-        Pageable pageable = PageRequest.of(0, CURSOR_PAGE_SIZE + 1);
+        if (cursor == null || cursor.isBlank()) {
+            return searchQueryFirstPageCache.get(scope, text, () -> searchFirstPageByKeyword(scope, text));
+        }
 
         ScoreIdCursor scoreIdCursor;
         try {
-            scoreIdCursor = first ? null : scoreIdCursorCodec.decode(cursor);
+            scoreIdCursor = scoreIdCursorCodec.decode(cursor);
         } catch (CursorException exception) {
             throw new SearchException(SearchErrorCode.SEARCH_FAILED, exception);
         }
 
-        String anchorNowIso = first ? scoreIdCursorCodec.newAnchorNow() : scoreIdCursor.anchorNowIso();
-        String pitId = first ? searchQueryRepository.createPitId() : scoreIdCursor.pitId();
+        String pitId = scoreIdCursor.pitId();
+        if (!scoreIdCursor.hasPit() && !searchQueryCursorPolicy.withinTolerance(scoreIdCursor.anchorNowIso())) {
+            pitId = searchQueryRepository.createPitId();
+        }
 
-        List<Hit<SearchQuery>> rows = first
-                ? searchQueryRepository.searchByKeywordCursorFirst(scope, text, anchorNowIso, pitId, pageable)
-                : searchQueryRepository.searchByKeywordCursorKeyset(
-                        scope, text, anchorNowIso, pitId, scoreIdCursor.score(), scoreIdCursor.id(), pageable);
+        List<Hit<SearchQuery>> rows = searchQueryRepository.searchByKeywordCursorKeyset(
+                scope,
+                text,
+                scoreIdCursor.anchorNowIso(),
+                pitId,
+                scoreIdCursor.score(),
+                scoreIdCursor.id(),
+                PageRequest.of(0, CURSOR_PAGE_SIZE + 1));
+        return toKeywordPage(rows, scoreIdCursor.anchorNowIso(), pitId);
+    }
 
+    /**
+     * 키워드 검색 첫 페이지를 조회합니다. PIT를 미루는 정책이면 PIT 없이 라이브 인덱스를 조회합니다.
+     *
+     * @param scope 검색 범위
+     * @param text 검색어
+     * @return 검색 쿼리 커서 페이지
+     * @throws SearchException 검색 예외
+     */
+    private CursorPage<SearchQuery> searchFirstPageByKeyword(SearchQueryScope scope, String text)
+            throws SearchException {
+        String anchorNowIso = scoreIdCursorCodec.newAnchorNow();
+        String pitId = searchQueryCursorPolicy.lazyPit() ? null : searchQueryRepository.createPitId();
+
+        List<Hit<SearchQuery>> rows = searchQueryRepository.searchByKeywordCursorFirst(
+                scope, text, anchorNowIso, pitId, PageRequest.of(0, CURSOR_PAGE_SIZE + 1));
+        return toKeywordPage(rows, anchorNowIso, pitId);
+    }
+
+    /**
+     * 키워드 검색 히트를 커서 페이지로 변환합니다.
+     *
+     * @param rows 페이지 크기보다 하나 더 조회한 히트 목록
+     * @param anchorNowIso 기준 시각
+     * @param pitId PIT ID, 없으면 null
+     * @return 검색 쿼리 커서 페이지
+     */
+    private CursorPage<SearchQuery> toKeywordPage(List<Hit<SearchQuery>> rows, String anchorNowIso, String pitId) {
         CursorPage<Hit<SearchQuery>> page = CursorPages.of(
                 rows,
                 CURSOR_PAGE_SIZE,
@@ -93,22 +139,22 @@ public class SearchQueryService {
     }
 
     /**
-     * 후보군 검색을 위한 PIT를 엽니다.
+     * 후보군 검색을 위한 PIT를 풀에서 대여합니다.
      *
      * @return PIT ID
      * @throws SearchException 검색 예외
      */
     public String openPitForCandidates() throws SearchException {
-        return searchQueryRepository.createPitId();
+        return searchPitPool.acquire();
     }
 
     /**
-     * PIT를 닫습니다.
+     * 후보군 검색에 대여한 PIT를 풀에 반납합니다.
      *
      * @param pitId PIT ID
      */
-    public void closePit(String pitId) {
-        searchQueryRepository.closePit(pitId);
+    public void releasePitForCandidates(String pitId) {
+        searchPitPool.release(pitId);
     }
 
     /**
@@ -143,6 +189,8 @@ public class SearchQueryService {
             String cursor)
             throws SearchException {
 
+        searchPitPool.touch(pitId);
+
         boolean first = (cursor == null || cursor.isBlank());
         Pageable pageable = PageRequest.of(0, size + 1);
 
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
@@ -42,4 +43,16 @@ public class SearchQuery {
     /** 키워드 목록. */
     @Field(type = FieldType.Keyword)
     private List<String> keywords;
+
+    /** 레시피 생성 시각 (epoch millis). */
+    @Field(type = FieldType.Date, format = DateFormat.epoch_millis)
+    private Long createdAt;
+
+    /** 레시피 수정 시각 (epoch millis). */
+    @Field(type = FieldType.Date, format = DateFormat.epoch_millis)
+    private Long updatedAt;
+
+    /** 검색 결과 카드 정보. 카드 필드가 추가되기 전에 색인된 문서는 null입니다. */
+    @Field(type = FieldType.Object, enabled = false)
+    private SearchQueryCard card;
 }
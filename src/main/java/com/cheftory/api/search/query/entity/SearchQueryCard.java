@@ -0,0 +1,54 @@
+package com.cheftory.api.search.query.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 결과 카드 정보.
+ *
+ * <p>`search_query` 문서의 `card` 필드입니다. 색인하지 않고 `_source`에만 저장되며, 검색 화면의 레시피 개요를
+ * MySQL 조회 없이 만드는 데 사용합니다.</p>
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class SearchQueryCard {
+
+    /** 표시 제목. */
+    private String videoTitle;
+
+    /** 유튜브 비디오 ID. */
+    private String videoId;
+
+    /** 썸네일 URL. */
+    private String thumbnailUrl;
+
+    /** 재생 시간 (초). */
+    private Integer videoSeconds;
+
+    /** 비디오 타입. */
+    private String videoType;
+
+    /** 레시피 설명. */
+    private String description;
+
+    /** 인분. */
+    private Integer servings;
+
+    /** 조리 시간 (분). */
+    private Integer cookTime;
+
+    /** 색인 시점의 조회수. */
+    private Integer viewCount;
+
+    /** 크레딧 비용. */
+    private Long creditCost;
+}
@@ -1,38 +1,38 @@
 package com.cheftory.api.tracking;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.buffer.AsyncBatchWriter;
 import com.cheftory.api.tracking.dto.TrackingClickRequest;
 import com.cheftory.api.tracking.dto.TrackingImpressionRequest;
 import com.cheftory.api.tracking.entity.RecipeClick;
 import com.cheftory.api.tracking.entity.RecipeImpression;
 import com.cheftory.api.tracking.repository.RecipeClickRepository;
-import com.cheftory.api.tracking.repository.RecipeImpressionRepository;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 레시피 추적 서비스.
  *
- * <p>프론트엔드에서 수집한 노출/클릭 데이터를 저장합니다.</p>
+ * <p>프론트엔드에서 수집한 노출/클릭 데이터를 저장합니다. 노출은 비동기 배치 버퍼를 거쳐 일괄 저장합니다.</p>
  */
 @Service
 @RequiredArgsConstructor
 public class TrackingService {
 
-    private final RecipeImpressionRepository impressionRepository;
+    private final AsyncBatchWriter<RecipeImpression> recipeImpressionWriter;
     private final RecipeClickRepository clickRepository;
     private final Clock clock;
 
     /**
      * 레시피 노출 배치 저장.
      *
+     * <p>노출은 버퍼에 넣고 바로 반환하며, 버퍼가 포화되면 일부가 버려질 수 있습니다.</p>
+     *
      * @param userId 사용자 ID
      * @param request 노출 배치 요청
      */
-    @Transactional
     public void saveImpressions(UUID userId, TrackingImpressionRequest request) {
         List<RecipeImpression> entities = request.impressions().stream()
                 .map(item -> RecipeImpression.create(
@@ -44,7 +44,7 @@ public class TrackingService {
                         item.position(),
                         item.timestamp()))
                 .toList();
-        impressionRepository.saveAll(entities);
+        recipeImpressionWriter.offer(entities);
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.cheftory.api.tracking.entity;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.TimeOrderedUuid;
 import com.cheftory.api._common.region.MarketScope;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -75,7 +76,7 @@ public class RecipeClick extends MarketScope {
             int position,
             long frontendTimestamp) {
         return new RecipeClick(
-                UUID.randomUUID(),
+                TimeOrderedUuid.generate(),
                 userId,
                 requestId,
                 surfaceType,
@@ -1,5 +1,6 @@
 package com.cheftory.api.tracking.repository;
 
+import com.cheftory.api._common.buffer.EntityBatchInserter;
 import com.cheftory.api.tracking.entity.RecipeImpression;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -7,15 +8,17 @@ import org.springframework.stereotype.Repository;
 
 /**
  * 레시피 노출 Repository 구현체.
+ *
+ * <p>노출은 항상 신규 행이므로 merge 없이 JDBC 배치 INSERT로 저장합니다.</p>
  */
 @Repository
 @RequiredArgsConstructor
 public class RecipeImpressionRepositoryImpl implements RecipeImpressionRepository {
 
-    private final RecipeImpressionJpaRepository repository;
+    private final EntityBatchInserter entityBatchInserter;
 
     @Override
     public void saveAll(List<RecipeImpression> recipeImpressions) {
-        repository.saveAll(recipeImpressions);
+        entityBatchInserter.insertAll(recipeImpressions);
     }
 }
@@ -0,0 +1,111 @@
+package com.cheftory.api._common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimeOrderedUuid 테스트")
+class TimeOrderedUuidTest {
+
+    private static final Comparator<UUID> UNSIGNED_ORDER = Comparator.comparing(
+                    (UUID uuid) -> uuid.getMostSignificantBits(), Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Nested
+    @DisplayName("generate")
+    class Generate {
+
+        @Test
+        @DisplayName("버전 7, RFC 4122 variant UUID를 생성한다")
+        void shouldGenerateVersion7() {
+            UUID uuid = TimeOrderedUuid.generate();
+
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(UUID.fromString(uuid.toString())).isEqualTo(uuid);
+        }
+
+        @Test
+        @DisplayName("생성 시각을 상위 48비트에 담는다")
+        void shouldEmbedTimestamp() {
+            long before = System.currentTimeMillis();
+            UUID uuid = TimeOrderedUuid.generate();
+            long after = System.currentTimeMillis();
+
+            assertThat(TimeOrderedUuid.timestampMillis(uuid)).isBetween(before, after);
+        }
+
+        @Test
+        @DisplayName("동시에 생성해도 중복 없이 생성한다")
+        void shouldBeUniqueUnderConcurrency() {
+            Set<UUID> ids = ConcurrentHashMap.newKeySet();
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                IntStream.range(0, 8).forEach(t -> executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(TimeOrderedUuid.generate());
+                    }
+                }));
+            }
+
+            assertThat(ids).hasSize(80_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("next")
+    class Next {
+
+        @Test
+        @DisplayName("같은 밀리초 안에서도 단조 증가한다")
+        void shouldIncreaseWithinSameMillisecond() {
+            TimeOrderedUuid sut = new TimeOrderedUuid(() -> 1_700_000_000_000L);
+
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                ids.add(sut.next());
+            }
+
+            assertThat(ids).isSortedAccordingTo(UNSIGNED_ORDER);
+            assertThat(ids).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 순서가 역전되지 않는다")
+        void shouldStayMonotonicWhenClockGoesBackwards() {
+            AtomicLong now = new AtomicLong(1_700_000_000_000L);
+            TimeOrderedUuid sut = new TimeOrderedUuid(now::get);
+
+            UUID first = sut.next();
+            now.addAndGet(-1_000);
+            UUID second = sut.next();
+
+            assertThat(UNSIGNED_ORDER.compare(first, second)).isNegative();
+            assertThat(TimeOrderedUuid.timestampMillis(second)).isEqualTo(1_700_000_000_000L);
+        }
+
+        @Test
+        @DisplayName("시각이 바뀌면 새 시각 기준으로 생성한다")
+        void shouldFollowClock() {
+            AtomicLong now = new AtomicLong(1_700_000_000_000L);
+            TimeOrderedUuid sut = new TimeOrderedUuid(now::get);
+
+            sut.next();
+            now.addAndGet(5);
+            UUID later = sut.next();
+
+            assertThat(TimeOrderedUuid.timestampMillis(later)).isEqualTo(1_700_000_000_005L);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.cheftory.api._common.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cheftory.api._common.concurrency.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DbAdmissionController 테스트")
+class DbAdmissionControllerTest {
+
+    private static final Duration TARGET_ACQUIRE = Duration.ofMillis(20);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private DbAdmissionController controller(int initialPermits, int requestReserve, int maxQueue, Duration timeout) {
+        DbAdmissionController.Settings settings = new DbAdmissionController.Settings(
+                initialPermits, 1, 30, requestReserve, TARGET_ACQUIRE, timeout, timeout, maxQueue);
+        return new DbAdmissionController(settings, Optional::empty, meterRegistry);
+    }
+
+    private static DbAdmissionController.PoolSnapshot pool(int pending, int maxPoolSize, Duration acquireTime) {
+        return new DbAdmissionController.PoolSnapshot(0, pending, maxPoolSize, acquireTime);
+    }
+
+    private Thread waitFor(
+            DbAdmissionController sut, DbPriority priority, List<DbPriority> granted, int expectedQueued)
+            throws InterruptedException {
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try (var ignored = sut.acquire(priority)) {
+                granted.add(priority);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sut.queued(priority) < expectedQueued && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+
+    @Nested
+    @DisplayName("우선순위")
+    class Priority {
+
+        @Test
+        @DisplayName("자리가 나면 먼저 기다린 백그라운드보다 요청 경로를 먼저 들인다")
+        void shouldGrantRequestBeforeBackground() throws InterruptedException {
+            DbAdmissionController sut = controller(1, 0, 10, Duration.ofSeconds(5));
+            DbAdmissionController.Permit holding = sut.acquire(DbPriority.BACKGROUND);
+            List<DbPriority> granted = new CopyOnWriteArrayList<>();
+
+            Thread background = waitFor(sut, DbPriority.BACKGROUND, granted, 1);
+            Thread request = waitFor(sut, DbPriority.REQUEST, granted, 1);
+            holding.close();
+            background.join(TimeUnit.SECONDS.toMillis(5));
+            request.join(TimeUnit.SECONDS.toMillis(5));
+
+            assertThat(granted).containsExactly(DbPriority.REQUEST, DbPriority.BACKGROUND);
+        }
+
+        @Test
+        @DisplayName("백그라운드는 요청 경로 몫을 남기고 그 이상은 기다리다 실패한다")
+        void shouldKeepReserveForRequests() {
+            DbAdmissionController sut = controller(4, 1, 10, Duration.ofMillis(20));
+            for (int i = 0; i < 3; i++) {
+                sut.acquire(DbPriority.BACKGROUND);
+            }
+
+            assertThatThrownBy(() -> sut.acquire(DbPriority.BACKGROUND))
+                    .isInstanceOf(ConcurrencyLimitExceededException.class);
+            assertThat(sut.acquire(DbPriority.REQUEST)).isNotNull();
+            assertThat(sut.queued(DbPriority.BACKGROUND)).isZero();
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 바로 거절하고 거절 수를 기록한다")
+        void shouldRejectWhenQueueFull() {
+            DbAdmissionController sut = controller(1, 0, 0, Duration.ofSeconds(5));
+            sut.acquire(DbPriority.REQUEST);
+
+            assertThatThrownBy(() -> sut.acquire(DbPriority.REQUEST))
+                    .isInstanceOf(ConcurrencyLimitExceededException.class);
+            assertThat(meterRegistry
+                            .get(DbAdmissionController.REJECTED_METRIC)
+                            .tag("priority", "request")
+                            .counter()
+                            .count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("자리는 여러 번 닫아도 한 번만 반납한다")
+        void shouldReleaseOnce() {
+            DbAdmissionController sut = controller(2, 0, 10, Duration.ofSeconds(5));
+            DbAdmissionController.Permit permit = sut.acquire(DbPriority.BACKGROUND);
+            sut.acquire(DbPriority.BACKGROUND);
+
+            permit.close();
+            permit.close();
+
+            assertThat(sut.inFlight(DbPriority.BACKGROUND)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("허용 수 조절")
+    class Adjust {
+
+        @Test
+        @DisplayName("커넥션을 기다리는 스레드가 있으면 허용 수를 3/4로 줄인다")
+        void shouldShrinkWhenPoolHasPending() {
+            DbAdmissionController sut = controller(20, 0, 10, Duration.ofSeconds(5));
+
+            sut.adjust(pool(3, 30, Duration.ZERO));
+
+            assertThat(sut.limit()).isEqualTo(15);
+        }
+
+        @Test
+        @DisplayName("커넥션 획득이 목표보다 오래 걸리면 허용 수를 줄이되 최소값 아래로는 내려가지 않는다")
+        void shouldShrinkOnSlowAcquireWithinBounds() {
+            DbAdmissionController sut = controller(2, 0, 10, Duration.ofSeconds(5));
+
+            for (int i = 0; i < 5; i++) {
+                sut.adjust(pool(0, 30, TARGET_ACQUIRE.multipliedBy(2)));
+            }
+
+            assertThat(sut.limit()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("풀에 여유가 있고 허용 수를 다 쓰고 있으면 1 늘린다")
+        void shouldGrowWhenSaturatedWithoutPressure() {
+            DbAdmissionController sut = controller(2, 0, 10, Duration.ofSeconds(5));
+            sut.acquire(DbPriority.BACKGROUND);
+            sut.acquire(DbPriority.BACKGROUND);
+
+            sut.adjust(pool(0, 30, Duration.ZERO));
+
+            assertThat(sut.limit()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("한가하면 허용 수를 그대로 두고, 풀 최대 크기를 넘지 않는다")
+        void shouldStayWithinPoolSize() {
+            DbAdmissionController sut = controller(20, 0, 10, Duration.ofSeconds(5));
+
+            sut.adjust(pool(0, 30, Duration.ZERO));
+            assertThat(sut.limit()).isEqualTo(20);
+
+            sut.adjust(pool(0, 10, Duration.ZERO));
+            assertThat(sut.limit()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("허용 수와 우선순위별 실행 중·대기 수를 게이지로 노출한다")
+    void shouldExposeGauges() {
+        DbAdmissionController sut = controller(4, 0, 10, Duration.ofSeconds(5));
+
+        sut.acquire(DbPriority.BACKGROUND);
+
+        assertThat(meterRegistry.get(DbAdmissionController.LIMIT_METRIC).gauge().value())
+                .isEqualTo(4.0);
+        assertThat(meterRegistry
+                        .get(DbAdmissionController.IN_FLIGHT_METRIC)
+                        .tag("priority", "background")
+                        .gauge()
+                        .value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry
+                        .get(DbAdmissionController.QUEUED_METRIC)
+                        .tag("priority", "request")
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+}
@@ -3,6 +3,9 @@ package com.cheftory.api._common.aspect;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -17,14 +20,20 @@ import org.junit.jupiter.api.Test;
 class DbThrottlingAspectTest {
 
     private DbThrottlingAspect sut;
+    private DbThrottled dbThrottled;
 
     @BeforeEach
     void setUp() {
-        sut = new DbThrottlingAspect();
+        DbAdmissionController.Settings settings = new DbAdmissionController.Settings(
+                20, 1, 30, 0, Duration.ofMillis(20), Duration.ofSeconds(5), Duration.ofSeconds(5), 100);
+        sut = new DbThrottlingAspect(
+                new DbAdmissionController(settings, Optional::empty, new SimpleMeterRegistry()));
+        dbThrottled = mock(DbThrottled.class);
+        when(dbThrottled.value()).thenReturn(DbPriority.BACKGROUND);
     }
 
     @Test
-    @DisplayName("동시에 여러 요청이 와도 세마포어에 의해 실행이 제어된다")
+    @DisplayName("동시에 여러 요청이 와도 허용 수만큼만 실행된다")
     void shouldThrottleConcurrentRequests() throws Throwable {
         int threadCount = 30;
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
@@ -48,7 +57,7 @@ class DbThrottlingAspectTest {
         for (int i = 0; i < threadCount; i++) {
             executor.submit(() -> {
                 try {
-                    sut.throttle(joinPoint);
+                    sut.throttle(joinPoint, dbThrottled);
                 } catch (Throwable e) {
                     e.printStackTrace();
                 } finally {
@@ -0,0 +1,200 @@
+package com.cheftory.api._common.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AsyncBatchWriter 테스트")
+class AsyncBatchWriterTest {
+
+    private static final MarketContext.Info KOREA = new MarketContext.Info(Market.KOREA, "KR");
+    private static final MarketContext.Info GLOBAL = new MarketContext.Info(Market.GLOBAL, "US");
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<Flushed> flushed;
+    private AsyncBatchWriter<String> sut;
+
+    record Flushed(Market market, List<String> items) {}
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flushed = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.close();
+        }
+    }
+
+    private AsyncBatchWriter<String> start(
+            int capacity, int batchSize, Duration flushInterval, AsyncBatchWriter.Flusher<String> flusher) {
+        AsyncBatchWriter.Settings settings =
+                new AsyncBatchWriter.Settings(capacity, batchSize, flushInterval, Duration.ofMillis(10));
+        return AsyncBatchWriter.start("test", settings, flusher, meterRegistry);
+    }
+
+    private AsyncBatchWriter.Flusher<String> recording(CountDownLatch latch) {
+        return items -> {
+            flushed.add(new Flushed(MarketContext.required().market(), List.copyOf(items)));
+            latch.countDown();
+        };
+    }
+
+    private int offerIn(MarketContext.Info info, List<String> items) {
+        try (var ignored = MarketContext.with(info)) {
+            return sut.offer(items);
+        }
+    }
+
+    private List<String> itemsOf(Market market) {
+        return flushed.stream()
+                .filter(f -> f.market() == market)
+                .flatMap(f -> f.items().stream())
+                .toList();
+    }
+
+    private double counter(String metric) {
+        return meterRegistry.get(metric).tag("writer", "test").counter().count();
+    }
+
+    @Nested
+    @DisplayName("flush")
+    class Flush {
+
+        @Test
+        @DisplayName("배치 크기가 차면 주기를 기다리지 않고 반영한다")
+        void shouldFlushWhenBatchIsFull() throws InterruptedException {
+            CountDownLatch latch = new CountDownLatch(1);
+            sut = start(10, 2, Duration.ofSeconds(5), recording(latch));
+
+            offerIn(KOREA, List.of("a", "b"));
+
+            assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(flushed).containsExactly(new Flushed(Market.KOREA, List.of("a", "b")));
+        }
+
+        @Test
+        @DisplayName("배치가 덜 차도 주기가 지나면 반영한다")
+        void shouldFlushAfterInterval() throws InterruptedException {
+            CountDownLatch latch = new CountDownLatch(1);
+            sut = start(10, 100, Duration.ofMillis(50), recording(latch));
+
+            offerIn(KOREA, List.of("a"));
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(flushed).containsExactly(new Flushed(Market.KOREA, List.of("a")));
+        }
+
+        @Test
+        @DisplayName("항목을 넣은 마켓별로 나눠 해당 마켓 컨텍스트 안에서 반영한다")
+        void shouldFlushPerMarketContext() {
+            sut = start(10, 100, Duration.ofMillis(50), recording(new CountDownLatch(2)));
+
+            offerIn(KOREA, List.of("kr-1", "kr-2"));
+            offerIn(GLOBAL, List.of("us-1"));
+            sut.close();
+
+            assertThat(itemsOf(Market.KOREA)).containsExactly("kr-1", "kr-2");
+            assertThat(itemsOf(Market.GLOBAL)).containsExactly("us-1");
+        }
+
+        @Test
+        @DisplayName("반영에 실패한 항목 수를 기록하고 다음 배치를 계속 처리한다")
+        void shouldCountFailedItems() throws InterruptedException {
+            CountDownLatch latch = new CountDownLatch(1);
+            sut = start(10, 2, Duration.ofMillis(50), items -> {
+                if (items.contains("boom")) {
+                    throw new IllegalStateException("db down");
+                }
+                flushed.add(new Flushed(MarketContext.required().market(), List.copyOf(items)));
+                latch.countDown();
+            });
+
+            offerIn(KOREA, List.of("boom", "x"));
+            offerIn(KOREA, List.of("ok"));
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(counter(AsyncBatchWriter.FAILED_METRIC)).isEqualTo(2);
+            assertThat(flushed).containsExactly(new Flushed(Market.KOREA, List.of("ok")));
+        }
+    }
+
+    @Nested
+    @DisplayName("offer")
+    class Offer {
+
+        @Test
+        @DisplayName("버퍼가 가득 차면 대기 시간 이후 남은 항목을 버리고 기록한다")
+        void shouldDropWhenFull() throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            sut = start(1, 1, Duration.ofMillis(50), items -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            offerIn(KOREA, List.of("a"));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+            int accepted = offerIn(KOREA, List.of("b", "c", "d"));
+            release.countDown();
+
+            assertThat(accepted).isEqualTo(1);
+            assertThat(counter(AsyncBatchWriter.DROPPED_METRIC)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("종료 후 들어온 항목은 버린다")
+        void shouldDropAfterClose() {
+            sut = start(10, 10, Duration.ofMillis(50), recording(new CountDownLatch(1)));
+            sut.close();
+
+            int accepted = offerIn(KOREA, List.of("a"));
+
+            assertThat(accepted).isZero();
+            assertThat(counter(AsyncBatchWriter.DROPPED_METRIC)).isEqualTo(1);
+            assertThat(flushed).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("close")
+    class Close {
+
+        @Test
+        @DisplayName("종료 시 남은 항목을 모두 반영한다")
+        void shouldDrainRemainingOnClose() {
+            sut = start(100, 3, Duration.ofMillis(50), recording(new CountDownLatch(1)));
+
+            offerIn(KOREA, List.of("a", "b", "c", "d", "e"));
+            sut.close();
+
+            assertThat(flushed.stream().flatMap(f -> f.items().stream())).containsExactly("a", "b", "c", "d", "e");
+            assertThat(meterRegistry
+                            .get(AsyncBatchWriter.QUEUE_METRIC)
+                            .tag("writer", "test")
+                            .gauge()
+                            .value())
+                    .isZero();
+        }
+    }
+}
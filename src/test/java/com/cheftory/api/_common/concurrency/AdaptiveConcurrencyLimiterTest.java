@@ -0,0 +1,178 @@
+package com.cheftory.api._common.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final MarketContext.Info KOREA = new MarketContext.Info(Market.KOREA, "KR");
+    private static final MarketContext.Info GLOBAL = new MarketContext.Info(Market.GLOBAL, "US");
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueue, Duration queueTimeout) {
+        AdaptiveConcurrencyLimiter.Settings settings =
+                new AdaptiveConcurrencyLimiter.Settings(initialLimit, 1, 64, 1e9, 0.9, maxQueue, queueTimeout);
+        return new AdaptiveConcurrencyLimiter("test", settings, meterRegistry);
+    }
+
+    private Thread waitIn(
+            AdaptiveConcurrencyLimiter sut, MarketContext.Info info, List<Market> granted, int expectedQueued)
+            throws InterruptedException {
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try (var ignored = MarketContext.with(info)) {
+                AdaptiveConcurrencyLimiter.Permit permit = sut.acquire();
+                granted.add(info.market());
+                permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sut.queued() < expectedQueued && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+
+    @Nested
+    @DisplayName("한도 조절")
+    class Limit {
+
+        @Test
+        @DisplayName("한도를 채워 쓰며 정상 응답하면 한도를 늘린다")
+        void shouldIncreaseLimitOnSuccess() {
+            AdaptiveConcurrencyLimiter sut = limiter(2, 10, Duration.ofSeconds(1));
+
+            for (int i = 0; i < 10; i++) {
+                AdaptiveConcurrencyLimiter.Permit first = sut.acquire();
+                AdaptiveConcurrencyLimiter.Permit second = sut.acquire();
+                first.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+                second.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+            }
+
+            assertThat(sut.limit()).isGreaterThan(2);
+        }
+
+        @Test
+        @DisplayName("과부하로 끝나면 한도를 줄이되 최소값 아래로는 내려가지 않는다")
+        void shouldBackoffOnOverloadWithinBounds() {
+            AdaptiveConcurrencyLimiter sut = limiter(10, 10, Duration.ofSeconds(1));
+
+            sut.acquire().release(AdaptiveConcurrencyLimiter.Outcome.OVERLOAD);
+            assertThat(sut.limit()).isEqualTo(9);
+
+            for (int i = 0; i < 100; i++) {
+                sut.acquire().release(AdaptiveConcurrencyLimiter.Outcome.OVERLOAD);
+            }
+            assertThat(sut.limit()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("과부하와 무관한 실패는 한도를 바꾸지 않는다")
+        void shouldKeepLimitOnIgnoredFailure() {
+            AdaptiveConcurrencyLimiter sut = limiter(10, 10, Duration.ofSeconds(1));
+
+            sut.acquire().release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+
+            assertThat(sut.limit()).isEqualTo(10);
+            assertThat(sut.inFlight()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열")
+    class Queue {
+
+        @Test
+        @DisplayName("대기열이 가득 차면 바로 거절한다")
+        void shouldRejectWhenQueueFull() {
+            AdaptiveConcurrencyLimiter sut = limiter(1, 0, Duration.ofSeconds(1));
+            sut.acquire();
+
+            assertThatThrownBy(sut::acquire).isInstanceOf(ConcurrencyLimitExceededException.class);
+            assertThat(meterRegistry
+                            .get(AdaptiveConcurrencyLimiter.REJECTED_METRIC)
+                            .tag("limiter", "test")
+                            .counter()
+                            .count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("대기 시간 안에 자리를 얻지 못하면 거절하고 대기열에서 빠진다")
+        void shouldRejectOnQueueTimeout() {
+            AdaptiveConcurrencyLimiter sut = limiter(1, 10, Duration.ofMillis(20));
+            sut.acquire();
+
+            assertThatThrownBy(sut::acquire).isInstanceOf(ConcurrencyLimitExceededException.class);
+            assertThat(sut.queued()).isZero();
+            assertThat(sut.inFlight()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("빈 자리는 대기 중인 마켓에 돌아가며 나눠 준다")
+        void shouldGrantRoundRobinAcrossMarkets() throws InterruptedException {
+            AdaptiveConcurrencyLimiter sut = limiter(1, 10, Duration.ofSeconds(5));
+            AdaptiveConcurrencyLimiter.Permit holding = sut.acquire();
+            List<Market> granted = new CopyOnWriteArrayList<>();
+
+            List<Thread> threads = new ArrayList<>();
+            threads.add(waitIn(sut, KOREA, granted, 1));
+            threads.add(waitIn(sut, KOREA, granted, 2));
+            threads.add(waitIn(sut, KOREA, granted, 3));
+            threads.add(waitIn(sut, GLOBAL, granted, 4));
+
+            holding.release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+            for (Thread thread : threads) {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+
+            assertThat(granted).containsExactly(Market.KOREA, Market.GLOBAL, Market.KOREA, Market.KOREA);
+        }
+    }
+
+    @Test
+    @DisplayName("한도·실행 중·대기 수를 게이지로 노출한다")
+    void shouldExposeGauges() {
+        AdaptiveConcurrencyLimiter sut = limiter(4, 10, Duration.ofSeconds(1));
+
+        sut.acquire();
+
+        assertThat(meterRegistry
+                        .get(AdaptiveConcurrencyLimiter.LIMIT_METRIC)
+                        .tag("limiter", "test")
+                        .gauge()
+                        .value())
+                .isEqualTo(4.0);
+        assertThat(meterRegistry
+                        .get(AdaptiveConcurrencyLimiter.IN_FLIGHT_METRIC)
+                        .tag("limiter", "test")
+                        .gauge()
+                        .value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry
+                        .get(AdaptiveConcurrencyLimiter.QUEUED_METRIC)
+                        .tag("limiter", "test")
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.cheftory.api._common.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConcurrencyLimitedProxy 테스트")
+class ConcurrencyLimitedProxyTest {
+
+    private static final AdaptiveConcurrencyLimiter.Settings SETTINGS =
+            new AdaptiveConcurrencyLimiter.Settings(10, 1, 64, 2.0, 0.9, 10, Duration.ofSeconds(1));
+
+    interface Greeter {
+        String greet(String name);
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private Greeter wrap(Greeter target) {
+        return ConcurrencyLimitedProxy.wrap(
+                Greeter.class, target, SETTINGS, t -> t instanceof IllegalStateException, meterRegistry);
+    }
+
+    private double limit() {
+        return meterRegistry
+                .get(AdaptiveConcurrencyLimiter.LIMIT_METRIC)
+                .tag("limiter", "Greeter.greet")
+                .gauge()
+                .value();
+    }
+
+    @Test
+    @DisplayName("메서드 호출 결과를 그대로 돌려주고 메서드별 리미터를 만든다")
+    void shouldDelegateThroughLimiter() {
+        Greeter sut = wrap(name -> "hello " + name);
+
+        assertThat(sut.greet("cheftory")).isEqualTo("hello cheftory");
+        assertThat(limit()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("과부하 예외는 풀어서 그대로 던지고 한도를 줄인다")
+    void shouldBackoffOnOverload() {
+        Greeter sut = wrap(name -> {
+            throw new IllegalStateException("timeout", new TimeoutException());
+        });
+
+        assertThatThrownBy(() -> sut.greet("cheftory")).isInstanceOf(IllegalStateException.class);
+        assertThat(limit()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("과부하가 아닌 예외는 한도에 반영하지 않는다")
+    void shouldKeepLimitOnOtherFailure() {
+        Greeter sut = wrap(name -> {
+            throw new IllegalArgumentException("bad request");
+        });
+
+        assertThatThrownBy(() -> sut.greet("cheftory")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(limit()).isEqualTo(10.0);
+    }
+}
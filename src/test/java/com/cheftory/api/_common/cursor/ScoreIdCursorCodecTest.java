@@ -24,6 +24,19 @@ class ScoreIdCursorCodecTest {
         assertThat(decoded).isEqualTo(cursor);
     }
 
+    @Test
+    @DisplayName("should round-trip cursor without PIT")
+    void shouldRoundTripCursorWithoutPit() throws CursorException {
+        ScoreIdCursor cursor = new ScoreIdCursor(1.25, "id-1", "2026-02-13T10:00:00", null);
+
+        String encoded = codec.encode(cursor);
+        ScoreIdCursor decoded = codec.decode(encoded);
+
+        assertThat(encoded).endsWith("|-");
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.hasPit()).isFalse();
+    }
+
     @Test
     @DisplayName("should throw CursorException when cursor is invalid")
     void shouldThrowWhenCursorInvalid() {
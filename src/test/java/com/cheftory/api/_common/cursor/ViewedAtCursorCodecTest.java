@@ -3,6 +3,7 @@ package com.cheftory.api._common.cursor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.cheftory.api._common.TimeOrderedUuid;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +25,18 @@ class ViewedAtCursorCodecTest {
         assertThat(decoded).isEqualTo(cursor);
     }
 
+    @Test
+    @DisplayName("should encode and decode cursor with time-ordered id")
+    void shouldEncodeAndDecodeCursorWithTimeOrderedId() throws CursorException {
+        ViewedAtCursor cursor =
+                new ViewedAtCursor(LocalDateTime.of(2026, 2, 13, 11, 0), TimeOrderedUuid.generate());
+
+        ViewedAtCursor decoded = codec.decode(codec.encode(cursor));
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.lastId().version()).isEqualTo(7);
+    }
+
     @Test
     @DisplayName("should throw CursorException when cursor is null")
     void shouldThrowWhenCursorNull() {
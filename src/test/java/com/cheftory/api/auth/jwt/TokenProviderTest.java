@@ -283,6 +283,43 @@ class TokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("검증된 액세스 토큰 캐시")
+    class VerifiedTokenCache {
+        String token;
+
+        @BeforeEach
+        void setUp() throws AuthException {
+            token = tokenProvider.createToken(userId, AuthTokenType.ACCESS);
+            tokenProvider.getUserId(token, AuthTokenType.ACCESS);
+        }
+
+        @Test
+        @DisplayName("Then - 같은 토큰을 다시 검증하면 같은 사용자 ID를 반환한다")
+        void thenReturnsSameUserIdOnRepeat() throws AuthException {
+            assertThat(tokenProvider.getUserId(token, AuthTokenType.ACCESS)).isEqualTo(userId);
+        }
+
+        @Test
+        @DisplayName("Then - 캐시된 토큰도 만료 시각이 지나면 EXPIRED_TOKEN 예외를 던진다")
+        void thenThrowsExpiredAfterExpiration() {
+            long afterExpiry = System.currentTimeMillis() + (accessTokenExpiration + 1) * 1000;
+            Mockito.when(clock.nowMillis()).thenReturn(afterExpiry);
+
+            AuthException ex =
+                    assertThrows(AuthException.class, () -> tokenProvider.getUserId(token, AuthTokenType.ACCESS));
+            assertThat(ex.getError()).isEqualTo(AuthErrorCode.EXPIRED_TOKEN);
+        }
+
+        @Test
+        @DisplayName("Then - 캐시된 액세스 토큰을 리프레시 토큰으로 검증하면 INVALID_REFRESH_TOKEN 예외를 던진다")
+        void thenDoesNotServeRefreshFromCache() {
+            AuthException ex =
+                    assertThrows(AuthException.class, () -> tokenProvider.getUserId(token, AuthTokenType.REFRESH));
+            assertThat(ex.getError()).isEqualTo(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        }
+    }
+
     @Nested
     @DisplayName("토큰 만료 시간 검증")
     class TokenExpirationCheck {
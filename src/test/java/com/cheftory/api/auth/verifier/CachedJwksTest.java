@@ -0,0 +1,114 @@
+package com.cheftory.api.auth.verifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cheftory.api.auth.verifier.exception.VerificationErrorCode;
+import com.cheftory.api.auth.verifier.exception.VerificationException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CachedJwks 테스트")
+class CachedJwksTest {
+
+    private RSAKey firstKey;
+    private RSAKey secondKey;
+    private AtomicLong now;
+    private AtomicInteger fetches;
+    private String jwksJson;
+    private boolean available;
+    private CachedJwks sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        firstKey = new RSAKeyGenerator(2048).keyID("kid-1").generate();
+        secondKey = new RSAKeyGenerator(2048).keyID("kid-2").generate();
+        now = new AtomicLong(1_700_000_000_000L);
+        fetches = new AtomicInteger();
+        jwksJson = new JWKSet(firstKey.toPublicJWK()).toString();
+        available = true;
+        sut = new CachedJwks(
+                "test",
+                () -> {
+                    fetches.incrementAndGet();
+                    if (!available) {
+                        throw new VerificationException(VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE);
+                    }
+                    return jwksJson;
+                },
+                VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE,
+                now::get);
+    }
+
+    @Test
+    @DisplayName("보관 기간 안에서는 JWKS를 다시 조회하지 않는다")
+    void shouldReuseParsedKeys() throws VerificationException {
+        assertThat(sut.verifier("kid-1")).isNotNull();
+        now.addAndGet(Duration.ofHours(1).toMillis());
+        assertThat(sut.verifier("kid-1")).isNotNull();
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나면 JWKS를 다시 조회한다")
+    void shouldRefreshAfterTtl() throws VerificationException {
+        sut.verifier("kid-1");
+        now.addAndGet(Duration.ofHours(6).toMillis());
+
+        sut.verifier("kid-1");
+
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("모르는 kid가 들어오면 JWKS를 다시 조회해 새 키를 찾는다")
+    void shouldRefreshOnUnknownKid() throws VerificationException {
+        sut.verifier("kid-1");
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        jwksJson = new JWKSet(secondKey.toPublicJWK()).toString();
+
+        assertThat(sut.verifier("kid-2")).isNotNull();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("모르는 kid로 인한 재조회는 최소 간격으로 제한한다")
+    void shouldThrottleUnknownKidRefresh() throws VerificationException {
+        sut.verifier("kid-1");
+
+        assertThat(sut.verifier("unknown-1")).isNull();
+        assertThat(sut.verifier("unknown-2")).isNull();
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("재조회에 실패하면 기존 키를 계속 사용한다")
+    void shouldKeepOldKeysOnFailure() throws VerificationException {
+        sut.verifier("kid-1");
+        now.addAndGet(Duration.ofHours(6).toMillis());
+        available = false;
+
+        assertThat(sut.verifier("kid-1")).isNotNull();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("보관된 키 없이 조회에 실패하면 예외를 던진다")
+    void shouldThrowWhenNoKeys() {
+        available = false;
+
+        assertThatThrownBy(() -> sut.verifier("kid-1"))
+                .isInstanceOf(VerificationException.class)
+                .extracting(e -> ((VerificationException) e).getError())
+                .isEqualTo(VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE);
+    }
+}
@@ -2,10 +2,29 @@ package com.cheftory.api.auth.verifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
+import com.cheftory.api._common.Clock;
 import com.cheftory.api.auth.verifier.client.GoogleTokenClient;
 import com.cheftory.api.auth.verifier.exception.VerificationErrorCode;
 import com.cheftory.api.auth.verifier.exception.VerificationException;
+import com.cheftory.api.auth.verifier.property.GoogleProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
@@ -16,14 +35,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ObjectNode;
 
 @DisplayName("GoogleTokenVerifier 테스트")
 class GoogleTokenVerifierTest {
 
+    private static final String CLIENT_ID = "client-id.apps.googleusercontent.com";
+
     private MockWebServer mockWebServer;
+    private GoogleTokenClient googleTokenClient;
+    private GoogleProperties googleProperties;
+    private Clock clock;
     private GoogleTokenVerifier googleTokenVerifier;
+    private RSAKey testRsaKey;
+    private AtomicInteger jwksFetches;
+    private boolean jwksAvailable;
     private final ObjectMapper mapper = new ObjectMapper();
 
     @BeforeEach
@@ -31,33 +59,90 @@ class GoogleTokenVerifierTest {
         mockWebServer = new MockWebServer();
         mockWebServer.start();
 
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        testRsaKey = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .keyID(UUID.randomUUID().toString())
+                .build();
+        jwksFetches = new AtomicInteger();
+        jwksAvailable = true;
+
         WebClient webClient =
                 WebClient.builder().baseUrl(mockWebServer.url("/").toString()).build();
 
-        GoogleTokenClient mockClient = idToken -> {
-            try {
-                String response = webClient
-                        .get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/")
-                                .queryParam("id_token", idToken)
-                                .build())
-                        .accept(MediaType.APPLICATION_JSON)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-
-                if (response == null) {
+        googleTokenClient = new GoogleTokenClient() {
+            @Override
+            public JsonNode fetchTokenInfo(String idToken) throws VerificationException {
+                try {
+                    String response = webClient
+                            .get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path("/")
+                                    .queryParam("id_token", idToken)
+                                    .build())
+                            .accept(MediaType.APPLICATION_JSON)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .block();
+
+                    if (response == null) {
+                        throw new VerificationException(VerificationErrorCode.GOOGLE_RESPONSE_NOT_OK);
+                    }
+
+                    return mapper.readTree(response);
+                } catch (Exception e) {
                     throw new VerificationException(VerificationErrorCode.GOOGLE_RESPONSE_NOT_OK);
                 }
+            }
 
-                return mapper.readTree(response);
-            } catch (Exception e) {
-                throw new VerificationException(VerificationErrorCode.GOOGLE_RESPONSE_NOT_OK);
+            @Override
+            public String fetchJwks() throws VerificationException {
+                jwksFetches.incrementAndGet();
+                if (!jwksAvailable) {
+                    throw new VerificationException(VerificationErrorCode.GOOGLE_JWKS_UNAVAILABLE);
+                }
+                return new JWKSet(testRsaKey.toPublicJWK()).toString();
             }
         };
 
-        googleTokenVerifier = new GoogleTokenVerifier(mockClient);
+        googleProperties = new GoogleProperties();
+        clock = mock(Clock.class);
+        doReturn(System.currentTimeMillis()).when(clock).nowMillis();
+        googleTokenVerifier = new GoogleTokenVerifier(googleTokenClient, googleProperties, clock);
+    }
+
+    private String createToken(String keyId, String issuer, String audience, Date expiration) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("google-user-123")
+                .issuer(issuer)
+                .audience(audience)
+                .issueTime(new Date())
+                .expirationTime(expiration)
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(keyId).build(), claims);
+        jwt.sign(new RSASSASigner(testRsaKey));
+        return jwt.serialize();
+    }
+
+    private String createValidToken() throws Exception {
+        return createToken(
+                testRsaKey.getKeyID(),
+                "https://accounts.google.com",
+                CLIENT_ID,
+                new Date(System.currentTimeMillis() + 3_600_000));
+    }
+
+    private void enqueueTokenInfo(String sub) {
+        ObjectNode responseBody = mapper.createObjectNode();
+        responseBody.put("sub", sub);
+        mockWebServer.enqueue(new MockResponse.Builder()
+                .code(200)
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(responseBody.toString())
+                .build());
     }
 
     @AfterEach
@@ -66,7 +151,7 @@ class GoogleTokenVerifierTest {
     }
 
     @Nested
-    @DisplayName("getSubFromToken 메서드")
+    @DisplayName("getSubFromToken 메서드 - 클라이언트 ID 미설정 시 Token Info API 검증")
     class GetSubFromToken {
 
         @Nested
@@ -217,4 +302,162 @@ class GoogleTokenVerifierTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("getSubFromToken 메서드 - JWKS 로컬 검증")
+    class GetSubFromTokenLocally {
+
+        @BeforeEach
+        void setUp() {
+            googleProperties.setClientIds(List.of(CLIENT_ID));
+        }
+
+        @Test
+        @DisplayName("Then - 유효한 토큰이면 외부 Token Info 호출 없이 sub를 반환한다")
+        void thenReturnsSubWithoutRemoteCall() throws Exception {
+            String result = googleTokenVerifier.getSubFromToken(createValidToken());
+
+            assertThat(result).isEqualTo("google-user-123");
+            assertThat(mockWebServer.getRequestCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Then - 파싱한 공개키를 재사용해 JWKS를 한 번만 조회한다")
+        void thenFetchesJwksOnce() throws Exception {
+            googleTokenVerifier.getSubFromToken(createValidToken());
+            googleTokenVerifier.getSubFromToken(createValidToken());
+
+            assertThat(jwksFetches).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Then - 스킴 없는 iss도 허용한다")
+        void thenAcceptsIssuerWithoutScheme() throws Exception {
+            String token = createToken(
+                    testRsaKey.getKeyID(),
+                    "accounts.google.com",
+                    CLIENT_ID,
+                    new Date(System.currentTimeMillis() + 3_600_000));
+
+            assertThat(googleTokenVerifier.getSubFromToken(token)).isEqualTo("google-user-123");
+        }
+
+        @Test
+        @DisplayName("Then - 잘못된 발급자면 GOOGLE_INVALID_ISSUER 예외를 던진다")
+        void thenThrowsInvalidIssuer() throws Exception {
+            String token = createToken(
+                    testRsaKey.getKeyID(),
+                    "https://evil.example.com",
+                    CLIENT_ID,
+                    new Date(System.currentTimeMillis() + 3_600_000));
+
+            assertThatThrownBy(() -> googleTokenVerifier.getSubFromToken(token))
+                    .isInstanceOf(VerificationException.class)
+                    .extracting(e -> ((VerificationException) e).getError())
+                    .isEqualTo(VerificationErrorCode.GOOGLE_INVALID_ISSUER);
+        }
+
+        @Test
+        @DisplayName("Then - 다른 클라이언트용 토큰이면 GOOGLE_INVALID_AUDIENCE 예외를 던진다")
+        void thenThrowsInvalidAudience() throws Exception {
+            String token = createToken(
+                    testRsaKey.getKeyID(),
+                    "https://accounts.google.com",
+                    "other-client",
+                    new Date(System.currentTimeMillis() + 3_600_000));
+
+            assertThatThrownBy(() -> googleTokenVerifier.getSubFromToken(token))
+                    .isInstanceOf(VerificationException.class)
+                    .extracting(e -> ((VerificationException) e).getError())
+                    .isEqualTo(VerificationErrorCode.GOOGLE_INVALID_AUDIENCE);
+        }
+
+        @Test
+        @DisplayName("Then - 만료된 토큰이면 GOOGLE_TOKEN_EXPIRED 예외를 던진다")
+        void thenThrowsExpired() throws Exception {
+            String token = createToken(
+                    testRsaKey.getKeyID(),
+                    "https://accounts.google.com",
+                    CLIENT_ID,
+                    new Date(System.currentTimeMillis() - 1_000));
+
+            assertThatThrownBy(() -> googleTokenVerifier.getSubFromToken(token))
+                    .isInstanceOf(VerificationException.class)
+                    .extracting(e -> ((VerificationException) e).getError())
+                    .isEqualTo(VerificationErrorCode.GOOGLE_TOKEN_EXPIRED);
+        }
+
+        @Test
+        @DisplayName("Then - 주입한 Clock 기준으로 만료가 지났으면 GOOGLE_TOKEN_EXPIRED 예외를 던진다")
+        void thenThrowsExpiredByClock() throws Exception {
+            String token = createValidToken();
+            doReturn(System.currentTimeMillis() + 7_200_000).when(clock).nowMillis();
+
+            assertThatThrownBy(() -> googleTokenVerifier.getSubFromToken(token))
+                    .isInstanceOf(VerificationException.class)
+                    .extracting(e -> ((VerificationException) e).getError())
+                    .isEqualTo(VerificationErrorCode.GOOGLE_TOKEN_EXPIRED);
+        }
+
+        @Test
+        @DisplayName("Then - JWKS에 없는 kid면 GOOGLE_PUBLIC_KEY_NOT_FOUND 예외를 던진다")
+        void thenThrowsUnknownKid() throws Exception {
+            String token = createToken(
+                    "unknown-kid",
+                    "https://accounts.google.com",
+                    CLIENT_ID,
+                    new Date(System.currentTimeMillis() + 3_600_000));
+
+            assertThatThrownBy(() -> googleTokenVerifier.getSubFromToken(token))
+                    .isInstanceOf(VerificationException.class)
+                    .extracting(e -> ((VerificationException) e).getError())
+                    .isEqualTo(VerificationErrorCode.GOOGLE_PUBLIC_KEY_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("Then - 토큰 형식이 잘못되면 GOOGLE_INVALID_FORMAT 예외를 던진다")
+        void thenThrowsInvalidFormat() {
+            assertThatThrownBy(() -> googleTokenVerifier.getSubFromToken("invalid-token"))
+                    .isInstanceOf(VerificationException.class)
+                    .extracting(e -> ((VerificationException) e).getError())
+                    .isEqualTo(VerificationErrorCode.GOOGLE_INVALID_FORMAT);
+        }
+
+        @Test
+        @DisplayName("Then - JWKS를 조회할 수 없으면 Token Info API로 검증한다")
+        void thenFallsBackToTokenInfo() throws Exception {
+            jwksAvailable = false;
+            enqueueTokenInfo("google-user-remote");
+
+            String result = googleTokenVerifier.getSubFromToken(createValidToken());
+
+            assertThat(result).isEqualTo("google-user-remote");
+            assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("생성자 - 클라이언트 ID 필수 설정")
+    class RequireClientIds {
+
+        @Test
+        @DisplayName("Then - 필수인데 클라이언트 ID가 비어 있으면 시작 시점에 실패한다")
+        void thenFailsFastWhenMissing() {
+            GoogleProperties properties = new GoogleProperties();
+            properties.setRequireClientIds(true);
+
+            assertThatThrownBy(() -> new GoogleTokenVerifier(googleTokenClient, properties, clock))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Then - 필수이고 클라이언트 ID가 있으면 생성된다")
+        void thenCreatesWhenConfigured() {
+            GoogleProperties properties = new GoogleProperties();
+            properties.setRequireClientIds(true);
+            properties.setClientIds(List.of(CLIENT_ID));
+
+            assertThat(new GoogleTokenVerifier(googleTokenClient, properties, clock)).isNotNull();
+        }
+    }
 }
@@ -1,8 +1,12 @@
 package com.cheftory.api.ranking;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -10,11 +14,14 @@ import com.cheftory.api._common.cursor.CursorPage;
 import com.cheftory.api._common.cursor.RankingCursor;
 import com.cheftory.api._common.cursor.RankingCursorCodec;
 import com.cheftory.api.exception.CheftoryException;
+import com.cheftory.api.ranking.candidate.RankingCandidateErrorCode;
+import com.cheftory.api.ranking.candidate.RankingCandidateException;
 import com.cheftory.api.ranking.candidate.RankingCandidatePage;
 import com.cheftory.api.ranking.candidate.RankingCandidateService;
 import com.cheftory.api.ranking.interaction.RankingInteractionService;
 import com.cheftory.api.ranking.personalization.PersonalizationProfile;
 import com.cheftory.api.ranking.personalization.RankingPersonalizationService;
+import com.cheftory.api.ranking.snapshot.RankingSession;
 import com.cheftory.api.ranking.snapshot.RankingSnapshotService;
 import java.util.List;
 import java.util.UUID;
@@ -48,26 +55,35 @@ class RankingServiceTest {
     private RankingService rankingService;
 
     @Test
-    @DisplayName("recommend first page opens pit and refreshes snapshot when hasNext")
+    @DisplayName("recommend first page opens pit and saves it in the commit step when hasNext")
     void recommendFirstPageHasNext() throws CheftoryException {
         UUID userId = UUID.randomUUID();
         UUID requestId = UUID.randomUUID();
         List<UUID> items = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> seeds = List.of(UUID.randomUUID());
         PersonalizationProfile profile = new PersonalizationProfile(List.of("a"), List.of("b"));
 
         doReturn(requestId).when(rankingSnapshotService).issueRequestId();
-        doReturn(null)
+        doReturn("recent:key").when(rankingInteractionService).recentViewsKey(userId, RankingItemType.RECIPE);
+        doReturn(new RankingSession(null, seeds, null))
                 .when(rankingSnapshotService)
-                .getPit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+                .loadSession(
+                        requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, true, "recent:key", 10);
         doReturn("pit-1").when(rankingCandidateService).openPit();
-        doReturn(List.of(UUID.randomUUID()))
-                .when(rankingInteractionService)
-                .getRecentSeeds(userId, RankingItemType.RECIPE, 10);
-        doReturn(profile).when(rankingPersonalizationService).aggregateProfile(any());
+        doReturn(profile).when(rankingPersonalizationService).profile(userId, RankingItemType.RECIPE, seeds);
         doReturn(new RankingCandidatePage(items, "next"))
                 .when(rankingCandidateService)
                 .searchWithPit(RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, 2, profile, "pit-1", null);
-        doReturn(0L).when(rankingSnapshotService).allocateImpressionPositions(requestId, items.size());
+        doReturn(0L)
+                .when(rankingSnapshotService)
+                .commitSession(
+                        requestId,
+                        RankingSurfaceType.CUISINE_KOREAN,
+                        RankingItemType.RECIPE,
+                        "pit-1",
+                        profile,
+                        items.size(),
+                        true);
         doReturn("encoded-next").when(rankingCursorCodec).encode(any(RankingCursor.class));
 
         CursorPage<UUID> result =
@@ -75,35 +91,83 @@ class RankingServiceTest {
 
         assertThat(result.items()).isEqualTo(items);
         assertThat(result.nextCursor()).isEqualTo("encoded-next");
-        verify(rankingSnapshotService)
-                .savePit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, "pit-1");
-        verify(rankingSnapshotService).refreshPit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+        verify(rankingInteractionService)
+                .logImpressions(
+                        userId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, items, requestId, 0L);
         verify(rankingCandidateService, never()).closePit(any());
-        verify(rankingSnapshotService, never()).deletePit(any(), any(), any());
-        verify(rankingSnapshotService, never()).clearImpressionPositions(any());
+        verify(rankingInteractionService, never()).getRecentSeeds(any(), any(), anyInt());
+        verify(rankingSnapshotService, never()).getPit(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("recommend next page uses the pinned profile without recomputing it")
+    void recommendNextPageUsesPinnedProfile() throws CheftoryException {
+        UUID userId = UUID.randomUUID();
+        UUID requestId = UUID.randomUUID();
+        RankingCursor decoded = new RankingCursor(requestId, "after");
+        List<UUID> items = List.of(UUID.randomUUID());
+        PersonalizationProfile pinned = new PersonalizationProfile(List.of("a"), List.of("b"));
+
+        doReturn(decoded).when(rankingCursorCodec).decode("cursor");
+        doReturn("recent:key").when(rankingInteractionService).recentViewsKey(userId, RankingItemType.RECIPE);
+        doReturn(new RankingSession("pit-1", List.of(), pinned))
+                .when(rankingSnapshotService)
+                .loadSession(
+                        requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, false, "recent:key", 10);
+        doReturn(new RankingCandidatePage(items, "next"))
+                .when(rankingCandidateService)
+                .searchWithPit(RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, 2, pinned, "pit-1", "after");
+        doReturn(2L)
+                .when(rankingSnapshotService)
+                .commitSession(
+                        requestId,
+                        RankingSurfaceType.CUISINE_KOREAN,
+                        RankingItemType.RECIPE,
+                        null,
+                        null,
+                        items.size(),
+                        true);
+        doReturn("encoded-next").when(rankingCursorCodec).encode(any(RankingCursor.class));
+
+        CursorPage<UUID> result = rankingService.recommend(
+                userId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, "cursor", 2);
+
+        assertThat(result.items()).isEqualTo(items);
+        verify(rankingPersonalizationService, never()).profile(any(), any(), any());
+        verify(rankingInteractionService, never()).getRecentSeeds(any(), any(), anyInt());
     }
 
     @Test
-    @DisplayName("recommend next page closes pit and clears snapshot when no next cursor")
+    @DisplayName("recommend next page without a pinned profile recomputes it, closes pit and clears session")
     void recommendNextPageNoNext() throws CheftoryException {
         UUID userId = UUID.randomUUID();
         UUID requestId = UUID.randomUUID();
         RankingCursor decoded = new RankingCursor(requestId, "after");
         List<UUID> items = List.of(UUID.randomUUID());
+        List<UUID> seeds = List.of(UUID.randomUUID());
         PersonalizationProfile profile = new PersonalizationProfile(List.of("a"), List.of("b"));
 
         doReturn(decoded).when(rankingCursorCodec).decode("cursor");
-        doReturn("pit-1")
+        doReturn("recent:key").when(rankingInteractionService).recentViewsKey(userId, RankingItemType.RECIPE);
+        doReturn(new RankingSession("pit-1", List.of(), null))
                 .when(rankingSnapshotService)
-                .getPit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
-        doReturn(List.of(UUID.randomUUID()))
-                .when(rankingInteractionService)
-                .getRecentSeeds(userId, RankingItemType.RECIPE, 10);
-        doReturn(profile).when(rankingPersonalizationService).aggregateProfile(any());
+                .loadSession(
+                        requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, false, "recent:key", 10);
+        doReturn(seeds).when(rankingInteractionService).getRecentSeeds(userId, RankingItemType.RECIPE, 10);
+        doReturn(profile).when(rankingPersonalizationService).profile(userId, RankingItemType.RECIPE, seeds);
         doReturn(new RankingCandidatePage(items, null))
                 .when(rankingCandidateService)
                 .searchWithPit(RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, 2, profile, "pit-1", "after");
-        doReturn(0L).when(rankingSnapshotService).allocateImpressionPositions(requestId, items.size());
+        doReturn(4L)
+                .when(rankingSnapshotService)
+                .commitSession(
+                        requestId,
+                        RankingSurfaceType.CUISINE_KOREAN,
+                        RankingItemType.RECIPE,
+                        null,
+                        profile,
+                        items.size(),
+                        false);
 
         CursorPage<UUID> result = rankingService.recommend(
                 userId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, "cursor", 2);
@@ -111,12 +175,43 @@ class RankingServiceTest {
         assertThat(result.items()).isEqualTo(items);
         assertThat(result.nextCursor()).isNull();
         verify(rankingCandidateService).closePit("pit-1");
-        verify(rankingSnapshotService).deletePit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
-        verify(rankingSnapshotService).clearImpressionPositions(requestId);
-        verify(rankingSnapshotService, never()).refreshPit(any(), any(), any());
+        verify(rankingInteractionService)
+                .logImpressions(
+                        userId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, items, requestId, 4L);
         verify(rankingCandidateService, never()).openPit();
     }
 
+    @Test
+    @DisplayName("recommend first page releases the opened pit when the search fails")
+    void recommendFirstPageReleasesPitOnFailure() throws CheftoryException {
+        UUID userId = UUID.randomUUID();
+        UUID requestId = UUID.randomUUID();
+        List<UUID> seeds = List.of(UUID.randomUUID());
+        PersonalizationProfile profile = new PersonalizationProfile(List.of("a"), List.of("b"));
+        RankingCandidateException failure =
+                new RankingCandidateException(RankingCandidateErrorCode.RANKING_CANDIDATE_SEARCH_FAILED);
+
+        doReturn(requestId).when(rankingSnapshotService).issueRequestId();
+        doReturn("recent:key").when(rankingInteractionService).recentViewsKey(userId, RankingItemType.RECIPE);
+        doReturn(new RankingSession(null, seeds, null))
+                .when(rankingSnapshotService)
+                .loadSession(
+                        requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, true, "recent:key", 10);
+        doReturn("pit-1").when(rankingCandidateService).openPit();
+        doReturn(profile).when(rankingPersonalizationService).profile(userId, RankingItemType.RECIPE, seeds);
+        doThrow(failure)
+                .when(rankingCandidateService)
+                .searchWithPit(RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, 2, profile, "pit-1", null);
+
+        assertThatThrownBy(() -> rankingService.recommend(
+                        userId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, null, 2))
+                .isSameAs(failure);
+
+        verify(rankingCandidateService).closePit("pit-1");
+        verify(rankingSnapshotService, never())
+                .commitSession(any(), any(), any(), any(), any(), anyInt(), anyBoolean());
+    }
+
     @Test
     @DisplayName("event delegates to interaction service")
     void eventDelegatesToInteractionService() throws CheftoryException {
@@ -2,16 +2,24 @@ package com.cheftory.api.ranking.interaction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.buffer.AsyncBatchWriter;
 import com.cheftory.api.exception.CheftoryException;
 import com.cheftory.api.ranking.RankingEventType;
 import com.cheftory.api.ranking.RankingItemType;
+import com.cheftory.api.ranking.RankingSurfaceType;
+import com.cheftory.api.ranking.personalization.RankingPersonalizationErrorCode;
+import com.cheftory.api.ranking.personalization.RankingPersonalizationException;
+import com.cheftory.api.ranking.personalization.RankingPersonalizationService;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,26 +27,75 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 
 @DisplayName("RankingInteractionService Tests")
 class RankingInteractionServiceTest {
 
     private RankingEventRepository rankingEventRepository;
-    private RankingImpressionRepository rankingImpressionRepository;
+    private AsyncBatchWriter<RankingImpression> rankingImpressionWriter;
     private RankingInteractionKeyGenerator keyGenerator;
     private RankingInteractionRepository rankingInteractionRepository;
+    private RankingPersonalizationService rankingPersonalizationService;
+    private List<Runnable> refreshTasks;
     private Clock clock;
     private RankingInteractionService service;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
         rankingEventRepository = mock(RankingEventRepository.class);
-        rankingImpressionRepository = mock(RankingImpressionRepository.class);
+        rankingImpressionWriter = mock(AsyncBatchWriter.class);
         keyGenerator = mock(RankingInteractionKeyGenerator.class);
         rankingInteractionRepository = mock(RankingInteractionRepository.class);
+        rankingPersonalizationService = mock(RankingPersonalizationService.class);
+        refreshTasks = new ArrayList<>();
         clock = mock(Clock.class);
         service = new RankingInteractionService(
-                rankingEventRepository, rankingImpressionRepository, keyGenerator, rankingInteractionRepository, clock);
+                rankingEventRepository,
+                rankingImpressionWriter,
+                keyGenerator,
+                rankingInteractionRepository,
+                rankingPersonalizationService,
+                new TaskExecutorAdapter(refreshTasks::add),
+                clock);
+    }
+
+    @Nested
+    @DisplayName("logImpressions")
+    class LogImpressions {
+
+        @Test
+        @DisplayName("should offer positioned impressions to the async writer")
+        @SuppressWarnings("unchecked")
+        void shouldOfferPositionedImpressions() {
+            UUID userId = UUID.randomUUID();
+            UUID requestId = UUID.randomUUID();
+            UUID itemId1 = UUID.randomUUID();
+            UUID itemId2 = UUID.randomUUID();
+            LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0, 0);
+            doReturn(now).when(clock).now();
+
+            service.logImpressions(
+                    userId,
+                    RankingSurfaceType.CUISINE_KOREAN,
+                    RankingItemType.RECIPE,
+                    List.of(itemId1, itemId2),
+                    requestId,
+                    10);
+
+            ArgumentCaptor<List<RankingImpression>> captor = ArgumentCaptor.forClass(List.class);
+            verify(rankingImpressionWriter).offer(captor.capture());
+            List<RankingImpression> offered = captor.getValue();
+
+            assertThat(offered).hasSize(2);
+            assertThat(offered.get(0).getItemId()).isEqualTo(itemId1);
+            assertThat(offered.get(0).getPosition()).isEqualTo(10L);
+            assertThat(offered.get(1).getItemId()).isEqualTo(itemId2);
+            assertThat(offered.get(1).getPosition()).isEqualTo(11L);
+            assertThat(offered.get(1).getRequestId()).isEqualTo(requestId);
+            assertThat(offered.get(1).getCreatedAt()).isEqualTo(now);
+        }
     }
 
     @Nested
@@ -78,6 +135,52 @@ class RankingInteractionServiceTest {
             verify(rankingInteractionRepository).expire(recentKey, Duration.ofDays(60));
         }
 
+        @Test
+        @DisplayName("should refresh personalization profile with latest seeds off the request thread for VIEW event")
+        void shouldRefreshProfileForViewEvent() throws CheftoryException {
+            UUID userId = UUID.randomUUID();
+            UUID itemId = UUID.randomUUID();
+            List<UUID> seeds = List.of(itemId, UUID.randomUUID());
+
+            doReturn(LocalDateTime.of(2024, 1, 2, 10, 0, 0)).when(clock).now();
+            doReturn(1_700_000_100_000L).when(clock).nowMillis();
+            doReturn("recent:key").when(keyGenerator).recentViewsKey(userId, RankingItemType.RECIPE);
+            doReturn(seeds)
+                    .when(rankingInteractionRepository)
+                    .getLatest("recent:key", RankingPersonalizationService.SEED_LIMIT);
+
+            service.logEvent(userId, RankingItemType.RECIPE, itemId, RankingEventType.VIEW, UUID.randomUUID());
+
+            verify(rankingPersonalizationService, never()).refresh(userId, RankingItemType.RECIPE, seeds);
+            assertThat(refreshTasks).hasSize(1);
+
+            refreshTasks.forEach(Runnable::run);
+
+            verify(rankingPersonalizationService).refresh(userId, RankingItemType.RECIPE, seeds);
+        }
+
+        @Test
+        @DisplayName("should keep event when profile refresh fails")
+        void shouldKeepEventWhenProfileRefreshFails() throws CheftoryException {
+            UUID userId = UUID.randomUUID();
+            UUID itemId = UUID.randomUUID();
+
+            doReturn(LocalDateTime.of(2024, 1, 2, 10, 0, 0)).when(clock).now();
+            doReturn(1_700_000_100_000L).when(clock).nowMillis();
+            doReturn("recent:key").when(keyGenerator).recentViewsKey(userId, RankingItemType.RECIPE);
+            doReturn(List.of(itemId)).when(rankingInteractionRepository).getLatest("recent:key", 10);
+            doThrow(new RankingPersonalizationException(
+                            RankingPersonalizationErrorCode.RANKING_PERSONALIZATION_SEARCH_FAILED))
+                    .when(rankingPersonalizationService)
+                    .refresh(userId, RankingItemType.RECIPE, List.of(itemId));
+
+            service.logEvent(userId, RankingItemType.RECIPE, itemId, RankingEventType.VIEW, UUID.randomUUID());
+            refreshTasks.forEach(Runnable::run);
+
+            verify(rankingEventRepository).save(org.mockito.ArgumentMatchers.any(RankingEvent.class));
+            verify(rankingInteractionRepository).add("recent:key", itemId, 1_700_000_100_000L);
+        }
+
         @Test
         @DisplayName("should only save event for non-VIEW event")
         void shouldOnlySaveEventForNonViewEvent() throws CheftoryException {
@@ -91,7 +194,22 @@ class RankingInteractionServiceTest {
             service.logEvent(userId, RankingItemType.RECIPE, itemId, RankingEventType.CATEGORIES, requestId);
 
             verify(rankingEventRepository).save(org.mockito.ArgumentMatchers.any(RankingEvent.class));
-            verifyNoInteractions(rankingInteractionRepository);
+            verifyNoInteractions(rankingInteractionRepository, rankingPersonalizationService);
+            assertThat(refreshTasks).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("recentViewsKey")
+    class RecentViewsKey {
+
+        @Test
+        @DisplayName("should delegate to key generator")
+        void shouldDelegateToKeyGenerator() throws CheftoryException {
+            UUID userId = UUID.randomUUID();
+            doReturn("recent:key").when(keyGenerator).recentViewsKey(userId, RankingItemType.RECIPE);
+
+            assertThat(service.recentViewsKey(userId, RankingItemType.RECIPE)).isEqualTo("recent:key");
         }
     }
 
@@ -0,0 +1,26 @@
+package com.cheftory.api.ranking.personalization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cheftory.api._common.MarketContextTestExtension;
+import com.cheftory.api.ranking.RankingItemType;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(MarketContextTestExtension.class)
+@DisplayName("RankingPersonalizationKeyGenerator")
+class RankingPersonalizationKeyGeneratorTest {
+
+    @Test
+    @DisplayName("profileKey should sit next to the recent views key of the user")
+    void profileKeyShouldSitNextToRecentViewsKey() {
+        RankingPersonalizationKeyGenerator generator = new RankingPersonalizationKeyGenerator();
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        String key = generator.profileKey(userId, RankingItemType.RECIPE);
+
+        assertThat(key).isEqualTo("korea:ranking:RECIPE:user:" + userId + ":profile");
+    }
+}
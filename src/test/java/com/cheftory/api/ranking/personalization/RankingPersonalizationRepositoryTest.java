@@ -0,0 +1,58 @@
+package com.cheftory.api.ranking.personalization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cheftory.api._support.RedisTemplateTestSupport;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.data.redis.test.autoconfigure.DataRedisTest;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+@DataRedisTest
+@ActiveProfiles("test")
+@DisplayName("RankingPersonalizationRepository Tests")
+class RankingPersonalizationRepositoryTest extends RedisTemplateTestSupport {
+
+    private RankingPersonalizationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RankingPersonalizationRepository(redisTemplate, JsonMapper.builder().build());
+    }
+
+    @Test
+    @DisplayName("should save and find cached profile with ttl")
+    void shouldSaveAndFindCachedProfile() {
+        String key = key("profile");
+        CachedPersonalizationProfile profile = new CachedPersonalizationProfile(
+                List.of("seed-1", "seed-2"),
+                List.of(new RankingPersonalizationSeed("seed-1", List.of("kimchi", "soup"), "channel-a")),
+                List.of("kimchi", "soup"),
+                List.of("channel-a"));
+
+        repository.save(key, profile, Duration.ofMinutes(5));
+
+        assertThat(repository.find(key)).isEqualTo(profile);
+        assertThat(redisTemplate.getExpire(key, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("should return null when profile is missing")
+    void shouldReturnNullWhenMissing() {
+        assertThat(repository.find(key("missing"))).isNull();
+    }
+
+    @Test
+    @DisplayName("should return null when cached value cannot be parsed")
+    void shouldReturnNullWhenCorrupted() {
+        String key = key("corrupted");
+        redisTemplate.opsForValue().set(key, "not-json");
+
+        assertThat(repository.find(key)).isNull();
+    }
+}
@@ -2,35 +2,60 @@ package com.cheftory.api.ranking.personalization;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.cheftory.api.ranking.RankingItemType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 @DisplayName("RankingPersonalizationService Tests")
 class RankingPersonalizationServiceTest {
 
-    @Test
-    @DisplayName("aggregateProfile aggregates keywords and channels")
-    void aggregateProfileAggregatesKeywordsAndChannels() throws Exception {
-        RankingPersonalizationSearchPort searchPort = mock(RankingPersonalizationSearchPort.class);
-        RankingPersonalizationService service = new RankingPersonalizationService(searchPort);
+    private static final String PROFILE_KEY = "korea:ranking:RECIPE:user:profile";
+
+    private RankingPersonalizationSearchPort searchPort;
+    private RankingPersonalizationKeyGenerator keyGenerator;
+    private RankingPersonalizationRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private RankingPersonalizationService service;
 
-        RankingPersonalizationSeed query1 = new RankingPersonalizationSeed(List.of("kimchi", "soup"), "channel-a");
-        RankingPersonalizationSeed query2 = new RankingPersonalizationSeed(List.of("kimchi", "noodle"), "channel-b");
-        RankingPersonalizationSeed query3 = new RankingPersonalizationSeed(List.of("noodle"), "channel-a");
+    @BeforeEach
+    void setUp() {
+        searchPort = mock(RankingPersonalizationSearchPort.class);
+        keyGenerator = mock(RankingPersonalizationKeyGenerator.class);
+        repository = mock(RankingPersonalizationRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new RankingPersonalizationService(searchPort, keyGenerator, repository, meterRegistry);
+    }
 
-        List<UUID> seedIds = List.of(UUID.randomUUID(), UUID.randomUUID());
-        List<String> expectedIds =
-                List.of(seedIds.get(0).toString(), seedIds.get(1).toString());
-        doReturn(List.of(query1, query2, query3)).when(searchPort).mgetSeeds(expectedIds);
+    @Test
+    @DisplayName("profile aggregates keywords and channels on a cache miss")
+    void profileAggregatesKeywordsAndChannels() throws Exception {
+        UUID userId = UUID.randomUUID();
+        List<UUID> seedIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<String> expectedIds = seedIds.stream().map(UUID::toString).toList();
+        doReturn(PROFILE_KEY).when(keyGenerator).profileKey(userId, RankingItemType.RECIPE);
+        doReturn(List.of(
+                        new RankingPersonalizationSeed(expectedIds.get(0), List.of("kimchi", "soup"), "channel-a"),
+                        new RankingPersonalizationSeed(expectedIds.get(1), List.of("kimchi", "noodle"), "channel-b"),
+                        new RankingPersonalizationSeed(expectedIds.get(2), List.of("noodle"), "channel-a")))
+                .when(searchPort)
+                .mgetSeeds(expectedIds);
 
-        PersonalizationProfile result = service.aggregateProfile(seedIds);
+        PersonalizationProfile result = service.profile(userId, RankingItemType.RECIPE, seedIds);
 
         assertThat(result.keywordsTop()).containsExactly("kimchi", "noodle", "soup");
         assertThat(result.channelsTop()).containsExactly("channel-a", "channel-b");
@@ -38,32 +63,150 @@ class RankingPersonalizationServiceTest {
     }
 
     @Test
-    @DisplayName("aggregateProfile throws when keywords are null")
-    void aggregateProfileThrowsWhenKeywordsNull() throws Exception {
-        RankingPersonalizationSearchPort searchPort = mock(RankingPersonalizationSearchPort.class);
-        RankingPersonalizationService service = new RankingPersonalizationService(searchPort);
+    @DisplayName("profile keeps only the top 20 keywords ordered by count then name")
+    void profileKeepsTopKeywords() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID seed1 = UUID.randomUUID();
+        UUID seed2 = UUID.randomUUID();
+        List<String> keywords = IntStream.range(0, 30)
+                .mapToObj(i -> String.format("k%02d", i))
+                .toList();
+        doReturn(PROFILE_KEY).when(keyGenerator).profileKey(userId, RankingItemType.RECIPE);
+        doReturn(List.of(
+                        new RankingPersonalizationSeed(seed1.toString(), keywords, "channel-a"),
+                        new RankingPersonalizationSeed(seed2.toString(), List.of("k29"), "channel-a")))
+                .when(searchPort)
+                .mgetSeeds(anyList());
 
-        RankingPersonalizationSeed query = new RankingPersonalizationSeed(null, "channel-a");
-        doReturn(List.of(query)).when(searchPort).mgetSeeds(anyList());
+        PersonalizationProfile result = service.profile(userId, RankingItemType.RECIPE, List.of(seed1, seed2));
+
+        assertThat(result.keywordsTop()).hasSize(20);
+        assertThat(result.keywordsTop().get(0)).isEqualTo("k29");
+        assertThat(result.keywordsTop().subList(1, 20)).isEqualTo(keywords.subList(0, 19));
+    }
+
+    @Test
+    @DisplayName("profile throws when keywords are null")
+    void profileThrowsWhenKeywordsNull() throws Exception {
+        UUID seedId = UUID.randomUUID();
+        doReturn(List.of(new RankingPersonalizationSeed(seedId.toString(), null, "channel-a")))
+                .when(searchPort)
+                .mgetSeeds(anyList());
 
-        assertThatThrownBy(() ->
-                        service.aggregateProfile(List.of(UUID.fromString("00000000-0000-0000-0000-000000000001"))))
+        assertThatThrownBy(() -> service.profile(UUID.randomUUID(), RankingItemType.RECIPE, List.of(seedId)))
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("seedDoc.keywords is null");
     }
 
     @Test
-    @DisplayName("aggregateProfile throws when channelTitle is null")
-    void aggregateProfileThrowsWhenChannelTitleNull() throws Exception {
-        RankingPersonalizationSearchPort searchPort = mock(RankingPersonalizationSearchPort.class);
-        RankingPersonalizationService service = new RankingPersonalizationService(searchPort);
+    @DisplayName("profile throws when channelTitle is null")
+    void profileThrowsWhenChannelTitleNull() throws Exception {
+        UUID seedId = UUID.randomUUID();
+        doReturn(List.of(new RankingPersonalizationSeed(seedId.toString(), List.of("kimchi"), null)))
+                .when(searchPort)
+                .mgetSeeds(anyList());
 
-        RankingPersonalizationSeed query = new RankingPersonalizationSeed(List.of("kimchi"), null);
-        doReturn(List.of(query)).when(searchPort).mgetSeeds(anyList());
-
-        assertThatThrownBy(() ->
-                        service.aggregateProfile(List.of(UUID.fromString("00000000-0000-0000-0000-000000000001"))))
+        assertThatThrownBy(() -> service.profile(UUID.randomUUID(), RankingItemType.RECIPE, List.of(seedId)))
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("seedDoc.channelTitle is null");
     }
+
+    @Test
+    @DisplayName("profile returns cached top lists without searching when seeds match")
+    void profileReturnsCachedWhenSeedsMatch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID seed1 = UUID.randomUUID();
+        UUID seed2 = UUID.randomUUID();
+        doReturn(PROFILE_KEY).when(keyGenerator).profileKey(userId, RankingItemType.RECIPE);
+        doReturn(new CachedPersonalizationProfile(
+                        List.of(seed2.toString(), seed1.toString()),
+                        List.of(),
+                        List.of("kimchi"),
+                        List.of("channel-a")))
+                .when(repository)
+                .find(PROFILE_KEY);
+
+        PersonalizationProfile result = service.profile(userId, RankingItemType.RECIPE, List.of(seed1, seed2));
+
+        assertThat(result).isEqualTo(new PersonalizationProfile(List.of("kimchi"), List.of("channel-a")));
+        verify(searchPort, never()).mgetSeeds(anyList());
+        verify(repository, never()).save(any(), any(), any());
+        assertThat(meterRegistry
+                        .get(RankingPersonalizationService.METRIC_NAME)
+                        .tag("result", "hit")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("profile fetches only missing seeds and saves the rebuilt profile when seeds differ")
+    void profileRebuildsWithMissingSeedsOnly() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String kept = UUID.randomUUID().toString();
+        String added = UUID.randomUUID().toString();
+        String expired = UUID.randomUUID().toString();
+        doReturn(PROFILE_KEY).when(keyGenerator).profileKey(userId, RankingItemType.RECIPE);
+        doReturn(new CachedPersonalizationProfile(
+                        List.of(kept, expired),
+                        List.of(
+                                new RankingPersonalizationSeed(kept, List.of("kimchi"), "channel-a"),
+                                new RankingPersonalizationSeed(expired, List.of("pasta"), "channel-c")),
+                        List.of("kimchi", "pasta"),
+                        List.of("channel-a", "channel-c")))
+                .when(repository)
+                .find(PROFILE_KEY);
+        doReturn(List.of(new RankingPersonalizationSeed(added, List.of("kimchi", "soup"), "channel-b")))
+                .when(searchPort)
+                .mgetSeeds(List.of(added));
+
+        PersonalizationProfile result = service.profile(
+                userId, RankingItemType.RECIPE, List.of(UUID.fromString(added), UUID.fromString(kept)));
+
+        assertThat(result.keywordsTop()).containsExactly("kimchi", "soup");
+        assertThat(result.channelsTop()).containsExactly("channel-a", "channel-b");
+        ArgumentCaptor<CachedPersonalizationProfile> captor =
+                ArgumentCaptor.forClass(CachedPersonalizationProfile.class);
+        verify(repository).save(eq(PROFILE_KEY), captor.capture(), any(Duration.class));
+        assertThat(captor.getValue().seedIds()).containsExactly(added, kept);
+        assertThat(captor.getValue().seeds())
+                .extracting(RankingPersonalizationSeed::id)
+                .containsExactly(added, kept);
+    }
+
+    @Test
+    @DisplayName("refresh aggregates from search when nothing is cached")
+    void refreshAggregatesWhenNothingCached() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID seed = UUID.randomUUID();
+        doReturn(PROFILE_KEY).when(keyGenerator).profileKey(userId, RankingItemType.RECIPE);
+        doReturn(List.of(new RankingPersonalizationSeed(seed.toString(), List.of("soup"), "channel-a")))
+                .when(searchPort)
+                .mgetSeeds(List.of(seed.toString()));
+
+        service.refresh(userId, RankingItemType.RECIPE, List.of(seed));
+
+        ArgumentCaptor<CachedPersonalizationProfile> captor =
+                ArgumentCaptor.forClass(CachedPersonalizationProfile.class);
+        verify(repository).save(eq(PROFILE_KEY), captor.capture(), any(Duration.class));
+        assertThat(captor.getValue().profile())
+                .isEqualTo(new PersonalizationProfile(List.of("soup"), List.of("channel-a")));
+    }
+
+    @Test
+    @DisplayName("refresh keeps seeds without a search document so the next profile call is a hit")
+    void refreshRemembersSeedsWithoutDocument() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        doReturn(PROFILE_KEY).when(keyGenerator).profileKey(userId, RankingItemType.RECIPE);
+        doReturn(List.of()).when(searchPort).mgetSeeds(List.of(deleted.toString()));
+
+        service.refresh(userId, RankingItemType.RECIPE, List.of(deleted));
+
+        ArgumentCaptor<CachedPersonalizationProfile> captor =
+                ArgumentCaptor.forClass(CachedPersonalizationProfile.class);
+        verify(repository).save(eq(PROFILE_KEY), captor.capture(), any(Duration.class));
+        assertThat(captor.getValue().covers(List.of(deleted.toString()))).isTrue();
+        assertThat(captor.getValue().seeds()).isEmpty();
+    }
 }
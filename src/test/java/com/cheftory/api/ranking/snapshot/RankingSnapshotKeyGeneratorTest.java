@@ -26,6 +26,17 @@ class RankingSnapshotKeyGeneratorTest {
         assertThat(key).isEqualTo("korea:ranking:request:" + requestId + ":CUISINE_KOREAN:RECIPE:pit");
     }
 
+    @Test
+    @DisplayName("profileKey should include market and request info")
+    void profileKeyShouldIncludeMarketAndRequestInfo() throws CheftoryException {
+        RankingSnapshotKeyGenerator generator = new RankingSnapshotKeyGenerator();
+        UUID requestId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+        String key = generator.profileKey(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+
+        assertThat(key).isEqualTo("korea:ranking:request:" + requestId + ":CUISINE_KOREAN:RECIPE:profile");
+    }
+
     @Test
     @DisplayName("impressionPosKey should include market and request info")
     void impressionPosKeyShouldIncludeMarketAndRequestInfo() throws CheftoryException {
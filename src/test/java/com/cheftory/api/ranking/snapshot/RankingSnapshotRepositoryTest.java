@@ -3,7 +3,12 @@ package com.cheftory.api.ranking.snapshot;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.cheftory.api._support.RedisTemplateTestSupport;
+import com.cheftory.api.ranking.personalization.PersonalizationProfile;
+import com.cheftory.api.ranking.snapshot.RankingSnapshotRepository.SessionKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +16,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.data.redis.test.autoconfigure.DataRedisTest;
 import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
 
 @DataRedisTest
 @ActiveProfiles("test")
@@ -18,10 +24,12 @@ import org.springframework.test.context.ActiveProfiles;
 class RankingSnapshotRepositoryTest extends RedisTemplateTestSupport {
 
     private RankingSnapshotRepository repository;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        repository = new RankingSnapshotRepository(redisTemplate);
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new RankingSnapshotRepository(redisTemplate, meterRegistry, JsonMapper.builder().build());
     }
 
     @Nested
@@ -84,4 +92,109 @@ class RankingSnapshotRepositoryTest extends RedisTemplateTestSupport {
             assertThat(repository.getString(key)).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("loadSession")
+    class LoadSession {
+
+        @Test
+        @DisplayName("should read pit and latest seeds in one pipeline")
+        void shouldReadPitAndSeeds() {
+            String pitKey = key("session-pit");
+            String recentKey = key("session-recent");
+            UUID older = UUID.randomUUID();
+            UUID newer = UUID.randomUUID();
+            repository.saveString(pitKey, "pit-1", Duration.ofMinutes(1));
+            redisTemplate.opsForZSet().add(recentKey, older.toString(), 1);
+            redisTemplate.opsForZSet().add(recentKey, newer.toString(), 2);
+
+            RankingSession session = repository.loadSession(pitKey, null, recentKey, 10);
+
+            assertThat(session.pitId()).isEqualTo("pit-1");
+            assertThat(session.seeds()).containsExactly(newer, older);
+            assertThat(meterRegistry
+                            .get(RankingSnapshotRepository.METRIC_NAME)
+                            .tag("step", "load")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should skip pit when key is null")
+        void shouldSkipPitWhenKeyIsNull() {
+            RankingSession session = repository.loadSession(null, null, key("session-empty"), 10);
+
+            assertThat(session.pitId()).isNull();
+            assertThat(session.seeds()).isEmpty();
+            assertThat(session.profile()).isNull();
+        }
+
+        @Test
+        @DisplayName("should read pinned profile without seeds when recent key is null")
+        void shouldReadPinnedProfile() {
+            SessionKeys keys = new SessionKeys(key("pin-pit"), key("pin-pos"), key("pin-profile"));
+            PersonalizationProfile pinned = new PersonalizationProfile(List.of("kimchi"), List.of("channel-a"));
+            repository.commitSession(keys, 2, true, "pit-1", pinned, Duration.ofMinutes(3), Duration.ofMinutes(30));
+
+            RankingSession session = repository.loadSession(keys.pitKey(), keys.profileKey(), null, 10);
+
+            assertThat(session.pitId()).isEqualTo("pit-1");
+            assertThat(session.profile()).isEqualTo(pinned);
+            assertThat(session.seeds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should treat corrupted profile as missing")
+        void shouldIgnoreCorruptedProfile() {
+            String profileKey = key("corrupt-profile");
+            repository.saveString(profileKey, "{not-json", Duration.ofMinutes(1));
+
+            RankingSession session = repository.loadSession(null, profileKey, null, 10);
+
+            assertThat(session.profile()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("commitSession")
+    class CommitSession {
+
+        @Test
+        @DisplayName("should allocate positions, save opened pit and refresh ttl when has next")
+        void shouldSavePitAndRefreshTtl() {
+            SessionKeys keys = new SessionKeys(key("commit-pit"), key("commit-pos"), key("commit-profile"));
+            PersonalizationProfile pinned = new PersonalizationProfile(List.of("kimchi"), List.of("channel-a"));
+
+            long first = repository.commitSession(
+                    keys, 5, true, "pit-1", pinned, Duration.ofMinutes(3), Duration.ofMinutes(30));
+            long second = repository.commitSession(
+                    keys, 3, true, null, null, Duration.ofMinutes(3), Duration.ofMinutes(30));
+
+            assertThat(first).isEqualTo(5L);
+            assertThat(second).isEqualTo(8L);
+            assertThat(repository.getString(keys.pitKey())).isEqualTo("pit-1");
+            assertThat(repository.getString(keys.profileKey())).isNotNull();
+            assertThat(redisTemplate.getExpire(keys.pitKey(), TimeUnit.SECONDS)).isPositive();
+            assertThat(redisTemplate.getExpire(keys.posKey(), TimeUnit.SECONDS)).isPositive();
+            assertThat(redisTemplate.getExpire(keys.profileKey(), TimeUnit.SECONDS)).isPositive();
+        }
+
+        @Test
+        @DisplayName("should allocate positions and clear session keys on last page")
+        void shouldClearOnLastPage() {
+            SessionKeys keys = new SessionKeys(key("last-pit"), key("last-pos"), key("last-profile"));
+            repository.saveString(keys.pitKey(), "pit-1", Duration.ofMinutes(1));
+            repository.saveString(keys.profileKey(), "{}", Duration.ofMinutes(1));
+            repository.incrementLong(keys.posKey(), 4);
+
+            long end = repository.commitSession(
+                    keys, 2, false, null, null, Duration.ofMinutes(3), Duration.ofMinutes(30));
+
+            assertThat(end).isEqualTo(6L);
+            assertThat(redisTemplate.hasKey(keys.pitKey())).isFalse();
+            assertThat(redisTemplate.hasKey(keys.posKey())).isFalse();
+            assertThat(redisTemplate.hasKey(keys.profileKey())).isFalse();
+        }
+    }
 }
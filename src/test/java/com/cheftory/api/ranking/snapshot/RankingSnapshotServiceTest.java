@@ -2,16 +2,20 @@ package com.cheftory.api.ranking.snapshot;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.cheftory.api.exception.CheftoryException;
 import com.cheftory.api.ranking.RankingItemType;
 import com.cheftory.api.ranking.RankingSurfaceType;
+import com.cheftory.api.ranking.personalization.PersonalizationProfile;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,19 +33,6 @@ class RankingSnapshotServiceTest {
     @InjectMocks
     private RankingSnapshotService service;
 
-    @Test
-    @DisplayName("savePit saves PIT with ttl")
-    void savePitSavesPitWithTtl() throws CheftoryException {
-        UUID requestId = UUID.randomUUID();
-        doReturn("pit:key")
-                .when(keyGenerator)
-                .pitKey(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
-
-        service.savePit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, "pit-1");
-
-        verify(snapshotRepository).saveString("pit:key", "pit-1", Duration.ofMinutes(3));
-    }
-
     @Test
     @DisplayName("getPit returns cached PIT")
     void getPitReturnsCachedPit() throws CheftoryException {
@@ -57,54 +48,68 @@ class RankingSnapshotServiceTest {
     }
 
     @Test
-    @DisplayName("refreshPit updates ttl for pit and impression keys")
-    void refreshPitUpdatesTtl() throws CheftoryException {
+    @DisplayName("loadSession skips PIT lookup on first page")
+    void loadSessionSkipsPitOnFirstPage() {
         UUID requestId = UUID.randomUUID();
-        doReturn("pit:key")
-                .when(keyGenerator)
-                .pitKey(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
-        doReturn("pos:key").when(keyGenerator).impressionPosKey(requestId);
+        RankingSession session = new RankingSession(null, List.of(UUID.randomUUID()), null);
+        doReturn(session).when(snapshotRepository).loadSession(null, null, "recent:key", 10);
 
-        service.refreshPit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+        RankingSession result = service.loadSession(
+                requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, true, "recent:key", 10);
 
-        verify(snapshotRepository).expire("pit:key", Duration.ofMinutes(3));
-        verify(snapshotRepository).expire("pos:key", Duration.ofMinutes(30));
+        assertThat(result).isSameAs(session);
+        verify(keyGenerator, never()).pitKey(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        verify(keyGenerator, never())
+                .profileKey(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
     }
 
     @Test
-    @DisplayName("deletePit removes cached PIT")
-    void deletePitRemovesCachedPit() throws CheftoryException {
+    @DisplayName("loadSession reads PIT and pinned profile without seeds on next page")
+    void loadSessionReadsPitOnNextPage() {
         UUID requestId = UUID.randomUUID();
         doReturn("pit:key")
                 .when(keyGenerator)
                 .pitKey(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+        doReturn("profile:key")
+                .when(keyGenerator)
+                .profileKey(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+        PersonalizationProfile pinned = new PersonalizationProfile(List.of("kimchi"), List.of("channel-a"));
+        RankingSession session = new RankingSession("pit-1", List.of(), pinned);
+        doReturn(session).when(snapshotRepository).loadSession("pit:key", "profile:key", null, 10);
 
-        service.deletePit(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+        RankingSession result = service.loadSession(
+                requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, false, "recent:key", 10);
 
-        verify(snapshotRepository).delete("pit:key");
+        assertThat(result.pitId()).isEqualTo("pit-1");
+        assertThat(result.profile()).isEqualTo(pinned);
     }
 
     @Test
-    @DisplayName("allocateImpressionPositions returns start position")
-    void allocateImpressionPositionsReturnsStart() throws CheftoryException {
+    @DisplayName("commitSession returns start position with session ttl")
+    void commitSessionReturnsStart() {
         UUID requestId = UUID.randomUUID();
+        doReturn("pit:key")
+                .when(keyGenerator)
+                .pitKey(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
         doReturn("pos:key").when(keyGenerator).impressionPosKey(requestId);
-        doReturn(15L).when(snapshotRepository).incrementLong("pos:key", 5);
-
-        long start = service.allocateImpressionPositions(requestId, 5);
+        doReturn("profile:key")
+                .when(keyGenerator)
+                .profileKey(requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE);
+        PersonalizationProfile pinned = new PersonalizationProfile(List.of("kimchi"), List.of("channel-a"));
+        doReturn(15L)
+                .when(snapshotRepository)
+                .commitSession(
+                        new RankingSnapshotRepository.SessionKeys("pit:key", "pos:key", "profile:key"),
+                        5,
+                        true,
+                        "pit-1",
+                        pinned,
+                        Duration.ofMinutes(3),
+                        Duration.ofMinutes(30));
+
+        long start = service.commitSession(
+                requestId, RankingSurfaceType.CUISINE_KOREAN, RankingItemType.RECIPE, "pit-1", pinned, 5, true);
 
         assertThat(start).isEqualTo(10L);
-        verify(snapshotRepository).expire("pos:key", Duration.ofMinutes(30));
-    }
-
-    @Test
-    @DisplayName("clearImpressionPositions deletes key")
-    void clearImpressionPositionsDeletesKey() throws CheftoryException {
-        UUID requestId = UUID.randomUUID();
-        doReturn("pos:key").when(keyGenerator).impressionPosKey(requestId);
-
-        service.clearImpressionPositions(requestId);
-
-        verify(snapshotRepository).delete("pos:key");
     }
 }
@@ -0,0 +1,233 @@
+package com.cheftory.api.recipe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.MarketContextTestExtension;
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.exception.CheftoryException;
+import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.bookmark.entity.RecipeBookmark;
+import com.cheftory.api.recipe.content.briefing.RecipeBriefingService;
+import com.cheftory.api.recipe.content.cache.RecipeContent;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
+import com.cheftory.api.recipe.content.detailMeta.RecipeDetailMetaService;
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.detailMeta.exception.RecipeDetailMetaErrorCode;
+import com.cheftory.api.recipe.content.detailMeta.exception.RecipeDetailMetaException;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.cheftory.api.recipe.content.ingredient.RecipeIngredientService;
+import com.cheftory.api.recipe.content.step.RecipeStepService;
+import com.cheftory.api.recipe.content.tag.RecipeTagService;
+import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import com.cheftory.api.recipe.creation.progress.RecipeProgressService;
+import com.cheftory.api.recipe.dto.FullRecipe;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@DisplayName("FullRecipeLoader 테스트")
+@ExtendWith(MarketContextTestExtension.class)
+class FullRecipeLoaderTest {
+
+    private RecipeStepService recipeStepService;
+    private RecipeIngredientService recipeIngredientService;
+    private RecipeDetailMetaService recipeDetailMetaService;
+    private RecipeProgressService recipeProgressService;
+    private RecipeTagService recipeTagService;
+    private RecipeBriefingService recipeBriefingService;
+    private RecipeYoutubeMetaService recipeYoutubeMetaService;
+    private RecipeBookmarkService recipeBookmarkService;
+    private RecipeContentCache recipeContentCache;
+    private ExecutorService executorService;
+    private SimpleMeterRegistry meterRegistry;
+
+    private FullRecipeLoader sut;
+
+    private UUID recipeId;
+    private UUID userId;
+    private UUID jobId;
+    private RecipeInfo recipe;
+
+    @BeforeEach
+    void setUp() throws CheftoryException {
+        recipeStepService = mock(RecipeStepService.class);
+        recipeIngredientService = mock(RecipeIngredientService.class);
+        recipeDetailMetaService = mock(RecipeDetailMetaService.class);
+        recipeProgressService = mock(RecipeProgressService.class);
+        recipeTagService = mock(RecipeTagService.class);
+        recipeBriefingService = mock(RecipeBriefingService.class);
+        recipeYoutubeMetaService = mock(RecipeYoutubeMetaService.class);
+        recipeBookmarkService = mock(RecipeBookmarkService.class);
+        recipeContentCache = mock(RecipeContentCache.class);
+        doAnswer(inv -> inv.<RecipeContentCache.Loader<?>>getArgument(1).load())
+                .when(recipeContentCache)
+                .getContent(any(), any());
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+
+        sut = new FullRecipeLoader(
+                recipeStepService,
+                recipeIngredientService,
+                recipeDetailMetaService,
+                recipeProgressService,
+                recipeTagService,
+                recipeBriefingService,
+                recipeYoutubeMetaService,
+                recipeBookmarkService,
+                recipeContentCache,
+                new TaskExecutorAdapter(task -> executorService.execute(MarketContext.wrap(task))),
+                meterRegistry);
+
+        recipeId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        jobId = UUID.randomUUID();
+        recipe = mock(RecipeInfo.class);
+        doReturn(recipeId).when(recipe).getId();
+        doReturn(jobId).when(recipe).getCurrentJobId();
+
+        doReturn(List.of()).when(recipeStepService).gets(recipeId);
+        doReturn(List.of()).when(recipeIngredientService).gets(recipeId);
+        doReturn(mock(RecipeDetailMeta.class)).when(recipeDetailMetaService).get(recipeId);
+        doReturn(List.of()).when(recipeProgressService).gets(recipeId, jobId);
+        doReturn(List.of()).when(recipeTagService).gets(recipeId);
+        doReturn(List.of()).when(recipeBriefingService).gets(recipeId);
+        doReturn(mock(RecipeYoutubeMeta.class)).when(recipeYoutubeMetaService).get(recipeId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.close();
+    }
+
+    @Nested
+    @DisplayName("load")
+    class Load {
+
+        @Test
+        @DisplayName("북마크가 있으면 한 번의 조회로 owned FullRecipe를 반환한다")
+        void shouldReturnOwnedWithSingleBookmarkLookup() throws CheftoryException {
+            RecipeBookmark bookmark = mock(RecipeBookmark.class);
+            doReturn(Optional.of(bookmark)).when(recipeBookmarkService).find(userId, recipeId);
+
+            FullRecipe result = sut.load(recipe, userId);
+
+            assertThat(result.getRecipe()).isSameAs(recipe);
+            assertThat(result.getRecipeBookmark()).isSameAs(bookmark);
+            verify(recipeBookmarkService).find(userId, recipeId);
+            verify(recipeBookmarkService, never()).exist(any(), any());
+            verify(recipeBookmarkService, never()).get(any(), any());
+        }
+
+        @Test
+        @DisplayName("북마크가 없으면 notOwned FullRecipe를 반환한다")
+        void shouldReturnNotOwnedWhenBookmarkAbsent() throws CheftoryException {
+            doReturn(Optional.empty()).when(recipeBookmarkService).find(userId, recipeId);
+
+            FullRecipe result = sut.load(recipe, userId);
+
+            assertThat(result.getRecipeBookmark()).isNull();
+            verify(recipeProgressService).gets(recipeId, jobId);
+        }
+
+        @Test
+        @DisplayName("모든 분기에 마켓 컨텍스트가 전파된다")
+        void shouldPropagateMarketContextToEveryBranch() throws CheftoryException {
+            Set<Market> observed = ConcurrentHashMap.newKeySet();
+            doAnswer(inv -> {
+                        observed.add(MarketContext.required().market());
+                        return List.of();
+                    })
+                    .when(recipeStepService)
+                    .gets(recipeId);
+            doAnswer(inv -> {
+                        observed.add(MarketContext.required().market());
+                        return Optional.empty();
+                    })
+                    .when(recipeBookmarkService)
+                    .find(userId, recipeId);
+
+            sut.load(recipe, userId);
+
+            assertThat(observed).containsExactly(Market.KOREA);
+        }
+
+        @Test
+        @DisplayName("분기에서 발생한 도메인 예외를 그대로 던진다")
+        void shouldRethrowBranchException() throws CheftoryException {
+            doThrow(new RecipeDetailMetaException(RecipeDetailMetaErrorCode.DETAIL_META_NOT_FOUND))
+                    .when(recipeDetailMetaService)
+                    .get(recipeId);
+
+            assertThatThrownBy(() -> sut.load(recipe, userId))
+                    .isInstanceOf(RecipeDetailMetaException.class)
+                    .hasFieldOrPropertyWithValue("error", RecipeDetailMetaErrorCode.DETAIL_META_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("콘텐츠 캐시에 적중하면 콘텐츠 테이블을 조회하지 않는다")
+        void shouldSkipContentQueriesOnCacheHit() throws CheftoryException {
+            RecipeContent cached = new RecipeContent(
+                    List.of(),
+                    List.of(),
+                    mock(RecipeDetailMeta.class),
+                    List.of(),
+                    List.of(),
+                    mock(RecipeYoutubeMeta.class));
+            doReturn(cached).when(recipeContentCache).getContent(any(), any());
+            doReturn(Optional.empty()).when(recipeBookmarkService).find(userId, recipeId);
+
+            FullRecipe result = sut.load(recipe, userId);
+
+            assertThat(result.getRecipeYoutubeMeta()).isSameAs(cached.youtubeMeta());
+            verify(recipeStepService, never()).gets(any());
+            verify(recipeDetailMetaService, never()).get(any());
+            verify(recipeYoutubeMetaService, never()).get(any());
+            verify(recipeProgressService).gets(recipeId, jobId);
+        }
+
+        @Test
+        @DisplayName("분기별 소요 시간을 타이머로 기록한다")
+        void shouldRecordBranchTimers() throws CheftoryException {
+            sut.load(recipe, userId);
+
+            for (String branch : List.of(
+                    "steps",
+                    "ingredients",
+                    "detail_meta",
+                    "progress",
+                    "tags",
+                    "briefings",
+                    "youtube_meta",
+                    "bookmark")) {
+                assertThat(meterRegistry
+                                .get(FullRecipeLoader.METRIC_NAME)
+                                .tag("branch", branch)
+                                .timer()
+                                .count())
+                        .isEqualTo(1);
+            }
+        }
+    }
+}
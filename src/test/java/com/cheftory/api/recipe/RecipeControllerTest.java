@@ -17,13 +17,11 @@ import com.cheftory.api.recipe.bookmark.exception.RecipeBookmarkException;
 import com.cheftory.api.recipe.category.exception.RecipeCategoryException;
 import com.cheftory.api.recipe.challenge.RecipeCompleteChallenge;
 import com.cheftory.api.recipe.challenge.exception.RecipeChallengeException;
-import com.cheftory.api.recipe.content.detailMeta.exception.RecipeDetailMetaException;
 import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
 import com.cheftory.api.recipe.content.info.entity.RecipeStatus;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
 import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
 import com.cheftory.api.recipe.content.youtubemeta.entity.YoutubeMetaType;
-import com.cheftory.api.recipe.content.youtubemeta.exception.YoutubeMetaException;
 import com.cheftory.api.recipe.creation.RecipeCreationFacade;
 import com.cheftory.api.recipe.dto.FullRecipe;
 import com.cheftory.api.recipe.dto.RecipeBookmarkOverview;
@@ -118,7 +116,7 @@ public class RecipeControllerTest extends RestDocsTest {
 
     @Test
     @DisplayName("레시피 개요 정보를 조회한다")
-    void shouldReturnRecipeOverview() throws RecipeInfoException, RecipeDetailMetaException, YoutubeMetaException {
+    void shouldReturnRecipeOverview() throws CheftoryException {
         UUID userId = UUID.randomUUID();
         UUID recipeId = UUID.randomUUID();
         RecipeOverview overview = stubRecipeOverview();
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -25,6 +26,7 @@ import com.cheftory.api.recipe.challenge.RecipeChallengeService;
 import com.cheftory.api.recipe.challenge.RecipeCompleteChallenge;
 import com.cheftory.api.recipe.challenge.exception.RecipeChallengeException;
 import com.cheftory.api.recipe.content.briefing.RecipeBriefingService;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
 import com.cheftory.api.recipe.content.detailMeta.RecipeDetailMetaService;
 import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
 import com.cheftory.api.recipe.content.detailMeta.exception.RecipeDetailMetaErrorCode;
@@ -40,7 +42,6 @@ import com.cheftory.api.recipe.content.tag.RecipeTagService;
 import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
 import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
 import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
-import com.cheftory.api.recipe.content.youtubemeta.exception.YoutubeMetaException;
 import com.cheftory.api.recipe.creation.progress.RecipeProgressService;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgress;
 import com.cheftory.api.recipe.dto.FullRecipe;
@@ -56,14 +57,17 @@ import com.cheftory.api.recipe.exception.RecipeException;
 import com.cheftory.api.recipe.rank.RankingType;
 import com.cheftory.api.recipe.rank.RecipeRankService;
 import com.cheftory.api.recipe.rank.port.RecipeRankEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.data.util.Pair;
 
 @DisplayName("RecipeFacade 테스트")
@@ -81,6 +85,7 @@ class RecipeFacadeTest {
     private RecipeBriefingService recipeBriefingService;
     private RecipeRankService recipeRankService;
     private RecipeChallengeService recipeChallengeService;
+    private RecipeContentCache recipeContentCache;
 
     private RecipeFacade sut;
 
@@ -98,20 +103,59 @@ class RecipeFacadeTest {
         recipeBriefingService = mock(RecipeBriefingService.class);
         recipeRankService = mock(RecipeRankService.class);
         recipeChallengeService = mock(RecipeChallengeService.class);
+        recipeContentCache = passThroughContentCache();
 
         sut = new RecipeFacade(
-                recipeStepService,
                 recipeBookmarkService,
                 recipeCategoryService,
-                recipeYoutubeMetaService,
-                recipeIngredientService,
-                recipeDetailMetaService,
                 recipeProgressService,
-                recipeTagService,
-                recipeBriefingService,
                 recipeInfoService,
                 recipeRankService,
-                recipeChallengeService);
+                recipeChallengeService,
+                new FullRecipeLoader(
+                        recipeStepService,
+                        recipeIngredientService,
+                        recipeDetailMetaService,
+                        recipeProgressService,
+                        recipeTagService,
+                        recipeBriefingService,
+                        recipeYoutubeMetaService,
+                        recipeBookmarkService,
+                        recipeContentCache,
+                        new TaskExecutorAdapter(Runnable::run),
+                        new SimpleMeterRegistry()),
+                new RecipeOverviewHydrator(
+                        recipeInfoService,
+                        recipeBookmarkService,
+                        recipeYoutubeMetaService,
+                        recipeDetailMetaService,
+                        recipeTagService,
+                        recipeContentCache,
+                        new TaskExecutorAdapter(Runnable::run),
+                        new SimpleMeterRegistry()),
+                recipeContentCache);
+    }
+
+    private static RecipeContentCache passThroughContentCache() {
+        RecipeContentCache cache = mock(RecipeContentCache.class);
+        try {
+            doAnswer(inv -> inv.<RecipeContentCache.Loader<?>>getArgument(1).load())
+                    .when(cache)
+                    .getContent(any(), any());
+            doAnswer(inv -> inv.<RecipeContentCache.Loader<?>>getArgument(1).load())
+                    .when(cache)
+                    .getCard(any(), any());
+        } catch (CheftoryException e) {
+            throw new IllegalStateException(e);
+        }
+        doAnswer(inv -> {
+                    List<RecipeInfo> recipes = inv.getArgument(0);
+                    return inv.<RecipeContentCache.BatchLoader<?>>getArgument(1)
+                            .load(recipes.stream().map(RecipeInfo::getId).toList());
+                })
+                .when(cache)
+                .getCards(anyList(), any());
+        return cache;
     }
 
     @Nested
@@ -127,6 +171,7 @@ class RecipeFacadeTest {
 
             verify(recipeInfoService).block(recipeId);
             verify(recipeBookmarkService).block(recipeId);
+            verify(recipeContentCache).evict(recipeId);
         }
     }
 
@@ -150,12 +195,14 @@ class RecipeFacadeTest {
             doReturn(Collections.emptyList()).when(recipeTagService).gets(recipeId);
             doReturn(Collections.emptyList()).when(recipeBriefingService).gets(recipeId);
             doReturn(mockYoutubeMeta(recipeId)).when(recipeYoutubeMetaService).get(recipeId);
-            doReturn(true).when(recipeBookmarkService).exist(userId, recipeId);
-            doReturn(mockBookmark(recipeId, userId)).when(recipeBookmarkService).get(userId, recipeId);
+            doReturn(Optional.of(mockBookmark(recipeId, userId)))
+                    .when(recipeBookmarkService)
+                    .find(userId, recipeId);
 
             FullRecipe result = sut.getFullRecipe(recipeId, userId);
 
             assertThat(result).isNotNull();
+            assertThat(result.getRecipeBookmark()).isNotNull();
             verify(recipeInfoService).getSuccess(recipeId);
             verify(recipeInfoService).increaseCount(recipeId);
             verify(recipeRankService).logEvent(userId, recipeId, RecipeRankEventType.VIEW);
@@ -218,7 +265,7 @@ class RecipeFacadeTest {
 
         @Test
         @DisplayName("정상적으로 개요를 반환한다")
-        void shouldReturnOverview() throws RecipeInfoException, RecipeDetailMetaException, YoutubeMetaException {
+        void shouldReturnOverview() throws CheftoryException {
             UUID recipeId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
@@ -239,8 +286,7 @@ class RecipeFacadeTest {
 
         @Test
         @DisplayName("detailMeta title이 null이면 youtubeMeta title로 fallback")
-        void shouldFallbackToYoutubeTitleWhenDetailMetaTitleIsNull()
-                throws RecipeInfoException, RecipeDetailMetaException, YoutubeMetaException {
+        void shouldFallbackToYoutubeTitleWhenDetailMetaTitleIsNull() throws CheftoryException {
             UUID recipeId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
@@ -263,8 +309,7 @@ class RecipeFacadeTest {
 
         @Test
         @DisplayName("detailMeta title이 빈 문자열이면 youtubeMeta title로 fallback")
-        void shouldFallbackToYoutubeTitleWhenDetailMetaTitleIsBlank()
-                throws RecipeInfoException, RecipeDetailMetaException, YoutubeMetaException {
+        void shouldFallbackToYoutubeTitleWhenDetailMetaTitleIsBlank() throws CheftoryException {
             UUID recipeId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
@@ -287,8 +332,7 @@ class RecipeFacadeTest {
 
         @Test
         @DisplayName("detailMeta title이 있으면 그대로 사용")
-        void shouldUseDetailMetaTitleWhenPresent()
-                throws RecipeInfoException, RecipeDetailMetaException, YoutubeMetaException {
+        void shouldUseDetailMetaTitleWhenPresent() throws CheftoryException {
             UUID recipeId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
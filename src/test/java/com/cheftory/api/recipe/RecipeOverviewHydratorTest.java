@@ -0,0 +1,414 @@
+package com.cheftory.api.recipe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.MarketContextTestExtension;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.bookmark.entity.RecipeBookmark;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
+import com.cheftory.api.recipe.content.detailMeta.RecipeDetailMetaService;
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.info.RecipeInfoService;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.cheftory.api.recipe.content.info.entity.RecipeStatus;
+import com.cheftory.api.recipe.content.tag.RecipeTagService;
+import com.cheftory.api.recipe.content.tag.entity.RecipeTag;
+import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import com.cheftory.api.recipe.content.youtubemeta.entity.YoutubeMetaType;
+import com.cheftory.api.recipe.dto.PublicRecipeOverview;
+import com.cheftory.api.recipe.dto.RecipeBookmarkOverview;
+import com.cheftory.api.recipe.dto.RecipeOverview;
+import com.cheftory.api.recipe.search.RecipeSearchCard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@DisplayName("RecipeOverviewHydrator 테스트")
+@ExtendWith(MarketContextTestExtension.class)
+class RecipeOverviewHydratorTest {
+
+    private RecipeInfoService recipeInfoService;
+    private RecipeBookmarkService recipeBookmarkService;
+    private RecipeYoutubeMetaService recipeYoutubeMetaService;
+    private RecipeDetailMetaService recipeDetailMetaService;
+    private RecipeTagService recipeTagService;
+    private ExecutorService executorService;
+    private SimpleMeterRegistry meterRegistry;
+
+    private RecipeOverviewHydrator sut;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        recipeInfoService = mock(RecipeInfoService.class);
+        recipeBookmarkService = mock(RecipeBookmarkService.class);
+        recipeYoutubeMetaService = mock(RecipeYoutubeMetaService.class);
+        recipeDetailMetaService = mock(RecipeDetailMetaService.class);
+        recipeTagService = mock(RecipeTagService.class);
+        RecipeContentCache recipeContentCache = mock(RecipeContentCache.class);
+        doAnswer(inv -> {
+                    List<RecipeInfo> recipes = inv.getArgument(0);
+                    return inv.<RecipeContentCache.BatchLoader<?>>getArgument(1)
+                            .load(recipes.stream().map(RecipeInfo::getId).toList());
+                })
+                .when(recipeContentCache)
+                .getCards(anyList(), any());
+        doAnswer(inv -> inv.<RecipeContentCache.BatchLoader<?>>getArgument(1).load(inv.getArgument(0)))
+                .when(recipeContentCache)
+                .getCardsByIds(anyList(), any(), any());
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+
+        sut = new RecipeOverviewHydrator(
+                recipeInfoService,
+                recipeBookmarkService,
+                recipeYoutubeMetaService,
+                recipeDetailMetaService,
+                recipeTagService,
+                recipeContentCache,
+                new TaskExecutorAdapter(task -> executorService.execute(MarketContext.wrap(task))),
+                meterRegistry);
+
+        userId = UUID.randomUUID();
+        doReturn(List.of()).when(recipeBookmarkService).gets(anyList(), any());
+        doReturn(List.of()).when(recipeYoutubeMetaService).gets(anyList());
+        doReturn(List.of()).when(recipeDetailMetaService).getIn(anyList());
+        doReturn(List.of()).when(recipeTagService).gets(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.close();
+    }
+
+    @Nested
+    @DisplayName("hydrate")
+    class Hydrate {
+
+        @Test
+        @DisplayName("DB 조회 순서와 무관하게 입력 ID 순서를 유지한다")
+        void shouldKeepInputOrder() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            List<UUID> ranked = List.of(first, second, third);
+            doReturn(List.of(mockRecipe(third), mockRecipe(first), mockRecipe(second)))
+                    .when(recipeInfoService)
+                    .gets(ranked);
+            doReturn(List.of(mockYoutubeMeta(second), mockYoutubeMeta(third), mockYoutubeMeta(first)))
+                    .when(recipeYoutubeMetaService)
+                    .gets(anyList());
+
+            List<RecipeOverview> result = sut.hydrate(ranked, userId);
+
+            assertThat(result).extracting(RecipeOverview::getRecipeId).containsExactly(first, second, third);
+        }
+
+        @Test
+        @DisplayName("조회되지 않은 레시피와 유튜브 메타가 없는 레시피는 제외한다")
+        void shouldSkipMissingRecipes() {
+            UUID present = UUID.randomUUID();
+            UUID noMeta = UUID.randomUUID();
+            UUID missing = UUID.randomUUID();
+            doReturn(List.of(mockRecipe(present), mockRecipe(noMeta)))
+                    .when(recipeInfoService)
+                    .gets(anyList());
+            doReturn(List.of(mockYoutubeMeta(present))).when(recipeYoutubeMetaService).gets(anyList());
+
+            List<RecipeOverview> result = sut.hydrate(List.of(missing, noMeta, present), userId);
+
+            assertThat(result).extracting(RecipeOverview::getRecipeId).containsExactly(present);
+        }
+
+        @Test
+        @DisplayName("북마크 여부를 함께 채운다")
+        void shouldMarkViewedRecipes() {
+            UUID recipeId = UUID.randomUUID();
+            doReturn(List.of(mockRecipe(recipeId))).when(recipeInfoService).gets(anyList());
+            doReturn(List.of(mockYoutubeMeta(recipeId))).when(recipeYoutubeMetaService).gets(anyList());
+            doReturn(List.of(mockBookmark(recipeId))).when(recipeBookmarkService).gets(List.of(recipeId), userId);
+
+            List<RecipeOverview> result = sut.hydrate(List.of(recipeId), userId);
+
+            assertThat(result).singleElement().extracting(RecipeOverview::getIsViewed).isEqualTo(true);
+        }
+
+        @Test
+        @DisplayName("레시피, 북마크, 카드 콘텐츠 IN 쿼리를 모두 동시에 실행한다")
+        void shouldRunQueriesConcurrently() {
+            UUID recipeId = UUID.randomUUID();
+            CountDownLatch contentQueries = new CountDownLatch(5);
+            doAnswer(inv -> {
+                        contentQueries.countDown();
+                        contentQueries.await(5, TimeUnit.SECONDS);
+                        return List.of(mockYoutubeMeta(recipeId));
+                    })
+                    .when(recipeYoutubeMetaService)
+                    .gets(anyList());
+            doAnswer(inv -> {
+                        contentQueries.countDown();
+                        contentQueries.await(5, TimeUnit.SECONDS);
+                        return List.of(mockDetailMeta(recipeId));
+                    })
+                    .when(recipeDetailMetaService)
+                    .getIn(anyList());
+            doAnswer(inv -> {
+                        contentQueries.countDown();
+                        contentQueries.await(5, TimeUnit.SECONDS);
+                        return List.of(mockTag(recipeId));
+                    })
+                    .when(recipeTagService)
+                    .gets(anyList());
+            doAnswer(inv -> {
+                        contentQueries.countDown();
+                        contentQueries.await(5, TimeUnit.SECONDS);
+                        return List.of(mockRecipe(recipeId));
+                    })
+                    .when(recipeInfoService)
+                    .gets(anyList());
+            doAnswer(inv -> {
+                        contentQueries.countDown();
+                        contentQueries.await(5, TimeUnit.SECONDS);
+                        return List.of();
+                    })
+                    .when(recipeBookmarkService)
+                    .gets(anyList(), any());
+
+            List<RecipeOverview> result = sut.hydrate(List.of(recipeId), userId);
+
+            assertThat(result).hasSize(1);
+            assertThat(contentQueries.getCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("빈 입력이면 아무것도 조회하지 않는다")
+        void shouldSkipEmptyInput() {
+            assertThat(sut.hydrate(List.of(), userId)).isEmpty();
+
+            verify(recipeInfoService, never()).gets(anyList());
+            verify(recipeBookmarkService, never()).gets(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("화면별 소요 시간을 타이머로 기록한다")
+        void shouldRecordViewTimer() {
+            UUID recipeId = UUID.randomUUID();
+            doReturn(List.of(mockRecipe(recipeId))).when(recipeInfoService).gets(anyList());
+
+            sut.hydrate(List.of(recipeId), userId);
+
+            assertThat(meterRegistry
+                            .get(RecipeOverviewHydrator.METRIC_NAME)
+                            .tag("view", "overview")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("hydrateSearchCards")
+    class HydrateSearchCards {
+
+        @Test
+        @DisplayName("카드 값이 모두 있으면 레시피·카드 콘텐츠는 조회하지 않고 북마크만 조회한다")
+        void shouldBuildOverviewsFromCards() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            doReturn(List.of(mockBookmark(second)))
+                    .when(recipeBookmarkService)
+                    .gets(List.of(first, second), userId);
+            doReturn(Map.of(first, 10, second, 10)).when(recipeInfoService).getViewCounts(List.of(first, second));
+
+            List<RecipeOverview> result = sut.hydrateSearchCards(List.of(card(first), card(second)), userId);
+
+            assertThat(result).extracting(RecipeOverview::getRecipeId).containsExactly(first, second);
+            assertThat(result).extracting(RecipeOverview::getIsViewed).containsExactly(false, true);
+            assertThat(result.getFirst().getVideoUri()).hasToString("https://www.youtube.com/watch?v=video-1");
+            assertThat(result.getFirst().getRecipeStatus()).isEqualTo(RecipeStatus.SUCCESS);
+            verify(recipeInfoService, never()).gets(anyList());
+            verify(recipeYoutubeMetaService, never()).gets(anyList());
+            assertThat(meterRegistry
+                            .get(RecipeOverviewHydrator.METRIC_NAME)
+                            .tag("view", "search")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("카드의 조회수는 북마크와 함께 조회한 현재 조회수로 바꾼다")
+        void shouldUseLiveViewCounts() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            doReturn(Map.of(first, 42, second, 7)).when(recipeInfoService).getViewCounts(List.of(first, second));
+
+            List<RecipeOverview> result = sut.hydrateSearchCards(List.of(card(first), card(second)), userId);
+
+            assertThat(result).extracting(RecipeOverview::getViewCount).containsExactly(42, 7);
+        }
+
+        @Test
+        @DisplayName("조회수가 없는 카드는 삭제되었거나 성공 상태가 아닌 레시피이므로 제외한다")
+        void shouldDropCardsWithoutViewCount() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            doReturn(Map.of(first, 42, third, 3))
+                    .when(recipeInfoService)
+                    .getViewCounts(List.of(first, second, third));
+
+            List<RecipeOverview> result =
+                    sut.hydrateSearchCards(List.of(card(first), card(second), card(third)), userId);
+
+            assertThat(result).extracting(RecipeOverview::getRecipeId).containsExactly(first, third);
+            assertThat(result).extracting(RecipeOverview::getViewCount).containsExactly(42, 3);
+        }
+
+        @Test
+        @DisplayName("카드 값이 없는 결과가 섞여 있으면 ID로 전체를 조립한다")
+        void shouldFallBackToHydrateWhenCardMissing() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            doReturn(List.of(mockRecipe(first), mockRecipe(second)))
+                    .when(recipeInfoService)
+                    .gets(List.of(first, second));
+            doReturn(List.of(mockYoutubeMeta(first), mockYoutubeMeta(second)))
+                    .when(recipeYoutubeMetaService)
+                    .gets(anyList());
+
+            List<RecipeOverview> result =
+                    sut.hydrateSearchCards(List.of(card(first), RecipeSearchCard.idOnly(second)), userId);
+
+            assertThat(result).extracting(RecipeOverview::getRecipeId).containsExactly(first, second);
+            verify(recipeInfoService).gets(List.of(first, second));
+        }
+
+        private RecipeSearchCard card(UUID recipeId) {
+            LocalDateTime now = LocalDateTime.now();
+            return new RecipeSearchCard(
+                    recipeId,
+                    "김치찌개",
+                    "채널",
+                    "video-1",
+                    URI.create("https://img.youtube.com/vi/video-1/hqdefault.jpg"),
+                    600,
+                    YoutubeMetaType.NORMAL,
+                    null,
+                    null,
+                    null,
+                    List.of("한식"),
+                    10,
+                    1L,
+                    now,
+                    now);
+        }
+    }
+
+    @Nested
+    @DisplayName("hydratePublic")
+    class HydratePublic {
+
+        @Test
+        @DisplayName("북마크를 조회하지 않고 공개 개요를 만든다")
+        void shouldNotFetchBookmarks() {
+            UUID recipeId = UUID.randomUUID();
+            doReturn(List.of(mockYoutubeMeta(recipeId))).when(recipeYoutubeMetaService).gets(anyList());
+
+            List<PublicRecipeOverview> result = sut.hydratePublic(List.of(mockRecipe(recipeId)));
+
+            assertThat(result).hasSize(1);
+            verify(recipeBookmarkService, never()).gets(anyList(), any());
+            verify(recipeInfoService, never()).gets(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("hydrateBookmarks")
+    class HydrateBookmarks {
+
+        @Test
+        @DisplayName("생성 중인 레시피를 포함해 북마크 순서대로 개요를 만든다")
+        void shouldIncludeInProgressRecipesInBookmarkOrder() {
+            UUID done = UUID.randomUUID();
+            UUID inProgress = UUID.randomUUID();
+            doReturn(List.of(mockRecipe(done))).when(recipeInfoService).gets(anyList());
+            doReturn(List.of(mockRecipe(inProgress))).when(recipeInfoService).getProgresses(anyList());
+            doReturn(List.of(mockYoutubeMeta(done), mockYoutubeMeta(inProgress)))
+                    .when(recipeYoutubeMetaService)
+                    .gets(anyList());
+
+            List<RecipeBookmarkOverview> result =
+                    sut.hydrateBookmarks(List.of(mockBookmark(inProgress), mockBookmark(done)));
+
+            assertThat(result)
+                    .extracting(RecipeBookmarkOverview::getRecipeId)
+                    .containsExactly(inProgress, done);
+            verify(recipeBookmarkService, never()).gets(anyList(), any());
+        }
+    }
+
+    private RecipeInfo mockRecipe(UUID recipeId) {
+        RecipeInfo recipeInfo = mock(RecipeInfo.class);
+        doReturn(recipeId).when(recipeInfo).getId();
+        doReturn(RecipeStatus.SUCCESS).when(recipeInfo).getRecipeStatus();
+        doReturn(true).when(recipeInfo).isSuccess();
+        doReturn(LocalDateTime.now()).when(recipeInfo).getCreatedAt();
+        doReturn(LocalDateTime.now()).when(recipeInfo).getUpdatedAt();
+        doReturn(0).when(recipeInfo).getViewCount();
+        doReturn(1L).when(recipeInfo).getCreditCost();
+        return recipeInfo;
+    }
+
+    private RecipeYoutubeMeta mockYoutubeMeta(UUID recipeId) {
+        RecipeYoutubeMeta meta = mock(RecipeYoutubeMeta.class);
+        doReturn(recipeId).when(meta).getRecipeId();
+        doReturn("title").when(meta).getTitle();
+        return meta;
+    }
+
+    private RecipeDetailMeta mockDetailMeta(UUID recipeId) {
+        RecipeDetailMeta meta = mock(RecipeDetailMeta.class);
+        doReturn(recipeId).when(meta).getRecipeId();
+        return meta;
+    }
+
+    private RecipeTag mockTag(UUID recipeId) {
+        RecipeTag tag = mock(RecipeTag.class);
+        doReturn(recipeId).when(tag).getRecipeId();
+        doReturn("한식").when(tag).getTag();
+        return tag;
+    }
+
+    private RecipeBookmark mockBookmark(UUID recipeId) {
+        RecipeBookmark bookmark = mock(RecipeBookmark.class);
+        doReturn(recipeId).when(bookmark).getRecipeId();
+        doReturn(userId).when(bookmark).getUserId();
+        doReturn(LocalDateTime.now()).when(bookmark).getViewedAt();
+        return bookmark;
+    }
+}
@@ -0,0 +1,293 @@
+package com.cheftory.api.recipe.content.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.MarketContextTestExtension;
+import com.cheftory.api.exception.CheftoryException;
+import com.cheftory.api.recipe.content.detailMeta.entity.RecipeDetailMeta;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.cheftory.api.recipe.content.youtubemeta.entity.RecipeYoutubeMeta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@DisplayName("RecipeContentCache 테스트")
+@ExtendWith(MarketContextTestExtension.class)
+class RecipeContentCacheTest {
+
+    private RecipeContentCacheRepository repository;
+    private RecipeContentCacheKeyGenerator keyGenerator;
+    private SimpleMeterRegistry meterRegistry;
+    private RecipeContentCache sut;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RecipeContentCacheRepository.class);
+        keyGenerator = new RecipeContentCacheKeyGenerator();
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new RecipeContentCache(repository, keyGenerator, meterRegistry, 100, 60, 3600);
+        doReturn(new ArrayList<>()).when(repository).getAll(anyList());
+    }
+
+    private RecipeInfo recipe(boolean success) {
+        RecipeInfo recipe = mock(RecipeInfo.class);
+        doReturn(UUID.randomUUID()).when(recipe).getId();
+        doReturn(success).when(recipe).isSuccess();
+        return recipe;
+    }
+
+    private RecipeContent content() {
+        return new RecipeContent(
+                List.of(), List.of(), mock(RecipeDetailMeta.class), List.of(), List.of(), mock(RecipeYoutubeMeta.class));
+    }
+
+    private RecipeCard completeCard() {
+        return new RecipeCard(mock(RecipeYoutubeMeta.class), mock(RecipeDetailMeta.class), List.of());
+    }
+
+    private double count(String type, String result) {
+        return meterRegistry
+                .get(RecipeContentCache.METRIC_NAME)
+                .tag("type", type)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("getContent")
+    class GetContent {
+
+        @Test
+        @DisplayName("미스이면 로더 결과를 Redis와 로컬에 저장하고, 이후에는 로컬에서 반환한다")
+        void shouldLoadOnceAndServeFromLocal() throws CheftoryException {
+            RecipeInfo recipe = recipe(true);
+            RecipeContent content = content();
+            AtomicInteger loads = new AtomicInteger();
+
+            RecipeContent first = sut.getContent(recipe, () -> {
+                loads.incrementAndGet();
+                return content;
+            });
+            RecipeContent second = sut.getContent(recipe, () -> {
+                loads.incrementAndGet();
+                return content;
+            });
+
+            assertThat(first).isSameAs(content);
+            assertThat(second).isSameAs(content);
+            assertThat(loads).hasValue(1);
+            verify(repository).saveAll(eq(Map.of("korea:recipe:content:" + recipe.getId(), content)), any());
+            assertThat(count("content", "miss")).isEqualTo(1);
+            assertThat(count("content", "local")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Redis에 있으면 로더를 호출하지 않는다")
+        void shouldServeFromRedis() throws CheftoryException {
+            RecipeInfo recipe = recipe(true);
+            RecipeContent content = content();
+            doReturn(new ArrayList<>(List.of(content)))
+                    .when(repository)
+                    .getAll(List.of(keyGenerator.contentKey(recipe.getId())));
+
+            RecipeContent result = sut.getContent(recipe, () -> {
+                throw new IllegalStateException("loader should not be called");
+            });
+
+            assertThat(result).isSameAs(content);
+            assertThat(count("content", "redis")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("SUCCESS가 아닌 레시피는 캐싱하지 않는다")
+        void shouldBypassUnfinishedRecipe() throws CheftoryException {
+            RecipeInfo recipe = recipe(false);
+            AtomicInteger loads = new AtomicInteger();
+
+            sut.getContent(recipe, () -> {
+                loads.incrementAndGet();
+                return content();
+            });
+            sut.getContent(recipe, () -> {
+                loads.incrementAndGet();
+                return content();
+            });
+
+            assertThat(loads).hasValue(2);
+            verify(repository, never()).getAll(anyList());
+            verify(repository, never()).saveAll(anyMap(), any());
+            assertThat(count("content", "bypass")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Redis 조회가 실패하면 로더로 대체한다")
+        void shouldFallbackWhenRedisFails() throws CheftoryException {
+            RecipeInfo recipe = recipe(true);
+            RecipeContent content = content();
+            doThrow(new RedisConnectionFailureException("down")).when(repository).getAll(anyList());
+
+            RecipeContent result = sut.getContent(recipe, () -> content);
+
+            assertThat(result).isSameAs(content);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCards")
+    class GetCards {
+
+        @Test
+        @DisplayName("로컬 미스분만 MGET으로 조회하고, Redis 미스분만 로더로 조회한다")
+        void shouldFillEachTierOnlyWithMisses() {
+            RecipeInfo local = recipe(true);
+            RecipeInfo remote = recipe(true);
+            RecipeInfo missing = recipe(true);
+            RecipeCard localCard = completeCard();
+            RecipeCard remoteCard = completeCard();
+            RecipeCard loadedCard = completeCard();
+
+            sut.getCards(List.of(local), ids -> Map.of(local.getId(), localCard));
+            doReturn(Arrays.asList(remoteCard, null))
+                    .when(repository)
+                    .getAll(List.of(keyGenerator.cardKey(remote.getId()), keyGenerator.cardKey(missing.getId())));
+            List<List<UUID>> loaderCalls = new ArrayList<>();
+
+            Map<UUID, RecipeCard> result = sut.getCards(List.of(local, remote, missing), ids -> {
+                loaderCalls.add(ids);
+                return Map.of(missing.getId(), loadedCard);
+            });
+
+            assertThat(result)
+                    .containsEntry(local.getId(), localCard)
+                    .containsEntry(remote.getId(), remoteCard)
+                    .containsEntry(missing.getId(), loadedCard);
+            assertThat(loaderCalls).containsExactly(List.of(missing.getId()));
+        }
+
+        @Test
+        @DisplayName("메타데이터가 누락된 카드는 저장하지 않는다")
+        void shouldNotStoreIncompleteCard() {
+            RecipeInfo recipe = recipe(true);
+            RecipeCard incomplete = new RecipeCard(null, mock(RecipeDetailMeta.class), List.of());
+            AtomicInteger loads = new AtomicInteger();
+
+            sut.getCards(List.of(recipe), ids -> {
+                loads.incrementAndGet();
+                return Map.of(recipe.getId(), incomplete);
+            });
+            sut.getCards(List.of(recipe), ids -> {
+                loads.incrementAndGet();
+                return Map.of(recipe.getId(), incomplete);
+            });
+
+            assertThat(loads).hasValue(2);
+            verify(repository, never()).saveAll(anyMap(), any());
+        }
+
+        @Test
+        @DisplayName("SUCCESS가 아닌 레시피는 캐시를 거치지 않고 로더로 조회한다")
+        void shouldBypassUnfinishedRecipes() {
+            RecipeInfo inProgress = recipe(false);
+            RecipeCard card = completeCard();
+
+            Map<UUID, RecipeCard> result = sut.getCards(List.of(inProgress), ids -> Map.of(inProgress.getId(), card));
+
+            assertThat(result).containsEntry(inProgress.getId(), card);
+            verify(repository, never()).getAll(anyList());
+            verify(repository, never()).saveAll(anyMap(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getCardsByIds")
+    class GetCardsByIds {
+
+        @Test
+        @DisplayName("상태를 모르는 채로 캐시를 읽고, 새로 읽은 카드는 SUCCESS 레시피의 것만 저장한다")
+        void shouldStoreOnlySuccessCards() {
+            UUID cachedId = UUID.randomUUID();
+            UUID successId = UUID.randomUUID();
+            UUID inProgressId = UUID.randomUUID();
+            RecipeCard cachedCard = completeCard();
+            RecipeCard successCard = completeCard();
+            RecipeCard inProgressCard = completeCard();
+            doReturn(Arrays.asList(cachedCard, null, null))
+                    .when(repository)
+                    .getAll(List.of(
+                            keyGenerator.cardKey(cachedId),
+                            keyGenerator.cardKey(successId),
+                            keyGenerator.cardKey(inProgressId)));
+
+            Map<UUID, RecipeCard> result = sut.getCardsByIds(
+                    List.of(cachedId, successId, inProgressId),
+                    ids -> Map.of(successId, successCard, inProgressId, inProgressCard),
+                    () -> Set.of(cachedId, successId));
+
+            assertThat(result)
+                    .containsEntry(cachedId, cachedCard)
+                    .containsEntry(successId, successCard)
+                    .containsEntry(inProgressId, inProgressCard);
+            verify(repository).saveAll(eq(Map.<String, Object>of(keyGenerator.cardKey(successId), successCard)), any());
+        }
+
+        @Test
+        @DisplayName("모두 캐시에 있으면 SUCCESS 목록을 기다리지 않는다")
+        void shouldNotWaitForStatusesOnFullHit() {
+            UUID recipeId = UUID.randomUUID();
+            RecipeCard card = completeCard();
+            doReturn(List.of(card)).when(repository).getAll(List.of(keyGenerator.cardKey(recipeId)));
+
+            Map<UUID, RecipeCard> result = sut.getCardsByIds(List.of(recipeId), ids -> Map.of(), () -> {
+                throw new AssertionError("SUCCESS 목록을 요청하면 안 된다");
+            });
+
+            assertThat(result).containsEntry(recipeId, card);
+        }
+    }
+
+    @Nested
+    @DisplayName("evict")
+    class Evict {
+
+        @Test
+        @DisplayName("로컬과 Redis의 콘텐츠, 카드 키를 모두 제거한다")
+        void shouldEvictAllTiers() throws CheftoryException {
+            RecipeInfo recipe = recipe(true);
+            AtomicInteger loads = new AtomicInteger();
+            RecipeContentCache.Loader<RecipeContent> loader = () -> {
+                loads.incrementAndGet();
+                return content();
+            };
+            sut.getContent(recipe, loader);
+
+            sut.evict(recipe.getId());
+            sut.getContent(recipe, loader);
+
+            assertThat(loads).hasValue(2);
+            verify(repository)
+                    .deleteAll(List.of(
+                            "korea:recipe:content:" + recipe.getId(), "korea:recipe:card:" + recipe.getId()));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.cheftory.api.recipe.content.info.repository.RecipeInfoRepositoryImpl;
 import com.cheftory.api.recipe.dto.RecipeInfoVideoQuery;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -402,6 +403,44 @@ class RecipeInfoRepositoryTest extends DbContextTest {
                 }
             }
 
+            @Nested
+            @DisplayName("When - 조회수 증가분 일괄 반영을 요청하면")
+            class WhenIncreasingCounts {
+                RecipeInfo other;
+                RecipeInfo failed;
+
+                @BeforeEach
+                void setUp() throws RecipeInfoException {
+                    other = recipeInfoRepository.create(newRecipe());
+                    failed = recipeInfoRepository.create(newRecipe());
+                    recipeInfoRepository.success(idOf(created), clock);
+                    recipeInfoRepository.success(idOf(other), clock);
+                    recipeInfoRepository.failed(idOf(failed), clock);
+                    recipeInfoRepository.increaseCounts(Map.of(idOf(created), 3L, idOf(other), 5L, idOf(failed), 7L));
+                }
+
+                @Test
+                @DisplayName("Then - 레시피별 증가분이 한 번에 반영된다")
+                void thenCountsIncreased() throws RecipeInfoException {
+                    assertThat(viewCountOf(recipeInfoRepository.get(idOf(created)))).isEqualTo(3);
+                    assertThat(viewCountOf(recipeInfoRepository.get(idOf(other)))).isEqualTo(5);
+                }
+
+                @Test
+                @DisplayName("Then - 현재 조회수를 레시피별로 조회한다")
+                void thenViewCountsReadInBatch() {
+                    assertThat(recipeInfoRepository.getViewCounts(List.of(idOf(created), idOf(other))))
+                            .containsExactlyInAnyOrderEntriesOf(Map.of(idOf(created), 3, idOf(other), 5));
+                }
+
+                @Test
+                @DisplayName("Then - 성공 상태가 아닌 레시피의 조회수는 제외한다")
+                void thenViewCountsExcludeNonSuccess() {
+                    assertThat(recipeInfoRepository.getViewCounts(List.of(idOf(created), idOf(failed))))
+                            .containsExactlyEntriesOf(Map.of(idOf(created), 3));
+                }
+            }
+
             @Nested
             @DisplayName("When - 존재 여부를 확인하면")
             class WhenCheckingExistence {
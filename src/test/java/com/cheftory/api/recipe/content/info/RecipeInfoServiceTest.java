@@ -18,6 +18,7 @@ import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
 import com.cheftory.api.recipe.content.info.repository.RecipeInfoRepository;
 import com.cheftory.api.recipe.dto.RecipeCuisineType;
 import com.cheftory.api.recipe.dto.RecipeInfoVideoQuery;
+import com.cheftory.api.recipe.search.RecipeSearchIndexPort;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +32,8 @@ class RecipeInfoServiceTest {
     private RecipeInfoRepository repository;
     private Clock clock;
     private I18nTranslator translator;
+    private RecipeViewCountBuffer viewCountBuffer;
+    private RecipeSearchIndexPort searchIndexPort;
     private RecipeInfoService service;
 
     @BeforeEach
@@ -38,7 +41,9 @@ class RecipeInfoServiceTest {
         repository = mock(RecipeInfoRepository.class);
         clock = mock(Clock.class);
         translator = mock(I18nTranslator.class);
-        service = new RecipeInfoService(repository, clock, translator);
+        viewCountBuffer = mock(RecipeViewCountBuffer.class);
+        searchIndexPort = mock(RecipeSearchIndexPort.class);
+        service = new RecipeInfoService(repository, clock, translator, viewCountBuffer, searchIndexPort);
     }
 
     @Nested
@@ -172,11 +177,11 @@ class RecipeInfoServiceTest {
         @DisplayName("increaseCount")
         class IncreaseCount {
             @Test
-            @DisplayName("repository로 위임한다")
+            @DisplayName("조회수 버퍼에 누적한다")
             void delegates() {
                 UUID recipeId = UUID.randomUUID();
                 service.increaseCount(recipeId);
-                verify(repository).increaseCount(recipeId);
+                verify(viewCountBuffer).increment(recipeId);
             }
         }
 
@@ -230,7 +235,7 @@ class RecipeInfoServiceTest {
         @DisplayName("success")
         class Success {
             @Test
-            @DisplayName("repository.success로 위임한다")
+            @DisplayName("repository.success로 위임하고 재색인을 요청한다")
             void delegates() throws RecipeInfoException {
                 UUID recipeId = UUID.randomUUID();
                 RecipeInfo expected = mock(RecipeInfo.class);
@@ -240,6 +245,7 @@ class RecipeInfoServiceTest {
 
                 assertThat(result).isEqualTo(expected);
                 verify(repository).success(recipeId, clock);
+                verify(searchIndexPort).requestIndexing(recipeId);
             }
         }
 
@@ -247,7 +253,7 @@ class RecipeInfoServiceTest {
         @DisplayName("failed")
         class Failed {
             @Test
-            @DisplayName("repository.failed로 위임한다")
+            @DisplayName("repository.failed로 위임하고 재색인을 요청한다")
             void delegates() throws RecipeInfoException {
                 UUID recipeId = UUID.randomUUID();
                 RecipeInfo expected = mock(RecipeInfo.class);
@@ -257,6 +263,7 @@ class RecipeInfoServiceTest {
 
                 assertThat(result).isEqualTo(expected);
                 verify(repository).failed(recipeId, clock);
+                verify(searchIndexPort).requestIndexing(recipeId);
             }
         }
 
@@ -264,11 +271,12 @@ class RecipeInfoServiceTest {
         @DisplayName("block")
         class Block {
             @Test
-            @DisplayName("repository.block으로 위임한다")
+            @DisplayName("repository.block으로 위임하고 재색인을 요청한다")
             void delegates() throws RecipeInfoException {
                 UUID recipeId = UUID.randomUUID();
                 service.block(recipeId);
                 verify(repository).block(recipeId, clock);
+                verify(searchIndexPort).requestIndexing(recipeId);
             }
         }
 
@@ -276,11 +284,12 @@ class RecipeInfoServiceTest {
         @DisplayName("banned")
         class Banned {
             @Test
-            @DisplayName("repository.banned로 위임한다")
+            @DisplayName("repository.banned로 위임하고 재색인을 요청한다")
             void delegates() throws RecipeInfoException {
                 UUID recipeId = UUID.randomUUID();
                 service.banned(recipeId);
                 verify(repository).banned(recipeId, clock);
+                verify(searchIndexPort).requestIndexing(recipeId);
             }
         }
 
@@ -0,0 +1,202 @@
+package com.cheftory.api.recipe.content.info;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.recipe.content.info.repository.RecipeInfoRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecipeViewCountBuffer 테스트")
+class RecipeViewCountBufferTest {
+
+    private static final MarketContext.Info KOREA = new MarketContext.Info(Market.KOREA, "KR");
+    private static final MarketContext.Info GLOBAL = new MarketContext.Info(Market.GLOBAL, "US");
+
+    private RecipeInfoRepository repository;
+    private RecipeViewCountBuffer sut;
+    private List<Flushed> flushed;
+
+    record Flushed(Market market, Map<UUID, Long> deltas) {}
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RecipeInfoRepository.class);
+        sut = new RecipeViewCountBuffer(repository, 2);
+        flushed = new ArrayList<>();
+        doAnswer(inv -> {
+                    Map<UUID, Long> deltas = inv.getArgument(0);
+                    flushed.add(new Flushed(MarketContext.required().market(), new HashMap<>(deltas)));
+                    return null;
+                })
+                .when(repository)
+                .increaseCounts(anyMap());
+    }
+
+    private void incrementIn(MarketContext.Info info, UUID recipeId, int times) {
+        try (var ignored = MarketContext.with(info)) {
+            for (int i = 0; i < times; i++) {
+                sut.increment(recipeId);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("flush")
+    class Flush {
+
+        @Test
+        @DisplayName("레시피별 증가분을 합산해 마켓 컨텍스트 안에서 반영한다")
+        void shouldFlushAggregatedDeltasPerMarket() {
+            UUID koreanRecipe = UUID.randomUUID();
+            UUID globalRecipe = UUID.randomUUID();
+            incrementIn(KOREA, koreanRecipe, 3);
+            incrementIn(GLOBAL, globalRecipe, 1);
+
+            sut.flush();
+
+            assertThat(flushed)
+                    .containsExactlyInAnyOrder(
+                            new Flushed(Market.KOREA, Map.of(koreanRecipe, 3L)),
+                            new Flushed(Market.GLOBAL, Map.of(globalRecipe, 1L)));
+        }
+
+        @Test
+        @DisplayName("배치 크기를 넘으면 여러 UPDATE로 나눠 반영한다")
+        void shouldPartitionByBatchSize() {
+            incrementIn(KOREA, UUID.randomUUID(), 1);
+            incrementIn(KOREA, UUID.randomUUID(), 1);
+            incrementIn(KOREA, UUID.randomUUID(), 1);
+
+            sut.flush();
+
+            verify(repository, times(2)).increaseCounts(anyMap());
+            assertThat(flushed.stream().mapToInt(f -> f.deltas().size()).sum()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("반영한 증가분은 다음 주기에 다시 반영하지 않는다")
+        void shouldNotFlushTwice() {
+            incrementIn(KOREA, UUID.randomUUID(), 2);
+
+            sut.flush();
+            sut.flush();
+
+            verify(repository, times(1)).increaseCounts(anyMap());
+        }
+
+        @Test
+        @DisplayName("증가가 없던 주기 뒤에도 같은 레시피의 증가분을 반영한다")
+        void shouldKeepCounterAfterIdleCycle() {
+            UUID recipeId = UUID.randomUUID();
+            incrementIn(KOREA, recipeId, 1);
+            sut.flush();
+            sut.flush();
+
+            incrementIn(KOREA, recipeId, 2);
+            sut.flush();
+
+            assertThat(flushed)
+                    .containsExactly(
+                            new Flushed(Market.KOREA, Map.of(recipeId, 1L)),
+                            new Flushed(Market.KOREA, Map.of(recipeId, 2L)));
+        }
+
+        @Test
+        @DisplayName("반영과 동시에 증가해도 증가분을 잃거나 중복 반영하지 않는다")
+        void shouldNotLoseIncrementsWhileRemovingIdleCounters() throws InterruptedException {
+            List<UUID> recipeIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+            int threads = 4;
+            int perThread = 20_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try (var ignored = MarketContext.with(KOREA)) {
+                        for (int i = 0; i < perThread; i++) {
+                            sut.increment(recipeIds.get(i % recipeIds.size()));
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            while (done.getCount() > 0) {
+                sut.flush();
+            }
+            executor.shutdown();
+            sut.flush();
+
+            long total = flushed.stream()
+                    .flatMap(f -> f.deltas().values().stream())
+                    .mapToLong(Long::longValue)
+                    .sum();
+            assertThat(total).isEqualTo((long) threads * perThread);
+        }
+
+        @Test
+        @DisplayName("증가분이 없으면 DB를 호출하지 않는다")
+        void shouldSkipWhenEmpty() {
+            sut.flush();
+
+            verify(repository, never()).increaseCounts(anyMap());
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 증가분을 되돌려 다음 주기에 재시도한다")
+        void shouldRestoreOnFailure() {
+            UUID recipeId = UUID.randomUUID();
+            incrementIn(KOREA, recipeId, 2);
+            doThrow(new RuntimeException("db down")).when(repository).increaseCounts(anyMap());
+
+            sut.flush();
+
+            doAnswer(inv -> {
+                        Map<UUID, Long> deltas = inv.getArgument(0);
+                        flushed.add(new Flushed(MarketContext.required().market(), new HashMap<>(deltas)));
+                        return null;
+                    })
+                    .when(repository)
+                    .increaseCounts(anyMap());
+            incrementIn(KOREA, recipeId, 1);
+
+            sut.flush();
+
+            assertThat(flushed).containsExactly(new Flushed(Market.KOREA, Map.of(recipeId, 3L)));
+        }
+    }
+
+    @Nested
+    @DisplayName("drain")
+    class Drain {
+
+        @Test
+        @DisplayName("종료 시 남은 증가분을 모두 반영한다")
+        void shouldFlushRemainingOnShutdown() {
+            UUID recipeId = UUID.randomUUID();
+            incrementIn(KOREA, recipeId, 4);
+
+            sut.drain();
+
+            assertThat(flushed).containsExactly(new Flushed(Market.KOREA, Map.of(recipeId, 4L)));
+        }
+    }
+}
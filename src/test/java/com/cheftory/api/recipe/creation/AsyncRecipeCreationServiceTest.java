@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 
 import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
 import com.cheftory.api.recipe.bookmark.entity.RecipeBookmark;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
 import com.cheftory.api.recipe.content.info.RecipeInfoService;
 import com.cheftory.api.recipe.content.verify.exception.RecipeVerifyErrorCode;
 import com.cheftory.api.recipe.content.youtubemeta.exception.YoutubeMetaErrorCode;
@@ -37,6 +38,7 @@ class AsyncRecipeCreationServiceTest {
     private RecipeCreditPort creditPort;
     private RecipeCreationPipeline recipeCreationPipeline;
     private RecipeCreationNotificationService recipeCreationNotificationService;
+    private RecipeContentCache recipeContentCache;
 
     private AsyncRecipeCreationService sut;
 
@@ -48,6 +50,7 @@ class AsyncRecipeCreationServiceTest {
         creditPort = mock(RecipeCreditPort.class);
         recipeCreationPipeline = mock(RecipeCreationPipeline.class);
         recipeCreationNotificationService = mock(RecipeCreationNotificationService.class);
+        recipeContentCache = mock(RecipeContentCache.class);
 
         sut = new AsyncRecipeCreationService(
                 recipeProgressService,
@@ -55,7 +58,8 @@ class AsyncRecipeCreationServiceTest {
                 recipeBookmarkService,
                 creditPort,
                 recipeCreationPipeline,
-                recipeCreationNotificationService);
+                recipeCreationNotificationService,
+                recipeContentCache);
     }
 
     @Nested
@@ -118,6 +122,8 @@ class AsyncRecipeCreationServiceTest {
                 sut.create(recipeId, creditCost, videoId, jobId);
 
                 verify(recipeInfoService).banned(recipeId);
+                verify(recipeCreationPipeline).discard(recipeId);
+                verify(recipeContentCache).evict(recipeId);
                 verify(recipeProgressService)
                         .failed(recipeId, RecipeProgressStep.FINISHED, RecipeProgressDetail.FINISHED, jobId);
                 verify(recipeBookmarkService).deletes(anyList());
@@ -297,6 +303,29 @@ class AsyncRecipeCreationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("abandon()")
+    class Abandon {
+
+        @Test
+        @DisplayName("파이프라인을 실행하지 않고 FAILED 처리 후 환불한다")
+        void shouldFailWithoutRunningPipeline() throws Exception {
+            UUID recipeId = UUID.randomUUID();
+            UUID jobId = UUID.randomUUID();
+            UUID userId = UUID.randomUUID();
+            doReturn(List.of(bookmark(userId))).when(recipeBookmarkService).gets(recipeId);
+
+            sut.abandon(recipeId, 3L, jobId);
+
+            verify(recipeCreationPipeline, never()).run(org.mockito.ArgumentMatchers.any());
+            verify(recipeCreationPipeline, never()).discard(recipeId);
+            verify(recipeInfoService).failed(recipeId);
+            verify(recipeProgressService)
+                    .failed(recipeId, RecipeProgressStep.FINISHED, RecipeProgressDetail.FINISHED, jobId);
+            verify(creditPort).refundRecipeCreate(userId, recipeId, jobId, 3L);
+        }
+    }
+
     private RecipeBookmark bookmark(UUID userId) {
         RecipeBookmark bookmark = mock(RecipeBookmark.class);
         doReturn(UUID.randomUUID()).when(bookmark).getId();
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import com.cheftory.api.credit.exception.CreditErrorCode;
 import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
 import com.cheftory.api.recipe.content.info.RecipeInfoService;
 import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
 import com.cheftory.api.recipe.content.info.entity.RecipeSourceType;
@@ -22,6 +23,7 @@ import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
 import com.cheftory.api.recipe.content.youtubemeta.RecipeYoutubeMetaService;
 import com.cheftory.api.recipe.creation.credit.RecipeCreditException;
 import com.cheftory.api.recipe.creation.credit.RecipeCreditPort;
+import com.cheftory.api.recipe.creation.queue.RecipeCreationJobQueue;
 import com.cheftory.api.recipe.dto.RecipeCreationTarget;
 import com.cheftory.api.recipe.exception.RecipeErrorCode;
 import com.cheftory.api.recipe.exception.RecipeException;
@@ -35,26 +37,29 @@ import org.junit.jupiter.api.Test;
 @DisplayName("RecipeCreationFacade 테스트")
 class RecipeCreationFacadeTest {
 
-    private AsyncRecipeCreationService asyncRecipeCreationService;
+    private RecipeCreationJobQueue recipeCreationJobQueue;
     private RecipeBookmarkService recipeBookmarkService;
     private RecipeYoutubeMetaService recipeYoutubeMetaService;
     private RecipeInfoService recipeInfoService;
     private RecipeCreditPort creditPort;
+    private RecipeContentCache recipeContentCache;
     private RecipeCreationFacade sut;
 
     @BeforeEach
     void setUp() {
-        asyncRecipeCreationService = mock(AsyncRecipeCreationService.class);
+        recipeCreationJobQueue = mock(RecipeCreationJobQueue.class);
         recipeBookmarkService = mock(RecipeBookmarkService.class);
         recipeYoutubeMetaService = mock(RecipeYoutubeMetaService.class);
         recipeInfoService = mock(RecipeInfoService.class);
         creditPort = mock(RecipeCreditPort.class);
+        recipeContentCache = mock(RecipeContentCache.class);
         sut = new RecipeCreationFacade(
-                asyncRecipeCreationService,
+                recipeCreationJobQueue,
                 recipeBookmarkService,
                 recipeYoutubeMetaService,
                 recipeInfoService,
-                creditPort);
+                creditPort,
+                recipeContentCache);
     }
 
     @Nested
@@ -94,8 +99,8 @@ class RecipeCreationFacadeTest {
                 UUID result = sut.create(userTarget);
 
                 assertThat(result).isEqualTo(recipeId);
-                verify(asyncRecipeCreationService, never())
-                        .create(eq(recipeId), anyLong(), eq(videoId), org.mockito.ArgumentMatchers.any());
+                verify(recipeCreationJobQueue, never())
+                        .enqueue(eq(recipeId), anyLong(), eq(videoId), org.mockito.ArgumentMatchers.any());
                 verify(creditPort)
                         .spendRecipeCreate(eq(userId), eq(recipeId), org.mockito.ArgumentMatchers.any(), eq(3L));
             }
@@ -127,7 +132,7 @@ class RecipeCreationFacadeTest {
                 UUID result = sut.create(userTarget);
 
                 assertThat(result).isEqualTo(recipeId);
-                verify(asyncRecipeCreationService).create(recipeId, 5L, videoId, jobId);
+                verify(recipeCreationJobQueue).enqueue(recipeId, 5L, videoId, jobId);
                 verify(creditPort).spendRecipeCreate(userId, recipeId, jobId, 5L);
             }
         }
@@ -161,8 +166,9 @@ class RecipeCreationFacadeTest {
                 UUID result = sut.create(userTarget);
 
                 assertThat(result).isEqualTo(recipeId);
-                verify(asyncRecipeCreationService).create(recipeId, 7L, videoId, newJobId);
+                verify(recipeCreationJobQueue).enqueue(recipeId, 7L, videoId, newJobId);
                 verify(recipeInfoService).retry(recipeId);
+                verify(recipeContentCache).evict(recipeId);
                 verify(creditPort).spendRecipeCreate(userId, recipeId, newJobId, 7L);
             }
         }
@@ -194,8 +200,9 @@ class RecipeCreationFacadeTest {
                 UUID result = sut.create(userTarget);
 
                 assertThat(result).isEqualTo(recipeId);
-                verify(asyncRecipeCreationService, never())
-                        .create(eq(recipeId), anyLong(), eq(videoId), org.mockito.ArgumentMatchers.any());
+                verify(recipeCreationJobQueue, never())
+                        .enqueue(eq(recipeId), anyLong(), eq(videoId), org.mockito.ArgumentMatchers.any());
+                verify(recipeContentCache, never()).evict(recipeId);
                 verify(creditPort).spendRecipeCreate(userId, recipeId, jobId, 2L);
             }
         }
@@ -256,9 +263,9 @@ class RecipeCreationFacadeTest {
                         .getBySource(videoId, RecipeSourceType.YOUTUBE);
                 doReturn(created).when(recipeInfoService).create(RecipeSourceType.YOUTUBE, videoId);
                 doReturn(true).when(recipeBookmarkService).create(userId, recipeId);
-                doThrow(new RuntimeException("executor reject"))
-                        .when(asyncRecipeCreationService)
-                        .create(recipeId, 4L, videoId, jobId);
+                doThrow(new RuntimeException("enqueue failed"))
+                        .when(recipeCreationJobQueue)
+                        .enqueue(recipeId, 4L, videoId, jobId);
             }
 
             @Test
@@ -297,8 +304,8 @@ class RecipeCreationFacadeTest {
             void thenJoinExisting() throws Exception {
                 UUID result = sut.create(userTarget);
                 assertThat(result).isEqualTo(recipeId);
-                verify(asyncRecipeCreationService, never())
-                        .create(eq(recipeId), anyLong(), eq(videoId), org.mockito.ArgumentMatchers.any());
+                verify(recipeCreationJobQueue, never())
+                        .enqueue(eq(recipeId), anyLong(), eq(videoId), org.mockito.ArgumentMatchers.any());
             }
         }
 
@@ -321,9 +328,9 @@ class RecipeCreationFacadeTest {
                 when(recipeInfoService.getBySource(videoId, RecipeSourceType.YOUTUBE))
                         .thenReturn(failedRecipe, retriedRecipe);
                 doReturn(true).when(recipeInfoService).retry(recipeId);
-                doThrow(new RuntimeException("executor reject"))
-                        .when(asyncRecipeCreationService)
-                        .create(recipeId, 6L, videoId, newJobId);
+                doThrow(new RuntimeException("enqueue failed"))
+                        .when(recipeCreationJobQueue)
+                        .enqueue(recipeId, 6L, videoId, newJobId);
             }
 
             @Test
@@ -2,10 +2,16 @@ package com.cheftory.api.recipe.creation.pipeline;
 
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.cheftory.api.recipe.creation.pipeline.checkpoint.RecipeCreationCheckpointService;
+import com.cheftory.api.recipe.creation.pipeline.checkpoint.RecipeCreationCheckpointTracker;
+import com.cheftory.api.recipe.creation.pipeline.checkpoint.RecipeCreationStage;
 import com.cheftory.api.recipe.creation.progress.RecipeProgressService;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressDetail;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressStep;
@@ -31,6 +37,8 @@ class RecipeCreationPipelineTest {
     private RecipeCreationBriefingStep recipeCreationBriefingStep;
     private RecipeCreationFinalizeStep recipeCreationFinalizeStep;
     private RecipeCreationCleanupStep recipeCreationCleanupStep;
+    private RecipeCreationCheckpointService recipeCreationCheckpointService;
+    private RecipeCreationCheckpointTracker checkpoint;
     private AsyncTaskExecutor recipeCreateExecutor;
 
     private RecipeCreationPipeline sut;
@@ -45,6 +53,8 @@ class RecipeCreationPipelineTest {
         recipeCreationBriefingStep = mock(RecipeCreationBriefingStep.class);
         recipeCreationFinalizeStep = mock(RecipeCreationFinalizeStep.class);
         recipeCreationCleanupStep = mock(RecipeCreationCleanupStep.class);
+        recipeCreationCheckpointService = mock(RecipeCreationCheckpointService.class);
+        checkpoint = mock(RecipeCreationCheckpointTracker.class);
         recipeCreateExecutor = mock(AsyncTaskExecutor.class);
 
         doAnswer(invocation -> {
@@ -55,6 +65,11 @@ class RecipeCreationPipelineTest {
                 .when(recipeCreateExecutor)
                 .execute(ArgumentMatchers.any(Runnable.class));
 
+        doReturn(checkpoint).when(recipeCreationCheckpointService).open(ArgumentMatchers.any());
+        doAnswer(invocation -> invocation.getArgument(0))
+                .when(checkpoint)
+                .restore(ArgumentMatchers.any());
+
         sut = createPipeline();
     }
 
@@ -69,6 +84,7 @@ class RecipeCreationPipelineTest {
                     RecipeCreationBriefingStep.class,
                     RecipeCreationFinalizeStep.class,
                     RecipeCreationCleanupStep.class,
+                    RecipeCreationCheckpointService.class,
                     AsyncTaskExecutor.class);
             ctor.setAccessible(true);
             return ctor.newInstance(
@@ -80,6 +96,7 @@ class RecipeCreationPipelineTest {
                     recipeCreationBriefingStep,
                     recipeCreationFinalizeStep,
                     recipeCreationCleanupStep,
+                    recipeCreationCheckpointService,
                     recipeCreateExecutor);
         } catch (Exception ex) {
             throw new IllegalStateException("Failed to create RecipeCreationPipeline", ex);
@@ -136,6 +153,17 @@ class RecipeCreationPipelineTest {
                     order.verify(recipeCreationFinalizeStep).run(updatedContext);
                     order.verify(recipeCreationCleanupStep).cleanup(updatedContext);
                 }
+
+                @Test
+                @DisplayName("Then - 단계가 끝날 때마다 체크포인트를 남기고 성공하면 체크포인트를 지운다")
+                void thenRecordsCheckpointAndFinishes() throws RecipeException {
+                    verify(checkpoint).complete(RecipeCreationStage.YOUTUBE_META, context);
+                    verify(checkpoint).complete(RecipeCreationStage.VERIFY, updatedContext);
+                    verify(checkpoint).complete(RecipeCreationStage.DETAIL, null);
+                    verify(checkpoint).complete(RecipeCreationStage.INSTRUCTION, null);
+                    verify(checkpoint).complete(RecipeCreationStage.BRIEFING, null);
+                    verify(recipeCreationCheckpointService).finish(recipeId);
+                }
             }
         }
 
@@ -173,11 +201,63 @@ class RecipeCreationPipelineTest {
                 }
 
                 @Test
-                @DisplayName("Then - 예외가 발생해도 정리를 수행한다")
-                void thenCleansUp() {
-                    verify(recipeCreationCleanupStep).cleanup(updatedContext);
+                @DisplayName("Then - 다음 실행이 영상 파일을 재사용하도록 정리와 체크포인트 삭제를 하지 않는다")
+                void thenKeepsFileForResume() {
+                    verify(recipeCreationCleanupStep, never()).cleanup(ArgumentMatchers.any());
+                    verify(recipeCreationCheckpointService, never()).finish(recipeId);
                 }
             }
         }
+
+        @Nested
+        @DisplayName("Given - 이전 실행에서 메타 로딩과 검증이 끝났을 때")
+        class GivenCheckpoint {
+            UUID recipeId;
+            UUID jobId;
+            RecipeCreationExecutionContext context;
+            RecipeCreationExecutionContext restoredContext;
+
+            @BeforeEach
+            void setUp() throws RecipeException {
+                recipeId = UUID.randomUUID();
+                jobId = UUID.randomUUID();
+                context = RecipeCreationExecutionContext.of(recipeId, "video-789", jobId);
+                restoredContext =
+                        RecipeCreationExecutionContext.withFileInfo(context, "s3://bucket/file.mp4", "video/mp4");
+                doReturn(restoredContext).when(checkpoint).restore(context);
+                doReturn(true).when(checkpoint).isCompleted(RecipeCreationStage.YOUTUBE_META);
+                doReturn(true).when(checkpoint).isCompleted(RecipeCreationStage.VERIFY);
+                doReturn(true).when(checkpoint).isCompleted(RecipeCreationStage.BRIEFING);
+
+                sut.run(context);
+            }
+
+            @Test
+            @DisplayName("Then - 끝난 단계는 진행 상태만 성공으로 남기고 건너뛴다")
+            void thenSkipsCompletedStages() throws RecipeException {
+                verify(recipeCreationLoadYoutubeMetaStep, never()).run(ArgumentMatchers.any());
+                verify(recipeCreationVerifyStep, never()).run(ArgumentMatchers.any());
+                verify(recipeCreationBriefingStep, never()).run(ArgumentMatchers.any());
+                verify(recipeProgressService)
+                        .success(recipeId, RecipeProgressStep.CAPTION, RecipeProgressDetail.CAPTION, jobId);
+                verify(recipeProgressService)
+                        .success(recipeId, RecipeProgressStep.BRIEFING, RecipeProgressDetail.BRIEFING, jobId);
+            }
+
+            @Test
+            @DisplayName("Then - 단계가 끝날 때마다 진행 이력을 저장한다")
+            void thenFlushesProgressPerStage() {
+                verify(recipeProgressService, times(RecipeCreationStage.values().length)).flush(recipeId, jobId);
+            }
+
+            @Test
+            @DisplayName("Then - 남은 단계는 복원된 영상 파일로 실행한다")
+            void thenRunsRemainingStagesWithRestoredFile() throws RecipeException {
+                verify(recipeCreationDetailStep).run(restoredContext);
+                verify(recipeCreationInstructionStep).run(restoredContext);
+                verify(recipeCreationFinalizeStep).run(restoredContext);
+                verify(recipeCreationCleanupStep).cleanup(restoredContext);
+            }
+        }
     }
 }
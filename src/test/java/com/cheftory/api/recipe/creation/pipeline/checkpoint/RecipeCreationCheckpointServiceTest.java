@@ -0,0 +1,118 @@
+package com.cheftory.api.recipe.creation.pipeline.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api.recipe.content.verify.RecipeVerifyService;
+import com.cheftory.api.recipe.creation.pipeline.RecipeCreationExecutionContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("RecipeCreationCheckpointService 테스트")
+class RecipeCreationCheckpointServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+    private static final long FILE_TTL_MS = 3_600_000;
+
+    private RecipeCreationCheckpointRepository repository;
+    private RecipeVerifyService recipeVerifyService;
+    private Clock clock;
+    private RecipeCreationCheckpointService sut;
+    private RecipeCreationExecutionContext context;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RecipeCreationCheckpointRepository.class);
+        recipeVerifyService = mock(RecipeVerifyService.class);
+        clock = mock(Clock.class);
+        doReturn(NOW).when(clock).now();
+        sut = new RecipeCreationCheckpointService(repository, recipeVerifyService, clock, FILE_TTL_MS, 100);
+        context = RecipeCreationExecutionContext.of(UUID.randomUUID(), "video-123", UUID.randomUUID());
+    }
+
+    private RecipeCreationCheckpoint verifiedAt(LocalDateTime uploadedAt) {
+        return RecipeCreationCheckpoint.empty(context, uploadedAt)
+                .complete(
+                        RecipeCreationStage.VERIFY,
+                        RecipeCreationExecutionContext.withFileInfo(context, "files/abc", "video/mp4"),
+                        uploadedAt);
+    }
+
+    @Nested
+    @DisplayName("open")
+    class Open {
+
+        @Test
+        @DisplayName("체크포인트가 없으면 처음부터 실행하고, 단계가 끝나면 저장한다")
+        void shouldStartFromScratchAndSaveOnComplete() {
+            doReturn(Optional.empty()).when(repository).find(context.getRecipeId());
+
+            RecipeCreationCheckpointTracker tracker = sut.open(context);
+            tracker.complete(RecipeCreationStage.YOUTUBE_META, context);
+
+            ArgumentCaptor<RecipeCreationCheckpoint> saved = ArgumentCaptor.forClass(RecipeCreationCheckpoint.class);
+            verify(repository).save(saved.capture());
+            assertThat(saved.getValue().getRecipeId()).isEqualTo(context.getRecipeId());
+            assertThat(saved.getValue().isCompleted(RecipeCreationStage.YOUTUBE_META)).isTrue();
+            assertThat(tracker.isCompleted(RecipeCreationStage.VERIFY)).isFalse();
+        }
+
+        @Test
+        @DisplayName("보관 기간 안의 영상 파일은 재사용하고, 지난 파일은 다시 검증하게 한다")
+        void shouldReuseOnlyFreshFile() {
+            doReturn(Optional.of(verifiedAt(NOW.minusMinutes(30)))).when(repository).find(context.getRecipeId());
+            assertThat(sut.open(context).isCompleted(RecipeCreationStage.VERIFY)).isTrue();
+
+            doReturn(Optional.of(verifiedAt(NOW.minusHours(2)))).when(repository).find(context.getRecipeId());
+            assertThat(sut.open(context).isCompleted(RecipeCreationStage.VERIFY)).isFalse();
+        }
+
+        @Test
+        @DisplayName("체크포인트 조회나 저장이 실패해도 생성을 막지 않는다")
+        void shouldIgnoreStoreFailures() {
+            doThrow(new IllegalStateException("db down")).when(repository).find(any());
+            doThrow(new IllegalStateException("db down")).when(repository).save(any());
+
+            RecipeCreationCheckpointTracker tracker = sut.open(context);
+            tracker.complete(RecipeCreationStage.YOUTUBE_META, context);
+
+            assertThat(tracker.isCompleted(RecipeCreationStage.YOUTUBE_META)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("discard는 남은 영상 파일을 정리하고 체크포인트를 지운다")
+    void shouldCleanupFileOnDiscard() {
+        doReturn(Optional.of(verifiedAt(NOW))).when(repository).find(context.getRecipeId());
+
+        sut.discard(context.getRecipeId());
+
+        verify(recipeVerifyService).cleanup("files/abc");
+        verify(repository).delete(context.getRecipeId());
+    }
+
+    @Test
+    @DisplayName("sweep은 보관 기간보다 오래된 체크포인트만 정리한다")
+    void shouldSweepStaleCheckpoints() {
+        RecipeCreationCheckpoint withoutFile = RecipeCreationCheckpoint.empty(context, NOW.minusHours(2));
+        doReturn(List.of(withoutFile)).when(repository).findStale(NOW.minusHours(1), 100);
+
+        sut.sweep();
+
+        verify(recipeVerifyService, never()).cleanup(any());
+        verify(repository).delete(context.getRecipeId());
+    }
+}
@@ -0,0 +1,64 @@
+package com.cheftory.api.recipe.creation.pipeline.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cheftory.api.recipe.creation.pipeline.RecipeCreationExecutionContext;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecipeCreationCheckpoint 테스트")
+class RecipeCreationCheckpointTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private final RecipeCreationExecutionContext context =
+            RecipeCreationExecutionContext.of(UUID.randomUUID(), "video-123", UUID.randomUUID());
+
+    private RecipeCreationCheckpoint verified() {
+        RecipeCreationExecutionContext withMeta =
+                RecipeCreationExecutionContext.withYoutubeMeta(context, "video-123", "김치찌개");
+        RecipeCreationExecutionContext withFile =
+                RecipeCreationExecutionContext.withFileInfo(withMeta, "files/abc", "video/mp4");
+        return RecipeCreationCheckpoint.empty(context, NOW)
+                .complete(RecipeCreationStage.YOUTUBE_META, withMeta, NOW)
+                .complete(RecipeCreationStage.VERIFY, withFile, NOW);
+    }
+
+    @Test
+    @DisplayName("끝난 단계와 산출물을 기록하고 다음 실행 컨텍스트에 복원한다")
+    void shouldRestoreCompletedStages() {
+        RecipeCreationCheckpoint checkpoint =
+                verified().complete(RecipeCreationStage.BRIEFING, context, NOW.plusMinutes(1));
+        RecipeCreationExecutionContext retry =
+                RecipeCreationExecutionContext.of(context.getRecipeId(), "video-123", UUID.randomUUID());
+
+        RecipeCreationExecutionContext restored = checkpoint.restore(retry);
+
+        assertThat(checkpoint.getCompletedStages()).isEqualTo("YOUTUBE_META,VERIFY,BRIEFING");
+        assertThat(checkpoint.isCompleted(RecipeCreationStage.DETAIL)).isFalse();
+        assertThat(checkpoint.getFileCreatedAt()).isEqualTo(NOW);
+        assertThat(restored.getJobId()).isEqualTo(retry.getJobId());
+        assertThat(restored.getTitle()).isEqualTo("김치찌개");
+        assertThat(restored.getFileUri()).isEqualTo("files/abc");
+        assertThat(restored.getMimeType()).isEqualTo("video/mp4");
+    }
+
+    @Test
+    @DisplayName("끝난 단계가 없으면 컨텍스트를 그대로 돌려준다")
+    void shouldReturnSameContextWhenEmpty() {
+        assertThat(RecipeCreationCheckpoint.empty(context, NOW).restore(context)).isSameAs(context);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 영상 파일은 버리고 검증 단계를 다시 하게 한다")
+    void shouldExpireOldFile() {
+        RecipeCreationCheckpoint expired = verified().expireFile(NOW.plusSeconds(1));
+
+        assertThat(expired.isCompleted(RecipeCreationStage.VERIFY)).isFalse();
+        assertThat(expired.isCompleted(RecipeCreationStage.YOUTUBE_META)).isTrue();
+        assertThat(expired.getFileUri()).isNull();
+        assertThat(verified().expireFile(NOW).isCompleted(RecipeCreationStage.VERIFY)).isTrue();
+    }
+}
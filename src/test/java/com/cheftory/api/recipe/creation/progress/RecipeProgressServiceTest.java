@@ -1,16 +1,26 @@
 package com.cheftory.api.recipe.creation.progress;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.MarketContextTestExtension;
+import com.cheftory.api._common.buffer.EntityBatchInserter;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgress;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressDetail;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressState;
 import com.cheftory.api.recipe.creation.progress.entity.RecipeProgressStep;
 import com.cheftory.api.recipe.creation.progress.utils.RecipeProgressSort;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -18,32 +28,104 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+@ExtendWith(MarketContextTestExtension.class)
 @DisplayName("RecipeProgressService 테스트")
 class RecipeProgressServiceTest {
 
+    private static final Duration LIVE_TTL = Duration.ofHours(1);
+    private static final Duration COMPLETED_TTL = Duration.ofMinutes(10);
+
     private RecipeProgressRepository repository;
+    private RecipeProgressLiveRepository liveRepository;
+    private EntityBatchInserter entityBatchInserter;
     private Clock clock;
     private RecipeProgressService service;
+    private UUID recipeId;
+    private UUID jobId;
+    private String key;
 
     @BeforeEach
     void setUp() {
         repository = mock(RecipeProgressRepository.class);
+        liveRepository = mock(RecipeProgressLiveRepository.class);
+        entityBatchInserter = mock(EntityBatchInserter.class);
         clock = mock(Clock.class);
         doReturn(LocalDateTime.of(2026, 1, 1, 0, 0)).when(clock).now();
-        service = new RecipeProgressService(repository, clock);
+        service = new RecipeProgressService(
+                repository,
+                liveRepository,
+                entityBatchInserter,
+                clock,
+                LIVE_TTL.toMillis(),
+                COMPLETED_TTL.toMillis());
+        recipeId = UUID.randomUUID();
+        jobId = UUID.randomUUID();
+        key = "korea:recipe:progress:" + recipeId + ":" + jobId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RecipeProgress> inserted(int expectedCalls) {
+        ArgumentCaptor<List<RecipeProgress>> captor = ArgumentCaptor.forClass(List.class);
+        verify(entityBatchInserter, times(expectedCalls)).insertAll(captor.capture());
+        return captor.getAllValues().getLast();
     }
 
     @Nested
     @DisplayName("조회 (gets)")
     class Gets {
+
+        @Test
+        @DisplayName("이 노드에서 실행 중인 작업은 메모리의 진행 상태를 돌려준다")
+        void returnsLocalState() {
+            service.start(recipeId, RecipeProgressStep.READY, RecipeProgressDetail.READY, jobId);
+            service.success(recipeId, RecipeProgressStep.CAPTION, RecipeProgressDetail.CAPTION, jobId);
+
+            List<RecipeProgress> result = service.gets(recipeId, jobId);
+
+            assertThat(result)
+                    .extracting(RecipeProgress::getStep)
+                    .containsExactly(RecipeProgressStep.READY, RecipeProgressStep.CAPTION);
+            verify(liveRepository, never()).findAll(anyString());
+            verify(repository, never()).findAllByRecipeIdAndJobId(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 노드에서 실행 중인 작업은 Redis 해시를 생성 시각 순으로 돌려준다")
+        void returnsRemoteState() {
+            RecipeProgressEntry later = new RecipeProgressEntry(
+                    UUID.randomUUID(),
+                    LocalDateTime.of(2026, 1, 1, 0, 1),
+                    RecipeProgressStep.CAPTION,
+                    RecipeProgressDetail.CAPTION,
+                    RecipeProgressState.SUCCESS);
+            RecipeProgressEntry earlier = new RecipeProgressEntry(
+                    UUID.randomUUID(),
+                    LocalDateTime.of(2026, 1, 1, 0, 0),
+                    RecipeProgressStep.READY,
+                    RecipeProgressDetail.READY,
+                    RecipeProgressState.RUNNING);
+            doReturn(List.of(later, earlier)).when(liveRepository).findAll(key);
+
+            List<RecipeProgress> result = service.gets(recipeId, jobId);
+
+            assertThat(result)
+                    .extracting(RecipeProgress::getStep)
+                    .containsExactly(RecipeProgressStep.READY, RecipeProgressStep.CAPTION);
+            assertThat(result).allSatisfy(progress -> {
+                assertThat(progress.getRecipeId()).isEqualTo(recipeId);
+                assertThat(progress.getJobId()).isEqualTo(jobId);
+            });
+            verify(repository, never()).findAllByRecipeIdAndJobId(any(), any(), any());
+        }
+
         @Test
-        @DisplayName("recipeId/jobId로 정렬 조회를 위임한다")
+        @DisplayName("실행 중 상태가 없으면 recipeId/jobId로 정렬 조회를 위임한다")
         void delegatesByRecipeAndJobId() {
-            UUID recipeId = UUID.randomUUID();
-            UUID jobId = UUID.randomUUID();
             List<RecipeProgress> expected = List.of(mock(RecipeProgress.class));
+            doReturn(List.of()).when(liveRepository).findAll(key);
             doReturn(expected)
                     .when(repository)
                     .findAllByRecipeIdAndJobId(recipeId, jobId, RecipeProgressSort.CREATE_AT_ASC);
@@ -51,14 +133,12 @@ class RecipeProgressServiceTest {
             List<RecipeProgress> result = service.gets(recipeId, jobId);
 
             assertThat(result).isEqualTo(expected);
-            verify(repository).findAllByRecipeIdAndJobId(recipeId, jobId, RecipeProgressSort.CREATE_AT_ASC);
         }
 
         @Test
-        @DisplayName("조회 결과가 없으면 빈 목록을 그대로 반환한다")
-        void returnsEmpty() {
-            UUID recipeId = UUID.randomUUID();
-            UUID jobId = UUID.randomUUID();
+        @DisplayName("Redis 조회가 실패하면 DB 조회로 대체한다")
+        void fallsBackToDatabaseOnRedisFailure() {
+            doThrow(new IllegalStateException("redis down")).when(liveRepository).findAll(key);
             doReturn(List.of())
                     .when(repository)
                     .findAllByRecipeIdAndJobId(recipeId, jobId, RecipeProgressSort.CREATE_AT_ASC);
@@ -66,55 +146,133 @@ class RecipeProgressServiceTest {
             List<RecipeProgress> result = service.gets(recipeId, jobId);
 
             assertThat(result).isEmpty();
+            verify(repository).findAllByRecipeIdAndJobId(recipeId, jobId, RecipeProgressSort.CREATE_AT_ASC);
         }
     }
 
     @Nested
     @DisplayName("상태 기록 (start/success/failed)")
     class ProgressWrites {
-        UUID recipeId;
-        UUID jobId;
 
-        @BeforeEach
-        void setUp() {
-            recipeId = UUID.randomUUID();
-            jobId = UUID.randomUUID();
+        @Test
+        @DisplayName("start - RUNNING 이벤트를 Redis 해시에 쌓고 DB에는 바로 쓰지 않는다")
+        void startAppendsRunningEvent() {
+            service.start(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
+
+            ArgumentCaptor<RecipeProgressEntry> captor = ArgumentCaptor.forClass(RecipeProgressEntry.class);
+            verify(liveRepository).append(eq(key), captor.capture(), eq(LIVE_TTL));
+            assertThat(captor.getValue().step()).isEqualTo(RecipeProgressStep.STEP);
+            assertThat(captor.getValue().detail()).isEqualTo(RecipeProgressDetail.STEP);
+            assertThat(captor.getValue().state()).isEqualTo(RecipeProgressState.RUNNING);
+            verify(entityBatchInserter, never()).insertAll(anyList());
+            verify(repository, never()).save(any());
         }
 
         @Test
-        @DisplayName("start - RUNNING 이벤트를 저장한다")
-        void startSavesRunningEvent() {
+        @DisplayName("flush - 쌓인 이벤트를 한 번에 저장하고, 저장한 이벤트는 다시 저장하지 않는다")
+        void flushInsertsPendingOnce() {
             service.start(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
+            service.success(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
 
-            ArgumentCaptor<RecipeProgress> captor = ArgumentCaptor.forClass(RecipeProgress.class);
-            verify(repository).save(captor.capture());
+            service.flush(recipeId, jobId);
+            service.flush(recipeId, jobId);
 
-            RecipeProgress saved = captor.getValue();
-            assertThat(saved.getRecipeId()).isEqualTo(recipeId);
-            assertThat(saved.getJobId()).isEqualTo(jobId);
-            assertThat(saved.getStep()).isEqualTo(RecipeProgressStep.STEP);
-            assertThat(saved.getDetail()).isEqualTo(RecipeProgressDetail.STEP);
-            assertThat(saved.getState()).isEqualTo(RecipeProgressState.RUNNING);
+            List<RecipeProgress> saved = inserted(1);
+            assertThat(saved)
+                    .extracting(RecipeProgress::getState)
+                    .containsExactly(RecipeProgressState.RUNNING, RecipeProgressState.SUCCESS);
+            assertThat(saved).allSatisfy(progress -> {
+                assertThat(progress.getRecipeId()).isEqualTo(recipeId);
+                assertThat(progress.getJobId()).isEqualTo(jobId);
+            });
         }
 
         @Test
-        @DisplayName("success - SUCCESS 이벤트를 저장한다")
-        void successSavesSuccessEvent() {
-            service.success(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
+        @DisplayName("success - FINISHED 단계면 남은 이벤트를 저장하고 완료 TTL로 줄인다")
+        void finishedSuccessPersists() {
+            service.start(recipeId, RecipeProgressStep.FINISHED, RecipeProgressDetail.FINISHED, jobId);
+            verify(entityBatchInserter, never()).insertAll(anyList());
 
-            ArgumentCaptor<RecipeProgress> captor = ArgumentCaptor.forClass(RecipeProgress.class);
-            verify(repository).save(captor.capture());
-            assertThat(captor.getValue().getState()).isEqualTo(RecipeProgressState.SUCCESS);
+            service.success(recipeId, RecipeProgressStep.FINISHED, RecipeProgressDetail.FINISHED, jobId);
+
+            assertThat(inserted(1)).hasSize(2);
+            verify(liveRepository).append(eq(key), any(), eq(COMPLETED_TTL));
         }
 
         @Test
-        @DisplayName("failed - FAILED 이벤트를 저장한다")
-        void failedSavesFailedEvent() {
+        @DisplayName("failed - FAILED 이벤트를 기록하고 바로 저장한다")
+        void failedPersists() {
             service.failed(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
 
-            ArgumentCaptor<RecipeProgress> captor = ArgumentCaptor.forClass(RecipeProgress.class);
-            verify(repository).save(captor.capture());
-            assertThat(captor.getValue().getState()).isEqualTo(RecipeProgressState.FAILED);
+            assertThat(inserted(1))
+                    .singleElement()
+                    .extracting(RecipeProgress::getState)
+                    .isEqualTo(RecipeProgressState.FAILED);
+        }
+
+        @Test
+        @DisplayName("저장이 실패하면 다음 flush에서 같은 이벤트를 다시 저장한다")
+        void retriesAfterInsertFailure() {
+            service.start(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
+            doThrow(new IllegalStateException("db down"))
+                    .doNothing()
+                    .when(entityBatchInserter)
+                    .insertAll(anyList());
+
+            service.flush(recipeId, jobId);
+            service.flush(recipeId, jobId);
+
+            assertThat(inserted(2))
+                    .singleElement()
+                    .extracting(RecipeProgress::getState)
+                    .isEqualTo(RecipeProgressState.RUNNING);
+        }
+
+        @Test
+        @DisplayName("Redis 기록이 실패해도 진행 상태는 메모리와 DB에 남는다")
+        void keepsStateWhenRedisFails() {
+            doThrow(new IllegalStateException("redis down"))
+                    .when(liveRepository)
+                    .append(anyString(), any(), any());
+
+            service.start(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
+            service.flush(recipeId, jobId);
+
+            assertThat(service.gets(recipeId, jobId)).hasSize(1);
+            assertThat(inserted(1)).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("완료 저장 재시도 (retryCompleted)")
+    class RetryCompleted {
+
+        @Test
+        @DisplayName("끝난 실행의 저장이 실패하면 다음 재시도에서 남은 이벤트를 저장한다")
+        void retriesFailedFinalPersist() {
+            doThrow(new IllegalStateException("db down"))
+                    .doNothing()
+                    .when(entityBatchInserter)
+                    .insertAll(anyList());
+
+            service.failed(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
+            service.retryCompleted();
+            service.retryCompleted();
+
+            assertThat(inserted(2))
+                    .singleElement()
+                    .extracting(RecipeProgress::getState)
+                    .isEqualTo(RecipeProgressState.FAILED);
+        }
+
+        @Test
+        @DisplayName("실행 중인 작업은 재시도에서 저장하지 않는다")
+        void skipsRunningJobs() {
+            service.start(recipeId, RecipeProgressStep.STEP, RecipeProgressDetail.STEP, jobId);
+
+            service.retryCompleted();
+
+            verify(entityBatchInserter, never()).insertAll(anyList());
         }
     }
 }
@@ -0,0 +1,290 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.recipe.content.info.RecipeInfoService;
+import com.cheftory.api.recipe.content.info.entity.RecipeInfo;
+import com.cheftory.api.recipe.content.info.entity.RecipeStatus;
+import com.cheftory.api.recipe.content.info.exception.RecipeInfoErrorCode;
+import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
+import com.cheftory.api.recipe.creation.AsyncRecipeCreationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@DisplayName("RecipeCreationJobWorker 테스트")
+class RecipeCreationJobWorkerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+    private static final long LEASE_MS = 120_000;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private RecipeCreationJobRepository repository;
+    private AsyncRecipeCreationService asyncRecipeCreationService;
+    private RecipeInfoService recipeInfoService;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RecipeCreationJobRepository.class);
+        asyncRecipeCreationService = mock(AsyncRecipeCreationService.class);
+        recipeInfoService = mock(RecipeInfoService.class);
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        doReturn(NOW).when(clock).now();
+        doReturn(true).when(repository).claim(any(), anyString(), any(), any());
+    }
+
+    private RecipeCreationJobWorker worker(AsyncTaskExecutor executor, boolean enabled, int concurrency) {
+        RecipeCreationQueueProperties properties = new RecipeCreationQueueProperties();
+        properties.setEnabled(enabled);
+        properties.setConcurrency(concurrency);
+        properties.setLeaseMs(LEASE_MS);
+        properties.setMaxAttempts(MAX_ATTEMPTS);
+        return new RecipeCreationJobWorker(
+                repository,
+                asyncRecipeCreationService,
+                recipeInfoService,
+                executor,
+                clock,
+                meterRegistry,
+                properties);
+    }
+
+    private RecipeCreationJobWorker syncWorker() {
+        return worker(new TaskExecutorAdapter(Runnable::run), true, 4);
+    }
+
+    private static RecipeCreationJob job(int attempts) {
+        return new RecipeCreationJob(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "video-123",
+                2L,
+                Market.KOREA,
+                "KR",
+                attempts,
+                null,
+                null,
+                NOW.minusMinutes(1));
+    }
+
+    private void givenRecipe(RecipeCreationJob job, RecipeStatus status) throws Exception {
+        RecipeInfo recipeInfo = mock(RecipeInfo.class);
+        doReturn(status).when(recipeInfo).getRecipeStatus();
+        doReturn(recipeInfo).when(recipeInfoService).get(job.getRecipeId(), job.getId());
+    }
+
+    @Nested
+    @DisplayName("poll")
+    class Poll {
+
+        @Test
+        @DisplayName("임대한 작업을 작업의 마켓 컨텍스트에서 실행하고 행을 지운다")
+        void shouldRunClaimedJobInItsMarket() throws Exception {
+            RecipeCreationJob job = job(0);
+            givenRecipe(job, RecipeStatus.IN_PROGRESS);
+            doReturn(List.of(job)).when(repository).findClaimable(NOW, 4);
+            AtomicReference<MarketContext.Info> market = new AtomicReference<>();
+            doAnswer(inv -> {
+                        market.set(MarketContext.currentOrNull());
+                        return null;
+                    })
+                    .when(asyncRecipeCreationService)
+                    .create(job.getRecipeId(), 2L, "video-123", job.getId());
+
+            syncWorker().poll();
+
+            verify(repository).claim(eq(job.getId()), anyString(), eq(NOW), eq(NOW.plusMinutes(2)));
+            verify(asyncRecipeCreationService).create(job.getRecipeId(), 2L, "video-123", job.getId());
+            verify(repository).delete(eq(job.getId()), anyString());
+            assertThat(market.get()).isEqualTo(new MarketContext.Info(Market.KOREA, "KR"));
+        }
+
+        @Test
+        @DisplayName("다른 노드가 먼저 임대한 작업은 실행하지 않는다")
+        void shouldSkipJobClaimedByOtherNode() {
+            RecipeCreationJob job = job(0);
+            doReturn(List.of(job)).when(repository).findClaimable(NOW, 4);
+            doReturn(false).when(repository).claim(any(), anyString(), any(), any());
+
+            syncWorker().poll();
+
+            verifyNoInteractions(asyncRecipeCreationService);
+            verify(repository, never()).delete(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("currentJobId가 바뀌었거나 진행 중이 아닌 작업은 실행하지 않고 지운다")
+        void shouldDropStaleJob() throws Exception {
+            RecipeCreationJob replaced = job(0);
+            RecipeCreationJob finished = job(0);
+            doThrow(new RecipeInfoException(RecipeInfoErrorCode.RECIPE_INFO_NOT_FOUND))
+                    .when(recipeInfoService)
+                    .get(replaced.getRecipeId(), replaced.getId());
+            givenRecipe(finished, RecipeStatus.SUCCESS);
+            doReturn(List.of(replaced, finished)).when(repository).findClaimable(NOW, 4);
+
+            syncWorker().poll();
+
+            verifyNoInteractions(asyncRecipeCreationService);
+            verify(repository).delete(eq(replaced.getId()), anyString());
+            verify(repository).delete(eq(finished.getId()), anyString());
+        }
+
+        @Test
+        @DisplayName("재시도 한도를 넘긴 작업은 파이프라인 대신 실패로 마감한다")
+        void shouldAbandonJobOverMaxAttempts() throws Exception {
+            RecipeCreationJob job = job(MAX_ATTEMPTS);
+            givenRecipe(job, RecipeStatus.IN_PROGRESS);
+            doReturn(List.of(job)).when(repository).findClaimable(NOW, 4);
+
+            syncWorker().poll();
+
+            verify(asyncRecipeCreationService).abandon(job.getRecipeId(), 2L, job.getId());
+            verify(asyncRecipeCreationService, never()).create(any(), anyLong(), any(), any());
+            verify(repository).delete(eq(job.getId()), anyString());
+        }
+
+        @Test
+        @DisplayName("실행 중 예상치 못한 예외가 나면 임대를 풀어 다시 가져갈 수 있게 한다")
+        void shouldReleaseLeaseOnUnexpectedFailure() throws Exception {
+            RecipeCreationJob job = job(0);
+            givenRecipe(job, RecipeStatus.IN_PROGRESS);
+            doReturn(List.of(job)).when(repository).findClaimable(NOW, 4);
+            doThrow(new IllegalStateException("boom"))
+                    .when(asyncRecipeCreationService)
+                    .create(any(), anyLong(), any(), any());
+
+            syncWorker().poll();
+
+            verify(repository).release(eq(job.getId()), anyString());
+            verify(repository, never()).delete(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("실행 중 Error가 나도 임대를 풀고 실행 중 목록에서 뺀다")
+        void shouldReleaseLeaseOnError() throws Exception {
+            RecipeCreationJob job = job(0);
+            givenRecipe(job, RecipeStatus.IN_PROGRESS);
+            doThrow(new StackOverflowError("boom"))
+                    .when(asyncRecipeCreationService)
+                    .create(any(), anyLong(), any(), any());
+            RecipeCreationJobWorker sut = syncWorker();
+
+            assertThatThrownBy(() -> sut.run(job)).isInstanceOf(StackOverflowError.class);
+
+            verify(repository).release(eq(job.getId()), anyString());
+            verify(repository, never()).delete(any(), anyString());
+            assertThat(meterRegistry
+                            .get(RecipeCreationJobWorker.RUNNING_METRIC)
+                            .gauge()
+                            .value())
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("종료하면 실행 중인 작업의 임대를 풀어 다른 노드가 바로 가져가게 한다")
+        void shouldReleaseRunningLeasesOnStop() {
+            RecipeCreationJob job = job(0);
+            RecipeCreationJobWorker sut = worker(new TaskExecutorAdapter(task -> {}), true, 4);
+            doReturn(List.of(job)).when(repository).findClaimable(NOW, 4);
+            sut.poll();
+
+            sut.stop();
+
+            verify(repository).release(eq(job.getId()), anyString());
+        }
+
+        @Test
+        @DisplayName("실행 중인 작업이 동시 실행 수를 채우면 더 임대하지 않는다")
+        void shouldRespectConcurrency() {
+            List<Runnable> submitted = new ArrayList<>();
+            RecipeCreationJobWorker sut = worker(new TaskExecutorAdapter(submitted::add), true, 2);
+            doReturn(List.of(job(0), job(0))).when(repository).findClaimable(NOW, 2);
+
+            sut.poll();
+            sut.poll();
+
+            assertThat(submitted).hasSize(2);
+            verify(repository).findClaimable(NOW, 2);
+            verify(repository, never()).findClaimable(any(), eq(0));
+            assertThat(meterRegistry
+                            .get(RecipeCreationJobWorker.RUNNING_METRIC)
+                            .gauge()
+                            .value())
+                    .isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있거나 종료 중이면 큐를 조회하지 않는다")
+        void shouldNotPollWhenDisabledOrStopped() {
+            worker(new TaskExecutorAdapter(Runnable::run), false, 4).poll();
+            RecipeCreationJobWorker stopped = syncWorker();
+            stopped.stop();
+            stopped.poll();
+
+            verify(repository, never()).findClaimable(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("heartbeat")
+    class Heartbeat {
+
+        @Test
+        @DisplayName("실행 중인 작업의 임대를 연장한다")
+        void shouldExtendRunningLeases() {
+            RecipeCreationJob job = job(0);
+            RecipeCreationJobWorker sut = worker(new TaskExecutorAdapter(task -> {}), true, 4);
+            doReturn(List.of(job)).when(repository).findClaimable(NOW, 4);
+            sut.poll();
+
+            LocalDateTime later = NOW.plusSeconds(30);
+            doReturn(later).when(clock).now();
+            sut.heartbeat();
+
+            verify(repository)
+                    .extendLeases(
+                            org.mockito.ArgumentMatchers.<Collection<UUID>>argThat(ids -> ids.contains(job.getId())),
+                            anyString(),
+                            eq(later.plusMinutes(2)));
+        }
+
+        @Test
+        @DisplayName("실행 중인 작업이 없으면 DB를 호출하지 않는다")
+        void shouldSkipWhenIdle() {
+            syncWorker().heartbeat();
+
+            verify(repository, never()).extendLeases(anyCollection(), anyString(), any());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.cheftory.api.recipe.creation.queue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.region.Market;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+@DisplayName("RecipeCreationOrphanRedriver 테스트")
+class RecipeCreationOrphanRedriverTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private RecipeCreationJobRepository repository;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RecipeCreationJobRepository.class);
+        clock = mock(Clock.class);
+        doReturn(NOW).when(clock).now();
+    }
+
+    private static RecipeCreationQueueProperties properties(boolean enabled) {
+        RecipeCreationQueueProperties properties = new RecipeCreationQueueProperties();
+        properties.setEnabled(enabled);
+        return properties;
+    }
+
+    private static RecipeCreationJob orphan() {
+        return new RecipeCreationJob(
+                UUID.randomUUID(), UUID.randomUUID(), "video-123", 1L, Market.KOREA, "KR", 0, null, null, NOW);
+    }
+
+    @Test
+    @DisplayName("워커와 같은 임대 시간보다 오래 멈춘 IN_PROGRESS 레시피를 큐에 다시 넣고, 이미 들어간 작업은 건너뛴다")
+    void shouldRedriveOrphans() {
+        RecipeCreationJob first = orphan();
+        RecipeCreationJob duplicated = orphan();
+        RecipeCreationJob last = orphan();
+        doReturn(List.of(first, duplicated, last)).when(repository).findOrphans(NOW.minusMinutes(10));
+        doThrow(new DuplicateKeyException("duplicate")).when(repository).insert(duplicated);
+
+        new RecipeCreationOrphanRedriver(repository, clock, properties(true)).run(null);
+
+        verify(repository).insert(first);
+        verify(repository).insert(last);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 아무것도 하지 않는다")
+    void shouldDoNothingWhenDisabled() {
+        new RecipeCreationOrphanRedriver(repository, clock, properties(false)).run(null);
+
+        verifyNoInteractions(repository);
+        verify(clock, never()).now();
+    }
+}
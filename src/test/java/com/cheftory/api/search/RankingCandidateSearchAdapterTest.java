@@ -94,10 +94,10 @@ class RankingCandidateSearchAdapterTest {
     }
 
     @Test
-    @DisplayName("closePit delegates to service")
-    void closePitDelegatesToService() {
+    @DisplayName("closePit releases the pooled PIT")
+    void closePitReleasesPooledPit() {
         adapter.closePit("pit-1");
 
-        verify(searchQueryService).closePit("pit-1");
+        verify(searchQueryService).releasePitForCandidates("pit-1");
     }
 }
@@ -45,7 +45,7 @@ class RankingPersonalizationSearchAdapterTest {
 
         List<RankingPersonalizationSeed> result = adapter.mgetSeeds(ids);
 
-        assertThat(result).containsExactly(new RankingPersonalizationSeed(List.of("kimchi"), "channel-a"));
+        assertThat(result).containsExactly(new RankingPersonalizationSeed("id-1", List.of("kimchi"), "channel-a"));
         verify(searchQueryService).mgetSearchQueries(ids);
     }
 
@@ -5,12 +5,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.cheftory.api._common.cursor.CursorPage;
+import com.cheftory.api.recipe.content.youtubemeta.entity.YoutubeMetaType;
+import com.cheftory.api.recipe.search.RecipeSearchCard;
 import com.cheftory.api.recipe.search.exception.RecipeSearchErrorCode;
 import com.cheftory.api.recipe.search.exception.RecipeSearchException;
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
 import com.cheftory.api.search.query.SearchQueryScope;
 import com.cheftory.api.search.query.entity.SearchQuery;
+import com.cheftory.api.search.query.entity.SearchQueryCard;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,12 +31,12 @@ class RecipeSearchAdapterTest {
     @BeforeEach
     void setUp() {
         searchFacade = mock(SearchFacade.class);
-        adapter = new RecipeSearchAdapter(searchFacade);
+        adapter = new RecipeSearchAdapter(searchFacade, "Asia/Seoul");
     }
 
     @Nested
-    @DisplayName("레시피 ID 검색 (searchRecipeIds)")
-    class SearchRecipeIds {
+    @DisplayName("레시피 카드 검색 (searchRecipeCards)")
+    class SearchRecipeCards {
 
         @Nested
         @DisplayName("Given - 유효한 파라미터가 주어졌을 때")
@@ -64,23 +68,73 @@ class RecipeSearchAdapterTest {
             @Nested
             @DisplayName("When - 검색을 요청하면")
             class WhenSearching {
-                CursorPage<UUID> result;
+                CursorPage<RecipeSearchCard> result;
 
                 @BeforeEach
                 void setUp() throws Exception {
-                    result = adapter.searchRecipeIds(userId, query, cursor);
+                    result = adapter.searchRecipeCards(userId, query, cursor);
                 }
 
                 @Test
-                @DisplayName("Then - 레시피 ID 목록을 반환한다")
+                @DisplayName("Then - 카드가 없는 문서는 레시피 ID만 담아 반환한다")
                 void thenReturnsRecipeIds() throws Exception {
                     assertThat(result.items()).hasSize(2);
+                    assertThat(result.items()).noneMatch(RecipeSearchCard::hasOverview);
                     assertThat(result.nextCursor()).isEqualTo("next-cursor");
                     verify(searchFacade).search(SearchQueryScope.RECIPE, userId, query, cursor);
                 }
             }
         }
 
+        @Nested
+        @DisplayName("Given - 문서에 카드 값이 있을 때")
+        class GivenCardDocument {
+            UUID userId;
+            UUID recipeId;
+
+            @BeforeEach
+            void setUp() throws Exception {
+                userId = UUID.randomUUID();
+                recipeId = UUID.randomUUID();
+                SearchQuery searchQuery = SearchQuery.builder()
+                        .id(recipeId.toString())
+                        .channelTitle("채널A")
+                        .keywords(List.of("한식"))
+                        .createdAt(1772326800000L)
+                        .updatedAt(1772326800000L)
+                        .card(SearchQueryCard.builder()
+                                .videoTitle("김치찌개")
+                                .videoId("video-1")
+                                .thumbnailUrl("https://img.youtube.com/vi/video-1/hqdefault.jpg")
+                                .videoSeconds(600)
+                                .videoType("SHORTS")
+                                .servings(2)
+                                .cookTime(20)
+                                .viewCount(10)
+                                .creditCost(1L)
+                                .build())
+                        .build();
+                doReturn(new CursorPage<>(List.of(searchQuery), null))
+                        .when(searchFacade)
+                        .search(SearchQueryScope.RECIPE, userId, "김치찌개", null);
+            }
+
+            @Test
+            @DisplayName("Then - 카드 값과 채널·태그·시각을 검색 결과 카드로 옮긴다")
+            void thenMapsCard() throws Exception {
+                RecipeSearchCard card = adapter.searchRecipeCards(userId, "김치찌개", null)
+                        .items()
+                        .getFirst();
+
+                assertThat(card.hasOverview()).isTrue();
+                assertThat(card.recipeId()).isEqualTo(recipeId);
+                assertThat(card.channelTitle()).isEqualTo("채널A");
+                assertThat(card.tags()).containsExactly("한식");
+                assertThat(card.videoType()).isEqualTo(YoutubeMetaType.SHORTS);
+                assertThat(card.createdAt()).isEqualTo(LocalDateTime.of(2026, 3, 1, 10, 0));
+            }
+        }
+
         @Nested
         @DisplayName("Given - 검색 결과가 없을 때")
         class GivenNoResults {
@@ -101,11 +155,11 @@ class RecipeSearchAdapterTest {
             @Nested
             @DisplayName("When - 검색을 요청하면")
             class WhenSearching {
-                CursorPage<UUID> result;
+                CursorPage<RecipeSearchCard> result;
 
                 @BeforeEach
                 void setUp() throws Exception {
-                    result = adapter.searchRecipeIds(userId, query, cursor);
+                    result = adapter.searchRecipeCards(userId, query, cursor);
                 }
 
                 @Test
@@ -141,7 +195,7 @@ class RecipeSearchAdapterTest {
                 @Test
                 @DisplayName("Then - 예외를 전파한다")
                 void thenPropagatesException() {
-                    assertThatThrownBy(() -> adapter.searchRecipeIds(userId, query, cursor))
+                    assertThatThrownBy(() -> adapter.searchRecipeCards(userId, query, cursor))
                             .isInstanceOf(RecipeSearchException.class)
                             .extracting("error")
                             .isEqualTo(RecipeSearchErrorCode.RECIPE_SEARCH_FAILED);
@@ -0,0 +1,162 @@
+package com.cheftory.api.search.autocomplete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.MarketContextTestExtension;
+import com.cheftory.api.search.exception.SearchErrorCode;
+import com.cheftory.api.search.exception.SearchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(MarketContextTestExtension.class)
+@DisplayName("AutocompletePrefixIndex 테스트")
+class AutocompletePrefixIndexTest {
+
+    private AutocompleteRepository autocompleteRepository;
+    private AutocompletePrefixIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        autocompleteRepository = mock(AutocompleteRepository.class);
+        sut = new AutocompletePrefixIndex(autocompleteRepository, new SimpleMeterRegistry(), true, 5000);
+    }
+
+    private static AutocompletePrefixEntry entry(String market, String text, int count) {
+        return new AutocompletePrefixEntry(text, market, "recipe", text, count);
+    }
+
+    private static List<String> texts(List<Autocomplete> autocompletes) {
+        return autocompletes.stream().map(Autocomplete::getText).toList();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 OpenSearch로 넘기도록 빈 결과를 반환한다")
+    void shouldFallBackBeforeLoad() {
+        assertThat(sut.isLoaded()).isFalse();
+        assertThat(sut.find(AutocompleteScope.RECIPE, "김치", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 적재하지 않는다")
+    void shouldSkipRefreshWhenDisabled() throws SearchException {
+        AutocompletePrefixIndex disabled =
+                new AutocompletePrefixIndex(autocompleteRepository, new SimpleMeterRegistry(), false, 5000);
+
+        disabled.refresh();
+
+        verify(autocompleteRepository, never()).scanAll(anyInt());
+        assertThat(disabled.isLoaded()).isFalse();
+    }
+
+    @Nested
+    @DisplayName("적재 후 조회")
+    class AfterLoad {
+
+        @BeforeEach
+        void setUp() throws SearchException {
+            doReturn(List.of(
+                            entry("korea", "김치찌개", 100),
+                            entry("korea", "김치 볶음밥", 60),
+                            entry("korea", "김치전", 80),
+                            entry("korea", "된장찌개", 90),
+                            entry("korea", "Kimchi Pasta!", 30),
+                            entry("america", "김치버거", 500)))
+                    .when(autocompleteRepository)
+                    .scanAll(5000);
+            sut.refresh();
+        }
+
+        @Test
+        @DisplayName("접두사로 시작하는 용어를 count 내림차순으로 반환한다")
+        void shouldReturnPrefixMatchesByCount() {
+            assertThat(sut.find(AutocompleteScope.RECIPE, "김치", 10))
+                    .hasValueSatisfying(found ->
+                            assertThat(texts(found)).containsExactly("김치찌개", "김치전", "김치 볶음밥"));
+        }
+
+        @Test
+        @DisplayName("공백·특수문자·대소문자는 템플릿 분석기와 같이 무시한다")
+        void shouldNormalizeLikeAnalyzer() {
+            assertThat(sut.find(AutocompleteScope.RECIPE, "김치볶", 10))
+                    .hasValueSatisfying(found -> assertThat(texts(found)).containsExactly("김치 볶음밥"));
+            assertThat(sut.find(AutocompleteScope.RECIPE, "KIMCHI p", 10))
+                    .hasValueSatisfying(found -> assertThat(texts(found)).containsExactly("Kimchi Pasta!"));
+        }
+
+        @Test
+        @DisplayName("다른 마켓의 용어는 반환하지 않는다")
+        void shouldIsolateMarkets() {
+            assertThat(sut.find(AutocompleteScope.RECIPE, "김치버", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("일치하는 접두사가 없으면 OpenSearch로 넘기도록 빈 결과를 반환한다")
+        void shouldFallBackWhenNoPrefixMatches() {
+            assertThat(sut.find(AutocompleteScope.RECIPE, "김치찌깨", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("빈 검색어는 count 상위 목록을 반환한다")
+        void shouldReturnTopForBlankKeyword() {
+            assertThat(sut.find(AutocompleteScope.RECIPE, " ", 2))
+                    .hasValueSatisfying(found -> assertThat(texts(found)).containsExactly("김치찌개", "된장찌개"));
+        }
+
+        @Test
+        @DisplayName("다시 적재하다 실패하면 이전 인덱스를 그대로 쓴다")
+        void shouldKeepPreviousTablesWhenRefreshFails() throws SearchException {
+            doThrow(new SearchException(SearchErrorCode.AUTOCOMPLETE_FAILED))
+                    .when(autocompleteRepository)
+                    .scanAll(5000);
+
+            sut.refresh();
+
+            assertThat(sut.find(AutocompleteScope.RECIPE, "된장", 10))
+                    .hasValueSatisfying(found -> assertThat(texts(found)).containsExactly("된장찌개"));
+        }
+    }
+
+    @Nested
+    @DisplayName("접두사 테이블")
+    class Table {
+
+        @Test
+        @DisplayName("넓은 구간도 count 상위 N개를 정확히 고른다")
+        void shouldSelectTopFromWideRange() {
+            List<Autocomplete> autocompletes = IntStream.range(0, 1000)
+                    .mapToObj(i -> Autocomplete.builder()
+                            .id(String.valueOf(i))
+                            .text("김치" + i)
+                            .count(i)
+                            .build())
+                    .toList();
+            AutocompletePrefixTable table = AutocompletePrefixTable.of(autocompletes);
+
+            assertThat(texts(table.find("김치", 3))).containsExactly("김치999", "김치998", "김치997");
+            assertThat(texts(table.find("김치", 2))).containsExactly("김치999", "김치998");
+            assertThat(texts(table.find("김치99", 3))).containsExactly("김치999", "김치998", "김치997");
+        }
+
+        @Test
+        @DisplayName("정규화 결과가 빈 텍스트는 제외한다")
+        void shouldSkipBlankKeys() {
+            AutocompletePrefixTable table = AutocompletePrefixTable.of(List.of(
+                    Autocomplete.builder().id("1").text("!!").count(1).build(),
+                    Autocomplete.builder().id("2").text("파스타").count(1).build()));
+
+            assertThat(table.size()).isEqualTo(1);
+        }
+    }
+}
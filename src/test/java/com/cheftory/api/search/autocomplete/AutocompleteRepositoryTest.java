@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.cheftory.api._common.MarketContextTestExtension;
@@ -23,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.search.Hit;
@@ -272,6 +274,64 @@ public class AutocompleteRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("전체 조회 (scanAll)")
+    class ScanAll {
+
+        @Test
+        @DisplayName("페이지가 가득 차면 마지막 정렬 값으로 다음 페이지를 이어 읽는다")
+        void shouldContinueWithSearchAfter() throws Exception {
+            SearchResponse<AutocompletePrefixEntry> full =
+                    scanResponse(scanHit("1", "김치찌개"), scanHit("2", "김치전"));
+            SearchResponse<AutocompletePrefixEntry> last = scanResponse(scanHit("3", "된장찌개"));
+            doReturn(full)
+                    .doReturn(last)
+                    .when(openSearchClient)
+                    .search(any(SearchRequest.class), eq(AutocompletePrefixEntry.class));
+
+            List<AutocompletePrefixEntry> result = autocompleteRepository.scanAll(2);
+
+            assertThat(result).extracting(AutocompletePrefixEntry::id).containsExactly("1", "2", "3");
+            assertThat(result.getFirst().market()).isEqualTo("korea");
+
+            ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+            verify(openSearchClient, times(2)).search(captor.capture(), eq(AutocompletePrefixEntry.class));
+            assertThat(captor.getAllValues().get(0).searchAfter()).isEmpty();
+            assertThat(captor.getAllValues().get(1).searchAfter())
+                    .extracting(FieldValue::stringValue)
+                    .containsExactly("korea", "recipe", "김치전");
+        }
+
+        @Test
+        @DisplayName("OpenSearch 예외는 AUTOCOMPLETE_FAILED 예외로 변환한다")
+        void shouldWrapException() throws Exception {
+            doThrow(new IOException("fail"))
+                    .when(openSearchClient)
+                    .search(any(SearchRequest.class), eq(AutocompletePrefixEntry.class));
+
+            assertThatThrownBy(() -> autocompleteRepository.scanAll(2))
+                    .isInstanceOf(SearchException.class)
+                    .hasFieldOrPropertyWithValue("error", SearchErrorCode.AUTOCOMPLETE_FAILED);
+        }
+
+        private Hit<AutocompletePrefixEntry> scanHit(String id, String text) {
+            AutocompletePrefixEntry entry = new AutocompletePrefixEntry(null, "korea", "recipe", text, 10);
+            return Hit.of(h -> h.source(entry)
+                    .index("autocomplete")
+                    .id(id)
+                    .sort(List.of(FieldValue.of("korea"), FieldValue.of("recipe"), FieldValue.of(text))));
+        }
+
+        @SafeVarargs
+        private SearchResponse<AutocompletePrefixEntry> scanResponse(Hit<AutocompletePrefixEntry>... hits) {
+            HitsMetadata<AutocompletePrefixEntry> metadata = HitsMetadata.of(h -> h.hits(List.of(hits)));
+            return SearchResponse.searchResponseOf(r -> r.hits(metadata)
+                    .took(1L)
+                    .timedOut(false)
+                    .shards(s -> s.total(1).successful(1).failed(0)));
+        }
+    }
+
     private <T> Hit<T> createHit(T source) {
         return Hit.of(h -> h.source(source).index("autocomplete").id("id").score(1.0));
     }
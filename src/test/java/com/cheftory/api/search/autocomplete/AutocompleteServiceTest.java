@@ -6,10 +6,12 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.cheftory.api.search.exception.SearchException;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,12 +21,35 @@ import org.junit.jupiter.api.Test;
 public class AutocompleteServiceTest {
 
     private AutocompleteRepository autocompleteRepository;
+    private AutocompletePrefixIndex autocompletePrefixIndex;
     private AutocompleteService autocompleteService;
 
     @BeforeEach
     void setUp() {
         autocompleteRepository = mock(AutocompleteRepository.class);
-        autocompleteService = new AutocompleteService(autocompleteRepository);
+        autocompletePrefixIndex = mock(AutocompletePrefixIndex.class);
+        doReturn(Optional.empty()).when(autocompletePrefixIndex).find(any(), any(), anyInt());
+        autocompleteService = new AutocompleteService(autocompleteRepository, autocompletePrefixIndex);
+    }
+
+    @Nested
+    @DisplayName("Given - 접두사 인덱스에 일치하는 용어가 있을 때")
+    class GivenPrefixIndexHit {
+
+        @Test
+        @DisplayName("Then - OpenSearch를 호출하지 않고 접두사 인덱스 결과를 반환한다")
+        void thenReturnsPrefixMatches() throws SearchException {
+            List<Autocomplete> prefixMatches = List.of(
+                    Autocomplete.builder().id("1").text("김치찌개").count(100).build());
+            doReturn(Optional.of(prefixMatches))
+                    .when(autocompletePrefixIndex)
+                    .find(AutocompleteScope.RECIPE, "김치", 10);
+
+            List<Autocomplete> result = autocompleteService.autocomplete(AutocompleteScope.RECIPE, "김치");
+
+            assertThat(result).isEqualTo(prefixMatches);
+            verify(autocompleteRepository, never()).searchAutocomplete(any(), any(), anyInt());
+        }
     }
 
     @Nested
@@ -0,0 +1,67 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AutocompleteContributionWriter 테스트")
+class AutocompleteContributionWriterTest {
+
+    private AutocompleteContributionRepository contributionRepository;
+    private AutocompleteContributionWriter sut;
+
+    private final UUID recipeId = UUID.randomUUID();
+    private final AutocompleteTerm kimchi = new AutocompleteTerm("korea", "recipe", "김치");
+    private final AutocompleteTerm tofu = new AutocompleteTerm("korea", "recipe", "두부");
+
+    @BeforeEach
+    void setUp() {
+        contributionRepository = mock(AutocompleteContributionRepository.class);
+        sut = new AutocompleteContributionWriter(contributionRepository);
+    }
+
+    @Test
+    @DisplayName("기여도가 생기거나 사라진 용어를 반영 대기로 기록한다")
+    void shouldMarkAddedAndRemovedTermsPending() {
+        doReturn(List.of(new AutocompleteContributionRow(recipeId, kimchi, 10)))
+                .doReturn(List.of(new AutocompleteContributionRow(recipeId, tofu, 10)))
+                .when(contributionRepository)
+                .findByRecipeIds(Set.of(recipeId));
+
+        Set<AutocompleteTerm> changed = sut.replace(Set.of(recipeId));
+
+        verify(contributionRepository).replace(Set.of(recipeId));
+        assertThat(changed).containsExactlyInAnyOrder(kimchi, tofu);
+        verify(contributionRepository).markPending(changed);
+    }
+
+    @Test
+    @DisplayName("가중치만 바뀐 용어도 반영 대기로 기록한다")
+    void shouldMarkWeightChangePending() {
+        doReturn(List.of(new AutocompleteContributionRow(recipeId, kimchi, 10)))
+                .doReturn(List.of(new AutocompleteContributionRow(recipeId, kimchi, 20)))
+                .when(contributionRepository)
+                .findByRecipeIds(Set.of(recipeId));
+
+        assertThat(sut.replace(Set.of(recipeId))).containsExactly(kimchi);
+    }
+
+    @Test
+    @DisplayName("기여도가 그대로면 반영 대기 용어가 없다")
+    void shouldMarkNothingWhenUnchanged() {
+        doReturn(List.of(new AutocompleteContributionRow(recipeId, kimchi, 10)))
+                .when(contributionRepository)
+                .findByRecipeIds(Set.of(recipeId));
+
+        assertThat(sut.replace(Set.of(recipeId))).isEmpty();
+        verify(contributionRepository).markPending(Set.of());
+    }
+}
@@ -0,0 +1,99 @@
+package com.cheftory.api.search.indexing.autocomplete;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api.search.autocomplete.AutocompletePrefixIndex;
+import com.cheftory.api.search.exception.SearchErrorCode;
+import com.cheftory.api.search.exception.SearchException;
+import com.cheftory.api.search.indexing.support.BulkIndexPayload;
+import com.cheftory.api.search.indexing.support.SearchIndexingBulkClient;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AutocompleteIncrementalIndexer 테스트")
+class AutocompleteIncrementalIndexerTest {
+
+    private AutocompleteContributionWriter contributionWriter;
+    private AutocompleteContributionRepository contributionRepository;
+    private SearchIndexingBulkClient bulkClient;
+    private AutocompletePrefixIndex prefixIndex;
+    private AutocompleteIncrementalIndexer sut;
+
+    private final UUID recipeId = UUID.randomUUID();
+    private final AutocompleteTerm kimchi = new AutocompleteTerm("korea", "recipe", "김치");
+    private final AutocompleteTerm tofu = new AutocompleteTerm("korea", "recipe", "두부");
+
+    @BeforeEach
+    void setUp() {
+        contributionWriter = mock(AutocompleteContributionWriter.class);
+        contributionRepository = mock(AutocompleteContributionRepository.class);
+        bulkClient = mock(SearchIndexingBulkClient.class);
+        prefixIndex = mock(AutocompletePrefixIndex.class);
+        sut = new AutocompleteIncrementalIndexer(contributionWriter, contributionRepository, bulkClient, prefixIndex);
+    }
+
+    @Test
+    @DisplayName("반영 대기 용어를 다시 집계해 색인하고, 기여도가 사라진 용어는 삭제한 뒤 대기 목록에서 지운다")
+    void shouldIndexPendingTermsAndDeleteRemovedTerms() throws SearchException {
+        doReturn(List.of(kimchi, tofu)).when(contributionRepository).findPending(anyInt());
+        doReturn(List.of(new AutocompleteAggregateRow("korea", "두부", "recipe", 3)))
+                .when(contributionRepository)
+                .aggregate(List.of(kimchi, tofu));
+
+        sut.apply(Set.of(recipeId));
+
+        verify(contributionWriter).replace(Set.of(recipeId));
+        verify(bulkClient)
+                .bulkIndex(
+                        "autocomplete",
+                        List.of(new BulkIndexPayload(
+                                tofu.documentId(),
+                                Map.of("market", "korea", "scope", "recipe", "text", "두부", "count", 3))));
+        verify(bulkClient).bulkDelete("autocomplete", List.of(kimchi.documentId()));
+        verify(contributionRepository).deletePending(List.of(kimchi, tofu));
+        verify(prefixIndex).refresh();
+    }
+
+    @Test
+    @DisplayName("반영 대기 용어가 없으면 집계와 bulk 호출을 하지 않는다")
+    void shouldSkipWhenNothingPending() throws SearchException {
+        doReturn(List.of()).when(contributionRepository).findPending(anyInt());
+
+        sut.apply(Set.of(recipeId));
+
+        verify(contributionRepository, never()).aggregate(any());
+        verify(bulkClient, never()).bulkIndex(any(), anyList());
+        verify(bulkClient, never()).bulkDelete(any(), anyList());
+        verify(prefixIndex, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("bulk 반영에 실패하면 대기 용어를 지우지 않고 예외를 전파한다")
+    void shouldKeepPendingTermsWhenBulkFails() throws SearchException {
+        doReturn(List.of(kimchi)).when(contributionRepository).findPending(anyInt());
+        doReturn(List.of(new AutocompleteAggregateRow("korea", "김치", "recipe", 2)))
+                .when(contributionRepository)
+                .aggregate(List.of(kimchi));
+        doThrow(new SearchException(SearchErrorCode.SEARCH_FAILED))
+                .when(bulkClient)
+                .bulkIndex(any(), anyList());
+
+        assertThatThrownBy(() -> sut.apply(Set.of(recipeId))).isInstanceOf(SearchException.class);
+
+        verify(contributionRepository, never()).deletePending(anyList());
+        verify(prefixIndex, never()).refresh();
+    }
+}
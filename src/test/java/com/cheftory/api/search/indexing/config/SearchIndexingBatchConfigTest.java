@@ -3,18 +3,30 @@ package com.cheftory.api.search.indexing.config;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.cheftory.api._common.cursor.UpdatedAtIdCursor;
+import com.cheftory.api.search.autocomplete.AutocompletePrefixIndex;
 import com.cheftory.api.search.indexing.autocomplete.AutocompleteAggregateRow;
+import com.cheftory.api.search.indexing.autocomplete.AutocompleteContributionRepository;
+import com.cheftory.api.search.indexing.autocomplete.AutocompleteContributionRow;
+import com.cheftory.api.search.indexing.autocomplete.AutocompleteTerm;
+import com.cheftory.api.search.indexing.outbox.SearchIndexingOutboxRepository;
 import com.cheftory.api.search.indexing.query.SearchQueryDeleteRow;
+import com.cheftory.api.search.indexing.query.SearchQueryDocumentLoader;
+import com.cheftory.api.search.indexing.query.SearchQueryReindexPartitioner;
 import com.cheftory.api.search.indexing.query.SearchQueryUpsertRow;
 import com.cheftory.api.search.indexing.support.BulkIndexPayload;
 import com.cheftory.api.search.indexing.support.IndexingCursorJpaRepository;
 import com.cheftory.api.search.indexing.support.IndexingCursorRepository;
 import com.cheftory.api.search.indexing.support.SearchIndexingBulkClient;
+import com.cheftory.api.search.indexing.support.SearchIndexingTemplateClient;
+import com.cheftory.api.search.query.SearchQueryFirstPageCache;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
@@ -23,11 +35,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStreamReader;
@@ -62,16 +79,29 @@ public class SearchIndexingBatchConfigTest {
     @Autowired
     private IndexingCursorJpaRepository cursorJpaRepository;
 
+    private SearchQueryDocumentLoader documentLoader;
+    private AutocompleteContributionRepository contributionRepository;
     private SearchIndexingBatchConfig config;
+    private SearchQueryReindexBatchConfig reindexConfig;
 
     @BeforeEach
     void setUp() {
         registerMysqlCompatibility();
         clearAllTables();
         reset(bulkClient);
-        config = new SearchIndexingBatchConfig(dataSource, bulkClient, cursorRepository, new ObjectMapper());
+        documentLoader = new SearchQueryDocumentLoader(dataSource, new ObjectMapper(), "Asia/Seoul");
+        contributionRepository = new AutocompleteContributionRepository(dataSource);
+        config = new SearchIndexingBatchConfig(
+                dataSource, bulkClient, cursorRepository, documentLoader, contributionRepository);
         ReflectionTestUtils.setField(config, "batchSize", 250);
-        ReflectionTestUtils.setField(config, "timezone", "Asia/Seoul");
+        reindexConfig = new SearchQueryReindexBatchConfig(
+                dataSource,
+                bulkClient,
+                mock(SearchIndexingTemplateClient.class),
+                documentLoader,
+                mock(SearchIndexingOutboxRepository.class));
+        ReflectionTestUtils.setField(reindexConfig, "batchSize", 250);
+        ReflectionTestUtils.setField(reindexConfig, "partitionSize", 2);
     }
 
     @Test
@@ -88,7 +118,18 @@ public class SearchIndexingBatchConfigTest {
                 List.of("김치", "돼지고기"),
                 List.of("매운맛", "국물"),
                 LocalDateTime.of(2026, 3, 1, 10, 0, 0),
-                LocalDateTime.of(2026, 3, 1, 10, 5, 0));
+                LocalDateTime.of(2026, 3, 1, 10, 5, 0),
+                new SearchQueryUpsertRow.Card(
+                        "김치찌개 황금레시피",
+                        "video-1",
+                        "https://img.youtube.com/vi/video-1/hqdefault.jpg",
+                        600,
+                        "NORMAL",
+                        "description",
+                        2,
+                        20,
+                        15,
+                        1L));
         SearchQueryUpsertRow second = new SearchQueryUpsertRow(
                 "00000000-0000-0000-0000-000000000202",
                 "kr",
@@ -99,7 +140,8 @@ public class SearchIndexingBatchConfigTest {
                 List.of("된장", "두부"),
                 List.of("구수함"),
                 LocalDateTime.of(2026, 3, 1, 11, 0, 0),
-                LocalDateTime.of(2026, 3, 1, 11, 10, 0));
+                LocalDateTime.of(2026, 3, 1, 11, 10, 0),
+                null);
 
         writer.write(Chunk.of(first, second));
 
@@ -125,6 +167,17 @@ public class SearchIndexingBatchConfigTest {
                         .atZone(ZoneId.of("Asia/Seoul"))
                         .toInstant()
                         .toEpochMilli());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> card = (Map<String, Object>) document.get("card");
+        assertThat(card)
+                .containsEntry("video_title", "김치찌개 황금레시피")
+                .containsEntry("video_id", "video-1")
+                .containsEntry("video_type", "NORMAL")
+                .containsEntry("cook_time", 20)
+                .containsEntry("view_count", 15);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> secondDocument = (Map<String, Object>) payloads.get(1).document();
+        assertThat(secondDocument).doesNotContainKey("card");
 
         UpdatedAtIdCursor saved = cursorRepository.load("search-query-upsert");
         assertThat(saved.lastUpdatedAt()).isEqualTo(second.updatedAt());
@@ -182,6 +235,44 @@ public class SearchIndexingBatchConfigTest {
         assertThat(cursorRepository.load("search-query-delete")).isEqualTo(UpdatedAtIdCursor.initial());
     }
 
+    @Test
+    @DisplayName("search_query를 쓴 잡이 끝나면 검색 첫 페이지 캐시를 비우고, 쓴 건이 없으면 그대로 둔다")
+    void shouldInvalidateFirstPageCacheOnlyWhenJobWrote() {
+        SearchQueryFirstPageCache firstPageCache = mock(SearchQueryFirstPageCache.class);
+        SearchQueryCacheInvalidationListener listener = new SearchQueryCacheInvalidationListener(firstPageCache);
+        StepExecution idle = mock(StepExecution.class);
+        doReturn(0L).when(idle).getWriteCount();
+        StepExecution wrote = mock(StepExecution.class);
+        doReturn(3L).when(wrote).getWriteCount();
+        JobExecution idleJob = mock(JobExecution.class);
+        doReturn(List.of(idle)).when(idleJob).getStepExecutions();
+        JobExecution writingJob = mock(JobExecution.class);
+        doReturn(List.of(idle, wrote)).when(writingJob).getStepExecutions();
+
+        listener.afterJob(idleJob);
+        verify(firstPageCache, never()).invalidateAll();
+
+        listener.afterJob(writingJob);
+        verify(firstPageCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("자동완성 잡이 완료된 경우에만 접두사 인덱스를 다시 적재한다")
+    void shouldRefreshPrefixIndexOnlyAfterCompletedAutocompleteJob() {
+        AutocompletePrefixIndex prefixIndex = mock(AutocompletePrefixIndex.class);
+        JobExecutionListener listener = SearchIndexingBatchConfig.refreshPrefixIndexAfterJob(prefixIndex);
+        JobExecution failed = mock(JobExecution.class);
+        doReturn(BatchStatus.FAILED).when(failed).getStatus();
+        JobExecution completed = mock(JobExecution.class);
+        doReturn(BatchStatus.COMPLETED).when(completed).getStatus();
+
+        listener.afterJob(failed);
+        verify(prefixIndex, never()).refresh();
+
+        listener.afterJob(completed);
+        verify(prefixIndex).refresh();
+    }
+
     @Test
     @DisplayName("searchQueryUpsertReader는 커서와 upperBound를 파라미터로 설정한다")
     void shouldBuildReaderWithCursorAndUpperBoundForUpsert() throws Exception {
@@ -253,14 +344,14 @@ public class SearchIndexingBatchConfigTest {
     }
 
     @Test
-    @DisplayName("autocomplete reader 쿼리는 SUCCESS 집계와 market,text 정렬을 사용한다")
+    @DisplayName("autocomplete reader 쿼리는 기여도 테이블을 용어별로 집계하고 market,text 정렬을 사용한다")
     void shouldUseExpectedSortForAutocompleteReaderQuery() throws Exception {
         JdbcCursorItemReader<AutocompleteAggregateRow> reader = config.autocompleteReader();
         String sql = (String) ReflectionTestUtils.getField(reader, "sql");
 
-        assertThat(sql).contains("r.recipe_status = 'SUCCESS'");
-        assertThat(sql).containsIgnoringCase("GROUP BY all_text.market, all_text.text");
-        assertThat(sql).containsIgnoringCase("ORDER BY all_text.market ASC, all_text.text ASC");
+        assertThat(sql).containsIgnoringCase("FROM autocomplete_contribution");
+        assertThat(sql).containsIgnoringCase("GROUP BY c.market, c.scope, c.term");
+        assertThat(sql).containsIgnoringCase("ORDER BY c.market ASC, c.term ASC");
     }
 
     @Test
@@ -347,6 +438,51 @@ public class SearchIndexingBatchConfigTest {
         assertThat(rows.getFirst().keywords()).containsExactlyInAnyOrder("매운맛", "국물");
     }
 
+    @Test
+    @DisplayName("documentLoader는 유튜브 메타가 있으면 카드 값을 읽고, 제목은 상세 메타 제목을 우선한다")
+    void shouldLoadCardWithDetailTitle() {
+        UUID withMetaId = UUID.fromString("00000000-0000-0000-0000-000000000311");
+        UUID withoutMetaId = UUID.fromString("00000000-0000-0000-0000-000000000312");
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 10, 0, 0);
+        insertRecipe(withMetaId, "SUCCESS", time);
+        insertRecipe(withoutMetaId, "SUCCESS", time);
+        insertRecipeYoutubeMeta(withMetaId, "유튜브 제목", "채널A", time.minusMinutes(1));
+        insertRecipeDetailMeta(withMetaId, 3, time.minusMinutes(1));
+
+        Map<String, SearchQueryUpsertRow> rows = documentLoader.loadSuccessRows(List.of(withMetaId, withoutMetaId))
+                .stream()
+                .collect(Collectors.toMap(SearchQueryUpsertRow::id, row -> row));
+
+        SearchQueryUpsertRow.Card card = rows.get(withMetaId.toString()).card();
+        assertThat(card.videoTitle()).isEqualTo("title");
+        assertThat(card.videoType()).isEqualTo("NORMAL");
+        assertThat(card.videoSeconds()).isEqualTo(30);
+        assertThat(card.servings()).isEqualTo(3);
+        assertThat(card.cookTime()).isEqualTo(10);
+        assertThat(card.viewCount()).isZero();
+        assertThat(card.creditCost()).isEqualTo(1L);
+        assertThat(card.thumbnailUrl()).isNotNull();
+        assertThat(rows.get(withoutMetaId.toString()).card()).isNull();
+    }
+
+    @Test
+    @DisplayName("documentLoader는 주어진 ID 중 SUCCESS 레시피의 문서 행만 읽는다")
+    void shouldLoadSuccessRowsByIds() {
+        UUID successId = UUID.fromString("00000000-0000-0000-0000-000000000301");
+        UUID blockedId = UUID.fromString("00000000-0000-0000-0000-000000000302");
+        UUID otherId = UUID.fromString("00000000-0000-0000-0000-000000000303");
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 10, 0, 0);
+        insertRecipe(successId, "SUCCESS", time);
+        insertRecipe(blockedId, "BLOCKED", time);
+        insertRecipe(otherId, "SUCCESS", time);
+        insertRecipeIngredient(successId, "김치", time.minusMinutes(1));
+
+        List<SearchQueryUpsertRow> rows = documentLoader.loadSuccessRows(List.of(successId, blockedId));
+
+        assertThat(rows).extracting(SearchQueryUpsertRow::id).containsExactly(successId.toString());
+        assertThat(rows.getFirst().ingredients()).containsExactly("김치");
+    }
+
     @Test
     @DisplayName("searchQueryUpsertReader는 cursor/upperBound 조건으로 읽을 대상을 제한한다")
     void shouldFilterUpsertRowsByCursorAndUpperBound() throws Exception {
@@ -398,6 +534,7 @@ public class SearchIndexingBatchConfigTest {
         insertRecipeTag(successA, "매운맛", now);
         insertRecipeDetailMeta(successA, 2, now);
 
+        contributionRepository.rebuild();
         JdbcCursorItemReader<AutocompleteAggregateRow> reader = config.autocompleteReader();
         List<AutocompleteAggregateRow> rows = readAll(reader);
 
@@ -434,6 +571,7 @@ public class SearchIndexingBatchConfigTest {
         insertRecipeDetailMeta(second, 9, now);
         insertRecipeDetailMeta(third, 9, now);
 
+        contributionRepository.rebuild();
         JdbcCursorItemReader<AutocompleteAggregateRow> reader = config.autocompleteReader();
         List<AutocompleteAggregateRow> rows = readAll(reader);
 
@@ -457,6 +595,7 @@ public class SearchIndexingBatchConfigTest {
         insertRecipeTag(recipeId, "only-tag", now);
         insertRecipeDetailMeta(recipeId, 4, now);
 
+        contributionRepository.rebuild();
         JdbcCursorItemReader<AutocompleteAggregateRow> reader = config.autocompleteReader();
         List<AutocompleteAggregateRow> rows = readAll(reader);
 
@@ -482,6 +621,7 @@ public class SearchIndexingBatchConfigTest {
         insertRecipeIngredient(recipeB, "ba", now);
         insertRecipeIngredient(recipeB, "bb", now);
 
+        contributionRepository.rebuild();
         JdbcCursorItemReader<AutocompleteAggregateRow> reader = config.autocompleteReader();
         List<AutocompleteAggregateRow> rows = readAll(reader);
         List<String> texts = rows.stream()
@@ -496,6 +636,102 @@ public class SearchIndexingBatchConfigTest {
         assertThat(texts).containsExactly("aa", "ab", "ac", "ba", "bb");
     }
 
+    @Test
+    @DisplayName("contributionRepository.replace는 SUCCESS를 벗어난 레시피의 기여도를 지우고 남은 용어만 합산한다")
+    void shouldReplaceContributionsWhenRecipeLeavesSuccess() {
+        UUID staying = UUID.fromString("00000000-0000-0000-0000-000000000901");
+        UUID leaving = UUID.fromString("00000000-0000-0000-0000-000000000902");
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 15, 0, 0);
+        insertRecipe(staying, "SUCCESS", now);
+        insertRecipe(leaving, "SUCCESS", now);
+        insertRecipeIngredient(staying, "김치", now);
+        insertRecipeIngredient(leaving, "김치", now);
+        insertRecipeTag(leaving, "차단될태그", now);
+        contributionRepository.rebuild();
+
+        jdbcTemplate.update("UPDATE recipe SET recipe_status = 'BLOCKED' WHERE id = ?", leaving);
+        contributionRepository.replace(List.of(leaving));
+
+        assertThat(contributionRepository.findByRecipeIds(List.of(leaving))).isEmpty();
+        assertThat(contributionRepository.findByRecipeIds(List.of(staying)))
+                .extracting(AutocompleteContributionRow::weight)
+                .containsExactly(10);
+        List<AutocompleteAggregateRow> rows = contributionRepository.aggregate(List.of(
+                new AutocompleteTerm("kr", "recipe", "김치"), new AutocompleteTerm("kr", "recipe", "차단될태그")));
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.text()).isEqualTo("김치");
+            assertThat(row.count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("재색인 파티셔너는 market별 SUCCESS 레시피를 partitionSize개씩 id 구간으로 나눈다")
+    void shouldPartitionReindexByMarketAndIdRange() {
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 10, 0, 0);
+        insertRecipe(UUID.fromString("00000000-0000-0000-0000-000000000a01"), "SUCCESS", time);
+        insertRecipe(UUID.fromString("00000000-0000-0000-0000-000000000a02"), "SUCCESS", time);
+        insertRecipe(UUID.fromString("00000000-0000-0000-0000-000000000a03"), "SUCCESS", time);
+        insertRecipe(UUID.fromString("00000000-0000-0000-0000-000000000a04"), "BLOCKED", time);
+
+        Map<String, ExecutionContext> partitions =
+                new SearchQueryReindexPartitioner(dataSource, 2).partition(4);
+
+        assertThat(partitions).containsOnlyKeys("kr-0", "kr-1");
+        ExecutionContext first = partitions.get("kr-0");
+        assertThat(first.getString(SearchQueryReindexPartitioner.KEY_MARKET)).isEqualTo("KR");
+        assertThat(first.getString(SearchQueryReindexPartitioner.KEY_LOWER_ID))
+                .isEqualTo("00000000-0000-0000-0000-000000000000");
+        assertThat(first.getString(SearchQueryReindexPartitioner.KEY_UPPER_ID))
+                .isEqualTo("00000000-0000-0000-0000-000000000a02");
+        ExecutionContext second = partitions.get("kr-1");
+        assertThat(second.getString(SearchQueryReindexPartitioner.KEY_LOWER_ID))
+                .isEqualTo("00000000-0000-0000-0000-000000000a02");
+        assertThat(second.getString(SearchQueryReindexPartitioner.KEY_UPPER_ID))
+                .isEqualTo("ffffffff-ffff-ffff-ffff-ffffffffffff");
+    }
+
+    @Test
+    @DisplayName("재색인 reader는 파티션 구간의 SUCCESS 레시피만 id 오름차순으로 읽는다")
+    void shouldReadOnlyPartitionRangeForReindex() throws Exception {
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 10, 0, 0);
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000b01");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000b02");
+        UUID third = UUID.fromString("00000000-0000-0000-0000-000000000b03");
+        insertRecipe(first, "SUCCESS", time);
+        insertRecipe(second, "SUCCESS", time);
+        insertRecipe(third, "SUCCESS", time);
+        insertRecipe(UUID.fromString("00000000-0000-0000-0000-000000000b04"), "FAILED", time);
+
+        JdbcCursorItemReader<SearchQueryUpsertRow> reader = reindexConfig.searchQueryReindexReader(
+                "KR", first.toString(), "ffffffff-ffff-ffff-ffff-ffffffffffff");
+        List<SearchQueryUpsertRow> rows = readAll(reader);
+
+        assertThat(rows)
+                .extracting(SearchQueryUpsertRow::id)
+                .containsExactly(second.toString(), third.toString());
+    }
+
+    @Test
+    @DisplayName("재색인 writer는 alias가 아닌 대상 버전 인덱스에 bulk 색인한다")
+    void shouldBulkIndexIntoTargetIndexForReindexWriter() throws Exception {
+        SearchQueryUpsertRow row = new SearchQueryUpsertRow(
+                "00000000-0000-0000-0000-000000000c01",
+                "kr",
+                "김치찌개",
+                "채널A",
+                "recipe",
+                "2인분",
+                List.of("김치"),
+                List.of(),
+                LocalDateTime.of(2026, 3, 1, 10, 0, 0),
+                LocalDateTime.of(2026, 3, 1, 10, 5, 0),
+                null);
+
+        reindexConfig.searchQueryReindexWriter("search_query_20260301100000").write(Chunk.of(row));
+
+        verify(bulkClient).bulkIndex("search_query_20260301100000", List.of(documentLoader.toPayload(row)));
+    }
+
     @Test
     @DisplayName("reader 생성 시 upperBound 포맷이 잘못되면 예외를 던진다")
     void shouldThrowWhenUpperBoundUpdatedAtIsInvalid() {
@@ -537,6 +773,7 @@ public class SearchIndexingBatchConfigTest {
 
     private void clearAllTables() {
         cursorJpaRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM autocomplete_contribution");
         jdbcTemplate.update("DELETE FROM recipe_tag");
         jdbcTemplate.update("DELETE FROM recipe_ingredient");
         jdbcTemplate.update("DELETE FROM recipe_detail_meta");
@@ -0,0 +1,172 @@
+package com.cheftory.api.search.indexing.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api.search.exception.SearchErrorCode;
+import com.cheftory.api.search.exception.SearchException;
+import com.cheftory.api.search.indexing.autocomplete.AutocompleteIncrementalIndexer;
+import com.cheftory.api.search.indexing.query.SearchQueryDocumentLoader;
+import com.cheftory.api.search.indexing.query.SearchQueryUpsertRow;
+import com.cheftory.api.search.indexing.support.BulkIndexPayload;
+import com.cheftory.api.search.indexing.support.SearchIndexingBulkClient;
+import com.cheftory.api.search.query.SearchQueryFirstPageCache;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("SearchIndexingOutboxWorker 테스트")
+class SearchIndexingOutboxWorkerTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_BATCHES = 3;
+
+    private SearchIndexingOutboxRepository outboxRepository;
+    private SearchQueryDocumentLoader documentLoader;
+    private SearchIndexingBulkClient bulkClient;
+    private AutocompleteIncrementalIndexer autocompleteIndexer;
+    private SearchQueryFirstPageCache searchQueryFirstPageCache;
+    private Clock clock;
+    private SearchIndexingOutboxWorker sut;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(SearchIndexingOutboxRepository.class);
+        documentLoader = mock(SearchQueryDocumentLoader.class);
+        bulkClient = mock(SearchIndexingBulkClient.class);
+        autocompleteIndexer = mock(AutocompleteIncrementalIndexer.class);
+        searchQueryFirstPageCache = mock(SearchQueryFirstPageCache.class);
+        clock = mock(Clock.class);
+        doReturn(LocalDateTime.of(2026, 3, 1, 10, 0)).when(clock).now();
+        doReturn(List.of()).when(outboxRepository).findOldest(anyInt());
+        sut = new SearchIndexingOutboxWorker(
+                outboxRepository,
+                documentLoader,
+                bulkClient,
+                autocompleteIndexer,
+                searchQueryFirstPageCache,
+                BATCH_SIZE,
+                MAX_BATCHES);
+    }
+
+    private SearchQueryUpsertRow row(UUID recipeId) {
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 10, 0);
+        return new SearchQueryUpsertRow(
+                recipeId.toString(), "kr", "김치찌개", "채널", "recipe", "2인분", List.of(), List.of(), at, at, null);
+    }
+
+    @Test
+    @DisplayName("SUCCESS 레시피는 색인하고 나머지는 삭제한 뒤 이벤트를 지운다")
+    void shouldIndexSuccessAndDeleteOthers() throws SearchException {
+        UUID success = UUID.randomUUID();
+        UUID blocked = UUID.randomUUID();
+        List<SearchIndexingOutbox> events =
+                List.of(SearchIndexingOutbox.create(success, clock), SearchIndexingOutbox.create(blocked, clock));
+        doReturn(events).when(outboxRepository).findOldest(BATCH_SIZE);
+        SearchQueryUpsertRow successRow = row(success);
+        doReturn(List.of(successRow)).when(documentLoader).loadSuccessRows(any());
+        BulkIndexPayload payload = new BulkIndexPayload(success.toString(), Map.of());
+        doReturn(payload).when(documentLoader).toPayload(successRow);
+
+        int drained = sut.drainBatch();
+
+        assertThat(drained).isEqualTo(2);
+        verify(bulkClient).bulkIndex("search_query", List.of(payload));
+        verify(bulkClient).bulkDelete("search_query", List.of(blocked.toString()));
+        verify(autocompleteIndexer).apply(Set.of(success, blocked));
+        verify(searchQueryFirstPageCache).invalidateAll();
+        verify(outboxRepository).delete(events);
+    }
+
+    @Test
+    @DisplayName("같은 레시피의 이벤트가 여러 개면 한 번만 조회한다")
+    void shouldDeduplicateRecipeIds() throws SearchException {
+        UUID recipeId = UUID.randomUUID();
+        List<SearchIndexingOutbox> events =
+                List.of(SearchIndexingOutbox.create(recipeId, clock), SearchIndexingOutbox.create(recipeId, clock));
+        doReturn(events).when(outboxRepository).findOldest(BATCH_SIZE);
+        doReturn(List.of()).when(documentLoader).loadSuccessRows(any());
+
+        sut.drainBatch();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(documentLoader).loadSuccessRows(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactly(recipeId);
+        verify(bulkClient).bulkDelete("search_query", List.of(recipeId.toString()));
+    }
+
+    @Test
+    @DisplayName("bulk 반영에 실패하면 이벤트를 남겨 다음 주기에 재시도한다")
+    void shouldKeepEventsWhenBulkFails() throws SearchException {
+        List<SearchIndexingOutbox> events = List.of(SearchIndexingOutbox.create(UUID.randomUUID(), clock));
+        doReturn(events).when(outboxRepository).findOldest(BATCH_SIZE);
+        doReturn(List.of()).when(documentLoader).loadSuccessRows(any());
+        doThrow(new SearchException(SearchErrorCode.SEARCH_FAILED))
+                .when(bulkClient)
+                .bulkDelete(eq("search_query"), anyList());
+
+        int drained = sut.drainBatch();
+
+        assertThat(drained).isZero();
+        verify(searchQueryFirstPageCache, never()).invalidateAll();
+        verify(outboxRepository, never()).delete(anyList());
+    }
+
+    @Test
+    @DisplayName("자동완성 반영에 실패해도 이벤트를 남긴다")
+    void shouldKeepEventsWhenAutocompleteFails() throws SearchException {
+        List<SearchIndexingOutbox> events = List.of(SearchIndexingOutbox.create(UUID.randomUUID(), clock));
+        doReturn(events).when(outboxRepository).findOldest(BATCH_SIZE);
+        doReturn(List.of()).when(documentLoader).loadSuccessRows(any());
+        doThrow(new SearchException(SearchErrorCode.SEARCH_FAILED))
+                .when(autocompleteIndexer)
+                .apply(any());
+
+        int drained = sut.drainBatch();
+
+        assertThat(drained).isZero();
+        verify(outboxRepository, never()).delete(anyList());
+    }
+
+    @Test
+    @DisplayName("이벤트가 없으면 외부 호출 없이 종료한다")
+    void shouldNoOpWhenEmpty() throws SearchException {
+        sut.drain();
+
+        verify(outboxRepository, times(1)).findOldest(BATCH_SIZE);
+        verify(bulkClient, never()).bulkIndex(any(), anyList());
+        verify(bulkClient, never()).bulkDelete(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 최대 배치 수까지 이어서 처리한다")
+    void shouldContinueWhileBatchesAreFull() {
+        List<SearchIndexingOutbox> events = List.of(
+                SearchIndexingOutbox.create(UUID.randomUUID(), clock),
+                SearchIndexingOutbox.create(UUID.randomUUID(), clock));
+        doReturn(events).when(outboxRepository).findOldest(BATCH_SIZE);
+        doReturn(List.of()).when(documentLoader).loadSuccessRows(any());
+
+        sut.drain();
+
+        verify(outboxRepository, times(MAX_BATCHES)).findOldest(BATCH_SIZE);
+    }
+}
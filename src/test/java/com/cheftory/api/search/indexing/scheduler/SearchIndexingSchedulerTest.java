@@ -40,6 +40,9 @@ class SearchIndexingSchedulerTest {
     @Mock
     private Job searchQueryDeleteIndexJob;
 
+    @Mock
+    private Job searchQueryReindexJob;
+
     @Mock
     private JobExecution jobExecution;
 
@@ -48,7 +51,12 @@ class SearchIndexingSchedulerTest {
     @BeforeEach
     void setUp() {
         scheduler = new SearchIndexingScheduler(
-                jobOperator, clock, autocompleteIndexJob, searchQueryUpsertIndexJob, searchQueryDeleteIndexJob);
+                jobOperator,
+                clock,
+                autocompleteIndexJob,
+                searchQueryUpsertIndexJob,
+                searchQueryDeleteIndexJob,
+                searchQueryReindexJob);
     }
 
     @Test
@@ -117,6 +125,28 @@ class SearchIndexingSchedulerTest {
         assertThat(parameters.getString("upperBoundUpdatedAt")).isEqualTo(now.toString());
     }
 
+    @Test
+    @DisplayName("검색어 전체 재색인 잡은 시작 시각의 버전 인덱스를 targetIndex로 넘긴다")
+    void shouldStartSearchQueryReindexJobWithTargetIndex() throws Exception {
+        long nowMillis = 1_700_000_000_789L;
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 15, 4, 5);
+        when(clock.nowMillis()).thenReturn(nowMillis);
+        when(clock.now()).thenReturn(now);
+        when(jobExecution.getId()).thenReturn(401L);
+        when(jobOperator.start(eq(searchQueryReindexJob), any(JobParameters.class)))
+                .thenReturn(jobExecution);
+
+        scheduler.runSearchQueryReindexJob();
+
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobOperator).start(eq(searchQueryReindexJob), captor.capture());
+
+        JobParameters parameters = captor.getValue();
+        assertThat(parameters.getString("runId")).isEqualTo("searchQueryReindexJob-" + nowMillis);
+        assertThat(parameters.getString("upperBoundUpdatedAt")).isEqualTo(now.toString());
+        assertThat(parameters.getString("targetIndex")).isEqualTo("search_query_20260301150405");
+    }
+
     @Test
     @DisplayName("잡 시작 예외가 발생해도 스케줄러 호출은 예외를 던지지 않는다")
     void shouldSwallowExceptionWhenStartFails() throws Exception {
@@ -1,37 +1,109 @@
 package com.cheftory.api.search.indexing.support;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.BulkRequest;
 import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.util.ObjectBuilder;
+import tools.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OpenSearchBulkClient 테스트")
 class OpenSearchBulkClientTest {
 
+    private static final int MAX_RETRIES = 2;
+    private static final long TARGET_TOOK_MS = 1000;
+
     @Mock
     private OpenSearchClient openSearchClient;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private OpenSearchBulkClient bulkClient;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkClient = client(5_242_880L, 500);
+    }
+
+    private OpenSearchBulkClient client(long maxBytes, int initialActions) {
+        return new OpenSearchBulkClient(
+                openSearchClient,
+                new ObjectMapper(),
+                meterRegistry,
+                2,
+                maxBytes,
+                initialActions,
+                1,
+                2000,
+                TARGET_TOOK_MS,
+                MAX_RETRIES,
+                0,
+                0);
+    }
+
+    private static BulkResponseItem ok(String id) {
+        return BulkResponseItem.of(i -> i.operationType(OperationType.Index)
+                .index("search_query")
+                .id(id)
+                .status(200));
+    }
+
+    private static BulkResponseItem error(String id, int status, String type) {
+        return BulkResponseItem.of(i -> i.operationType(OperationType.Index)
+                .index("search_query")
+                .id(id)
+                .status(status)
+                .error(e -> e.type(type).reason(type)));
+    }
+
+    private static BulkResponse response(long took, BulkResponseItem... items) {
+        boolean errors = List.of(items).stream().anyMatch(item -> item.error() != null);
+        return BulkResponse.of(b -> b.errors(errors).took(took).items(List.of(items)));
+    }
+
+    private static List<BulkIndexPayload> payloads(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new BulkIndexPayload("id-" + i, Map.of("title", "kimchi-" + i)))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BulkRequest> capturedRequests(int expectedCalls) throws IOException {
+        ArgumentCaptor<Function> captor = ArgumentCaptor.forClass(Function.class);
+        verify(openSearchClient, times(expectedCalls)).bulk(captor.capture());
+        return captor.getAllValues().stream()
+                .map(function -> ((Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>>) function)
+                        .apply(new BulkRequest.Builder())
+                        .build())
+                .toList();
+    }
+
     @Test
     @DisplayName("bulkIndex는 payload가 비어 있으면 OpenSearch를 호출하지 않는다")
     void shouldSkipBulkIndexWhenPayloadsEmpty() throws SearchException {
@@ -41,34 +113,32 @@ class OpenSearchBulkClientTest {
     }
 
     @Test
-    @DisplayName("bulkIndex는 OpenSearch 응답에 에러가 없으면 정상 종료한다")
+    @DisplayName("bulkIndex는 OpenSearch 응답에 에러가 없으면 정상 종료하고 성공 건수를 기록한다")
     void shouldBulkIndexSuccessfully() throws Exception {
-        BulkResponse response =
-                BulkResponse.of(b -> b.errors(false).took(1L).items(i -> i.operationType(OperationType.Index)
-                        .index("search_query")
-                        .id("id-1")
-                        .status(200)));
-        when(openSearchClient.bulk(any(Function.class))).thenReturn(response);
+        when(openSearchClient.bulk(any(Function.class))).thenReturn(response(1L, ok("id-1")));
 
         bulkClient.bulkIndex("search_query", List.of(new BulkIndexPayload("id-1", Map.of("title", "kimchi"))));
 
         verify(openSearchClient).bulk(any(Function.class));
+        assertThat(meterRegistry
+                        .get(OpenSearchBulkClient.DOCS_METRIC)
+                        .tag("index", "search_query")
+                        .tag("result", "success")
+                        .counter()
+                        .count())
+                .isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("bulkIndex는 부분 실패 응답이면 SEARCH_FAILED 예외를 던진다")
+    @DisplayName("bulkIndex는 재시도할 수 없는 항목 오류가 있으면 SEARCH_FAILED 예외를 던진다")
     void shouldThrowSearchExceptionWhenBulkIndexHasFailures() throws Exception {
-        BulkResponse response =
-                BulkResponse.of(b -> b.errors(true).took(2L).items(i -> i.operationType(OperationType.Index)
-                        .index("search_query")
-                        .id("id-1")
-                        .status(400)
-                        .error(e -> e.type("mapper_parsing_exception").reason("failed to parse field"))));
-        when(openSearchClient.bulk(any(java.util.function.Function.class))).thenReturn(response);
+        when(openSearchClient.bulk(any(Function.class)))
+                .thenReturn(response(2L, error("id-1", 400, "mapper_parsing_exception")));
 
         assertThatThrownBy(() -> bulkClient.bulkIndex("search_query", List.of(new BulkIndexPayload("id-1", Map.of()))))
                 .isInstanceOf(SearchException.class)
                 .hasFieldOrPropertyWithValue("error", SearchErrorCode.SEARCH_FAILED);
+        verify(openSearchClient, times(1)).bulk(any(Function.class));
     }
 
     @Test
@@ -80,13 +150,127 @@ class OpenSearchBulkClientTest {
     }
 
     @Test
-    @DisplayName("bulkDelete는 OpenSearch 예외를 SEARCH_FAILED 예외로 변환한다")
+    @DisplayName("bulkDelete는 재시도할 수 없는 OpenSearch 예외를 SEARCH_FAILED 예외로 변환한다")
     void shouldWrapBulkDeleteException() throws Exception {
-        when(openSearchClient.bulk(any(java.util.function.Function.class))).thenThrow(new IOException("io error"));
+        when(openSearchClient.bulk(any(Function.class))).thenThrow(new IllegalStateException("broken"));
 
         assertThatThrownBy(() -> bulkClient.bulkDelete("search_query", List.of("id-1")))
                 .isInstanceOf(SearchException.class)
                 .hasFieldOrPropertyWithValue("error", SearchErrorCode.SEARCH_FAILED)
-                .hasCauseInstanceOf(IOException.class);
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Nested
+    @DisplayName("요청 분할")
+    class Split {
+
+        @Test
+        @DisplayName("현재 요청 건수를 넘는 항목은 여러 _bulk 요청으로 나눠 보낸다")
+        void shouldSplitByActionCount() throws Exception {
+            OpenSearchBulkClient sut = client(5_242_880L, 2);
+            when(openSearchClient.bulk(any(Function.class))).thenReturn(response(1L, ok("a"), ok("b")));
+
+            sut.bulkIndex("search_query", payloads(5));
+
+            assertThat(capturedRequests(3))
+                    .extracting(request -> request.operations().size())
+                    .containsExactlyInAnyOrder(2, 2, 1);
+        }
+
+        @Test
+        @DisplayName("바이트 상한을 넘으면 건수와 관계없이 요청을 나눈다")
+        void shouldSplitByPayloadBytes() throws Exception {
+            OpenSearchBulkClient sut = client(100L, 500);
+            when(openSearchClient.bulk(any(Function.class))).thenReturn(response(1L, ok("a")));
+
+            sut.bulkIndex("search_query", payloads(3));
+
+            assertThat(capturedRequests(3))
+                    .extracting(request -> request.operations().size())
+                    .containsOnly(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("거절 재시도")
+    class Retry {
+
+        @Test
+        @DisplayName("429로 거절된 항목만 다시 보낸다")
+        void shouldRetryOnlyRejectedItems() throws Exception {
+            when(openSearchClient.bulk(any(Function.class)))
+                    .thenReturn(response(1L, ok("id-0"), error("id-1", 429, "es_rejected_execution_exception")))
+                    .thenReturn(response(1L, ok("id-1")));
+
+            bulkClient.bulkIndex("search_query", payloads(2));
+
+            List<BulkRequest> requests = capturedRequests(2);
+            assertThat(requests.get(0).operations()).hasSize(2);
+            assertThat(requests.get(1).operations()).singleElement().satisfies(operation -> assertThat(
+                            operation.index().id())
+                    .isEqualTo("id-1"));
+            assertThat(meterRegistry
+                            .get(OpenSearchBulkClient.REJECTED_METRIC)
+                            .tag("index", "search_query")
+                            .counter()
+                            .count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("재시도 횟수를 넘겨도 거절되면 SEARCH_FAILED 예외를 던진다")
+        void shouldFailWhenRetriesExhausted() throws Exception {
+            when(openSearchClient.bulk(any(Function.class)))
+                    .thenReturn(response(1L, error("id-0", 503, "unavailable")));
+
+            assertThatThrownBy(() -> bulkClient.bulkIndex("search_query", payloads(1)))
+                    .isInstanceOf(SearchException.class)
+                    .hasFieldOrPropertyWithValue("error", SearchErrorCode.SEARCH_FAILED);
+            verify(openSearchClient, times(MAX_RETRIES + 1)).bulk(any(Function.class));
+        }
+
+        @Test
+        @DisplayName("IOException은 요청 전체를 다시 보낸다")
+        void shouldRetryWholeRequestOnIOException() throws Exception {
+            when(openSearchClient.bulk(any(Function.class)))
+                    .thenThrow(new IOException("connection reset"))
+                    .thenReturn(response(1L, ok("id-0")));
+
+            bulkClient.bulkDelete("search_query", List.of("id-0"));
+
+            verify(openSearchClient, times(2)).bulk(any(Function.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("적응형 요청 건수")
+    class AdaptiveSize {
+
+        @Test
+        @DisplayName("took이 목표보다 길면 절반으로 줄이고, 목표의 절반보다 짧으면 25% 늘린다")
+        void shouldAdjustByTook() {
+            OpenSearchBulkClient.AdaptiveBatchSize size =
+                    new OpenSearchBulkClient.AdaptiveBatchSize(400, 50, 1000, TARGET_TOOK_MS);
+
+            size.observe(TARGET_TOOK_MS + 1);
+            assertThat(size.current()).isEqualTo(200);
+
+            size.observe(TARGET_TOOK_MS / 2 - 1);
+            assertThat(size.current()).isEqualTo(250);
+
+            size.observe(TARGET_TOOK_MS * 3 / 4);
+            assertThat(size.current()).isEqualTo(250);
+        }
+
+        @Test
+        @DisplayName("거절되면 절반으로 줄이되 최소값 아래로는 내려가지 않는다")
+        void shouldHalveOnRejectionWithinBounds() {
+            OpenSearchBulkClient.AdaptiveBatchSize size =
+                    new OpenSearchBulkClient.AdaptiveBatchSize(80, 50, 1000, TARGET_TOOK_MS);
+
+            size.onRejected();
+
+            assertThat(size.current()).isEqualTo(50);
+        }
     }
 }
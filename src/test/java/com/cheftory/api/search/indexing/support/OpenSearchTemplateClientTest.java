@@ -10,7 +10,9 @@ import static org.mockito.Mockito.when;
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,8 +26,14 @@ import org.opensearch.client.opensearch.generic.OpenSearchGenericClient;
 import org.opensearch.client.opensearch.generic.Request;
 import org.opensearch.client.opensearch.generic.Response;
 import org.opensearch.client.opensearch.indices.CreateIndexResponse;
+import org.opensearch.client.opensearch.indices.GetIndexResponse;
+import org.opensearch.client.opensearch.indices.IndexState;
 import org.opensearch.client.opensearch.indices.OpenSearchIndicesClient;
+import org.opensearch.client.opensearch.indices.UpdateAliasesRequest;
+import org.opensearch.client.opensearch.indices.UpdateAliasesResponse;
+import org.opensearch.client.opensearch.indices.update_aliases.Action;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.util.ObjectBuilder;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OpenSearchTemplateClient 테스트")
@@ -93,6 +101,33 @@ class OpenSearchTemplateClientTest {
                 .hasCauseInstanceOf(IOException.class);
     }
 
+    @Test
+    @DisplayName("putMapping은 인덱스의 _mapping 엔드포인트에 PUT 요청을 보낸다")
+    void shouldPutMappingToIndex() throws Exception {
+        when(openSearchClient.generic()).thenReturn(genericClient);
+        when(genericClient.execute(any(Request.class))).thenReturn(genericResponse);
+        when(genericResponse.getStatus()).thenReturn(200);
+
+        templateClient.putMapping("search_query", "{\"properties\":{}}");
+
+        ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(genericClient).execute(captor.capture());
+        assertThat(captor.getValue().getMethod()).isEqualTo("PUT");
+        assertThat(captor.getValue().getEndpoint()).isEqualTo("/search_query/_mapping");
+    }
+
+    @Test
+    @DisplayName("putMapping은 3xx 이상 응답이면 SEARCH_FAILED 예외를 던진다")
+    void shouldThrowWhenPutMappingStatusIsError() throws Exception {
+        when(openSearchClient.generic()).thenReturn(genericClient);
+        when(genericClient.execute(any(Request.class))).thenReturn(genericResponse);
+        when(genericResponse.getStatus()).thenReturn(400);
+
+        assertThatThrownBy(() -> templateClient.putMapping("search_query", "{\"properties\":{}}"))
+                .isInstanceOf(SearchException.class)
+                .hasFieldOrPropertyWithValue("error", SearchErrorCode.SEARCH_FAILED);
+    }
+
     @Test
     @DisplayName("ensureIndexExists는 인덱스가 이미 있으면 create를 호출하지 않는다")
     void shouldSkipCreateWhenIndexExists() throws Exception {
@@ -128,4 +163,90 @@ class OpenSearchTemplateClientTest {
                 .isInstanceOf(SearchException.class)
                 .hasFieldOrPropertyWithValue("error", SearchErrorCode.SEARCH_FAILED);
     }
+
+    @Test
+    @DisplayName("ensureAliasExists는 같은 이름의 인덱스나 alias가 있으면 create를 호출하지 않는다")
+    void shouldSkipAliasCreationWhenNameExists() throws Exception {
+        when(openSearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.exists(any(Function.class))).thenReturn(new BooleanResponse(true));
+
+        templateClient.ensureAliasExists("search_query", "search_query_20260301100000");
+
+        verify(indicesClient, never()).create(any(Function.class));
+    }
+
+    @Test
+    @DisplayName("ensureAliasExists는 이름이 비어 있으면 초기 버전 인덱스를 alias와 함께 만든다")
+    void shouldCreateInitialIndexWithAlias() throws Exception {
+        when(openSearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.exists(any(Function.class))).thenReturn(new BooleanResponse(false));
+        when(indicesClient.create(any(Function.class)))
+                .thenReturn(CreateIndexResponse.of(
+                        b -> b.acknowledged(true).shardsAcknowledged(true).index("search_query_20260301100000")));
+
+        templateClient.ensureAliasExists("search_query", "search_query_20260301100000");
+
+        verify(indicesClient).create(any(Function.class));
+    }
+
+    @Test
+    @DisplayName("swapAlias는 alias와 같은 이름의 실제 인덱스를 같은 요청에서 삭제하며 alias를 연결한다")
+    @SuppressWarnings("unchecked")
+    void shouldReplaceConcreteIndexWithAlias() throws Exception {
+        when(openSearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.exists(any(Function.class))).thenReturn(new BooleanResponse(true));
+        when(indicesClient.get(any(Function.class)))
+                .thenReturn(GetIndexResponse.of(b -> b.result("search_query", IndexState.of(i -> i))));
+        when(indicesClient.updateAliases(any(Function.class)))
+                .thenReturn(UpdateAliasesResponse.of(b -> b.acknowledged(true)));
+
+        templateClient.swapAlias("search_query", "search_query_20260301100000");
+
+        ArgumentCaptor<Function> captor = ArgumentCaptor.forClass(Function.class);
+        verify(indicesClient).updateAliases(captor.capture());
+        UpdateAliasesRequest request =
+                ((Function<UpdateAliasesRequest.Builder, ObjectBuilder<UpdateAliasesRequest>>) captor.getValue())
+                        .apply(new UpdateAliasesRequest.Builder())
+                        .build();
+        List<Action> actions = request.actions();
+        assertThat(actions).hasSize(2);
+        assertThat(actions.get(0).add().index()).isEqualTo("search_query_20260301100000");
+        assertThat(actions.get(0).add().alias()).isEqualTo("search_query");
+        assertThat(actions.get(1).removeIndex().index()).isEqualTo("search_query");
+    }
+
+    @Test
+    @DisplayName("swapAlias는 이전 버전 인덱스에서 alias만 떼어 낸다")
+    @SuppressWarnings("unchecked")
+    void shouldMoveAliasFromPreviousVersion() throws Exception {
+        when(openSearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.exists(any(Function.class))).thenReturn(new BooleanResponse(true));
+        when(indicesClient.get(any(Function.class)))
+                .thenReturn(GetIndexResponse.of(b -> b.result("search_query_20260201100000", IndexState.of(i -> i))));
+        when(indicesClient.updateAliases(any(Function.class)))
+                .thenReturn(UpdateAliasesResponse.of(b -> b.acknowledged(true)));
+
+        templateClient.swapAlias("search_query", "search_query_20260301100000");
+
+        ArgumentCaptor<Function> captor = ArgumentCaptor.forClass(Function.class);
+        verify(indicesClient).updateAliases(captor.capture());
+        List<Action> actions =
+                ((Function<UpdateAliasesRequest.Builder, ObjectBuilder<UpdateAliasesRequest>>) captor.getValue())
+                        .apply(new UpdateAliasesRequest.Builder())
+                        .build()
+                        .actions();
+        assertThat(actions).hasSize(2);
+        assertThat(actions.get(1).remove().index()).isEqualTo("search_query_20260201100000");
+        assertThat(actions.get(1).remove().alias()).isEqualTo("search_query");
+    }
+
+    @Test
+    @DisplayName("resolveIndices는 이름이 없으면 조회하지 않고 빈 집합을 반환한다")
+    void shouldReturnEmptyWhenNameMissing() throws Exception {
+        when(openSearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.exists(any(Function.class))).thenReturn(new BooleanResponse(false));
+
+        assertThat(templateClient.resolveIndices("search_query")).isEmpty();
+        verify(indicesClient, never()).get(any(Function.class));
+    }
 }
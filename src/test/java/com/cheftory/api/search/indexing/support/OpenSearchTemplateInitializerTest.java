@@ -4,10 +4,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.when;
 
+import com.cheftory.api._common.Clock;
 import com.cheftory.api.search.exception.SearchErrorCode;
 import com.cheftory.api.search.exception.SearchException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,19 +33,25 @@ class OpenSearchTemplateInitializerTest {
     @Mock
     private ResourceLoader resourceLoader;
 
+    @Mock
+    private Clock clock;
+
     @InjectMocks
     private OpenSearchTemplateInitializer initializer;
 
     @Test
-    @DisplayName("실행 시 템플릿 적용 후 인덱스를 보장한다")
+    @DisplayName("실행 시 템플릿 적용 후 자동완성 인덱스와 검색어 alias를 보장하고 추가 매핑을 반영한다")
     void shouldApplyTemplatesAndEnsureIndices() throws Exception {
 
         ReflectionTestUtils.setField(initializer, "enabled", true);
+        when(clock.now()).thenReturn(LocalDateTime.of(2026, 3, 1, 10, 0, 0));
 
         when(resourceLoader.getResource("classpath:opensearch/templates/autocomplete-template.json"))
                 .thenReturn(asResource("{\"name\":\"autocomplete\"}"));
         when(resourceLoader.getResource("classpath:opensearch/templates/search-query-template.json"))
                 .thenReturn(asResource("{\"name\":\"search_query\"}"));
+        when(resourceLoader.getResource("classpath:opensearch/mappings/search-query-mapping.json"))
+                .thenReturn(asResource("{\"properties\":{}}"));
 
         initializer.run(new DefaultApplicationArguments(new String[] {}));
 
@@ -51,7 +59,8 @@ class OpenSearchTemplateInitializerTest {
         inOrder.verify(templateClient).putIndexTemplate("autocomplete", "{\"name\":\"autocomplete\"}");
         inOrder.verify(templateClient).putIndexTemplate("search_query", "{\"name\":\"search_query\"}");
         inOrder.verify(templateClient).ensureIndexExists("autocomplete");
-        inOrder.verify(templateClient).ensureIndexExists("search_query");
+        inOrder.verify(templateClient).ensureAliasExists("search_query", "search_query_20260301100000");
+        inOrder.verify(templateClient).putMapping("search_query", "{\"properties\":{}}");
     }
 
     @Test
@@ -0,0 +1,187 @@
+package com.cheftory.api.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.cheftory.api._common.Clock;
+import com.cheftory.api.search.exception.SearchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SearchPitPool 테스트")
+class SearchPitPoolTest {
+
+    private static final long ROTATE_AFTER = 60_000;
+    private static final long CLOSE_GRACE = 180_000;
+    private static final long DRAIN_TIMEOUT = 120_000;
+
+    private SearchQueryRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private SearchPitPool sut;
+
+    @BeforeEach
+    void setUp() throws SearchException {
+        repository = mock(SearchQueryRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(1_700_000_000_000L);
+        Clock clock = mock(Clock.class);
+        doAnswer(inv -> now.get()).when(clock).nowMillis();
+        AtomicInteger sequence = new AtomicInteger();
+        doAnswer(inv -> "pit-" + sequence.incrementAndGet()).when(repository).createPitId();
+        sut = new SearchPitPool(repository, clock, meterRegistry, ROTATE_AFTER, CLOSE_GRACE, DRAIN_TIMEOUT);
+    }
+
+    private double live() {
+        return meterRegistry.get(SearchPitPool.LIVE_METRIC_NAME).gauge().value();
+    }
+
+    private double sessions() {
+        return meterRegistry.get(SearchPitPool.SESSIONS_METRIC_NAME).gauge().value();
+    }
+
+    @Nested
+    @DisplayName("acquire")
+    class Acquire {
+
+        @Test
+        @DisplayName("교체 주기 안에서는 같은 PIT를 공유한다")
+        void shouldShareCurrentPit() throws SearchException {
+            String first = sut.acquire();
+            now.addAndGet(ROTATE_AFTER - 1);
+            String second = sut.acquire();
+
+            assertThat(second).isEqualTo(first);
+            verify(repository, times(1)).createPitId();
+            assertThat(live()).isEqualTo(1);
+            assertThat(sessions()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("교체 주기가 지나면 새 PIT를 열고 이전 PIT는 세션이 끝날 때까지 유지한다")
+        void shouldRotateAfterInterval() throws SearchException {
+            String first = sut.acquire();
+            now.addAndGet(ROTATE_AFTER);
+
+            String second = sut.acquire();
+
+            assertThat(second).isNotEqualTo(first);
+            assertThat(live()).isEqualTo(2);
+            verify(repository, never()).closePit(first);
+        }
+    }
+
+    @Nested
+    @DisplayName("release")
+    class Release {
+
+        @Test
+        @DisplayName("현재 PIT는 세션이 모두 끝나도 닫지 않는다")
+        void shouldKeepCurrentPit() throws SearchException {
+            String pitId = sut.acquire();
+
+            sut.release(pitId);
+
+            verify(repository, never()).closePit(pitId);
+            assertThat(sessions()).isZero();
+        }
+
+        @Test
+        @DisplayName("퇴역한 PIT는 유예 시간이 지난 뒤 마지막 세션이 끝나면 닫는다")
+        void shouldCloseRetiredPitOnLastRelease() throws SearchException {
+            String old = sut.acquire();
+            now.addAndGet(ROTATE_AFTER);
+            sut.acquire();
+            now.addAndGet(CLOSE_GRACE);
+
+            sut.release(old);
+
+            verify(repository).closePit(old);
+            assertThat(live()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("풀이 열지 않은 PIT는 닫지 않는다")
+        void shouldIgnoreUnknownPit() {
+            sut.release("other-node-pit");
+
+            verify(repository, never()).closePit("other-node-pit");
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("교체 주기가 지난 현재 PIT를 퇴역시키고 유예 시간 뒤 닫는다")
+        void shouldRetireAndCloseIdlePit() throws SearchException {
+            String pitId = sut.acquire();
+            sut.release(pitId);
+            now.addAndGet(ROTATE_AFTER);
+
+            sut.refresh();
+            verify(repository, never()).closePit(pitId);
+
+            now.addAndGet(CLOSE_GRACE);
+            sut.refresh();
+
+            verify(repository).closePit(pitId);
+            assertThat(live()).isZero();
+        }
+
+        @Test
+        @DisplayName("반납되지 않은 세션이 남아도 마지막 사용 후 drain timeout이 지나면 닫는다")
+        void shouldForceCloseAfterDrainTimeout() throws SearchException {
+            String pitId = sut.acquire();
+            now.addAndGet(ROTATE_AFTER);
+            sut.refresh();
+
+            now.addAndGet(CLOSE_GRACE);
+            sut.touch(pitId);
+            sut.refresh();
+            verify(repository, never()).closePit(pitId);
+
+            now.addAndGet(DRAIN_TIMEOUT);
+            sut.refresh();
+
+            verify(repository).closePit(pitId);
+            assertThat(sessions()).isZero();
+        }
+
+        @Test
+        @DisplayName("퇴역 후 대여하면 새 PIT를 연다")
+        void shouldOpenNewPitAfterRetire() throws SearchException {
+            String old = sut.acquire();
+            now.addAndGet(ROTATE_AFTER);
+            sut.refresh();
+
+            String next = sut.acquire();
+
+            assertThat(next).isNotEqualTo(old);
+        }
+    }
+
+    @Test
+    @DisplayName("clear는 공유 중인 PIT를 닫지 않고 참조만 버린다")
+    void clearDropsReferencesWithoutClosing() throws SearchException {
+        sut.acquire();
+        now.addAndGet(ROTATE_AFTER);
+        sut.acquire();
+
+        sut.clear();
+
+        verify(repository, never()).closePit(anyString());
+        assertThat(live()).isZero();
+    }
+}
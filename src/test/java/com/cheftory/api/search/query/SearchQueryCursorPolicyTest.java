@@ -0,0 +1,44 @@
+package com.cheftory.api.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.cheftory.api._common.Clock;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SearchQueryCursorPolicy 테스트")
+class SearchQueryCursorPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    private SearchQueryCursorPolicy sut;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = mock(Clock.class);
+        doReturn(NOW).when(clock).now();
+        sut = new SearchQueryCursorPolicy(clock, true, 60_000);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 기준 시각이 허용 구간 안이면 라이브 인덱스를 이어 읽는다")
+    void shouldAllowLiveIndexWithinTolerance() {
+        assertThat(sut.withinTolerance(NOW.minusSeconds(60).toString())).isTrue();
+    }
+
+    @Test
+    @DisplayName("허용 구간을 지나면 PIT가 필요하다")
+    void shouldRequirePitAfterTolerance() {
+        assertThat(sut.withinTolerance(NOW.minusSeconds(61).toString())).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 시각을 읽을 수 없으면 PIT가 필요하다")
+    void shouldRequirePitWhenAnchorUnreadable() {
+        assertThat(sut.withinTolerance("not-a-time")).isFalse();
+    }
+}
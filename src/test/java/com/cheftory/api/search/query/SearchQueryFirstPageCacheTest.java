@@ -0,0 +1,151 @@
+package com.cheftory.api.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cheftory.api._common.MarketContextTestExtension;
+import com.cheftory.api._common.cursor.CursorPage;
+import com.cheftory.api._common.region.Market;
+import com.cheftory.api._common.region.MarketContext;
+import com.cheftory.api.search.exception.SearchErrorCode;
+import com.cheftory.api.search.exception.SearchException;
+import com.cheftory.api.search.query.entity.SearchQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(MarketContextTestExtension.class)
+@DisplayName("SearchQueryFirstPageCache 테스트")
+class SearchQueryFirstPageCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchQueryFirstPageCache sut;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new SearchQueryFirstPageCache(meterRegistry, true, 100, 60_000);
+        loads = new AtomicInteger();
+    }
+
+    private CursorPage<SearchQuery> page(String id) {
+        loads.incrementAndGet();
+        return CursorPage.of(List.of(SearchQuery.builder().id(id).build()), "cursor-" + id);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get(SearchQueryFirstPageCache.METRIC_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("정규화한 검색어가 같으면 한 번만 조회하고 이후에는 캐시를 반환한다")
+    void shouldReuseCachedPageForNormalizedKeyword() throws SearchException {
+        CursorPage<SearchQuery> first = sut.get(SearchQueryScope.RECIPE, "김치찌개", () -> page("1"));
+        CursorPage<SearchQuery> second = sut.get(SearchQueryScope.RECIPE, "  김치찌개 ", () -> page("2"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1.0);
+        assertThat(count("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("마켓이 다르면 따로 조회한다")
+    void shouldSeparateMarkets() throws SearchException {
+        sut.get(SearchQueryScope.RECIPE, "egg", () -> page("kr"));
+        try (var ignored = MarketContext.with(new MarketContext.Info(Market.GLOBAL, "US"))) {
+            sut.get(SearchQueryScope.RECIPE, "egg", () -> page("us"));
+        }
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 검색은 OpenSearch 조회 하나를 나눠 쓴다")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MarketContext.Info korea = MarketContext.required();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<CursorPage<SearchQuery>> leader = executor.submit(MarketContext.wrap(() -> sut.get(
+                    SearchQueryScope.RECIPE, "계란", () -> {
+                        loading.countDown();
+                        awaitUninterruptibly(release);
+                        return page("leader");
+                    })));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<CursorPage<SearchQuery>> follower = executor.submit(() -> {
+                try (var ignored = MarketContext.with(korea)) {
+                    return sut.get(SearchQueryScope.RECIPE, "계란", () -> page("follower"));
+                }
+            });
+            while (count("coalesced") < 1.0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 캐시에 남기지 않고 다음 요청이 다시 조회한다")
+    void shouldNotCacheFailures() throws SearchException {
+        assertThatThrownBy(() -> sut.get(SearchQueryScope.RECIPE, "김치", () -> {
+                    throw new SearchException(SearchErrorCode.SEARCH_FAILED);
+                }))
+                .isInstanceOf(SearchException.class);
+
+        sut.get(SearchQueryScope.RECIPE, "김치", () -> page("1"));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("invalidateAll 이후에는 다시 조회한다")
+    void shouldReloadAfterInvalidateAll() throws SearchException {
+        sut.get(SearchQueryScope.RECIPE, "김치", () -> page("1"));
+
+        sut.invalidateAll();
+        CursorPage<SearchQuery> reloaded = sut.get(SearchQueryScope.RECIPE, "김치", () -> page("2"));
+
+        assertThat(reloaded.nextCursor()).isEqualTo("cursor-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 매번 조회한다")
+    void shouldBypassWhenDisabled() throws SearchException {
+        SearchQueryFirstPageCache disabled = new SearchQueryFirstPageCache(meterRegistry, false, 100, 60_000);
+
+        disabled.get(SearchQueryScope.RECIPE, "김치", () -> page("1"));
+        disabled.get(SearchQueryScope.RECIPE, "김치", () -> page("2"));
+
+        assertThat(loads).hasValue(2);
+    }
+}
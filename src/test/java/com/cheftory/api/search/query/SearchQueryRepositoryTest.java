@@ -145,6 +145,30 @@ public class SearchQueryRepositoryTest {
             SearchRequest capturedRequest = requestCaptor.getValue();
             assertThat(capturedRequest.searchAfter()).hasSize(2);
         }
+
+        @Test
+        @DisplayName("When - PIT 없이 keyset을 조회하면 Then - 라이브 인덱스에 search_after 요청을 보낸다")
+        void whenSearchingCursorKeysetWithoutPit_thenQueriesLiveIndex() throws IOException, SearchException {
+            SearchQuery recipe1 =
+                    SearchQuery.builder().id("1").searchText("김치찌개").build();
+            HitsMetadata<SearchQuery> hitsMetadata = HitsMetadata.of(h -> h.hits(List.of(createHit(recipe1))));
+            SearchResponse<SearchQuery> mockResponse = SearchResponse.searchResponseOf(
+                    r -> r.hits(hitsMetadata).took(1L).timedOut(false).shards(s -> s.total(1)
+                            .successful(1)
+                            .failed(0)));
+            doReturn(mockResponse).when(openSearchClient).search(any(SearchRequest.class), eq(SearchQuery.class));
+
+            searchQueryRepository.searchByKeywordCursorKeyset(
+                    SearchQueryScope.RECIPE, "김치찌개", "now", null, 1.2, "id-10", PageRequest.of(0, 2));
+
+            ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+            verify(openSearchClient).search(requestCaptor.capture(), eq(SearchQuery.class));
+
+            SearchRequest capturedRequest = requestCaptor.getValue();
+            assertThat(capturedRequest.pit()).isNull();
+            assertThat(capturedRequest.index()).containsExactly("search_query");
+            assertThat(capturedRequest.searchAfter()).hasSize(2);
+        }
     }
 
     @Nested
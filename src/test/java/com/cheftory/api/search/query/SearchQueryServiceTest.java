@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.cheftory.api._common.I18nTranslator;
@@ -44,6 +47,15 @@ class SearchQueryServiceTest {
     @Mock
     private I18nTranslator i18nTranslator;
 
+    @Mock
+    private SearchPitPool searchPitPool;
+
+    @Mock
+    private SearchQueryFirstPageCache searchQueryFirstPageCache;
+
+    @Mock
+    private SearchQueryCursorPolicy searchQueryCursorPolicy;
+
     @InjectMocks
     private SearchQueryService searchQueryService;
 
@@ -56,6 +68,9 @@ class SearchQueryServiceTest {
 
         doReturn(anchorNow).when(scoreIdCursorCodec).newAnchorNow();
         doReturn(pitId).when(searchQueryRepository).createPitId();
+        doAnswer(inv -> inv.<SearchQueryFirstPageCache.Loader>getArgument(2).load())
+                .when(searchQueryFirstPageCache)
+                .get(eq(SearchQueryScope.RECIPE), eq(keyword), any());
 
         List<Hit<Object>> rows = IntStream.range(0, 21)
                 .mapToObj(i -> Hit.of(h -> h.id("id-" + i)
@@ -78,6 +93,90 @@ class SearchQueryServiceTest {
                         eq(SearchQueryScope.RECIPE), eq(keyword), eq(anchorNow), eq(pitId), any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("캐시된 첫 페이지가 있으면 PIT를 열지 않고 그대로 반환한다")
+    void shouldReturnCachedFirstPage() throws SearchException {
+        CursorPage<SearchQuery> cached =
+                CursorPage.of(List.of(SearchQuery.builder().id("id-1").build()), "cached-cursor");
+        doReturn(cached).when(searchQueryFirstPageCache).get(eq(SearchQueryScope.RECIPE), eq("계란"), any());
+
+        CursorPage<SearchQuery> result = searchQueryService.searchByKeyword(SearchQueryScope.RECIPE, "계란", " ");
+
+        assertThat(result).isSameAs(cached);
+        verify(searchQueryRepository, never()).createPitId();
+    }
+
+    @Test
+    @DisplayName("PIT를 미루는 정책이면 첫 페이지는 PIT 없이 조회하고 PIT 없는 커서를 만든다")
+    void shouldSearchFirstPageWithoutPitWhenLazy() throws SearchException {
+        String keyword = "김치찌개";
+        doReturn(true).when(searchQueryCursorPolicy).lazyPit();
+        doReturn("now").when(scoreIdCursorCodec).newAnchorNow();
+        doAnswer(inv -> inv.<SearchQueryFirstPageCache.Loader>getArgument(2).load())
+                .when(searchQueryFirstPageCache)
+                .get(eq(SearchQueryScope.RECIPE), eq(keyword), any());
+        List<Hit<Object>> rows = IntStream.range(0, 21)
+                .mapToObj(i -> Hit.of(h -> h.id("id-" + i)
+                        .score(1.0)
+                        .source(SearchQuery.builder().id("id-" + i).build())))
+                .toList();
+        doReturn(rows)
+                .when(searchQueryRepository)
+                .searchByKeywordCursorFirst(
+                        eq(SearchQueryScope.RECIPE), eq(keyword), eq("now"), isNull(), any(Pageable.class));
+        doReturn("next-cursor").when(scoreIdCursorCodec).encode(any(ScoreIdCursor.class));
+
+        searchQueryService.searchByKeyword(SearchQueryScope.RECIPE, keyword, null);
+
+        verify(searchQueryRepository, never()).createPitId();
+        verify(scoreIdCursorCodec).encode(new ScoreIdCursor(1.0, "id-19", "now", null));
+    }
+
+    @Test
+    @DisplayName("PIT 없는 커서가 허용 구간 안이면 라이브 인덱스를 이어 읽는다")
+    void shouldContinueOnLiveIndexWithinTolerance() throws SearchException, CursorException {
+        ScoreIdCursor decoded = new ScoreIdCursor(1.2, "id-10", "now", null);
+        doReturn(decoded).when(scoreIdCursorCodec).decode("cursor");
+        doReturn(true).when(searchQueryCursorPolicy).withinTolerance("now");
+        doReturn(List.of())
+                .when(searchQueryRepository)
+                .searchByKeywordCursorKeyset(
+                        eq(SearchQueryScope.RECIPE),
+                        eq("김치"),
+                        eq("now"),
+                        isNull(),
+                        eq(1.2),
+                        eq("id-10"),
+                        any(Pageable.class));
+
+        searchQueryService.searchByKeyword(SearchQueryScope.RECIPE, "김치", "cursor");
+
+        verify(searchQueryRepository, never()).createPitId();
+    }
+
+    @Test
+    @DisplayName("PIT 없는 커서가 허용 구간을 지나면 PIT를 열어 조회한다")
+    void shouldOpenPitWhenToleranceExceeded() throws SearchException, CursorException {
+        ScoreIdCursor decoded = new ScoreIdCursor(1.2, "id-10", "old", null);
+        doReturn(decoded).when(scoreIdCursorCodec).decode("cursor");
+        doReturn(false).when(searchQueryCursorPolicy).withinTolerance("old");
+        doReturn("pit-lazy").when(searchQueryRepository).createPitId();
+        doReturn(List.of())
+                .when(searchQueryRepository)
+                .searchByKeywordCursorKeyset(
+                        eq(SearchQueryScope.RECIPE),
+                        eq("김치"),
+                        eq("old"),
+                        eq("pit-lazy"),
+                        eq(1.2),
+                        eq("id-10"),
+                        any(Pageable.class));
+
+        searchQueryService.searchByKeyword(SearchQueryScope.RECIPE, "김치", "cursor");
+
+        verify(searchQueryRepository).createPitId();
+    }
+
     @Test
     @DisplayName("cursor가 있으면 keyset을 조회한다")
     void shouldSearchWithCursorKeyset() throws SearchException, CursorException {
@@ -112,22 +211,23 @@ class SearchQueryServiceTest {
     }
 
     @Test
-    @DisplayName("openPitForCandidates는 PIT를 연다")
-    void openPitForCandidatesOpensPit() throws SearchException {
-        doReturn("pit-1").when(searchQueryRepository).createPitId();
+    @DisplayName("openPitForCandidates는 PIT 풀에서 PIT를 대여한다")
+    void openPitForCandidatesAcquiresFromPool() throws SearchException {
+        doReturn("pit-1").when(searchPitPool).acquire();
 
         String result = searchQueryService.openPitForCandidates();
 
         assertThat(result).isEqualTo("pit-1");
-        verify(searchQueryRepository).createPitId();
+        verify(searchQueryRepository, never()).createPitId();
     }
 
     @Test
-    @DisplayName("closePit은 PIT를 닫는다")
-    void closePitClosesPit() {
-        searchQueryService.closePit("pit-1");
+    @DisplayName("releasePitForCandidates는 PIT를 풀에 반납한다")
+    void releasePitForCandidatesReleasesToPool() {
+        searchQueryService.releasePitForCandidates("pit-1");
 
-        verify(searchQueryRepository).closePit("pit-1");
+        verify(searchPitPool).release("pit-1");
+        verify(searchQueryRepository, never()).closePit(any());
     }
 
     @Test
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.when;
 
 import com.cheftory.api.DbContextTest;
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.buffer.EntityBatchInserter;
 import com.cheftory.api.tracking.entity.RecipeClick;
 import com.cheftory.api.tracking.entity.RecipeImpression;
 import com.cheftory.api.tracking.entity.SurfaceType;
@@ -26,7 +27,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @DisplayName("TrackingRepository 테스트")
-@Import({RecipeImpressionRepositoryImpl.class, RecipeClickRepositoryImpl.class})
+@Import({RecipeImpressionRepositoryImpl.class, RecipeClickRepositoryImpl.class, EntityBatchInserter.class})
 class TrackingRepositoryTest extends DbContextTest {
 
     @Autowired
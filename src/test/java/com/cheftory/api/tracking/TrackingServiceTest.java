@@ -6,13 +6,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import com.cheftory.api._common.Clock;
+import com.cheftory.api._common.buffer.AsyncBatchWriter;
 import com.cheftory.api.tracking.dto.TrackingClickRequest;
 import com.cheftory.api.tracking.dto.TrackingImpressionRequest;
 import com.cheftory.api.tracking.entity.RecipeClick;
 import com.cheftory.api.tracking.entity.RecipeImpression;
 import com.cheftory.api.tracking.entity.SurfaceType;
 import com.cheftory.api.tracking.repository.RecipeClickRepository;
-import com.cheftory.api.tracking.repository.RecipeImpressionRepository;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -27,17 +27,18 @@ import org.mockito.ArgumentCaptor;
 @DisplayName("TrackingService 테스트")
 class TrackingServiceTest {
 
-    private RecipeImpressionRepository impressionRepository;
+    private AsyncBatchWriter<RecipeImpression> recipeImpressionWriter;
     private RecipeClickRepository clickRepository;
     private Clock clock;
     private TrackingService trackingService;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
-        impressionRepository = mock(RecipeImpressionRepository.class);
+        recipeImpressionWriter = mock(AsyncBatchWriter.class);
         clickRepository = mock(RecipeClickRepository.class);
         clock = mock(Clock.class);
-        trackingService = new TrackingService(impressionRepository, clickRepository, clock);
+        trackingService = new TrackingService(recipeImpressionWriter, clickRepository, clock);
     }
 
     @Nested
@@ -67,7 +68,7 @@ class TrackingServiceTest {
             trackingService.saveImpressions(userId, request);
 
             ArgumentCaptor<List<RecipeImpression>> captor = ArgumentCaptor.forClass(List.class);
-            verify(impressionRepository).saveAll(captor.capture());
+            verify(recipeImpressionWriter).offer(captor.capture());
             List<RecipeImpression> saved = captor.getValue();
 
             assertThat(saved).hasSize(2);
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 
 import com.cheftory.api.recipe.RecipeFacade;
 import com.cheftory.api.recipe.bookmark.RecipeBookmarkService;
+import com.cheftory.api.recipe.content.cache.RecipeContentCache;
 import com.cheftory.api.recipe.content.info.RecipeInfoService;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoErrorCode;
 import com.cheftory.api.recipe.content.info.exception.RecipeInfoException;
@@ -39,12 +40,15 @@ class RecipeFacadeTxTest {
     @MockitoBean
     private RecipeBookmarkService recipeBookmarkService;
 
+    @MockitoBean
+    private RecipeContentCache recipeContentCache;
+
     @MockitoSpyBean(name = "transactionManager")
     private PlatformTransactionManager transactionManager;
 
     @BeforeEach
     void setUp() {
-        reset(recipeInfoService, recipeYoutubeMetaService, recipeBookmarkService, transactionManager);
+        reset(recipeInfoService, recipeYoutubeMetaService, recipeBookmarkService, recipeContentCache, transactionManager);
     }
 
     @Test